@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes a bean method with a {@link MethodHandle} which is created once for the method, instead of using reflection
+ * which checks the access to the method and the arguments on every invocation.
+ * <p/>
+ * The arguments are checked before invoking the method handle, and if they do not match the parameter types exactly
+ * (such as when a primitive parameter must be widened), then the method must be invoked with reflection, so the same
+ * conversions and errors happen as before.
+ */
+final class MethodHandleInvoker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandleInvoker.class);
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Class<?> declaringClass;
+    private final boolean isStatic;
+    private final Class<?>[] parameterTypes;
+    private final boolean[] primitives;
+    private final MethodHandle handle;
+
+    private MethodHandleInvoker(Method method, MethodHandle handle) {
+        this.declaringClass = method.getDeclaringClass();
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        Class<?>[] types = method.getParameterTypes();
+        this.parameterTypes = new Class<?>[types.length];
+        this.primitives = new boolean[types.length];
+        for (int i = 0; i < types.length; i++) {
+            primitives[i] = types[i].isPrimitive();
+            parameterTypes[i] = ObjectHelper.convertPrimitiveTypeToWrapperType(types[i]);
+        }
+        this.handle = handle;
+    }
+
+    /**
+     * Creates the invoker for the method.
+     *
+     * @param  method the method
+     * @param  pojo   the bean to check whether the method is accessible
+     * @return        the invoker, or <tt>null</tt> if the method cannot be invoked with a method handle
+     */
+    static MethodHandleInvoker create(Method method, Object pojo) {
+        try {
+            boolean isStatic = Modifier.isStatic(method.getModifiers());
+            if (!method.canAccess(isStatic ? null : pojo)) {
+                method.setAccessible(true);
+            }
+            // varargs methods are invoked with the array as the last argument, as with reflection
+            MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (isStatic) {
+                // static methods ignore the bean instance
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+            return new MethodHandleInvoker(method, handle);
+        } catch (Exception e) {
+            LOG.debug("Cannot create method handle for method: {} due to: {}. Will use reflection to invoke the method.",
+                    method, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Whether the method can be invoked on the bean with the arguments as they are, without any conversions.
+     */
+    boolean canInvoke(Object pojo, Object[] arguments) {
+        int size = arguments != null ? arguments.length : 0;
+        if (size != parameterTypes.length) {
+            return false;
+        }
+        if (!isStatic && !declaringClass.isInstance(pojo)) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            Object argument = arguments[i];
+            if (argument == null) {
+                if (primitives[i]) {
+                    return false;
+                }
+            } else if (primitives[i] ? argument.getClass() != parameterTypes[i] : !parameterTypes[i].isInstance(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Invokes the method, which must have been checked with {@link #canInvoke(Object, Object[])}.
+     *
+     * @throws InvocationTargetException is thrown if the method threw an exception, the same as with reflection
+     */
+    Object invoke(Object pojo, Object[] arguments) throws InvocationTargetException {
+        try {
+            return handle.invokeExact(pojo, arguments);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}
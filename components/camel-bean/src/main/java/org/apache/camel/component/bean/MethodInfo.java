@@ -50,6 +50,7 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.RuntimeExchangeException;
 import org.apache.camel.StreamCache;
 import org.apache.camel.spi.ErrorHandlerAware;
+import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ExpressionAdapter;
@@ -83,6 +84,8 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private volatile MethodHandleInvoker invoker;
+    private volatile boolean invokerCreated;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -502,6 +505,12 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            MethodHandleInvoker mhi = getInvoker(pojo);
+            if (mhi != null && mhi.canInvoke(pojo, arguments)) {
+                return mhi.invoke(pojo, arguments);
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -515,6 +524,15 @@ public class MethodInfo {
         }
     }
 
+    private MethodHandleInvoker getInvoker(Object pojo) {
+        if (!invokerCreated) {
+            // the method handle is created on first invocation as the method may have to be made accessible
+            invoker = MethodHandleInvoker.create(method, pojo);
+            invokerCreated = true;
+        }
+        return invoker;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -558,9 +576,12 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        // call sites for converting the parameter binding values to the parameter types
+        private final TypeConverterRegistry.CallSite<?>[] callSites;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            this.callSites = new TypeConverterRegistry.CallSite<?>[expressions != null ? expressions.length : 0];
         }
 
         @Override
@@ -791,6 +812,15 @@ public class MethodInfo {
             }
         }
 
+        private TypeConverterRegistry.CallSite<?> getCallSite(Exchange exchange, int index, Class<?> parameterType) {
+            TypeConverterRegistry.CallSite<?> answer = callSites[index];
+            if (answer == null) {
+                answer = exchange.getContext().getTypeConverterRegistry().createCallSite(parameterType);
+                callSites[index] = answer;
+            }
+            return answer;
+        }
+
         /**
          * Evaluate using classic parameter binding using the pre compute expression
          */
@@ -810,7 +840,7 @@ public class MethodInfo {
                             answer = result;
                         } else {
                             // we got a value now try to convert it to the expected type
-                            answer = exchange.getContext().getTypeConverter().mandatoryConvertTo(parameterType, result);
+                            answer = getCallSite(exchange, index, parameterType).mandatoryConvertTo(null, result);
                         }
                         if (LOG.isTraceEnabled()) {
                             LOG.trace("Parameter #{} evaluated as: {} type: {}", index, answer,
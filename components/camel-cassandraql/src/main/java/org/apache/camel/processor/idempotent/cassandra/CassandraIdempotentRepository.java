@@ -16,8 +16,18 @@
  */
 package org.apache.camel.processor.idempotent.cassandra;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -26,6 +36,7 @@ import com.datastax.oss.driver.api.querybuilder.delete.Delete;
 import com.datastax.oss.driver.api.querybuilder.insert.Insert;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
 import com.datastax.oss.driver.api.querybuilder.truncate.Truncate;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.Configurer;
 import org.apache.camel.spi.IdempotentRepository;
 import org.apache.camel.spi.Metadata;
@@ -46,6 +57,9 @@ import static org.apache.camel.utils.cassandra.CassandraUtils.generateTruncate;
  * Implementation of {@link IdempotentRepository} using Cassandra table to store message ids. Advice: use
  * LeveledCompaction for this table and tune read/write consistency levels. Warning: Cassandra is not the best tool for
  * queuing use cases See http://www.datastax.com/dev/blog/cassandra-anti-patterns-queues-and-queue-like-datasets
+ * <p/>
+ * The bulk operations such as {@link #addAll(Collection)} execute the statements of the keys concurrently, as the
+ * lightweight transactions used for inserting the keys cannot be batched.
  */
 @Metadata(label = "bean",
           description = "Idempotent repository that uses Cassandra table to store message ids."
@@ -89,7 +103,10 @@ public class CassandraIdempotentRepository extends ServiceSupport implements Ide
     }
 
     private boolean isKey(ResultSet resultSet) {
-        Row row = resultSet.one();
+        return isKey(resultSet.one());
+    }
+
+    private boolean isKey(Row row) {
         if (row == null) {
             LOGGER.debug("No row to check key");
             return false;
@@ -105,6 +122,11 @@ public class CassandraIdempotentRepository extends ServiceSupport implements Ide
         return row == null || row.getBoolean("[applied]");
     }
 
+    private boolean isApplied(AsyncResultSet resultSet) {
+        Row row = resultSet.one();
+        return row == null || row.getBoolean("[applied]");
+    }
+
     protected Object[] getPKValues(String key) {
         if (prefixPKValues != null) {
             return append(prefixPKValues.split(","), key);
@@ -148,6 +170,24 @@ public class CassandraIdempotentRepository extends ServiceSupport implements Ide
         return isApplied(getSession().execute(insertStatement.bind(idValues)));
     }
 
+    @Override
+    public Set<String> addAll(Collection<String> keys) {
+        List<String> list = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<CompletionStage<AsyncResultSet>> results = new ArrayList<>(list.size());
+        for (String key : list) {
+            Object[] idValues = getPKValues(key);
+            LOGGER.debug("Inserting key {}", (Object) idValues);
+            results.add(getSession().executeAsync(insertStatement.bind(idValues)));
+        }
+        Set<String> answer = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+            if (isApplied(join(results.get(i)))) {
+                answer.add(list.get(i));
+            }
+        }
+        return answer;
+    }
+
     // -------------------------------------------------------------------------
     // Check if key is in repository
 
@@ -165,6 +205,32 @@ public class CassandraIdempotentRepository extends ServiceSupport implements Ide
         return isKey(getSession().execute(selectStatement.bind(idValues)));
     }
 
+    @Override
+    public Set<String> containsAll(Collection<String> keys) {
+        List<String> list = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<CompletionStage<AsyncResultSet>> results = new ArrayList<>(list.size());
+        for (String key : list) {
+            Object[] idValues = getPKValues(key);
+            LOGGER.debug("Checking key {}", (Object) idValues);
+            results.add(getSession().executeAsync(selectStatement.bind(idValues)));
+        }
+        Set<String> answer = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+            if (isKey(join(results.get(i)).one())) {
+                answer.add(list.get(i));
+            }
+        }
+        return answer;
+    }
+
+    private static AsyncResultSet join(CompletionStage<AsyncResultSet> result) {
+        try {
+            return result.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e.getCause());
+        }
+    }
+
     @Override
     public boolean confirm(String key) {
         return true;
@@ -17,6 +17,8 @@
 package org.apache.camel.processor.idempotent.cassandra;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.cassandra.integration.BaseCassandra;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -99,6 +102,41 @@ public class CassandraIdempotentRepositoryIT extends BaseCassandra {
         assertTrue(result);
     }
 
+    @Test
+    public void testAddAll() {
+        // Given
+        String key = "AddAll_NotExists";
+        assertFalse(exists(key));
+        assertTrue(exists("Add_Exists"));
+        // When
+        Set<String> result = idempotentRepository.addAll(List.of(key, "Add_Exists", key));
+        // Then
+        assertEquals(Set.of(key), result);
+        assertTrue(exists(key));
+    }
+
+    @Test
+    public void testContainsAll() {
+        // Given
+        assertTrue(exists("Contains_Exists"));
+        assertFalse(exists("Contains_NotExists"));
+        // When
+        Set<String> result = idempotentRepository.containsAll(List.of("Contains_Exists", "Contains_NotExists"));
+        // Then
+        assertEquals(Set.of("Contains_Exists"), result);
+    }
+
+    @Test
+    public void testConfirmAll() {
+        // Given
+        String key = "Contains_Exists";
+        assertTrue(exists(key));
+        // When
+        idempotentRepository.confirmAll(List.of(key));
+        // Then
+        assertTrue(exists(key));
+    }
+
     @Test
     public void testRemoveNotExists() {
         // Given
@@ -33,6 +33,7 @@ import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ShutdownRunningTask;
+import org.apache.camel.support.BatchProcessorHelper;
 import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ScheduledBatchPollingConsumer;
 import org.apache.camel.support.service.ServiceHelper;
@@ -63,6 +64,8 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     private final String[] includeExt;
     private final String[] excludeExt;
     private boolean retrieveFile = true;
+    // the exchanges of the current batch which are processed at once
+    private List<Exchange> batch;
 
     protected GenericFileConsumer(GenericFileEndpoint<T> endpoint, Processor processor, GenericFileOperations<T> operations,
                                   GenericFileProcessStrategy<T> processStrategy) {
@@ -230,6 +233,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
 
         Queue<Object> notStarted = new ArrayDeque<>();
 
+        // when synchronous, the files which have begun processing are processed at once after the loop, so the batch
+        // can be processed in one call by the processors in the route which support it
+        batch = customProcessor == null && endpoint.isSynchronous() ? new ArrayList<>(total) : null;
+
         for (int index = 0; index < total && isBatchAllowed(); index++) {
             // only loop if we are started (allowed to run)
             // use poll to remove the head so it does not consume memory even
@@ -261,6 +268,14 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             }
         }
 
+        if (batch != null) {
+            List<Exchange> started = batch;
+            batch = null;
+            if (!started.isEmpty()) {
+                processExchanges(started);
+            }
+        }
+
         // drain any in progress files as we are done with this batch
         removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) notStarted, Exchange.class), 0);
         removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) exchanges, Exchange.class), 0);
@@ -472,7 +487,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
 
             LOG.debug("About to process file: {} using exchange: {}", target, exchange);
 
-            if (endpoint.isSynchronous()) {
+            if (batch != null) {
+                // process synchronously together with the other files of the batch
+                batch.add(exchange);
+            } else if (endpoint.isSynchronous()) {
                 // process synchronously
                 getProcessor().process(exchange);
             } else {
@@ -501,6 +519,16 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return true;
     }
 
+    /**
+     * Processes the exchanges of the batch, which have begun processing, in one call if the route can process a batch.
+     *
+     * @param exchanges the exchanges
+     */
+    protected void processExchanges(List<Exchange> exchanges) {
+        LOG.debug("About to process {} files using batch from: {}", exchanges.size(), endpoint);
+        BatchProcessorHelper.process(getProcessor(), exchanges);
+    }
+
     boolean tryRetrievingFile(
             Exchange exchange, String name, GenericFile<T> target, String absoluteFileName, GenericFile<T> file)
             throws Exception {
@@ -16,6 +16,14 @@
  */
 package org.apache.camel.component.infinispan;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.api.management.ManagedAttribute;
@@ -53,6 +61,29 @@ public abstract class InfinispanIdempotentRepository
         return put == null;
     }
 
+    @Override
+    public Set<String> addAll(Collection<String> keys) {
+        // put the keys concurrently, and putIfAbsent does not update the lifetime of an existing entry
+        List<String> list = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(list.size());
+        for (String key : list) {
+            results.add(getCache().putIfAbsentAsync(key, true));
+        }
+        Set<String> answer = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+            if (results.get(i).join() == null) {
+                answer.add(list.get(i));
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public Set<String> containsAll(Collection<String> keys) {
+        // get the keys in a single round trip
+        return new HashSet<>(getCache().getAllAsync(new HashSet<>(keys)).join().keySet());
+    }
+
     @Override
     @ManagedOperation(description = "Does the store contain the given key")
     public boolean contains(String key) {
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.infinispan;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.IntStream;
 
@@ -25,6 +27,7 @@ import org.apache.camel.spi.IdempotentRepository;
 import org.infinispan.commons.api.BasicCache;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -59,6 +62,34 @@ public interface InfinispanIdempotentRepositoryTestSupport {
         assertTrue(getIdempotentRepository().contains("One"));
     }
 
+    @Test
+    default void addsNewKeysToCacheInBulk() {
+        assertTrue(getIdempotentRepository().add("One"));
+
+        assertEquals(Set.of("Two", "Three"), getIdempotentRepository().addAll(List.of("One", "Two", "Three", "Two")));
+
+        assertTrue(getCache().containsKey("Two"));
+        assertTrue(getCache().containsKey("Three"));
+    }
+
+    @Test
+    default void containsPreviouslyAddedKeysInBulk() {
+        assertTrue(getIdempotentRepository().containsAll(List.of("One", "Two")).isEmpty());
+
+        getIdempotentRepository().add("One");
+
+        assertEquals(Set.of("One"), getIdempotentRepository().containsAll(List.of("One", "Two")));
+    }
+
+    @Test
+    default void confirmsKeysInBulk() {
+        getIdempotentRepository().add("One");
+
+        getIdempotentRepository().confirmAll(List.of("One"));
+
+        assertTrue(getIdempotentRepository().contains("One"));
+    }
+
     @Test
     default void removesAnExistingKey() {
         getIdempotentRepository().add("One");
@@ -102,6 +102,11 @@ public class MicrometerExchangeEventNotifier extends AbstractMicrometerEventNoti
 
         // need to be able to add/remove meter accordingly to route changes
         getCamelContext().getManagementStrategy().addEventNotifier(new SimpleEventNotifierSupport() {
+            @Override
+            public boolean isSubscribed(CamelEvent.Type type) {
+                return type == CamelEvent.Type.RouteAdded || type == CamelEvent.Type.RouteRemoved;
+            }
+
             @Override
             public void notify(CamelEvent event) throws Exception {
                 if (event instanceof CamelEvent.RouteAddedEvent rre) {
@@ -149,6 +154,14 @@ public class MicrometerExchangeEventNotifier extends AbstractMicrometerEventNoti
         meterMap.clear();
     }
 
+    @Override
+    public boolean isSubscribed(CamelEvent.Type type) {
+        return switch (type) {
+            case ExchangeCreated, ExchangeSent, ExchangeCompleted, ExchangeFailed -> true;
+            default -> false;
+        };
+    }
+
     @Override
     public void notify(CamelEvent eventObject) {
         if (eventObject instanceof ExchangeEvent ee) {
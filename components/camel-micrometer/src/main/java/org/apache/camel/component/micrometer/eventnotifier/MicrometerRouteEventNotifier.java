@@ -94,6 +94,14 @@ public class MicrometerRouteEventNotifier extends AbstractMicrometerEventNotifie
         }
     }
 
+    @Override
+    public boolean isSubscribed(CamelEvent.Type type) {
+        return switch (type) {
+            case RouteAdded, RouteRemoved, RouteStarted, RouteStopped, RouteReloaded -> true;
+            default -> false;
+        };
+    }
+
     @Override
     public void notify(CamelEvent eventObject) {
         if (eventObject instanceof RouteEvent re) {
@@ -16,6 +16,14 @@
  */
 package org.apache.camel.component.redis.processor.idempotent;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
@@ -25,7 +33,9 @@ import org.apache.camel.spi.IdempotentRepository;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.SetOperations;
 
 @Metadata(label = "bean",
@@ -95,6 +105,58 @@ public class SpringRedisIdempotentRepository extends ServiceSupport implements I
         return setOperations.isMember(repositoryName, key);
     }
 
+    @Override
+    public Set<String> addAll(Collection<String> keys) {
+        // add the keys in a single round trip
+        List<String> list = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<Object> results = executePipelined(operations -> {
+            SetOperations<String, String> ops = operations.opsForSet();
+            for (String key : list) {
+                ops.add(repositoryName, key);
+            }
+        });
+        Set<String> answer = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+            if (results.get(i) instanceof Long added && added > 0) {
+                answer.add(list.get(i));
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public Set<String> containsAll(Collection<String> keys) {
+        // check the keys in a single round trip
+        List<String> list = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<Object> results = executePipelined(operations -> {
+            SetOperations<String, String> ops = operations.opsForSet();
+            for (String key : list) {
+                ops.isMember(repositoryName, key);
+            }
+        });
+        Set<String> answer = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                answer.add(list.get(i));
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Executes the commands in a pipeline, and returns the results of the commands.
+     */
+    protected List<Object> executePipelined(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
     @Override
     @ManagedOperation(description = "Remove the key from the store")
     public boolean remove(String key) {
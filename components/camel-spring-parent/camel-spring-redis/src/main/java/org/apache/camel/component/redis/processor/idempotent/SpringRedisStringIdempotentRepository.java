@@ -18,7 +18,11 @@ package org.apache.camel.component.redis.processor.idempotent;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
@@ -58,6 +62,46 @@ public class SpringRedisStringIdempotentRepository extends SpringRedisIdempotent
         return valueOperations.setIfAbsent(createRedisKey(key), key);
     }
 
+    @Override
+    public Set<String> addAll(Collection<String> keys) {
+        // add the keys in a single round trip
+        List<String> list = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<Object> results = executePipelined(operations -> {
+            ValueOperations<String, String> ops = operations.opsForValue();
+            for (String key : list) {
+                if (expiry > 0) {
+                    ops.setIfAbsent(createRedisKey(key), key, Duration.ofSeconds(expiry));
+                } else {
+                    ops.setIfAbsent(createRedisKey(key), key);
+                }
+            }
+        });
+        Set<String> answer = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                answer.add(list.get(i));
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public Set<String> containsAll(Collection<String> keys) {
+        List<String> list = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<String> redisKeys = new ArrayList<>(list.size());
+        for (String key : list) {
+            redisKeys.add(createRedisKey(key));
+        }
+        List<String> values = valueOperations.multiGet(redisKeys);
+        Set<String> answer = new HashSet<>();
+        for (int i = 0; i < list.size(); i++) {
+            if (values != null && values.get(i) != null) {
+                answer.add(list.get(i));
+            }
+        }
+        return answer;
+    }
+
     @ManagedOperation(description = "Remove the key from the store")
     @Override
     public boolean remove(String key) {
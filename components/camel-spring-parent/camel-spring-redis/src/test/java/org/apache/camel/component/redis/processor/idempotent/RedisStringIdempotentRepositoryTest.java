@@ -17,6 +17,9 @@
 package org.apache.camel.component.redis.processor.idempotent;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,9 +29,11 @@ import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -77,6 +82,27 @@ public class RedisStringIdempotentRepositoryTest {
         verify(valueOperations).get(idempotentRepositoryNoExpiry.createRedisKey(KEY));
     }
 
+    @Test
+    public void shouldAddKeysPipelined() {
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(redisTemplate);
+            return List.of(true, false);
+        });
+
+        assertEquals(Set.of("A"), idempotentRepository.addAll(List.of("A", "B")));
+        verify(valueOperations).setIfAbsent(idempotentRepository.createRedisKey("A"), "A", Duration.ofSeconds(1000L));
+        verify(valueOperations).setIfAbsent(idempotentRepository.createRedisKey("B"), "B", Duration.ofSeconds(1000L));
+    }
+
+    @Test
+    public void shouldCheckForMembersWithSingleGet() {
+        List<String> redisKeys = List.of(idempotentRepository.createRedisKey("A"), idempotentRepository.createRedisKey("B"));
+        when(valueOperations.multiGet(redisKeys)).thenReturn(Arrays.asList("A", null));
+
+        assertEquals(Set.of("A"), idempotentRepository.containsAll(List.of("A", "B")));
+    }
+
     @Test
     public void shouldReturnProcessorName() {
         String processorName = idempotentRepository.getRepositoryName();
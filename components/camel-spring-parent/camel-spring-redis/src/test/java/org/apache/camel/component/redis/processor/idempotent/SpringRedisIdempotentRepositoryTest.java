@@ -16,6 +16,9 @@
  */
 package org.apache.camel.component.redis.processor.idempotent;
 
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -24,9 +27,11 @@ import org.mockito.quality.Strictness;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.SetOperations;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -67,6 +72,24 @@ public class SpringRedisIdempotentRepositoryTest {
         verify(setOperations).isMember(REPOSITORY, KEY);
     }
 
+    @Test
+    public void shouldAddKeysPipelined() {
+        whenPipelined(List.of(1L, 0L));
+
+        assertEquals(Set.of("A"), idempotentRepository.addAll(List.of("A", "B", "A")));
+        verify(setOperations).add(REPOSITORY, "A");
+        verify(setOperations).add(REPOSITORY, "B");
+    }
+
+    @Test
+    public void shouldCheckForMembersPipelined() {
+        whenPipelined(List.of(false, true));
+
+        assertEquals(Set.of("B"), idempotentRepository.containsAll(List.of("A", "B")));
+        verify(setOperations).isMember(REPOSITORY, "A");
+        verify(setOperations).isMember(REPOSITORY, "B");
+    }
+
     @Test
     public void shouldRemoveKey() {
         idempotentRepository.remove(KEY);
@@ -84,4 +107,12 @@ public class SpringRedisIdempotentRepositoryTest {
         String processorName = idempotentRepository.getRepositoryName();
         assertEquals(REPOSITORY, processorName);
     }
+
+    private void whenPipelined(List<Object> results) {
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            SessionCallback<?> callback = invocation.getArgument(0);
+            callback.execute(redisTemplate);
+            return results;
+        });
+    }
 }
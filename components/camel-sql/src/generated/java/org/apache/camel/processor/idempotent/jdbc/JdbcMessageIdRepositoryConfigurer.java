@@ -37,6 +37,8 @@ public class JdbcMessageIdRepositoryConfigurer extends org.apache.camel.support.
         case "jdbcTemplate": target.setJdbcTemplate(property(camelContext, org.springframework.jdbc.core.JdbcTemplate.class, value)); return true;
         case "processorname":
         case "processorName": target.setProcessorName(property(camelContext, java.lang.String.class, value)); return true;
+        case "querykeysstring":
+        case "queryKeysString": target.setQueryKeysString(property(camelContext, java.lang.String.class, value)); return true;
         case "querystring":
         case "queryString": target.setQueryString(property(camelContext, java.lang.String.class, value)); return true;
         case "tableexistsstring":
@@ -66,6 +68,8 @@ public class JdbcMessageIdRepositoryConfigurer extends org.apache.camel.support.
         case "jdbcTemplate": return org.springframework.jdbc.core.JdbcTemplate.class;
         case "processorname":
         case "processorName": return java.lang.String.class;
+        case "querykeysstring":
+        case "queryKeysString": return java.lang.String.class;
         case "querystring":
         case "queryString": return java.lang.String.class;
         case "tableexistsstring":
@@ -96,6 +100,8 @@ public class JdbcMessageIdRepositoryConfigurer extends org.apache.camel.support.
         case "jdbcTemplate": return target.getJdbcTemplate();
         case "processorname":
         case "processorName": return target.getProcessorName();
+        case "querykeysstring":
+        case "queryKeysString": return target.getQueryKeysString();
         case "querystring":
         case "queryString": return target.getQueryString();
         case "tableexistsstring":
@@ -16,6 +16,11 @@
  */
 package org.apache.camel.processor.idempotent.jdbc;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import javax.sql.DataSource;
 
 import org.apache.camel.api.management.ManagedOperation;
@@ -44,6 +49,10 @@ import org.springframework.transaction.support.TransactionTemplate;
  * <p/>
  * These methods should perform the named database operation.
  * <p/>
+ * The bulk operations such as {@link #addAll(Collection)} run in a single transaction, and use
+ * {@link #queryForKeys(Collection)} and {@link #insertAll(Collection)} which can be overridden to query and insert many
+ * keys with fewer statements.
+ * <p/>
  * <b>Important:</b> Implementations of this should use <tt>String</tt> as the generic type as that is what is required
  * by Camel to allow using the idempotent repository with the Idempotent Consumer EIP and also as file consumer
  * read-lock. It was a mistake to make {@link IdempotentRepository} parameterized, as it should have been a
@@ -114,6 +123,37 @@ public abstract class AbstractJdbcMessageIdRepository extends ServiceSupport imp
      */
     protected abstract int delete();
 
+    /**
+     * Operation that returns the keys, which exist in the repository, of the specified keys
+     * <p/>
+     * The default implementation calls {@link #queryForInt(String)} for each key.
+     *
+     * @param  keys the keys
+     * @return      the keys which exist
+     */
+    protected Set<String> queryForKeys(Collection<String> keys) {
+        Set<String> answer = new HashSet<>();
+        for (String key : keys) {
+            if (queryForInt(key) > 0) {
+                answer.add(key);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Operation that inserts the keys, which do not already exist
+     * <p/>
+     * The default implementation calls {@link #insert(String)} for each key.
+     *
+     * @param keys the keys
+     */
+    protected void insertAll(Collection<String> keys) {
+        for (String key : keys) {
+            insert(key);
+        }
+    }
+
     /**
      * Creates the transaction template
      */
@@ -168,6 +208,25 @@ public abstract class AbstractJdbcMessageIdRepository extends ServiceSupport imp
 
     }
 
+    @Override
+    public Set<String> addAll(final Collection<String> keys) {
+        // Run this in single transaction.
+        return transactionTemplate.execute(status -> {
+            Set<String> newKeys = new LinkedHashSet<>(keys);
+            newKeys.removeAll(queryForKeys(newKeys));
+            if (!newKeys.isEmpty()) {
+                insertAll(newKeys);
+            }
+            return newKeys;
+        });
+    }
+
+    @Override
+    public Set<String> containsAll(final Collection<String> keys) {
+        // Run this in single transaction.
+        return transactionTemplate.execute(status -> queryForKeys(new LinkedHashSet<>(keys)));
+    }
+
     @ManagedOperation(description = "Remove the key from the store")
     @Override
     public boolean remove(final String key) {
@@ -16,8 +16,13 @@
  */
 package org.apache.camel.processor.idempotent.jdbc;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -87,6 +92,41 @@ public class JdbcCachedMessageIdRepository extends JdbcMessageIdRepository {
         return super.contains(key);
     }
 
+    @Override
+    public Set<String> addAll(final Collection<String> keys) {
+        List<String> misses = new ArrayList<>();
+        for (String key : keys) {
+            Integer previousValue = cache.getOrDefault(key, 0);
+            cache.put(key, previousValue + 1);
+            if (previousValue != 0) {
+                hitCount++;
+            } else {
+                missCount++;
+                misses.add(key);
+            }
+        }
+        return misses.isEmpty() ? new HashSet<>() : super.addAll(misses);
+    }
+
+    @Override
+    public Set<String> containsAll(final Collection<String> keys) {
+        Set<String> answer = new HashSet<>();
+        List<String> misses = new ArrayList<>();
+        for (String key : keys) {
+            if (cache.getOrDefault(key, 0) != 0) {
+                hitCount++;
+                answer.add(key);
+            } else {
+                missCount++;
+                misses.add(key);
+            }
+        }
+        if (!misses.isEmpty()) {
+            answer.addAll(super.containsAll(misses));
+        }
+        return answer;
+    }
+
     @Override
     public boolean remove(String key) {
         cache.remove(key);
@@ -17,6 +17,11 @@
 package org.apache.camel.processor.idempotent.jdbc;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -42,11 +47,15 @@ public class JdbcMessageIdRepository extends AbstractJdbcMessageIdRepository {
               + "createdAt TIMESTAMP, PRIMARY KEY (processorName, messageId))";
     protected static final String DEFAULT_QUERY_STRING
             = "SELECT COUNT(*) FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ? AND messageId = ?";
+    protected static final String DEFAULT_QUERY_KEYS_STRING
+            = "SELECT messageId FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ? AND messageId IN";
     protected static final String DEFAULT_INSERT_STRING
             = "INSERT INTO CAMEL_MESSAGEPROCESSED (processorName, messageId, createdAt) VALUES (?, ?, ?)";
     protected static final String DEFAULT_DELETE_STRING
             = "DELETE FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ? AND messageId = ?";
     protected static final String DEFAULT_CLEAR_STRING = "DELETE FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ?";
+    // the maximum number of keys in the IN clause of a query, as some databases have a limit such as 1000
+    private static final int MAX_QUERY_KEYS = 500;
 
     @Metadata(description = "The name of the table to use in the database", defaultValue = "CAMEL_MESSAGEPROCESSED")
     private String tableName;
@@ -59,6 +68,10 @@ public class JdbcMessageIdRepository extends AbstractJdbcMessageIdRepository {
     private String createString = DEFAULT_CREATE_STRING;
     @Metadata(label = "advanced", description = "SQL query to use for check if message id already exists")
     private String queryString = DEFAULT_QUERY_STRING;
+    @Metadata(label = "advanced",
+              description = "SQL query to use for checking which of many message ids already exist. The placeholders for the"
+                            + " message ids are appended to the query, such as (?, ?, ?)")
+    private String queryKeysString = DEFAULT_QUERY_KEYS_STRING;
     @Metadata(label = "advanced", description = "SQL query to use for inserting a new message id in the table")
     private String insertString = DEFAULT_INSERT_STRING;
     @Metadata(label = "advanced", description = "SQL query to use for deleting message id from the table")
@@ -90,6 +103,7 @@ public class JdbcMessageIdRepository extends AbstractJdbcMessageIdRepository {
             tableExistsString = DEFAULT_TABLE_EXISTS_STRING.replace(DEFAULT_TABLENAME, tableName);
             createString = DEFAULT_CREATE_STRING.replace(DEFAULT_TABLENAME, tableName);
             queryString = DEFAULT_QUERY_STRING.replace(DEFAULT_TABLENAME, tableName);
+            queryKeysString = DEFAULT_QUERY_KEYS_STRING.replace(DEFAULT_TABLENAME, tableName);
             insertString = DEFAULT_INSERT_STRING.replace(DEFAULT_TABLENAME, tableName);
             deleteString = DEFAULT_DELETE_STRING.replace(DEFAULT_TABLENAME, tableName);
             clearString = DEFAULT_CLEAR_STRING.replace(DEFAULT_TABLENAME, tableName);
@@ -140,6 +154,35 @@ public class JdbcMessageIdRepository extends AbstractJdbcMessageIdRepository {
         return jdbcTemplate.update(getInsertString(), processorName, key, new Timestamp(System.currentTimeMillis()));
     }
 
+    @Override
+    protected Set<String> queryForKeys(Collection<String> keys) {
+        Set<String> answer = new HashSet<>();
+        List<String> list = new ArrayList<>(keys);
+        for (int i = 0; i < list.size(); i += MAX_QUERY_KEYS) {
+            List<String> chunk = list.subList(i, Math.min(i + MAX_QUERY_KEYS, list.size()));
+            StringBuilder sql = new StringBuilder(getQueryKeysString()).append(" (");
+            Object[] args = new Object[chunk.size() + 1];
+            args[0] = processorName;
+            for (int j = 0; j < chunk.size(); j++) {
+                sql.append(j == 0 ? "?" : ", ?");
+                args[j + 1] = chunk.get(j);
+            }
+            sql.append(')');
+            answer.addAll(jdbcTemplate.queryForList(sql.toString(), String.class, args));
+        }
+        return answer;
+    }
+
+    @Override
+    protected void insertAll(Collection<String> keys) {
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+        List<Object[]> args = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            args.add(new Object[] { processorName, key, createdAt });
+        }
+        jdbcTemplate.batchUpdate(getInsertString(), args);
+    }
+
     @Override
     protected int delete(String key) {
         return jdbcTemplate.update(getDeleteString(), processorName, key);
@@ -193,6 +236,14 @@ public class JdbcMessageIdRepository extends AbstractJdbcMessageIdRepository {
         this.queryString = queryString;
     }
 
+    public String getQueryKeysString() {
+        return queryKeysString;
+    }
+
+    public void setQueryKeysString(String queryKeysString) {
+        this.queryKeysString = queryKeysString;
+    }
+
     public String getInsertString() {
         return insertString;
     }
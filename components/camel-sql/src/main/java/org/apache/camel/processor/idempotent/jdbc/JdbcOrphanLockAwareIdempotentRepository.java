@@ -17,6 +17,7 @@
 package org.apache.camel.processor.idempotent.jdbc;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -100,6 +101,26 @@ public class JdbcOrphanLockAwareIdempotentRepository extends JdbcMessageIdReposi
                 xMillisAgo);
     }
 
+    @Override
+    protected Set<String> queryForKeys(Collection<String> keys) {
+        // query one key at a time, so the orphan locks are not found
+        Set<String> answer = new HashSet<>();
+        for (String key : keys) {
+            if (queryForInt(key) > 0) {
+                answer.add(key);
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    protected void insertAll(Collection<String> keys) {
+        // insert one key at a time, so the orphan locks are taken over
+        for (String key : keys) {
+            insert(key);
+        }
+    }
+
     @Override
     protected int delete(String key) {
         long stamp = sl.writeLock();
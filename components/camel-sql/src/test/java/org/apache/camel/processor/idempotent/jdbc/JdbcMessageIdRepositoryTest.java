@@ -17,6 +17,7 @@
 package org.apache.camel.processor.idempotent.jdbc;
 
 import java.util.List;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -123,6 +124,19 @@ public class JdbcMessageIdRepositoryTest extends CamelSpringTestSupport {
         assertFalse(receivedMessageIds.contains("3"), "Should not contain message 3");
     }
 
+    @Test
+    public void testAddAllAndContainsAll() {
+        JdbcMessageIdRepository repository = context.getRegistry().lookupByNameAndType("messageIdRepository",
+                JdbcMessageIdRepository.class);
+
+        assertEquals(Set.of("1", "2"), repository.addAll(List.of("1", "2")));
+        assertEquals(Set.of("3"), repository.addAll(List.of("1", "2", "3")));
+        assertEquals(Set.of("1", "3"), repository.containsAll(List.of("1", "3", "4")));
+
+        List<String> receivedMessageIds = jdbcTemplate.queryForList(SELECT_ALL_STRING, String.class, PROCESSOR_NAME);
+        assertEquals(3, receivedMessageIds.size());
+    }
+
     @Override
     protected AbstractApplicationContext createApplicationContext() {
         return new ClassPathXmlApplicationContext("org/apache/camel/processor/idempotent/jdbc/spring.xml");
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel;
+
+import java.util.List;
+
+/**
+ * A {@link Processor} which can process a batch of {@link Exchange}s in one call, such as when a consumer receives many
+ * messages at once, to reduce the overhead of processing the messages one at a time.
+ * <p/>
+ * The processors in a route which are not a {@link BatchProcessor} process the exchanges of a batch one at a time. The
+ * error handlers pass the batch through, and then handle the exchanges which failed one at a time, so they are
+ * redelivered the same as when they are processed one at a time. The transacted error handlers process the exchanges
+ * one at a time, as each exchange is processed in its own transaction.
+ */
+public interface BatchProcessor extends Processor {
+
+    /**
+     * Processes the batch of message exchanges.
+     * <p/>
+     * If there was a failure processing an exchange, then the caused {@link Exception} must be set on the
+     * {@link Exchange}, so the other exchanges in the batch can continue being processed. An exception should only be
+     * thrown when the whole batch has failed, as it is then set on all the exchanges in the batch which do not already
+     * have an exception, including the exchanges which may have been processed successfully.
+     *
+     * @param  exchanges the message exchanges
+     * @throws Exception if an internal processing error has occurred.
+     */
+    void process(List<Exchange> exchanges) throws Exception;
+
+}
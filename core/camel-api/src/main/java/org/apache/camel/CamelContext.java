@@ -1432,6 +1432,35 @@ public interface CamelContext extends CamelContextLifecycle, RuntimeConfiguratio
      */
     String getAutoStartupExcludePattern();
 
+    /**
+     * Number of threads to use for initializing and warming up routes in parallel when starting routes, such as
+     * initializing and starting the processors, endpoints and producers of the routes, and for loading routes from
+     * several files (such as XML or YAML files) in parallel. This can make starting Camel faster when there are many
+     * routes.
+     *
+     * Routes with a startupOrder are warmed up one at a time in their startup order, as other routes may depend on
+     * these routes, and the routes in between are warmed up in parallel.
+     *
+     * The {@link org.apache.camel.spi.LifecycleStrategy} callbacks for the services and thread pools of the routes are
+     * then called from several threads, so custom lifecycle strategies must be thread-safe.
+     *
+     * The default is 0, which warms up the routes one at a time.
+     */
+    void setRouteStartupParallelism(int routeStartupParallelism);
+
+    /**
+     * Number of threads to use for initializing and warming up routes in parallel when starting routes, such as
+     * initializing and starting the processors, endpoints and producers of the routes, and for loading routes from
+     * several files (such as XML or YAML files) in parallel. This can make starting Camel faster when there are many
+     * routes.
+     *
+     * Routes with a startupOrder are warmed up one at a time in their startup order, as other routes may depend on
+     * these routes, and the routes in between are warmed up in parallel.
+     *
+     * The default is 0, which warms up the routes one at a time.
+     */
+    int getRouteStartupParallelism();
+
     /**
      * Whether to capture precise source location:line-number for all EIPs in Camel routes.
      *
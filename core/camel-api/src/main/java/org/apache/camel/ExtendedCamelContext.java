@@ -412,6 +412,25 @@ public interface ExtendedCamelContext {
      */
     void setHeadersMapFactory(HeadersMapFactory factory);
 
+    /**
+     * Whether copies of exchanges (such as made by the multicast, recipient list, splitter and wire-tap EIPs) should
+     * share the message headers, exchange properties and variables with the exchange they are copied from, until either
+     * exchange changes them (copy-on-write).
+     */
+    boolean isExchangeCopyOnWrite();
+
+    /**
+     * Sets whether copies of exchanges (such as made by the multicast, recipient list, splitter and wire-tap EIPs)
+     * should share the message headers, exchange properties and variables with the exchange they are copied from, until
+     * either exchange changes them (copy-on-write).
+     * <p/>
+     * This makes copying exchanges scale with the number of changes instead of the number of copies. However custom
+     * processors must not keep a reference to the headers, properties or variables map of an exchange while the
+     * exchange is being copied and change the map after the copy, as the change would then be seen by the copies as
+     * well.
+     */
+    void setExchangeCopyOnWrite(boolean exchangeCopyOnWrite);
+
     /**
      * Gets the {@link ReactiveExecutor} to use.
      */
@@ -48,6 +48,20 @@ public interface EventNotifier {
      */
     boolean isDisabled();
 
+    /**
+     * Checks whether this notifier is subscribed to events of the given type.
+     * <p/>
+     * The subscriptions are computed when the notifier is started, so Camel can dispatch each type of event only to
+     * the notifiers which are subscribed to it, and avoid creating the event if no notifiers are subscribed. The
+     * ignore options are still checked for each event, to allow changing them at runtime.
+     *
+     * @param  type the type of event
+     * @return      <tt>true</tt> if the notifier is subscribed to the given type of event (default)
+     */
+    default boolean isSubscribed(CamelEvent.Type type) {
+        return true;
+    }
+
     boolean isIgnoreCamelContextInitEvents();
 
     void setIgnoreCamelContextInitEvents(boolean ignoreCamelContextInitEvents);
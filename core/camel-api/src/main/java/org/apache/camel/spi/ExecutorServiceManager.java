@@ -173,6 +173,36 @@ public interface ExecutorServiceManager extends ShutdownableService, StaticServi
      */
     long getShutdownAwaitTermination();
 
+    /**
+     * Sets whether to use virtual threads instead of platform threads for the thread pools created by this
+     * {@link ExecutorServiceManager}, such as the thread pools for SEDA consumers and the Threads EIP.
+     * <p/>
+     * Virtual threads requires JDK 21 or newer, and they are only used for daemon threads and thread pools that can
+     * have more than one thread. Blocking work then parks the virtual thread instead of occupying a platform thread,
+     * and there is no need to size the thread pools per route.
+     * <p/>
+     * This is an alternative to enabling virtual threads globally for the JVM via the system property
+     * <tt>camel.threads.virtual.enabled</tt>.
+     *
+     * @param virtualThreadsEnabled whether to use virtual threads
+     */
+    void setVirtualThreadsEnabled(boolean virtualThreadsEnabled);
+
+    /**
+     * Whether to use virtual threads instead of platform threads for the thread pools created by this
+     * {@link ExecutorServiceManager}.
+     */
+    boolean isVirtualThreadsEnabled();
+
+    /**
+     * Number of times a virtual thread has been pinned to its carrier thread (blocking the carrier thread) for longer
+     * than 20 millis. This is only monitored when virtual threads are in use and running on JDK 21 or newer.
+     * <p/>
+     * Pinning is monitored for the entire JVM, so this is the number for all the virtual threads in the JVM, and not
+     * only for the threads of this {@link ExecutorServiceManager}.
+     */
+    long getVirtualThreadsPinnedCounter();
+
     /**
      * Creates a new daemon thread with the given name.
      *
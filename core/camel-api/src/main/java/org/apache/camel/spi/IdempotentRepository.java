@@ -16,6 +16,10 @@
  */
 package org.apache.camel.spi;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.apache.camel.Exchange;
 import org.apache.camel.Service;
 
@@ -31,6 +35,10 @@ import org.apache.camel.Service;
  * <li>non-eager: calls <tt>contains</tt> and <tt>add</tt> if complete, or <tt>remove</tt> if failed</li>
  * </ul>
  * Notice the remove callback, can be configured to be disabled.
+ * <p/>
+ * The <tt>addAll</tt>, <tt>containsAll</tt> and <tt>confirmAll</tt> methods operate on many keys at once, such as for
+ * a batch of messages received by a consumer. A repository which stores the keys remotely should override these
+ * methods to use a single round trip, as the default methods call the methods for one key at a time.
  */
 public interface IdempotentRepository extends Service {
 
@@ -133,4 +141,53 @@ public interface IdempotentRepository extends Service {
         return confirm(key);
     }
 
+    /**
+     * Adds the keys to the repository.
+     * <p/>
+     * <b>Important:</b> Read the class javadoc about eager vs non-eager mode.
+     *
+     * @param  keys the keys of the messages for duplicate test
+     * @return      the keys which the repository did <b>not</b> already contain
+     */
+    default Set<String> addAll(Collection<String> keys) {
+        Set<String> answer = new HashSet<>();
+        for (String key : keys) {
+            if (add(key)) {
+                answer.add(key);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the keys which this repository contains.
+     * <p/>
+     * <b>Important:</b> Read the class javadoc about eager vs non-eager mode.
+     *
+     * @param  keys the keys of the messages
+     * @return      the keys which this repository contains
+     */
+    default Set<String> containsAll(Collection<String> keys) {
+        Set<String> answer = new HashSet<>();
+        for (String key : keys) {
+            if (contains(key)) {
+                answer.add(key);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Confirms the keys, after the exchanges have been processed successfully.
+     * <p/>
+     * <b>Important:</b> Read the class javadoc about eager vs non-eager mode.
+     *
+     * @param keys the keys of the messages for duplicate test
+     */
+    default void confirmAll(Collection<String> keys) {
+        for (String key : keys) {
+            confirm(key);
+        }
+    }
+
 }
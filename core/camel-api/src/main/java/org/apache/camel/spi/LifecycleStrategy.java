@@ -28,6 +28,10 @@ import org.apache.camel.VetoCamelContextStartException;
 
 /**
  * Strategy for lifecycle notifications.
+ * <p/>
+ * When routes are started in parallel ({@link CamelContext#setRouteStartupParallelism(int)}), then the notifications
+ * for the services, thread pools and endpoints of the routes can be called concurrently from several threads, and the
+ * strategy must therefore be thread-safe.
  */
 public interface LifecycleStrategy {
 
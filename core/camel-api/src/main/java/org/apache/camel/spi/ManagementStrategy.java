@@ -92,6 +92,17 @@ public interface ManagementStrategy extends StaticService {
      */
     List<EventNotifier> getStartedEventNotifiers();
 
+    /**
+     * Gets the started event notifiers which are subscribed to the given type of event.
+     *
+     * @param  type the type of event
+     * @return      started event notifiers subscribed to the type of event
+     * @see         EventNotifier#isSubscribed(CamelEvent.Type)
+     */
+    default List<EventNotifier> getStartedEventNotifiers(CamelEvent.Type type) {
+        return getStartedEventNotifiers();
+    }
+
     /**
      * Adds the event notifier to use.
      * <p/>
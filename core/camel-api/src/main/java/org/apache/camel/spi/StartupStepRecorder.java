@@ -105,6 +105,22 @@ public interface StartupStepRecorder extends StaticService {
      */
     StartupStep beginStep(Class<?> type, String name, String description);
 
+    /**
+     * Beings a new step as a sub step of the given parent step. This is used when the step is run by another thread
+     * than the parent step, such as when routes are started in parallel, as the steps of each thread are otherwise
+     * recorded on their own.
+     * <p>
+     * Important must call {@link #endStep(StartupStep)} to end the step, from the same thread.
+     *
+     * @param type        the source
+     * @param name        name of the step
+     * @param description description of the step
+     * @param parent      the parent step
+     */
+    default StartupStep beginStep(Class<?> type, String name, String description, StartupStep parent) {
+        return beginStep(type, name, description);
+    }
+
     /**
      * Ends the step
      */
@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 
 import org.apache.camel.Exchange;
@@ -64,6 +65,57 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of off-heap {@link StreamCache} created.
+         */
+        long getCacheOffHeapCounter();
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for off-heap stream caches.
+         */
+        long getCacheOffHeapSize();
+
+        /**
+         * Gets the average number of bytes per cached stream for off-heap stream caches.
+         */
+        long getCacheOffHeapAverageSize();
+
+        /**
+         * Gets the counter for number of times the off-heap pool was exhausted, and the stream cache was spooled to
+         * disk instead.
+         */
+        long getCacheOffHeapExhaustedCounter();
+
+        /**
+         * Gets the number of bytes of the off-heap pool that are currently in use by stream caches.
+         */
+        long getOffHeapPoolUsedSize();
+
+        /**
+         * Gets the number of bytes which has been allocated by the off-heap pool.
+         */
+        long getOffHeapPoolAllocatedSize();
+
+        /**
+         * Gets the counter for number of buffers which was acquired from the buffer pool (reused).
+         */
+        long getBufferPoolHitCounter();
+
+        /**
+         * Gets the counter for number of buffers which was allocated as the buffer pool had no buffer to reuse.
+         */
+        long getBufferPoolMissCounter();
+
+        /**
+         * Gets the number of bytes of buffers acquired from the buffer pool, which are currently in use.
+         */
+        long getBufferPoolUsedSize();
+
+        /**
+         * Gets the number of bytes of buffers that are kept in the buffer pool, ready to be reused.
+         */
+        long getBufferPoolRetainedSize();
+
         /**
          * Reset the counters
          */
@@ -166,6 +218,56 @@ public interface StreamCachingStrategy extends StaticService {
      */
     boolean isSpoolEnabled();
 
+    /**
+     * Enables spooling to off-heap memory, which is used before spooling to disk. This keeps large streams off the Java
+     * heap, without creating a temporary file per stream. The off-heap memory is allocated as direct buffers, which are
+     * pooled and reused. When the pool is exhausted, then the stream is spooled to disk instead.
+     * <p/>
+     * Spooling must be enabled ({@link #setSpoolEnabled(boolean)}) to use off-heap memory.
+     * <p/>
+     * <b>Notice:</b> This cannot be changed at runtime.
+     *
+     * Default is disabled.
+     */
+    void setSpoolOffHeapEnabled(boolean spoolOffHeapEnabled);
+
+    /**
+     * Is spooling to off-heap memory enabled.
+     */
+    boolean isSpoolOffHeapEnabled();
+
+    /**
+     * Sets the size in bytes of each block of off-heap memory in the pool.
+     * <p/>
+     * The default size is 64kb.
+     */
+    void setSpoolOffHeapBlockSize(int blockSize);
+
+    int getSpoolOffHeapBlockSize();
+
+    /**
+     * Sets the maximum number of bytes of off-heap memory the pool can allocate.
+     * <p/>
+     * The default size is 64mb.
+     */
+    void setSpoolOffHeapMaxSize(long maxSize);
+
+    long getSpoolOffHeapMaxSize();
+
+    /**
+     * Acquires a block of off-heap memory from the pool, to be used for spooling a stream cache.
+     *
+     * @return the block (cleared), or <tt>null</tt> if off-heap spooling is not enabled, or the pool is exhausted
+     */
+    ByteBuffer acquireOffHeapBlock();
+
+    /**
+     * Releases the block of off-heap memory back to the pool, when the stream cache is no longer in use.
+     *
+     * @param block the block
+     */
+    void releaseOffHeapBlock(ByteBuffer block);
+
     /**
      * Sets the spool (temporary) directory to use for overflow and spooling to disk.
      * <p/>
@@ -215,6 +317,58 @@ public interface StreamCachingStrategy extends StaticService {
 
     int getBufferSize();
 
+    /**
+     * Sets whether to use a pool of reusable buffers for in-memory stream caches. The buffers are released back to the
+     * pool when the exchanges using the stream caches are done, which reduces garbage collection when routing many
+     * messages that are stream cached in-memory.
+     * <p/>
+     * <b>Important:</b> The stream caches must not be used after the exchange is done (such as keeping the message body
+     * in a custom data structure), as their buffers may be reused by other exchanges.
+     * <p/>
+     * <b>Notice:</b> This cannot be changed at runtime.
+     *
+     * Default is disabled.
+     */
+    void setBufferPoolEnabled(boolean bufferPoolEnabled);
+
+    boolean isBufferPoolEnabled();
+
+    /**
+     * Sets the maximum number of bytes of buffers to keep in the buffer pool, ready to be reused.
+     * <p/>
+     * The default size is 16mb.
+     */
+    void setBufferPoolMaxSize(long maxSize);
+
+    long getBufferPoolMaxSize();
+
+    /**
+     * Sets whether to detect buffers that was not released back to the buffer pool. When a leak is detected, then a
+     * WARN is logged with the stacktrace of where the buffer was acquired.
+     * <p/>
+     * This has a performance overhead and is intended for development and troubleshooting.
+     *
+     * Default is disabled.
+     */
+    void setBufferPoolLeakDetectionEnabled(boolean leakDetectionEnabled);
+
+    boolean isBufferPoolLeakDetectionEnabled();
+
+    /**
+     * Acquires a buffer for an in-memory stream cache.
+     *
+     * @param  size the minimum size of the buffer
+     * @return      the buffer (may be larger than the given size), from the buffer pool if enabled
+     */
+    byte[] acquireBuffer(int size);
+
+    /**
+     * Releases the buffer back to the buffer pool, when the stream cache is no longer in use.
+     *
+     * @param buffer the buffer
+     */
+    void releaseBuffer(byte[] buffer);
+
     /**
      * Sets a cipher name to use when spooling to disk to write with encryption.
      * <p/>
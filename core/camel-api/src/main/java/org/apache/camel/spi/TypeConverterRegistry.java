@@ -21,8 +21,11 @@ import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
 import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
 import org.apache.camel.LoggingLevel;
+import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.StaticService;
+import org.apache.camel.TypeConversionException;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.TypeConverterExists;
 
@@ -75,6 +78,75 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
         }
     }
 
+    /**
+     * A call site for converting values to a given type, which is obtained once and reused by a processor that
+     * repeatedly converts values to the same type.
+     * <p/>
+     * The call site remembers the type converter found for the type of the last value, so converting values of the same
+     * type again can skip the lookup in the registry.
+     *
+     * @see #createCallSite(Class)
+     */
+    interface CallSite<T> {
+
+        /**
+         * The type to convert to
+         */
+        Class<T> getType();
+
+        /**
+         * Converts the value to the type of this call site.
+         *
+         * @see                            TypeConverter#convertTo(Class, Exchange, Object)
+         * @param  exchange                the current exchange
+         * @param  value                   the value to be converted
+         * @return                         the converted value, or <tt>null</tt> if not possible to convert
+         * @throws TypeConversionException is thrown if error during type conversion
+         */
+        T convertTo(Exchange exchange, Object value) throws TypeConversionException;
+
+        /**
+         * Converts the value to the type of this call site, and fails if not possible.
+         *
+         * @see                                       TypeConverter#mandatoryConvertTo(Class, Exchange, Object)
+         * @param  exchange                           the current exchange
+         * @param  value                              the value to be converted
+         * @return                                    the converted value, is never <tt>null</tt>
+         * @throws TypeConversionException            is thrown if error during type conversion
+         * @throws NoTypeConversionAvailableException if no type converters exists to convert to the given type
+         */
+        T mandatoryConvertTo(Exchange exchange, Object value)
+                throws TypeConversionException, NoTypeConversionAvailableException;
+    }
+
+    /**
+     * Creates a call site for converting values to the given type.
+     * <p/>
+     * The default implementation does not cache anything and delegates to the type converter of the
+     * {@link org.apache.camel.CamelContext}.
+     *
+     * @param  type the type to convert to
+     * @return      the call site
+     */
+    default <T> CallSite<T> createCallSite(Class<T> type) {
+        return new CallSite<>() {
+            @Override
+            public Class<T> getType() {
+                return type;
+            }
+
+            @Override
+            public T convertTo(Exchange exchange, Object value) {
+                return getCamelContext().getTypeConverter().convertTo(type, exchange, value);
+            }
+
+            @Override
+            public T mandatoryConvertTo(Exchange exchange, Object value) throws NoTypeConversionAvailableException {
+                return getCamelContext().getTypeConverter().mandatoryConvertTo(type, exchange, value);
+            }
+        };
+    }
+
     /**
      * Registers a new set of type converters that are bulked together into a single {@link BulkTypeConverters} class.
      */
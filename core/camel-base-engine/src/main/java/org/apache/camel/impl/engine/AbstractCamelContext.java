@@ -256,6 +256,7 @@ public abstract class AbstractCamelContext extends BaseService
     private volatile boolean doNotStartRoutesOnFirstStart;
     private Boolean autoStartup = Boolean.TRUE;
     private String autoStartupExcludePattern;
+    private int routeStartupParallelism;
     private Boolean backlogTrace = Boolean.FALSE;
     private Boolean backlogTraceStandby = Boolean.FALSE;
     private Boolean backlogTraceTemplates = Boolean.FALSE;
@@ -3892,6 +3893,16 @@ public abstract class AbstractCamelContext extends BaseService
         this.autoStartupExcludePattern = autoStartupExcludePattern;
     }
 
+    @Override
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    @Override
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
     @Override
     public Boolean isLoadTypeConverters() {
         return loadTypeConverters != null && loadTypeConverters;
@@ -52,6 +52,7 @@ import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadHelper;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.util.concurrent.ThreadType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +69,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     private ThreadPoolFactory threadPoolFactory;
     private String threadNamePattern;
     private long shutdownAwaitTermination = 10000;
+    private boolean virtualThreadsEnabled;
+    private VirtualThreadPinnedMonitor pinnedMonitor;
     private String defaultThreadPoolProfileId = "defaultThreadPoolProfile";
     private final ThreadPoolProfile defaultProfile;
 
@@ -160,6 +163,21 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         this.shutdownAwaitTermination = shutdownAwaitTermination;
     }
 
+    @Override
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    @Override
+    public void setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+    @Override
+    public long getVirtualThreadsPinnedCounter() {
+        return pinnedMonitor != null ? pinnedMonitor.getPinnedCounter() : 0;
+    }
+
     @Override
     public String resolveThreadName(String name) {
         return ThreadHelper.resolveThreadName(threadNamePattern, name);
@@ -482,6 +500,27 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         }
 
         ServiceHelper.startService(threadPoolFactory);
+
+        if (virtualThreadsEnabled || ThreadType.current() == ThreadType.VIRTUAL) {
+            if (Runtime.version().feature() < 21) {
+                LOG.warn("Virtual threads requires JDK 21 or newer. Platform threads are used instead.");
+            } else {
+                LOG.info("Using virtual threads for thread pools");
+                if (pinnedMonitor == null && isFlightRecorderAvailable()) {
+                    try {
+                        pinnedMonitor = VirtualThreadPinnedMonitor.acquire();
+                    } catch (LinkageError e) {
+                        LOG.debug("Cannot monitor pinned virtual threads due to {}. This exception is ignored.",
+                                e.getMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+        // the pinned monitor uses the flight recorder, which is in the jdk.jfr module that a JRE may not include
+        return ModuleLayer.boot().findModule("jdk.jfr").isPresent();
     }
 
     @Override
@@ -533,6 +572,10 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         }
 
         ServiceHelper.stopAndShutdownServices(threadPoolFactory);
+        if (pinnedMonitor != null) {
+            pinnedMonitor.release();
+            pinnedMonitor = null;
+        }
         threadFactoryListeners.clear();
     }
 
@@ -599,7 +642,7 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     }
 
     protected ThreadFactory createThreadFactory(Object source, String name, boolean daemon) {
-        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon);
+        ThreadFactory factory = new CamelThreadFactory(threadNamePattern, name, daemon, virtualThreadsEnabled);
         for (ThreadFactoryListener listener : threadFactoryListeners) {
             factory = listener.onNewThreadFactory(source, factory);
         }
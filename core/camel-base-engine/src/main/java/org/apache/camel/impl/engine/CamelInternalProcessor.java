@@ -26,6 +26,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Channel;
 import org.apache.camel.DisabledAware;
@@ -63,6 +64,7 @@ import org.apache.camel.spi.Tracer;
 import org.apache.camel.spi.Transformer;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.UnitOfWorkFactory;
+import org.apache.camel.support.BatchProcessorHelper;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
@@ -111,7 +113,7 @@ import static org.apache.camel.impl.engine.DefaultChannel.getOrCreateBacklogTrac
  * <p/>
  * The added advices can implement {@link Ordered} to control in which order the advices are executed.
  */
-public class CamelInternalProcessor extends DelegateAsyncProcessor implements InternalProcessor {
+public class CamelInternalProcessor extends DelegateAsyncProcessor implements InternalProcessor, BatchProcessor {
 
     private static final Logger LOG = LoggerFactory.getLogger(CamelInternalProcessor.class);
 
@@ -361,6 +363,74 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         return processNonTransacted(exchange, afterTask);
     }
 
+    @Override
+    public void process(List<Exchange> exchanges) throws Exception {
+        if (!(processor instanceof BatchProcessor) || shutdownStrategy.isForceShutdown()
+                || this instanceof Channel ca && ca.getNextProcessor() instanceof DisabledAware da && da.isDisabled()) {
+            // process the exchanges one at a time
+            BatchProcessorHelper.processEach(this, exchanges);
+            return;
+        }
+
+        // execute the advices before and after processing for each exchange, and process the batch in one call
+        List<Exchange> batch = new ArrayList<>(exchanges.size());
+        List<AsyncCallback> callbacks = new ArrayList<>(exchanges.size());
+        for (Exchange exchange : exchanges) {
+            if (exchange.isRouteStop()) {
+                continue;
+            }
+            if (exchange.isTransacted()) {
+                // transacted exchanges must be processed one at a time
+                BatchProcessorHelper.processEach(this, List.of(exchange));
+                continue;
+            }
+            Object[] states;
+            CamelInternalTask afterTask = taskFactory != null ? taskFactory.acquire() : null;
+            if (afterTask == null) {
+                states = statefulAdvices > 0 ? new Object[statefulAdvices] : EMPTY_STATES;
+                afterTask = new AsyncAfterTask(states);
+            } else {
+                states = afterTask.getStates();
+            }
+            afterTask.prepare(exchange, null);
+            if (beforeBatch(exchange, states)) {
+                batch.add(exchange);
+                callbacks.add(beforeProcess(exchange, afterTask));
+            } else if (taskFactory != null) {
+                taskFactory.release(afterTask);
+            }
+        }
+
+        try {
+            if (!batch.isEmpty()) {
+                BatchProcessorHelper.process(processor, batch);
+            }
+        } finally {
+            for (AsyncCallback callback : callbacks) {
+                callback.done(true);
+            }
+        }
+    }
+
+    private boolean beforeBatch(Exchange exchange, Object[] states) {
+        for (int i = 0, j = 0; i < advices.size(); i++) {
+            CamelInternalProcessorAdvice<?> task = advices.get(i);
+            try {
+                Object state = task.before(exchange);
+                if (task.hasState()) {
+                    states[j++] = state;
+                }
+            } catch (Exception e) {
+                // error in before so break out
+                exchange.setException(e);
+                return false;
+            }
+        }
+        // debugger can skip processing the exchange
+        Object skip = exchange.removeProperty(ExchangePropertyKey.SKIP_OVER);
+        return Boolean.TRUE != skip;
+    }
+
     private static boolean processShutdown(Exchange exchange, AsyncCallback originalCallback) {
         String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: "
                      + exchange;
@@ -116,6 +116,7 @@ class DefaultCamelContextExtension implements ExtendedCamelContext {
     private volatile ManagementMBeanAssembler managementMBeanAssembler;
     private volatile HeadersMapFactory headersMapFactory;
     private volatile boolean eventNotificationApplicable;
+    private volatile boolean exchangeCopyOnWrite;
     private volatile CamelContextNameStrategy nameStrategy;
     private volatile ManagementNameStrategy managementNameStrategy;
     private volatile PropertiesComponent propertiesComponent;
@@ -605,6 +606,16 @@ class DefaultCamelContextExtension implements ExtendedCamelContext {
         this.headersMapFactory = camelContext.getInternalServiceManager().addService(camelContext, headersMapFactory);
     }
 
+    @Override
+    public boolean isExchangeCopyOnWrite() {
+        return exchangeCopyOnWrite;
+    }
+
+    @Override
+    public void setExchangeCopyOnWrite(boolean exchangeCopyOnWrite) {
+        this.exchangeCopyOnWrite = exchangeCopyOnWrite;
+    }
+
     void initEagerMandatoryServices(boolean caseInsensitive, Supplier<HeadersMapFactory> headersMapFactorySupplier) {
         if (this.headersMapFactory == null) {
             // we want headers map to be created as then JVM can optimize using it as we use it per exchange/message
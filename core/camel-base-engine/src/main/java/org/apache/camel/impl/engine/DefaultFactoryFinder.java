@@ -41,6 +41,7 @@ public class DefaultFactoryFinder implements FactoryFinder {
     protected ConcurrentMap<String, Exception> classesNotFoundExceptions = new ConcurrentHashMap<>();
     protected ClassResolver classResolver;
     private final String path;
+    private volatile FactoryFinderSnapshot snapshot;
 
     public DefaultFactoryFinder(ClassResolver classResolver, String resourcePath) {
         this.classResolver = classResolver;
@@ -63,29 +64,27 @@ public class DefaultFactoryFinder implements FactoryFinder {
         return Optional.ofNullable(type.cast(obj));
     }
 
+    public FactoryFinderSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Sets a snapshot to resolve the classes from, before looking up the factory files on the classpath. The classes
+     * which are looked up are recorded in the snapshot.
+     */
+    public void setSnapshot(FactoryFinderSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
     @Override
     public Optional<Class<?>> findClass(String key) {
-        Class<?> clazz = addToClassMap(key, () -> {
-            Properties prop = doFindFactoryProperties(key);
-            if (prop != null) {
-                return doNewInstance(prop, true).orElse(null);
-            } else {
-                return null;
-            }
-        });
+        Class<?> clazz = addToClassMap(key, () -> doFindClass(key, true));
         return Optional.ofNullable(clazz);
     }
 
     @Override
     public Optional<Class<?>> findOptionalClass(String key) {
-        Class<?> clazz = addToClassMap(key, () -> {
-            Properties prop = doFindFactoryProperties(key);
-            if (prop != null) {
-                return doNewInstance(prop, false).orElse(null);
-            } else {
-                return null;
-            }
-        });
+        Class<?> clazz = addToClassMap(key, () -> doFindClass(key, false));
         return Optional.ofNullable(clazz);
     }
 
@@ -107,6 +106,31 @@ public class DefaultFactoryFinder implements FactoryFinder {
         return clazz.map(ObjectHelper::newInstance).orElse(null);
     }
 
+    private Class<?> doFindClass(String key, boolean mandatory) throws IOException {
+        FactoryFinderSnapshot snapshot = this.snapshot;
+        if (snapshot != null) {
+            String className = snapshot.lookup(path, key);
+            if (className != null) {
+                Class<?> clazz = classResolver.resolveClass(className);
+                if (clazz != null) {
+                    return clazz;
+                }
+                // the class is no longer on the classpath, so look up the factory file again
+            }
+        }
+
+        Properties prop = doFindFactoryProperties(key);
+        if (prop == null) {
+            // factories which are not found are not recorded, as they may be added to the classpath
+            return null;
+        }
+        Class<?> clazz = doNewInstance(prop, mandatory).orElse(null);
+        if (clazz != null && snapshot != null) {
+            snapshot.record(path, key, clazz);
+        }
+        return clazz;
+    }
+
     private Optional<Class<?>> doNewInstance(Properties properties, boolean mandatory) throws IOException {
         String className = properties.getProperty("class");
         if (className == null && mandatory) {
@@ -25,13 +25,30 @@ import org.apache.camel.spi.FactoryFinderResolver;
  */
 public class DefaultFactoryFinderResolver implements FactoryFinderResolver {
 
+    private FactoryFinderSnapshot snapshot;
+
+    public FactoryFinderSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Sets a snapshot which the factory finders which are resolved afterwards should use to resolve the classes.
+     */
+    public void setSnapshot(FactoryFinderSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
     @Override
     public FactoryFinder resolveFactoryFinder(ClassResolver classResolver, String resourcePath) {
-        return new DefaultFactoryFinder(classResolver, resourcePath);
+        DefaultFactoryFinder answer = new DefaultFactoryFinder(classResolver, resourcePath);
+        answer.setSnapshot(snapshot);
+        return answer;
     }
 
     @Override
     public FactoryFinder resolveBootstrapFactoryFinder(ClassResolver classResolver, String resourcePath) {
-        return new BootstrapFactoryFinder(classResolver, resourcePath);
+        BootstrapFactoryFinder answer = new BootstrapFactoryFinder(classResolver, resourcePath);
+        answer.setSnapshot(snapshot);
+        return answer;
     }
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -51,6 +52,8 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
 
     private final List<EventNotifier> eventNotifiers = new CopyOnWriteArrayList<>();
     private final List<EventNotifier> startedEventNotifiers = new CopyOnWriteArrayList<>();
+    // the started event notifiers per type of event (index by ordinal)
+    private volatile List<EventNotifier>[] subscribedEventNotifiers = createSubscribedEventNotifiers(List.of());
     private EventFactory eventFactory = new DefaultEventFactory();
     private ManagementObjectNameStrategy managementObjectNameStrategy;
     private ManagementObjectStrategy managementObjectStrategy;
@@ -79,6 +82,11 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
         return startedEventNotifiers;
     }
 
+    @Override
+    public List<EventNotifier> getStartedEventNotifiers(CamelEvent.Type type) {
+        return subscribedEventNotifiers[type.ordinal()];
+    }
+
     @Override
     public void addEventNotifier(EventNotifier eventNotifier) {
         this.eventNotifiers.add(eventNotifier);
@@ -89,6 +97,7 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
             this.startedEventNotifiers.add(eventNotifier);
             // resort after adding
             this.startedEventNotifiers.sort(OrderedComparator.get());
+            updateSubscribedEventNotifiers();
         }
         if (getCamelContext() != null) {
             // inject camel context if needed
@@ -102,10 +111,32 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
 
     @Override
     public boolean removeEventNotifier(EventNotifier eventNotifier) {
-        startedEventNotifiers.remove(eventNotifier);
+        if (startedEventNotifiers.remove(eventNotifier)) {
+            updateSubscribedEventNotifiers();
+        }
         return eventNotifiers.remove(eventNotifier);
     }
 
+    private synchronized void updateSubscribedEventNotifiers() {
+        subscribedEventNotifiers = createSubscribedEventNotifiers(startedEventNotifiers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<EventNotifier>[] createSubscribedEventNotifiers(List<EventNotifier> notifiers) {
+        CamelEvent.Type[] types = CamelEvent.Type.values();
+        List<EventNotifier>[] answer = new List[types.length];
+        for (CamelEvent.Type type : types) {
+            List<EventNotifier> subscribed = new ArrayList<>(notifiers.size());
+            for (EventNotifier notifier : notifiers) {
+                if (notifier.isSubscribed(type)) {
+                    subscribed.add(notifier);
+                }
+            }
+            answer[type.ordinal()] = List.copyOf(subscribed);
+        }
+        return answer;
+    }
+
     @Override
     public EventFactory getEventFactory() {
         return eventFactory;
@@ -223,11 +254,13 @@ public class DefaultManagementStrategy extends ServiceSupport implements Managem
     protected void doStart() throws Exception {
         ServiceHelper.startService(eventNotifiers, managementAgent, managementObjectStrategy, managementObjectNameStrategy);
         startedEventNotifiers.addAll(eventNotifiers);
+        updateSubscribedEventNotifiers();
     }
 
     @Override
     protected void doStop() throws Exception {
         startedEventNotifiers.clear();
+        updateSubscribedEventNotifiers();
         ServiceHelper.stopService(managementObjectNameStrategy, managementObjectStrategy, managementAgent, eventNotifiers);
     }
 
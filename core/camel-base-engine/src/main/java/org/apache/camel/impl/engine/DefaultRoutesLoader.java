@@ -24,12 +24,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.RouteConfigurationsBuilder;
 import org.apache.camel.RoutesBuilder;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StaticService;
 import org.apache.camel.spi.ExtendedRoutesBuilderLoader;
 import org.apache.camel.spi.FactoryFinder;
@@ -194,19 +198,16 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
                     }
                 }
             } else {
-                for (Resource resource : entry.getValue()) {
-                    try {
-                        RoutesBuilder builder = loader.loadRoutesBuilder(resource);
+                List<Resource> files = entry.getValue();
+                int parallelism = camelContext.getRouteStartupParallelism();
+                if (parallelism > 1 && files.size() > 1) {
+                    answer.addAll(doLoadRoutesBuildersInParallel(loader, files, parallelism));
+                } else {
+                    for (Resource resource : files) {
+                        RoutesBuilder builder = doLoadRoutesBuilder(loader, resource);
                         if (builder != null) {
                             answer.add(builder);
                         }
-                    } catch (Exception e) {
-                        if (isIgnoreLoadingError()) {
-                            LOG.warn("Loading resources error: {} due to: {}. This exception is ignored.", resource,
-                                    e.getMessage());
-                        } else {
-                            throw e;
-                        }
                     }
                 }
             }
@@ -215,6 +216,55 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
         return answer;
     }
 
+    private RoutesBuilder doLoadRoutesBuilder(RoutesBuilderLoader loader, Resource resource) throws Exception {
+        try {
+            return loader.loadRoutesBuilder(resource);
+        } catch (Exception e) {
+            if (isIgnoreLoadingError()) {
+                LOG.warn("Loading resources error: {} due to: {}. This exception is ignored.", resource,
+                        e.getMessage());
+                return null;
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    private List<RoutesBuilder> doLoadRoutesBuildersInParallel(
+            RoutesBuilderLoader loader, List<Resource> resources, int parallelism)
+            throws Exception {
+        ExecutorService executor = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "RoutesLoader",
+                Math.min(parallelism, resources.size()));
+        try {
+            List<Future<RoutesBuilder>> futures = new ArrayList<>(resources.size());
+            for (Resource resource : resources) {
+                futures.add(executor.submit(() -> doLoadRoutesBuilder(loader, resource)));
+            }
+
+            // keep the builders in the same order as the resources, and fail with the first error
+            List<RoutesBuilder> answer = new ArrayList<>(resources.size());
+            Exception cause = null;
+            for (Future<RoutesBuilder> future : futures) {
+                try {
+                    RoutesBuilder builder = future.get();
+                    if (builder != null) {
+                        answer.add(builder);
+                    }
+                } catch (ExecutionException e) {
+                    if (cause == null) {
+                        cause = e.getCause() instanceof Exception ex ? ex : new RuntimeCamelException(e.getCause());
+                    }
+                }
+            }
+            if (cause != null) {
+                throw cause;
+            }
+            return answer;
+        } finally {
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+        }
+    }
+
     @Override
     public void preParseRoute(Resource resource, boolean optional) throws Exception {
         RoutesBuilderLoader loader = resolveRoutesBuilderLoader(resource, optional);
@@ -19,11 +19,14 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -35,6 +38,7 @@ import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.TempDirHelper;
 import org.apache.camel.support.service.ServiceSupport;
@@ -54,6 +58,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
 
+    // the buffer pool has size classes of power of two from 4kb to 1mb
+    private static final int BUFFER_POOL_MIN_SHIFT = 12;
+    private static final int BUFFER_POOL_MAX_SHIFT = 20;
+
     private CamelContext camelContext;
     private boolean enabled;
     private String allowClassNames;
@@ -70,6 +78,18 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private String spoolCipher;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
+    private boolean spoolOffHeapEnabled;
+    private int spoolOffHeapBlockSize = 64 * 1024;
+    private long spoolOffHeapMaxSize = 64 * 1024 * 1024;
+    private final Queue<ByteBuffer> offHeapPool = new ConcurrentLinkedQueue<>();
+    private final AtomicLong offHeapAllocated = new AtomicLong();
+    private final AtomicLong offHeapUsed = new AtomicLong();
+    private boolean bufferPoolEnabled;
+    private long bufferPoolMaxSize = 16 * 1024 * 1024;
+    private boolean bufferPoolLeakDetectionEnabled;
+    private final Queue<byte[]>[] bufferPool = newBufferPool();
+    private final AtomicLong bufferPoolUsed = new AtomicLong();
+    private final AtomicLong bufferPoolRetained = new AtomicLong();
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
@@ -197,6 +217,94 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.bufferSize = bufferSize;
     }
 
+    @Override
+    public boolean isBufferPoolEnabled() {
+        return bufferPoolEnabled;
+    }
+
+    @Override
+    public void setBufferPoolEnabled(boolean bufferPoolEnabled) {
+        this.bufferPoolEnabled = bufferPoolEnabled;
+    }
+
+    @Override
+    public long getBufferPoolMaxSize() {
+        return bufferPoolMaxSize;
+    }
+
+    @Override
+    public void setBufferPoolMaxSize(long bufferPoolMaxSize) {
+        this.bufferPoolMaxSize = bufferPoolMaxSize;
+    }
+
+    @Override
+    public boolean isBufferPoolLeakDetectionEnabled() {
+        return bufferPoolLeakDetectionEnabled;
+    }
+
+    @Override
+    public void setBufferPoolLeakDetectionEnabled(boolean bufferPoolLeakDetectionEnabled) {
+        this.bufferPoolLeakDetectionEnabled = bufferPoolLeakDetectionEnabled;
+    }
+
+    @Override
+    public byte[] acquireBuffer(int size) {
+        if (!bufferPoolEnabled) {
+            return new byte[size];
+        }
+
+        int shift = size <= 1 << BUFFER_POOL_MIN_SHIFT
+                ? BUFFER_POOL_MIN_SHIFT : Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+        byte[] buffer = null;
+        if (shift <= BUFFER_POOL_MAX_SHIFT) {
+            buffer = bufferPool[shift - BUFFER_POOL_MIN_SHIFT].poll();
+            if (buffer != null) {
+                bufferPoolRetained.addAndGet(-buffer.length);
+            }
+        }
+        if (buffer != null) {
+            if (statistics.isStatisticsEnabled()) {
+                statistics.bufferPoolHitCounter.incrementAndGet();
+            }
+        } else {
+            if (statistics.isStatisticsEnabled()) {
+                statistics.bufferPoolMissCounter.incrementAndGet();
+            }
+            // too large buffers are not pooled
+            buffer = new byte[shift <= BUFFER_POOL_MAX_SHIFT ? 1 << shift : size];
+        }
+        bufferPoolUsed.addAndGet(buffer.length);
+        return buffer;
+    }
+
+    @Override
+    public void releaseBuffer(byte[] buffer) {
+        if (!bufferPoolEnabled) {
+            return;
+        }
+
+        int length = buffer.length;
+        bufferPoolUsed.addAndGet(-length);
+        int shift = Integer.numberOfTrailingZeros(length);
+        if (Integer.bitCount(length) == 1 && shift >= BUFFER_POOL_MIN_SHIFT && shift <= BUFFER_POOL_MAX_SHIFT) {
+            if (bufferPoolRetained.addAndGet(length) <= bufferPoolMaxSize) {
+                bufferPool[shift - BUFFER_POOL_MIN_SHIFT].offer(buffer);
+            } else {
+                // the pool is full so discard the buffer
+                bufferPoolRetained.addAndGet(-length);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Queue<byte[]>[] newBufferPool() {
+        Queue<byte[]>[] answer = new Queue[BUFFER_POOL_MAX_SHIFT - BUFFER_POOL_MIN_SHIFT + 1];
+        for (int i = 0; i < answer.length; i++) {
+            answer[i] = new ConcurrentLinkedQueue<>();
+        }
+        return answer;
+    }
+
     @Override
     public boolean isRemoveSpoolDirectoryWhenStopping() {
         return removeSpoolDirectoryWhenStopping;
@@ -207,6 +315,77 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.removeSpoolDirectoryWhenStopping = removeSpoolDirectoryWhenStopping;
     }
 
+    @Override
+    public boolean isSpoolOffHeapEnabled() {
+        return spoolOffHeapEnabled;
+    }
+
+    @Override
+    public void setSpoolOffHeapEnabled(boolean spoolOffHeapEnabled) {
+        this.spoolOffHeapEnabled = spoolOffHeapEnabled;
+    }
+
+    @Override
+    public int getSpoolOffHeapBlockSize() {
+        return spoolOffHeapBlockSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapBlockSize(int spoolOffHeapBlockSize) {
+        this.spoolOffHeapBlockSize = spoolOffHeapBlockSize;
+    }
+
+    @Override
+    public long getSpoolOffHeapMaxSize() {
+        return spoolOffHeapMaxSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapMaxSize(long spoolOffHeapMaxSize) {
+        this.spoolOffHeapMaxSize = spoolOffHeapMaxSize;
+    }
+
+    @Override
+    public ByteBuffer acquireOffHeapBlock() {
+        if (!spoolOffHeapEnabled) {
+            return null;
+        }
+
+        ByteBuffer block = offHeapPool.poll();
+        if (block == null) {
+            // allocate a new block if the pool has not reached its limit
+            long allocated = offHeapAllocated.get();
+            while (allocated + spoolOffHeapBlockSize <= spoolOffHeapMaxSize) {
+                if (offHeapAllocated.compareAndSet(allocated, allocated + spoolOffHeapBlockSize)) {
+                    block = ByteBuffer.allocateDirect(spoolOffHeapBlockSize);
+                    break;
+                }
+                allocated = offHeapAllocated.get();
+            }
+        }
+        if (block != null) {
+            offHeapUsed.addAndGet(block.capacity());
+        } else {
+            LOG.trace("Off-heap pool exhausted with {} bytes in use", offHeapUsed);
+            if (statistics.isStatisticsEnabled()) {
+                statistics.offHeapExhaustedCounter.incrementAndGet();
+            }
+        }
+        return block;
+    }
+
+    @Override
+    public void releaseOffHeapBlock(ByteBuffer block) {
+        offHeapUsed.addAndGet(-block.capacity());
+        if (block.capacity() == spoolOffHeapBlockSize) {
+            block.clear();
+            offHeapPool.offer(block);
+        } else {
+            // the block size has been changed so discard the block
+            offHeapAllocated.addAndGet(-block.capacity());
+        }
+    }
+
     @Override
     public boolean isAnySpoolRules() {
         return anySpoolRules;
@@ -350,7 +529,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
     private void computeStatistics(StreamCache cache) {
         try {
-            if (cache.inMemory()) {
+            if (cache instanceof OffHeapInputStreamCache) {
+                statistics.updateOffHeap(cache.length());
+            } else if (cache.inMemory()) {
                 statistics.updateMemory(cache.length());
             } else {
                 statistics.updateSpool(cache.length());
@@ -405,6 +586,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             throw new IllegalArgumentException(
                     "SpoolHeapMemoryWatermarkThreshold must not be higher than 99, was: " + spoolUsedHeapMemoryThreshold);
         }
+        if (spoolOffHeapEnabled && spoolOffHeapBlockSize <= 0) {
+            throw new IllegalArgumentException(
+                    "SpoolOffHeapBlockSize must be a positive number, was: " + spoolOffHeapBlockSize);
+        }
 
         // if we can overflow to disk then make sure directory exists / is created
         if (spoolEnabled && (spoolThreshold > 0 || spoolUsedHeapMemoryThreshold > 0 || !spoolRules.isEmpty())) {
@@ -452,7 +637,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
         LOG.debug("StreamCaching configuration {}", this);
 
-        if (spoolDirectory != null) {
+        if (spoolDirectory != null && spoolOffHeapEnabled) {
+            LOG.info("StreamCaching in use with off-heap pool: {}K, spool directory: {} and rules: {}",
+                    spoolOffHeapMaxSize >> 10, spoolDirectory.getPath(), spoolRules);
+        } else if (spoolDirectory != null) {
             LOG.info("StreamCaching in use with spool directory: {} and rules: {}", spoolDirectory.getPath(), spoolRules);
         } else if (!spoolRules.isEmpty()) {
             LOG.info("StreamCaching in use with rules: {}", spoolRules);
@@ -474,6 +662,16 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+
+        // the direct buffers are freed when they are garbage collected
+        ByteBuffer block;
+        while ((block = offHeapPool.poll()) != null) {
+            offHeapAllocated.addAndGet(-block.capacity());
+        }
+        for (Queue<byte[]> pool : bufferPool) {
+            pool.clear();
+        }
+        bufferPoolRetained.set(0);
     }
 
     private boolean isSpoolRemovable() {
@@ -487,8 +685,13 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolDirectory=" + spoolDirectory
                + ", spoolCipher=" + spoolCipher
                + ", spoolThreshold=" + spoolThreshold
+               + ", spoolOffHeapEnabled=" + spoolOffHeapEnabled
+               + ", spoolOffHeapBlockSize=" + spoolOffHeapBlockSize
+               + ", spoolOffHeapMaxSize=" + spoolOffHeapMaxSize
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
+               + ", bufferPoolEnabled=" + bufferPoolEnabled
+               + ", bufferPoolMaxSize=" + bufferPoolMaxSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -558,7 +761,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     /**
      * Represents utilization statistics.
      */
-    private static final class UtilizationStatistics implements Statistics {
+    private final class UtilizationStatistics implements Statistics {
 
         private final Lock lock = new ReentrantLock();
         private boolean statisticsEnabled;
@@ -568,6 +771,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private final AtomicLong spoolCounter = new AtomicLong();
         private final AtomicLong spoolSize = new AtomicLong();
         private final AtomicLong spoolAverageSize = new AtomicLong();
+        private final AtomicLong offHeapCounter = new AtomicLong();
+        private final AtomicLong offHeapSize = new AtomicLong();
+        private final AtomicLong offHeapAverageSize = new AtomicLong();
+        private final AtomicLong offHeapExhaustedCounter = new AtomicLong();
+        private final AtomicLong bufferPoolHitCounter = new AtomicLong();
+        private final AtomicLong bufferPoolMissCounter = new AtomicLong();
 
         void updateMemory(long size) {
             lock.lock();
@@ -583,7 +792,16 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             try {
                 spoolAverageSize.set(spoolSize.addAndGet(size) / spoolCounter.incrementAndGet());
             } finally {
-                lock.lock();
+                lock.unlock();
+            }
+        }
+
+        void updateOffHeap(long size) {
+            lock.lock();
+            try {
+                offHeapAverageSize.set(offHeapSize.addAndGet(size) / offHeapCounter.incrementAndGet());
+            } finally {
+                lock.unlock();
             }
         }
 
@@ -617,6 +835,56 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize.get();
         }
 
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter.get();
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize.get();
+        }
+
+        @Override
+        public long getCacheOffHeapAverageSize() {
+            return offHeapAverageSize.get();
+        }
+
+        @Override
+        public long getCacheOffHeapExhaustedCounter() {
+            return offHeapExhaustedCounter.get();
+        }
+
+        @Override
+        public long getOffHeapPoolUsedSize() {
+            return offHeapUsed.get();
+        }
+
+        @Override
+        public long getOffHeapPoolAllocatedSize() {
+            return offHeapAllocated.get();
+        }
+
+        @Override
+        public long getBufferPoolHitCounter() {
+            return bufferPoolHitCounter.get();
+        }
+
+        @Override
+        public long getBufferPoolMissCounter() {
+            return bufferPoolMissCounter.get();
+        }
+
+        @Override
+        public long getBufferPoolUsedSize() {
+            return bufferPoolUsed.get();
+        }
+
+        @Override
+        public long getBufferPoolRetainedSize() {
+            return bufferPoolRetained.get();
+        }
+
         @Override
         public void reset() {
             lock.lock();
@@ -627,6 +895,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                 spoolCounter.set(0);
                 spoolSize.set(0);
                 spoolAverageSize.set(0);
+                offHeapCounter.set(0);
+                offHeapSize.set(0);
+                offHeapAverageSize.set(0);
+                offHeapExhaustedCounter.set(0);
+                bufferPoolHitCounter.set(0);
+                bufferPoolMissCounter.set(0);
             } finally {
                 lock.unlock();
             }
@@ -645,8 +919,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s"
+                                 + ", offHeapCounter=%s, offHeapSize=%s, offHeapAverageSize=%s, offHeapExhaustedCounter=%s"
+                                 + ", bufferPoolHitCounter=%s, bufferPoolMissCounter=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    offHeapCounter, offHeapSize, offHeapAverageSize, offHeapExhaustedCounter,
+                    bufferPoolHitCounter, bufferPoolMissCounter);
         }
     }
 
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.camel.spi.FactoryFinder;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.OrderedProperties;
+
+/**
+ * A snapshot of the classes which the {@link DefaultFactoryFinder}s have resolved from the factory files on the
+ * classpath, such as components, languages, data formats and configurers.
+ * <p/>
+ * The snapshot can be saved to a file after Camel has been started, and loaded again when starting the same application
+ * the next time, so the factory finders can resolve the classes directly by their names, instead of looking up and
+ * loading the factory files from all the JARs on the classpath.
+ * <p/>
+ * The snapshot is only loaded if the classpath is the same as when the snapshot was saved, which is the same entries
+ * with the same sizes and last modified times, so a JAR that is replaced with another version is detected. For a
+ * directory, such as the classes of the application itself, it is the factory files in the directory which must be the
+ * same, as the size and last modified time of the directory do not change when a file is changed. The factory
+ * files which do not exist are not in the snapshot, as a factory can be added to the classpath by a JAR which is not a
+ * classpath entry of its own, so these are always looked up on the classpath.
+ */
+public class FactoryFinderSnapshot {
+
+    private static final String CLASSPATH_KEY = "#classpath";
+
+    private final Map<String, String> classNames = new ConcurrentHashMap<>();
+    private final String classpath;
+    private volatile boolean modified;
+
+    public FactoryFinderSnapshot() {
+        this(System.getProperty("java.class.path", ""));
+    }
+
+    /**
+     * Creates the snapshot for the given classpath
+     *
+     * @param classpath the classpath, which the snapshot must be saved with, to be loaded again
+     */
+    public FactoryFinderSnapshot(String classpath) {
+        this.classpath = fingerprint(classpath);
+    }
+
+    /**
+     * Computes the fingerprint of the classpath, from the entries and their sizes and last modified times, and for
+     * directories the factory files in the directory.
+     */
+    static String fingerprint(String classpath) {
+        StringBuilder sb = new StringBuilder();
+        for (String entry : classpath.split(File.pathSeparator)) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+            File file = new File(entry);
+            if (file.isDirectory()) {
+                sb.append(entry).append('\n');
+                fingerprintFactoryFiles(sb, file.toPath());
+            } else {
+                sb.append(entry).append('|').append(file.length()).append('|').append(file.lastModified()).append('\n');
+            }
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every JVM
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void fingerprintFactoryFiles(StringBuilder sb, Path dir) {
+        Path factories = dir.resolve(FactoryFinder.DEFAULT_PATH);
+        if (!Files.isDirectory(factories)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(factories)) {
+            files.filter(Files::isRegularFile).sorted().forEach(f -> {
+                File file = f.toFile();
+                sb.append(dir.relativize(f)).append('|').append(file.length()).append('|').append(file.lastModified())
+                        .append('\n');
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Looks up the class name of the factory in the snapshot.
+     *
+     * @param  path the resource path of the factory finder
+     * @param  key  the key of the factory
+     * @return      the class name, or <tt>null</tt> if the factory is not in the snapshot
+     */
+    String lookup(String path, String key) {
+        return classNames.get(path + key);
+    }
+
+    /**
+     * Records the resolved class of the factory in the snapshot.
+     *
+     * @param path  the resource path of the factory finder
+     * @param key   the key of the factory
+     * @param clazz the class
+     */
+    void record(String path, String key, Class<?> clazz) {
+        String className = clazz.getName();
+        if (!className.equals(classNames.put(path + key, className))) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Whether classes have been recorded since the snapshot was created or loaded, so the snapshot should be saved.
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Number of factories in the snapshot.
+     */
+    public int size() {
+        return classNames.size();
+    }
+
+    /**
+     * Loads the snapshot from the file.
+     *
+     * @param  file        the file
+     * @return             <tt>true</tt> if the snapshot was loaded, or <tt>false</tt> if the file does not exist, or
+     *                     was saved with another classpath
+     * @throws IOException is thrown if error reading the file
+     */
+    public boolean load(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        Properties prop = new Properties();
+        try (InputStream is = IOHelper.buffered(Files.newInputStream(file))) {
+            prop.load(is);
+        }
+        if (!classpath.equals(prop.remove(CLASSPATH_KEY))) {
+            return false;
+        }
+        for (String name : prop.stringPropertyNames()) {
+            classNames.put(name, prop.getProperty(name));
+        }
+        modified = false;
+        return true;
+    }
+
+    /**
+     * Saves the snapshot to the file.
+     *
+     * @param  file        the file
+     * @throws IOException is thrown if error writing the file
+     */
+    public void save(Path file) throws IOException {
+        Properties prop = new OrderedProperties();
+        prop.setProperty(CLASSPATH_KEY, classpath);
+        prop.putAll(new TreeMap<>(classNames));
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        try (OutputStream os = IOHelper.buffered(Files.newOutputStream(file))) {
+            prop.store(os, null);
+        }
+        modified = false;
+    }
+}
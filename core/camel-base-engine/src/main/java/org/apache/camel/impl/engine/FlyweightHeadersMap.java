@@ -0,0 +1,489 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A case insensitive map for message headers, which preserves the original key cases and the insertion order.
+ * <p/>
+ * The well-known header keys from {@link Exchange} are interned to small integer codes, so they are looked up without
+ * computing a case insensitive hash code or comparing strings. The entries are stored in plain arrays indexed by an
+ * open-addressing hash table.
+ * <p/>
+ * Copying the map (using {@link #FlyweightHeadersMap(Map)} or {@link #putAll(Map)} on an empty map) shares the arrays
+ * with the existing map, and the arrays are first copied when either map is changed (copy-on-write). This makes copying
+ * exchanges, such as in the multicast, splitter and wire-tap EIPs, cheap.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine. However maps that share their arrays after being copied can be used by different threads.
+ */
+public final class FlyweightHeadersMap extends AbstractMap<String, Object> {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int DELETED = -1;
+
+    private static final String[] KNOWN_KEYS;
+    private static final int[] KNOWN_HASHES;
+    private static final Map<String, Integer> KNOWN_CODES;
+    private static final int[] KNOWN_TABLE;
+
+    static {
+        // intern the string constants from Exchange (with case insensitive duplicates using the same code)
+        List<String> keys = new ArrayList<>();
+        Map<String, Integer> codes = new HashMap<>();
+        for (Field field : Exchange.class.getFields()) {
+            if (field.getType() == String.class && Modifier.isStatic(field.getModifiers())) {
+                String key;
+                try {
+                    key = (String) field.get(null);
+                } catch (IllegalAccessException e) {
+                    continue;
+                }
+                if (key != null && !codes.containsKey(key)) {
+                    int code = keys.size();
+                    for (int i = 0; i < keys.size(); i++) {
+                        if (keys.get(i).equalsIgnoreCase(key)) {
+                            code = i;
+                            break;
+                        }
+                    }
+                    if (code == keys.size()) {
+                        keys.add(key);
+                    }
+                    codes.put(key, code);
+                }
+            }
+        }
+        KNOWN_KEYS = keys.toArray(new String[0]);
+        KNOWN_CODES = codes;
+        KNOWN_HASHES = new int[KNOWN_KEYS.length];
+        KNOWN_TABLE = new int[tableSizeFor(KNOWN_KEYS.length * 2)];
+        for (int code = 0; code < KNOWN_KEYS.length; code++) {
+            int hash = caseInsensitiveHash(KNOWN_KEYS[code]);
+            KNOWN_HASHES[code] = hash;
+            int mask = KNOWN_TABLE.length - 1;
+            int i = spread(hash) & mask;
+            while (KNOWN_TABLE[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            KNOWN_TABLE[i] = code + 1;
+        }
+    }
+
+    private Store store;
+    private int modCount;
+    private Set<Map.Entry<String, Object>> entrySet;
+
+    public FlyweightHeadersMap() {
+    }
+
+    public FlyweightHeadersMap(Map<String, Object> map) {
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return store != null ? store.size : 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String s && store != null && store.find(codeOf(s), s) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String s && store != null) {
+            int i = store.find(codeOf(s), s);
+            if (i >= 0) {
+                return store.values[store.index[i] - 1];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        int code = codeOf(key);
+        Store s = writableStore();
+        int i = s.find(code, key);
+        if (i >= 0) {
+            // keep the original key case
+            int pos = s.index[i] - 1;
+            Object answer = s.values[pos];
+            s.values[pos] = value;
+            return answer;
+        }
+        if (s.count == s.keys.length) {
+            s.rebuild();
+        }
+        s.add(code, key, value);
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (map instanceof FlyweightHeadersMap other && other != this && isEmpty()) {
+            // share the entries until either map is changed
+            Store s = other.store;
+            if (s != null) {
+                s.acquire();
+            }
+            if (store != null) {
+                store.release();
+            }
+            store = s;
+            modCount++;
+        } else {
+            for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String s && store != null) {
+            int i = store.find(codeOf(s), s);
+            if (i >= 0) {
+                // the copy keeps the positions, so the index is still valid
+                return removeAt(i);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        if (store != null) {
+            store.release();
+            store = null;
+            modCount++;
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private Object removeAt(int i) {
+        Store s = writableStore();
+        int pos = s.index[i] - 1;
+        Object answer = s.values[pos];
+        s.index[i] = DELETED;
+        s.keys[pos] = null;
+        s.values[pos] = null;
+        s.size--;
+        modCount++;
+        return answer;
+    }
+
+    /**
+     * Returns a store that this map can change, which is copied if it is shared with other maps.
+     */
+    private Store writableStore() {
+        Store s = store;
+        if (s == null) {
+            s = new Store(INITIAL_CAPACITY);
+            store = s;
+        } else if (s.isShared()) {
+            Store copy = new Store(s);
+            s.release();
+            store = copy;
+            s = copy;
+        }
+        return s;
+    }
+
+    private static int codeOf(String key) {
+        Integer code = KNOWN_CODES.get(key);
+        if (code != null) {
+            return code;
+        }
+        int hash = caseInsensitiveHash(key);
+        int mask = KNOWN_TABLE.length - 1;
+        int i = spread(hash) & mask;
+        int slot;
+        while ((slot = KNOWN_TABLE[i]) != 0) {
+            int known = slot - 1;
+            if (KNOWN_HASHES[known] == hash && KNOWN_KEYS[known].equalsIgnoreCase(key)) {
+                return known;
+            }
+            i = (i + 1) & mask;
+        }
+        // other keys use negative codes so they never clash with the well-known keys
+        return hash | Integer.MIN_VALUE;
+    }
+
+    private static int caseInsensitiveHash(String key) {
+        // must be consistent with String.equalsIgnoreCase
+        int hash = 0;
+        for (int i = 0; i < key.length();) {
+            int cp = key.codePointAt(i);
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(cp));
+            i += Character.charCount(cp);
+        }
+        return hash;
+    }
+
+    private static int spread(int code) {
+        int h = code * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int size) {
+        return Math.max(2, Integer.highestOneBit(Math.max(1, size - 1)) << 1);
+    }
+
+    /**
+     * The entries stored in arrays in insertion order, and a hash table with the positions of the entries (plus one).
+     */
+    private static final class Store {
+
+        private static final AtomicIntegerFieldUpdater<Store> OWNERS
+                = AtomicIntegerFieldUpdater.newUpdater(Store.class, "owners");
+
+        private volatile int owners = 1;
+        private int[] index;
+        private int[] codes;
+        private String[] keys;
+        private Object[] values;
+        private int count;
+        private int size;
+
+        Store(int capacity) {
+            index = new int[capacity * 2];
+            codes = new int[capacity];
+            keys = new String[capacity];
+            values = new Object[capacity];
+        }
+
+        Store(Store store) {
+            index = store.index.clone();
+            codes = store.codes.clone();
+            keys = store.keys.clone();
+            values = store.values.clone();
+            count = store.count;
+            size = store.size;
+        }
+
+        boolean isShared() {
+            return owners > 1;
+        }
+
+        void acquire() {
+            OWNERS.incrementAndGet(this);
+        }
+
+        void release() {
+            OWNERS.decrementAndGet(this);
+        }
+
+        /**
+         * Finds the slot in the hash table of the given key, or <tt>-1</tt> if not found.
+         */
+        int find(int code, String key) {
+            int mask = index.length - 1;
+            int i = spread(code) & mask;
+            int slot;
+            while ((slot = index[i]) != 0) {
+                if (slot != DELETED) {
+                    int pos = slot - 1;
+                    // well-known keys have the same code only if they are the same key
+                    if (codes[pos] == code && (code >= 0 || keys[pos].equalsIgnoreCase(key))) {
+                        return i;
+                    }
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        void add(int code, String key, Object value) {
+            int pos = count++;
+            codes[pos] = code;
+            keys[pos] = key;
+            values[pos] = value;
+            size++;
+            int mask = index.length - 1;
+            int i = spread(code) & mask;
+            while (index[i] > 0) {
+                i = (i + 1) & mask;
+            }
+            index[i] = pos + 1;
+        }
+
+        /**
+         * Removes the deleted entries and grows the arrays if they are more than half full.
+         */
+        void rebuild() {
+            int capacity = size * 2 > keys.length ? keys.length * 2 : keys.length;
+            int[] oldCodes = codes;
+            String[] oldKeys = keys;
+            Object[] oldValues = values;
+            int oldCount = count;
+            index = new int[capacity * 2];
+            codes = new int[capacity];
+            keys = new String[capacity];
+            values = new Object[capacity];
+            count = 0;
+            size = 0;
+            for (int pos = 0; pos < oldCount; pos++) {
+                if (oldKeys[pos] != null) {
+                    add(oldCodes[pos], oldKeys[pos], oldValues[pos]);
+                }
+            }
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return FlyweightHeadersMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            FlyweightHeadersMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+        private Entry last;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            Store s = store;
+            if (s == null) {
+                return false;
+            }
+            while (next < s.count && s.keys[next] == null) {
+                next++;
+            }
+            return next < s.count;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int pos = next++;
+            last = new Entry(pos, store.codes[pos], store.keys[pos]);
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(store.find(last.code, last.key));
+            expectedModCount = modCount;
+            last = null;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+
+        private final int pos;
+        private final int code;
+        private final String key;
+
+        Entry(int pos, int code, String key) {
+            this.pos = pos;
+            this.code = code;
+            this.key = key;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return store.values[pos];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            // the copy keeps the positions
+            Store s = writableStore();
+            Object answer = s.values[pos];
+            s.values[pos] = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e && key.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -23,9 +23,13 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
 import org.apache.camel.FailedToStartRouteException;
@@ -40,6 +44,7 @@ import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
@@ -79,6 +84,12 @@ final class InternalRouteStartupManager {
 
         camelContext.setStartingRoutes(true);
         try {
+            int parallelism = camelContext.getRouteStartupParallelism();
+            if (parallelism > 1 && routeServices.size() > 1) {
+                // initialize the routes in parallel
+                doInParallel(camelContext, routeServices.values(), parallelism, "Init Route", RouteService::setUp);
+                return;
+            }
             for (RouteService routeService : routeServices.values()) {
                 StartupStep step = camelContext.getCamelContextExtension().getStartupStepRecorder().beginStep(Route.class,
                         routeService.getId(),
@@ -306,6 +317,20 @@ final class InternalRouteStartupManager {
 
     void doWarmUpRoutes(AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup)
             throws FailedToStartRouteException {
+        int parallelism = camelContext.getRouteStartupParallelism();
+        if (parallelism > 1 && inputs.size() > 1) {
+            // warm up the services of the routes in parallel, and then the routes are added below in their startup order
+            List<RouteService> routeServices = new ArrayList<>(inputs.size());
+            for (DefaultRouteStartupOrder order : inputs.values()) {
+                routeServices.add(order.getRouteService());
+            }
+            doInParallel(camelContext, routeServices, parallelism, "Warmup Route Services", routeService -> {
+                // ensure we setup before warmup
+                routeService.setUp();
+                routeService.warmUpServices();
+            });
+        }
+
         // now prepare the routes by starting its services before we start the
         // input
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -334,6 +359,99 @@ final class InternalRouteStartupManager {
         }
     }
 
+    /**
+     * Runs the task for the routes in parallel. The routes with a startup order are run one at a time, as other routes
+     * may depend on these routes, so the routes before such a route are run in parallel before this route, and the
+     * routes after are run in parallel after this route. The step of each route is recorded as a sub step of a step
+     * for all the routes, which is passed to the threads running the routes.
+     */
+    private void doInParallel(
+            AbstractCamelContext camelContext, Collection<RouteService> routeServices, int parallelism, String description,
+            RouteServiceTask task)
+            throws FailedToStartRouteException {
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep parent = recorder.beginStep(CamelContext.class, camelContext.getName(), "Parallel " + description);
+        ExecutorService executor = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup",
+                Math.min(parallelism, routeServices.size()));
+        try {
+            List<RouteService> batch = new ArrayList<>();
+            for (RouteService routeService : routeServices) {
+                if (routeService.getRoute().getStartupOrder() != null) {
+                    doInParallel(camelContext, executor, batch, description, task, parent);
+                    batch.clear();
+                    doRun(camelContext, routeService, description, task, parent);
+                } else {
+                    batch.add(routeService);
+                }
+            }
+            doInParallel(camelContext, executor, batch, description, task, parent);
+        } finally {
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+            recorder.endStep(parent);
+        }
+    }
+
+    private void doInParallel(
+            AbstractCamelContext camelContext, ExecutorService executor, List<RouteService> routeServices, String description,
+            RouteServiceTask task, StartupStep parent)
+            throws FailedToStartRouteException {
+        List<Future<?>> futures = new ArrayList<>(routeServices.size());
+        for (RouteService routeService : routeServices) {
+            futures.add(executor.submit(() -> {
+                doRun(camelContext, routeService, description, task, parent);
+                return null;
+            }));
+        }
+
+        // wait for all the routes, and fail with the first error
+        FailedToStartRouteException cause = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get();
+            } catch (ExecutionException e) {
+                if (cause == null) {
+                    cause = e.getCause() instanceof FailedToStartRouteException f
+                            ? f : new FailedToStartRouteException(
+                                    routeServices.get(i).getId(), e.getCause().getMessage(), e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FailedToStartRouteException(
+                        routeServices.get(i).getId(), "Interrupted while starting routes", e);
+            }
+        }
+        if (cause != null) {
+            throw cause;
+        }
+    }
+
+    private void doRun(
+            AbstractCamelContext camelContext, RouteService routeService, String description, RouteServiceTask task,
+            StartupStep parent)
+            throws FailedToStartRouteException {
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep step = recorder.beginStep(Route.class, routeService.getId(), description, parent);
+        // the task may run in another thread, which must also be marked as starting routes
+        boolean startingRoutes = camelContext.isStartingRoutes();
+        camelContext.setStartingRoutes(true);
+        try {
+            LOG.debug("{} id: {}", description, routeService.getId());
+            setupRoute.set(routeService.getRoute());
+            task.run(routeService);
+        } finally {
+            setupRoute.remove();
+            if (!startingRoutes) {
+                camelContext.setStartingRoutes(false);
+            }
+            recorder.endStep(step);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RouteServiceTask {
+        void run(RouteService routeService) throws FailedToStartRouteException;
+    }
+
     void doResumeRouteConsumers(
             AbstractCamelContext camelContext, Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes)
             throws Exception {
@@ -22,6 +22,7 @@ import org.apache.camel.Consumer;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.util.concurrent.ThreadFactoryTypeAware;
 import org.slf4j.MDC;
 
 /**
@@ -45,19 +46,28 @@ public class MDCThreadFactoryListener implements ExecutorServiceManager.ThreadFa
     }
 
     private ThreadFactory newThreadFactory(String contextName, String routeId, ThreadFactory tf) {
-        return task -> {
-            Runnable wrapped = () -> {
-                MDC.put(UnitOfWork.MDC_CAMEL_CONTEXT_ID, contextName);
-                MDC.put(UnitOfWork.MDC_ROUTE_ID, routeId);
-                try {
-                    task.run();
-                } finally {
-                    MDC.remove(UnitOfWork.MDC_CAMEL_CONTEXT_ID);
-                    MDC.remove(UnitOfWork.MDC_ROUTE_ID);
-                }
-            };
-            return tf.newThread(wrapped);
-        };
+        // keep track of whether the threads are virtual, so the thread pools can be created accordingly
+        final boolean virtual = tf instanceof ThreadFactoryTypeAware aware && aware.isVirtual();
+        return new ThreadFactoryTypeAware() {
+            @Override
+            public boolean isVirtual() {
+                return virtual;
+            }
 
+            @Override
+            public Thread newThread(Runnable task) {
+                Runnable wrapped = () -> {
+                    MDC.put(UnitOfWork.MDC_CAMEL_CONTEXT_ID, contextName);
+                    MDC.put(UnitOfWork.MDC_ROUTE_ID, routeId);
+                    try {
+                        task.run();
+                    } finally {
+                        MDC.remove(UnitOfWork.MDC_CAMEL_CONTEXT_ID);
+                        MDC.remove(UnitOfWork.MDC_ROUTE_ID);
+                    }
+                };
+                return tf.newThread(wrapped);
+            }
+        };
     }
 }
@@ -66,6 +66,7 @@ public class RouteService extends ChildServiceSupport {
     private final Lock lock = new ReentrantLock();
     private final AtomicBoolean setUpDone = new AtomicBoolean();
     private final AtomicBoolean warmUpDone = new AtomicBoolean();
+    private final AtomicBoolean warmUpServicesDone = new AtomicBoolean();
     private final AtomicBoolean endpointDone = new AtomicBoolean();
 
     public RouteService(Route route) {
@@ -130,6 +131,19 @@ public class RouteService extends ChildServiceSupport {
         }
     }
 
+    /**
+     * Warms up the endpoint and the services of the route, such as its processors and producers, without adding the
+     * route to Camel, which is done by {@link #warmUp()}. This allows warming up the services of several routes in
+     * parallel, and then adding the routes in their startup order.
+     */
+    public void warmUpServices() throws FailedToStartRouteException {
+        try {
+            doWarmUpServices();
+        } catch (Exception e) {
+            throw new FailedToStartRouteException(getId(), getLocation(), e.getLocalizedMessage(), e);
+        }
+    }
+
     public void setUp() throws FailedToStartRouteException {
         if (setUpDone.compareAndSet(false, true)) {
             try {
@@ -198,7 +212,7 @@ public class RouteService extends ChildServiceSupport {
         }
     }
 
-    protected void doWarmUp() throws Exception {
+    protected void doWarmUpServices() throws Exception {
         lock.lock();
         try {
             if (endpointDone.compareAndSet(false, true)) {
@@ -208,14 +222,27 @@ public class RouteService extends ChildServiceSupport {
                 ServiceHelper.startService(route.getEndpoint());
             }
 
-            if (warmUpDone.compareAndSet(false, true)) {
-
+            if (warmUpServicesDone.compareAndSet(false, true)) {
                 try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
                     // warm up the route first
                     route.warmUp();
 
                     startChildServices(route, childServices);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    protected void doWarmUp() throws Exception {
+        lock.lock();
+        try {
+            doWarmUpServices();
 
+            if (warmUpDone.compareAndSet(false, true)) {
+
+                try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
                     // fire event
                     EventHelper.notifyRouteAdded(camelContext, route);
                 }
@@ -302,6 +329,7 @@ public class RouteService extends ChildServiceSupport {
         input = null;
         childServices = null;
         warmUpDone.set(false);
+        warmUpServicesDone.set(false);
         setUpDone.set(false);
         endpointDone.set(false);
         setUpDone.set(false);
@@ -346,6 +374,7 @@ public class RouteService extends ChildServiceSupport {
         input = null;
         childServices = null;
         warmUpDone.set(false);
+        warmUpServicesDone.set(false);
         setUpDone.set(false);
         endpointDone.set(false);
     }
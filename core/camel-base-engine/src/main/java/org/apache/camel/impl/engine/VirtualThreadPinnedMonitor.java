@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports virtual threads that are pinned to their carrier thread, by listening for the
+ * <tt>jdk.VirtualThreadPinned</tt> event from the JDK Flight Recorder (requires JDK 21+).
+ * <p/>
+ * A virtual thread is pinned when it blocks while it cannot be unmounted from its carrier thread, such as when blocking
+ * inside a synchronized block, which means the carrier thread is blocked as well.
+ * <p/>
+ * The flight recorder events are for the entire JVM, so there is a single monitor per JVM which is shared by the
+ * {@link BaseExecutorServiceManager}s of all the CamelContexts. The monitor is started when the first manager acquires
+ * it, and stopped when the last manager has released it.
+ * <p/>
+ * This class uses the <tt>jdk.jfr</tt> module, so it must only be used when the module is available.
+ */
+final class VirtualThreadPinnedMonitor extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinnedMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final VirtualThreadPinnedMonitor INSTANCE = new VirtualThreadPinnedMonitor(Duration.ofMillis(20));
+
+    private final Duration threshold;
+    private final LongAdder pinnedCounter = new LongAdder();
+    private int users;
+    private RecordingStream stream;
+
+    private VirtualThreadPinnedMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Acquires the monitor of this JVM, which is started if it is the first user.
+     */
+    static VirtualThreadPinnedMonitor acquire() {
+        synchronized (INSTANCE) {
+            if (INSTANCE.users++ == 0) {
+                INSTANCE.start();
+            }
+        }
+        return INSTANCE;
+    }
+
+    /**
+     * Releases the monitor, which is stopped if it was the last user.
+     */
+    void release() {
+        synchronized (this) {
+            if (users > 0 && --users == 0) {
+                stop();
+            }
+        }
+    }
+
+    /**
+     * Number of times a virtual thread in this JVM has been pinned longer than the threshold
+     */
+    long getPinnedCounter() {
+        return pinnedCounter.sum();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            LOG.debug("Monitoring virtual threads pinned longer than {} millis", threshold.toMillis());
+        } catch (Exception | LinkageError e) {
+            // flight recorder may not be available (such as in native mode)
+            LOG.debug("Cannot monitor pinned virtual threads due to {}. This exception is ignored.", e.getMessage(), e);
+            stream = null;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+
+        if (LOG.isWarnEnabled()) {
+            RecordedThread thread = event.getThread();
+            String name = thread != null ? thread.getJavaName() : null;
+            LOG.warn("Virtual thread {} was pinned to its carrier thread for {} millis at: {}",
+                    name, event.getDuration().toMillis(), topFrame(event.getStackTrace()));
+        }
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        // skip the frames from the JDK itself to point to the code that blocked
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return frames.isEmpty() ? null : frames.get(0).getMethod().getType().getName();
+    }
+}
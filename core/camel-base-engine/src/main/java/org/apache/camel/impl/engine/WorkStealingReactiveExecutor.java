@@ -0,0 +1,424 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.NamedThreadLocal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} with bounded per-thread (carrier) queues and work stealing.
+ * <p/>
+ * Like {@link DefaultReactiveExecutor} each thread has its own worker, and tasks scheduled via
+ * {@link #scheduleMain(Runnable)}, {@link #scheduleSync(Runnable)} and {@link #scheduleQueue(Runnable)} are always
+ * executed by the calling thread. Tasks scheduled fairly via {@link #schedule(Runnable)} are kept in the local queue
+ * until it holds {@link #getCarrierQueueCapacity()} tasks, after which they are put on a stealable queue of the worker.
+ * The stealable queue is bounded by {@link #getStealableQueueCapacity()}. When it is full, the thread first executes the
+ * oldest stealable task itself, before it adds the new task, so a burst of tasks slows down the thread which schedules
+ * them instead of growing the queue.
+ * When another thread has no more work of its own, it steals tasks from the stealable queues of other workers before it
+ * returns. This spreads large bursts of continuations (such as from splitter or multicast) over the threads that are
+ * routing messages. A thread which is executing work scheduled via {@link #scheduleSync(Runnable)} never steals, so a
+ * synchronous call returns as soon as its own work is done.
+ * <p/>
+ * <b>Important:</b> The order of the tasks differs from {@link DefaultReactiveExecutor}, which executes the tasks
+ * scheduled by a thread in FIFO order on that thread. With this executor the tasks which are not stolen are still
+ * executed in FIFO order by the thread which scheduled them, but stolen tasks are taken from the tail of the stealable
+ * queue, so they can be executed before earlier tasks of the same thread, and in parallel with them. A thread may also
+ * execute tasks of other threads in between its own tasks. A stolen task is executed on another thread than the thread
+ * that scheduled it, so this executor should not be used with transacted routes or other routes that depend on
+ * thread-local state or on the order of the tasks.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private int carrierQueueCapacity = 128;
+    private int stealableQueueCapacity = 1024;
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+    private final LongAdder overflowTasks = new LongAdder();
+    private final LongAdder stolenTasks = new LongAdder();
+
+    // workers which currently have tasks that can be stolen
+    private final Queue<Worker> victims = new ConcurrentLinkedQueue<>();
+
+    private final NamedThreadLocal<Worker> workers = new NamedThreadLocal<>("CamelReactiveWorker", () -> {
+        int number = createdWorkers.incrementAndGet();
+        return new Worker(number, WorkStealingReactiveExecutor.this);
+    });
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ScheduleQueue: {}", runnable);
+        }
+        workers.get().queue.add(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Maximum number of fairly scheduled tasks kept in the local queue of a worker")
+    public int getCarrierQueueCapacity() {
+        return carrierQueueCapacity;
+    }
+
+    /**
+     * Maximum number of fairly scheduled tasks kept in the local queue of a worker. Tasks beyond this capacity are
+     * stealable by other threads. The default is 128.
+     */
+    public void setCarrierQueueCapacity(int carrierQueueCapacity) {
+        this.carrierQueueCapacity = carrierQueueCapacity;
+    }
+
+    @ManagedAttribute(description = "Maximum number of tasks kept in the stealable queue of a worker")
+    public int getStealableQueueCapacity() {
+        return stealableQueueCapacity;
+    }
+
+    /**
+     * Maximum number of tasks kept in the stealable queue of a worker. When the stealable queue is full, the worker
+     * executes its oldest stealable task before it adds more tasks. The default is 1024.
+     */
+    public void setStealableQueueCapacity(int stealableQueueCapacity) {
+        this.stealableQueueCapacity = stealableQueueCapacity;
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks that can be stolen by other workers")
+    public int getStealableTasks() {
+        int answer = 0;
+        for (Worker worker : victims) {
+            answer += worker.stealableSize.get();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Total number of tasks that overflowed the local queue of a worker")
+    public long getOverflowTasks() {
+        return overflowTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Total number of tasks stolen by other workers")
+    public long getStolenTasks() {
+        return stolenTasks.sum();
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        if (carrierQueueCapacity <= 0) {
+            throw new IllegalArgumentException("CarrierQueueCapacity must be a positive number, was: " + carrierQueueCapacity);
+        }
+        if (stealableQueueCapacity <= 0) {
+            throw new IllegalArgumentException(
+                    "StealableQueueCapacity must be a positive number, was: " + stealableQueueCapacity);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug(
+                    "Stopping WorkStealingReactiveExecutor [createdWorkers: {}, runningWorkers: {}, pendingTasks: {}, overflowTasks: {}, stolenTasks: {}]",
+                    getCreatedWorkers(), getRunningWorkers(), getPendingTasks(), getOverflowTasks(), getStolenTasks());
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        workers.remove();
+        victims.clear();
+    }
+
+    /**
+     * Steals a task from another worker
+     *
+     * @param  thief the worker that is stealing
+     * @return       the stolen task, or <tt>null</tt> if there was no task to steal
+     */
+    private Runnable steal(Worker thief) {
+        for (Iterator<Worker> it = victims.iterator(); it.hasNext();) {
+            Worker victim = it.next();
+            if (victim == thief) {
+                continue;
+            }
+            // steal from the tail to not compete with the owner which polls from the head
+            Runnable task = victim.pollStealable(false);
+            if (task != null) {
+                if (statisticsEnabled) {
+                    stolenTasks.increment();
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} stole task from worker #{}: {}", thief.number, victim.number, task);
+                }
+                return task;
+            }
+            // the owner drains its own stealable queue before it leaves, so it is safe to remove the victim
+            // even if the owner adds more tasks concurrently (they are then just not stealable)
+            it.remove();
+        }
+        return null;
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final WorkStealingReactiveExecutor executor;
+        private final boolean stats;
+        private volatile Deque<Runnable> queue = new ArrayDeque<>();
+        private volatile Deque<Deque<Runnable>> back;
+        private volatile boolean running;
+        private boolean backPressure;
+        private final Deque<Runnable> stealable = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger stealableSize = new AtomicInteger();
+
+        public Worker(int number, WorkStealingReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+            this.stats = executor.isStatisticsEnabled();
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            if (main) {
+                executeMainFlow();
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else if (main || (stealableSize.get() == 0 && queue.size() < executor.carrierQueueCapacity)) {
+                queue.addLast(runnable);
+            } else if (stealableSize.get() < executor.stealableQueueCapacity) {
+                // keep fair ordering, so once overflowing then all fair tasks go to the stealable queue
+                addStealable(runnable);
+            } else if (!backPressure) {
+                // the stealable queue is full, so execute the oldest stealable task before adding the new task
+                executeStealable();
+                addStealable(runnable);
+            } else {
+                // scheduled by the task executed for back-pressure, so keep it local to not nest any deeper
+                queue.addLast(runnable);
+            }
+
+            incrementPendingTasks();
+            tryExecuteReactiveWork(runnable, sync);
+        }
+
+        private void executeMainFlow() {
+            if (!queue.isEmpty()) {
+                if (back == null) {
+                    back = new ArrayDeque<>();
+                }
+                back.push(queue);
+                queue = new ArrayDeque<>();
+            }
+        }
+
+        private void tryExecuteReactiveWork(Runnable runnable, boolean sync) {
+            if (!running || sync) {
+                running = true;
+                incrementRunningWorkers();
+                try {
+                    // a synchronous call (which may be nested in other work) must not execute tasks of other threads
+                    executeReactiveWork(!sync);
+                } finally {
+                    running = false;
+                    decrementRunningWorkers();
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        private void executeReactiveWork(boolean steal) {
+            for (;;) {
+                Runnable polled = queue.pollFirst();
+                if (polled == null) {
+                    polled = pollStealable(true);
+                }
+                if (polled == null) {
+                    if (back != null && !back.isEmpty()) {
+                        queue = back.pollFirst();
+                        continue;
+                    }
+                    // no more work of our own, so help other workers
+                    polled = steal ? executor.steal(this) : null;
+                    if (polled == null) {
+                        break;
+                    }
+                }
+                doRun(polled);
+            }
+        }
+
+        private void executeStealable() {
+            Runnable polled = pollStealable(true);
+            if (polled != null) {
+                backPressure = true;
+                try {
+                    doRun(polled);
+                } finally {
+                    backPressure = false;
+                }
+            }
+        }
+
+        private void addStealable(Runnable runnable) {
+            // count the task before it is published, so a thief can never decrement the size below zero
+            if (stealableSize.getAndIncrement() == 0) {
+                executor.victims.add(this);
+            }
+            stealable.addLast(runnable);
+            if (stats) {
+                executor.overflowTasks.increment();
+            }
+        }
+
+        private Runnable pollStealable(boolean first) {
+            Runnable answer = first ? stealable.pollFirst() : stealable.pollLast();
+            if (answer != null) {
+                stealableSize.decrementAndGet();
+            }
+            return answer;
+        }
+
+        private void doRun(Runnable polled) {
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Worker #{} running: {}", number, polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                        t.getMessage(), t);
+            }
+        }
+
+        private void decrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.decrement();
+            }
+        }
+
+        private void incrementRunningWorkers() {
+            if (stats) {
+                executor.runningWorkers.increment();
+            }
+        }
+
+        private void incrementPendingTasks() {
+            if (stats) {
+                executor.pendingTasks.increment();
+            }
+        }
+
+        private void decrementPendingTasks() {
+            if (stats) {
+                executor.pendingTasks.decrement();
+            }
+        }
+
+        boolean executeFromQueue() {
+            Runnable polled = queue != null ? queue.pollFirst() : null;
+            if (polled == null) {
+                polled = pollStealable(true);
+            }
+            if (polled == null) {
+                return false;
+            }
+            try {
+                decrementPendingTasks();
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", polled);
+                }
+                polled.run();
+            } catch (Exception t) {
+                // should not happen
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+            return true;
+        }
+
+    }
+
+}
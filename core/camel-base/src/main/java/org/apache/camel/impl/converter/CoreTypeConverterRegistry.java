@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.CamelExecutionException;
@@ -71,6 +72,8 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     // Why 256: as of Camel 4, we have about 230 type converters. Therefore, set the capacity to a few more to provide
     // space for others added during runtime
     private final Map<TypeConvertible<?, ?>, TypeConverter> converters = new ConcurrentHashMap<>(256);
+    // incremented when type converters are added or removed, which invalidates the call sites
+    private final AtomicInteger version = new AtomicInteger();
 
     protected CoreTypeConverterRegistry(boolean statisticsEnabled) {
         if (statisticsEnabled) {
@@ -386,9 +389,32 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         final Class<?> aClass = type.isPrimitive() ? ObjectHelper.convertPrimitiveTypeToWrapperType(type) : type;
         final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(value.getClass(), aClass);
 
-        final Object ret = tryCachedConverters(type, exchange, value, typeConvertible);
-        if (ret != null) {
-            return ret;
+        final TypeConverter typeConverter = converters.get(typeConvertible);
+        if (typeConverter != null) {
+            final Object ret = typeConverter.convertTo(type, exchange, value);
+            if (ret != null) {
+                return ret;
+            }
+        }
+
+        return doConvertToUncached(type, exchange, value, tryConvert, typeConvertible);
+    }
+
+    /**
+     * Converts the value when there is no cached type converter for the type of the value, or the cached type converter
+     * could not convert the value.
+     */
+    private Object doConvertToUncached(
+            final Class<?> type, final Exchange exchange, final Object value,
+            final boolean tryConvert, final TypeConvertible<?, ?> typeConvertible) {
+
+        final TypeConverter superConverterTc = TypeResolverHelper.tryMatch(typeConvertible, converters);
+        if (superConverterTc != null) {
+            final Object ret = superConverterTc.convertTo(type, exchange, value);
+            if (ret != null) {
+                converters.put(typeConvertible, superConverterTc);
+                return ret;
+            }
         }
 
         // fallback converters
@@ -418,27 +444,6 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         return TypeConverter.MISS_VALUE;
     }
 
-    private Object tryCachedConverters(Class<?> type, Exchange exchange, Object value, TypeConvertible<?, ?> typeConvertible) {
-        final TypeConverter typeConverter = converters.get(typeConvertible);
-        if (typeConverter != null) {
-            final Object ret = typeConverter.convertTo(type, exchange, value);
-            if (ret != null) {
-                return ret;
-            }
-        }
-
-        final TypeConverter superConverterTc = TypeResolverHelper.tryMatch(typeConvertible, converters);
-        if (superConverterTc != null) {
-            final Object ret = superConverterTc.convertTo(type, exchange, value);
-            if (ret != null) {
-                converters.put(typeConvertible, superConverterTc);
-                return ret;
-            }
-        }
-
-        return null;
-    }
-
     private Object tryFallback(
             final Class<?> type, final Exchange exchange, final Object value, boolean tryConvert,
             TypeConvertible<?, ?> typeConvertible) {
@@ -487,6 +492,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     @Override
     public void addConverter(TypeConvertible<?, ?> typeConvertible, TypeConverter typeConverter) {
         converters.put(typeConvertible, typeConverter);
+        version.incrementAndGet();
     }
 
     @Override
@@ -499,6 +505,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         final TypeConvertible<?, ?> typeConvertible = new TypeConvertible<>(fromType, toType);
 
         addOrReplaceTypeConverter(typeConverter, typeConvertible);
+        version.incrementAndGet();
     }
 
     private void addOrReplaceTypeConverter(TypeConverter typeConverter, TypeConvertible<?, ?> typeConvertible) {
@@ -548,6 +555,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
         final TypeConverter removed = converters.remove(new TypeConvertible<>(fromType, toType));
+        version.incrementAndGet();
         return removed != null;
     }
 
@@ -562,6 +570,7 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        version.incrementAndGet();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -595,6 +604,11 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         return converter;
     }
 
+    @Override
+    public <T> CallSite<T> createCallSite(Class<T> type) {
+        return new ConvertToCallSite<>(type);
+    }
+
     protected TypeConverter doLookup(Class<?> toType, Class<?> fromType) {
         return TypeResolverHelper.doLookup(toType, fromType, converters);
     }
@@ -657,6 +671,111 @@ public abstract class CoreTypeConverterRegistry extends ServiceSupport implement
         statistics.reset();
     }
 
+    /**
+     * A call site which remembers the type converter that was used for the type of the last value, so converting values
+     * of the same type again can call the type converter directly, without allocating a {@link TypeConvertible} key and
+     * looking it up in the registry.
+     * <p/>
+     * Only type converters which converted a value are remembered. When the type converter cannot convert a value, then
+     * the value is converted by the same lookup that the registry does after its cached type converter, so the value is
+     * not converted by the remembered type converter twice.
+     */
+    private final class ConvertToCallSite<T> implements CallSite<T> {
+        // indicates there is no cached type converter for the value, so the registry must convert the value
+        private static final Object NOT_CACHED = new Object();
+
+        private final Class<T> type;
+        private volatile CachedConverter cached;
+
+        private ConvertToCallSite(Class<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        public Class<T> getType() {
+            return type;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T convertTo(Exchange exchange, Object value) {
+            Object answer = tryCachedConverter(exchange, value);
+            if (answer == NOT_CACHED) {
+                T ret = CoreTypeConverterRegistry.this.convertTo(type, exchange, value);
+                updateCachedConverter(value);
+                return ret;
+            }
+            return answer == TypeConverter.MISS_VALUE || answer == Void.class ? null : (T) answer;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T mandatoryConvertTo(Exchange exchange, Object value) throws NoTypeConversionAvailableException {
+            Object answer = tryCachedConverter(exchange, value);
+            if (answer == NOT_CACHED) {
+                T ret = CoreTypeConverterRegistry.this.mandatoryConvertTo(type, exchange, value);
+                updateCachedConverter(value);
+                return ret;
+            }
+            if (answer == Void.class) {
+                return null;
+            }
+            if (answer == null || answer == TypeConverter.MISS_VALUE) {
+                // Could not find suitable conversion
+                throw new NoTypeConversionAvailableException(value, type);
+            }
+            return (T) answer;
+        }
+
+        private Object tryCachedConverter(Exchange exchange, Object value) {
+            CachedConverter c = cached;
+            if (c == null || value == null || c.from != value.getClass() || c.version != version.get()
+                    || statistics.isStatisticsEnabled()) {
+                return NOT_CACHED;
+            }
+
+            try {
+                Object answer = c.converter.convertTo(type, exchange, value);
+                if (answer == null) {
+                    // the type converter could not convert this value, so continue the lookup as the registry does
+                    answer = doConvertToUncached(type, exchange, value, false, new TypeConvertible<>(c.from, type));
+                }
+                return answer;
+            } catch (Exception e) {
+                wrapConversionException(type, exchange, value, e);
+                return null;
+            }
+        }
+
+        private void updateCachedConverter(Object value) {
+            if (value == null) {
+                return;
+            }
+            Class<?> from = value.getClass();
+            int current = version.get();
+            CachedConverter c = cached;
+            if (c != null && c.from == from && c.version == current) {
+                return;
+            }
+
+            // the registry optimizes conversions of some common types before looking up the type converter,
+            // and conversions to boolean or from a string to boolean depends on the value
+            boolean optimized = type.isPrimitive() || type.isEnum() || type == Boolean.class || type.isAssignableFrom(from)
+                    || type == String.class && (from == Boolean.class || from == Integer.class || from == Long.class);
+            if (optimized) {
+                return;
+            }
+            TypeConverter converter = converters.get(new TypeConvertible<>(from, type));
+            if (converter != null && converter != MISS_CONVERTER) {
+                // only remember the type converter when the registry found one
+                cached = new CachedConverter(from, converter, current);
+            }
+        }
+    }
+
+    private record CachedConverter(Class<?> from, TypeConverter converter, int version) {
+    }
+
     /**
      * Represents a fallback type converter
      */
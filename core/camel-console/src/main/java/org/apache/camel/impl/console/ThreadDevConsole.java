@@ -47,6 +47,8 @@ public class ThreadDevConsole extends AbstractDevConsole {
             sb.append(String.format("Daemon Threads: %s%n", tb.getDaemonThreadCount()));
             sb.append(String.format("Total Started Threads: %s%n", tb.getTotalStartedThreadCount()));
             sb.append(String.format("Peak Threads: %s%n", tb.getPeakThreadCount()));
+            sb.append(String.format("Virtual Threads Pinned: %s%n",
+                    getCamelContext().getExecutorServiceManager().getVirtualThreadsPinnedCounter()));
 
             long[] ids = tb.getAllThreadIds();
             Arrays.sort(ids);
@@ -79,6 +81,8 @@ public class ThreadDevConsole extends AbstractDevConsole {
             root.put("daemonThreadCount", tb.getDaemonThreadCount());
             root.put("totalStartedThreadCount", tb.getTotalStartedThreadCount());
             root.put("peakThreadCount", tb.getPeakThreadCount());
+            root.put("virtualThreadsPinnedCount",
+                    getCamelContext().getExecutorServiceManager().getVirtualThreadsPinnedCounter());
 
             JsonArray arr = new JsonArray();
             root.put("threads", arr);
@@ -38,6 +38,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "errorHandlerFactory": target.setErrorHandlerFactory(property(camelContext, org.apache.camel.ErrorHandlerFactory.class, value)); return true;
         case "eventnotificationapplicable":
         case "eventNotificationApplicable": target.setEventNotificationApplicable(property(camelContext, boolean.class, value)); return true;
+        case "exchangecopyonwrite":
+        case "exchangeCopyOnWrite": target.setExchangeCopyOnWrite(property(camelContext, boolean.class, value)); return true;
         case "exchangefactory":
         case "exchangeFactory": target.setExchangeFactory(property(camelContext, org.apache.camel.spi.ExchangeFactory.class, value)); return true;
         case "exchangefactorymanager":
@@ -77,6 +79,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "errorHandlerFactory": return org.apache.camel.ErrorHandlerFactory.class;
         case "eventnotificationapplicable":
         case "eventNotificationApplicable": return boolean.class;
+        case "exchangecopyonwrite":
+        case "exchangeCopyOnWrite": return boolean.class;
         case "exchangefactory":
         case "exchangeFactory": return org.apache.camel.spi.ExchangeFactory.class;
         case "exchangefactorymanager":
@@ -117,6 +121,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "errorHandlerFactory": return target.getErrorHandlerFactory();
         case "eventnotificationapplicable":
         case "eventNotificationApplicable": return target.isEventNotificationApplicable();
+        case "exchangecopyonwrite":
+        case "exchangeCopyOnWrite": return target.isExchangeCopyOnWrite();
         case "exchangefactory":
         case "exchangeFactory": return target.getExchangeFactory();
         case "exchangefactorymanager":
@@ -19,6 +19,7 @@ package org.apache.camel.language.simple.ast;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,6 +27,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Predicate;
+import org.apache.camel.StaticExpression;
 import org.apache.camel.language.simple.BaseSimpleParser;
 import org.apache.camel.language.simple.types.BinaryOperatorType;
 import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
@@ -90,51 +92,45 @@ public class BinaryExpression extends BaseSimpleNode {
         final Expression rightExp = right.createExpression(camelContext, expression);
 
         if (operator == BinaryOperatorType.EQ) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualTo(leftExp, rightExp));
+            return createExpression(PredicateBuilder.isEqualTo(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.EQ_IGNORE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp));
+            return createExpression(PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.GT) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isGreaterThan(leftExp, rightExp));
+            return createExpression(PredicateBuilder.isGreaterThan(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.GTE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.isGreaterThanOrEqualTo(leftExp, rightExp));
+            return createExpression(PredicateBuilder.isGreaterThanOrEqualTo(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.LT) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isLessThan(leftExp, rightExp));
+            return createExpression(PredicateBuilder.isLessThan(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.LTE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isLessThanOrEqualTo(leftExp, rightExp));
+            return createExpression(PredicateBuilder.isLessThanOrEqualTo(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.NOT_EQ) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isNotEqualTo(leftExp, rightExp));
+            return createExpression(PredicateBuilder.isNotEqualTo(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.NOT_EQ_IGNORE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp)));
+            return createExpression(PredicateBuilder.not(PredicateBuilder.isEqualToIgnoreCase(leftExp, rightExp)));
         } else if (operator == BinaryOperatorType.CONTAINS) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.contains(leftExp, rightExp));
+            return createExpression(PredicateBuilder.contains(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.NOT_CONTAINS) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.contains(leftExp, rightExp)));
+            return createExpression(PredicateBuilder.not(PredicateBuilder.contains(leftExp, rightExp)));
         } else if (operator == BinaryOperatorType.CONTAINS_IGNORECASE) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.containsIgnoreCase(leftExp, rightExp));
+            return createExpression(PredicateBuilder.containsIgnoreCase(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.NOT_CONTAINS_IGNORECASE) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(leftExp, rightExp)));
+            return createExpression(PredicateBuilder.not(PredicateBuilder.containsIgnoreCase(leftExp, rightExp)));
         } else if (operator == BinaryOperatorType.IS || operator == BinaryOperatorType.NOT_IS) {
             return createIsExpression(camelContext, expression, leftExp, rightExp);
         } else if (operator == BinaryOperatorType.REGEX || operator == BinaryOperatorType.NOT_REGEX) {
-            return createRegexExpression(camelContext, leftExp, rightExp);
+            return createRegexExpression(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.IN || operator == BinaryOperatorType.NOT_IN) {
-            return createInExpression(camelContext, leftExp, rightExp);
+            return createInExpression(leftExp, rightExp);
         } else if (operator == BinaryOperatorType.RANGE || operator == BinaryOperatorType.NOT_RANGE) {
-            return createRangeExpression(camelContext, expression, leftExp, rightExp);
+            return createRangeExpression(expression, leftExp, rightExp);
         } else if (operator == BinaryOperatorType.STARTS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.startsWith(leftExp, rightExp));
+            return createExpression(PredicateBuilder.startsWith(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.NOT_STARTS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.startsWith(leftExp, rightExp)));
+            return createExpression(PredicateBuilder.not(PredicateBuilder.startsWith(leftExp, rightExp)));
         } else if (operator == BinaryOperatorType.ENDS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.endsWith(leftExp, rightExp));
+            return createExpression(PredicateBuilder.endsWith(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.NOT_ENDS_WITH) {
-            return createExpression(camelContext, leftExp, rightExp,
-                    PredicateBuilder.not(PredicateBuilder.endsWith(leftExp, rightExp)));
+            return createExpression(PredicateBuilder.not(PredicateBuilder.endsWith(leftExp, rightExp)));
         }
 
         throw new SimpleParserException("Unknown binary operator " + operator, token.getIndex());
@@ -142,147 +138,115 @@ public class BinaryExpression extends BaseSimpleNode {
 
     private Expression createIsExpression(
             final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-
-                String name = rightExp.evaluate(exchange, String.class);
-                if (name == null || "null".equals(name)) {
-                    throwMissingClass();
-                }
-                Class<?> rightType = camelContext.getClassResolver().resolveClass(name);
-                if (rightType == null) {
-                    throwClassNotFound(name);
-                }
-
-                Predicate predicate = PredicateBuilder.isInstanceOf(leftExp, rightType);
-                if (operator == BinaryOperatorType.NOT_IS) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-
-                return camelContext.getTypeConverter().convertTo(type, answer);
-            }
-
-            private void throwClassNotFound(String name) {
+        return createExpression(rightExp, exchange -> {
+            String name = rightExp.evaluate(exchange, String.class);
+            if (name == null || "null".equals(name)) {
                 throw new SimpleIllegalSyntaxException(
                         expression, right.getToken().getIndex(),
-                        operator + " operator cannot find class with name: " + name);
+                        operator + " operator cannot accept null. A class type must be provided.");
             }
-
-            private void throwMissingClass() {
+            Class<?> rightType = camelContext.getClassResolver().resolveClass(name);
+            if (rightType == null) {
                 throw new SimpleIllegalSyntaxException(
                         expression, right.getToken().getIndex(),
-                        operator + " operator cannot accept null. A class type must be provided.");
+                        operator + " operator cannot find class with name: " + name);
             }
 
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            Predicate predicate = PredicateBuilder.isInstanceOf(leftExp, rightType);
+            if (operator == BinaryOperatorType.NOT_IS) {
+                predicate = PredicateBuilder.not(predicate);
             }
-        };
+            return predicate;
+        });
     }
 
-    private Expression createRegexExpression(
-            final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                // reg ex should use String pattern, so we evaluate the right hand side as a String
-                Predicate predicate = PredicateBuilder.regex(leftExp, rightExp.evaluate(exchange, String.class));
-                if (operator == BinaryOperatorType.NOT_REGEX) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+    private Expression createRegexExpression(final Expression leftExp, final Expression rightExp) {
+        return createExpression(rightExp, exchange -> {
+            // reg ex should use String pattern, so we evaluate the right hand side as a String
+            Predicate predicate = PredicateBuilder.regex(leftExp, rightExp.evaluate(exchange, String.class));
+            if (operator == BinaryOperatorType.NOT_REGEX) {
+                predicate = PredicateBuilder.not(predicate);
             }
-
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
-            }
-        };
+            return predicate;
+        });
     }
 
-    private Expression createInExpression(
-            final CamelContext camelContext, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                // okay the in operator is a bit more complex as we need to build a list of values
-                // from the right hand side expression.
-                // each element on the right hand side must be separated by comma (default for create iterator)
-                Iterator<?> it = ObjectHelper.createIterator(rightExp.evaluate(exchange, Object.class));
-                List<Object> values = new ArrayList<>();
-                while (it.hasNext()) {
-                    values.add(it.next());
-                }
-                // then reuse value builder to create the in predicate with the list of values
-                ValueBuilder vb = new ValueBuilder(leftExp);
-                Predicate predicate = vb.in(values.toArray());
-                if (operator == BinaryOperatorType.NOT_IN) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+    private Expression createInExpression(final Expression leftExp, final Expression rightExp) {
+        return createExpression(rightExp, exchange -> {
+            // okay the in operator is a bit more complex as we need to build a list of values
+            // from the right hand side expression.
+            // each element on the right hand side must be separated by comma (default for create iterator)
+            Iterator<?> it = ObjectHelper.createIterator(rightExp.evaluate(exchange, Object.class));
+            List<Object> values = new ArrayList<>();
+            while (it.hasNext()) {
+                values.add(it.next());
             }
-
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            // then reuse value builder to create the in predicate with the list of values
+            ValueBuilder vb = new ValueBuilder(leftExp);
+            Predicate predicate = vb.in(values.toArray());
+            if (operator == BinaryOperatorType.NOT_IN) {
+                predicate = PredicateBuilder.not(predicate);
             }
-        };
+            return predicate;
+        });
     }
 
     private Expression createRangeExpression(
-            final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate;
-
-                String range = rightExp.evaluate(exchange, String.class);
-                Matcher matcher = RANGE_PATTERN.matcher(range);
-                if (matcher.matches()) {
-                    // wrap as constant expression for the from and to values
-                    Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
-                    Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
-
-                    // build a compound predicate for the range
-                    predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
-                    predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
-                } else {
-                    throw new SimpleIllegalSyntaxException(
-                            expression, right.getToken().getIndex(),
-                            operator + " operator is not valid. Valid syntax:'from..to' (where from and to are numbers).");
-                }
-                if (operator == BinaryOperatorType.NOT_RANGE) {
-                    predicate = PredicateBuilder.not(predicate);
-                }
-
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
+            final String expression, final Expression leftExp, final Expression rightExp) {
+        return createExpression(rightExp, exchange -> {
+            Predicate predicate;
+
+            String range = rightExp.evaluate(exchange, String.class);
+            Matcher matcher = RANGE_PATTERN.matcher(range);
+            if (matcher.matches()) {
+                // wrap as constant expression for the from and to values
+                Expression from = ExpressionBuilder.constantExpression(matcher.group(1));
+                Expression to = ExpressionBuilder.constantExpression(matcher.group(3));
+
+                // build a compound predicate for the range
+                predicate = PredicateBuilder.isGreaterThanOrEqualTo(leftExp, from);
+                predicate = PredicateBuilder.and(predicate, PredicateBuilder.isLessThanOrEqualTo(leftExp, to));
+            } else {
+                throw new SimpleIllegalSyntaxException(
+                        expression, right.getToken().getIndex(),
+                        operator + " operator is not valid. Valid syntax:'from..to' (where from and to are numbers).");
             }
-
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            if (operator == BinaryOperatorType.NOT_RANGE) {
+                predicate = PredicateBuilder.not(predicate);
             }
-        };
+            return predicate;
+        });
     }
 
-    private Expression createExpression(
-            final CamelContext camelContext, final Expression left, final Expression right, final Predicate predicate) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                boolean answer = predicate.matches(exchange);
-                return camelContext.getTypeConverter().convertTo(type, answer);
-            }
+    private Expression createExpression(final Predicate predicate) {
+        return PredicateExpression.of(left, token.getText(), right, predicate);
+    }
 
+    /**
+     * Creates the expression for operators where the predicate depends on the value of the right hand side, such as a
+     * regular expression. If the right hand side is a constant, then the predicate is created only once on the first
+     * evaluation, otherwise it's created for every evaluation.
+     */
+    private Expression createExpression(final Expression rightExp, final Function<Exchange, Predicate> factory) {
+        if (rightExp instanceof StaticExpression) {
+            return new PredicateExpression(left, token.getText(), right) {
+                private volatile Predicate predicate;
+
+                @Override
+                public boolean matches(Exchange exchange) {
+                    Predicate answer = predicate;
+                    if (answer == null) {
+                        answer = factory.apply(exchange);
+                        predicate = answer;
+                    }
+                    return answer.matches(exchange);
+                }
+            };
+        }
+        return new PredicateExpression(left, token.getText(), right) {
             @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
+            public boolean matches(Exchange exchange) {
+                return factory.apply(exchange).matches(exchange);
             }
         };
     }
@@ -17,7 +17,6 @@
 package org.apache.camel.language.simple.ast;
 
 import org.apache.camel.CamelContext;
-import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Predicate;
 import org.apache.camel.language.simple.BaseSimpleParser;
@@ -77,51 +76,19 @@ public class LogicalExpression extends BaseSimpleNode {
         final Expression leftExp = left.createExpression(camelContext, expression);
         final Expression rightExp = right.createExpression(camelContext, expression);
 
+        // the operands are converted to predicates once, so the evaluation does not create any objects
+        final Predicate leftPredicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
+        final Predicate rightPredicate = ExpressionToPredicateAdapter.toPredicate(rightExp);
+
         if (operator == LogicalOperatorType.AND) {
-            return createAndExpression(leftExp, rightExp);
+            return PredicateExpression.of(left, token.getText(), right, PredicateBuilder.and(leftPredicate, rightPredicate));
         } else if (operator == LogicalOperatorType.OR) {
-            return createOrExpression(leftExp, rightExp);
+            return PredicateExpression.of(left, token.getText(), right, PredicateBuilder.or(leftPredicate, rightPredicate));
         }
 
         throw new SimpleParserException("Unknown logical operator " + operator, token.getIndex());
     }
 
-    private Expression createAndExpression(final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.and(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
-
-                boolean answer = predicate.matches(exchange);
-                return exchange.getContext().getTypeConverter().convertTo(type, answer);
-            }
-
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
-            }
-        };
-    }
-
-    private Expression createOrExpression(final Expression leftExp, final Expression rightExp) {
-        return new Expression() {
-            @Override
-            public <T> T evaluate(Exchange exchange, Class<T> type) {
-                Predicate predicate = ExpressionToPredicateAdapter.toPredicate(leftExp);
-                predicate = PredicateBuilder.or(predicate, ExpressionToPredicateAdapter.toPredicate(rightExp));
-
-                boolean answer = predicate.matches(exchange);
-                return exchange.getContext().getTypeConverter().convertTo(type, answer);
-            }
-
-            @Override
-            public String toString() {
-                return left + " " + token.getText() + " " + right;
-            }
-        };
-    }
-
     @Override
     public String createCode(CamelContext camelContext, String expression) throws SimpleParserException {
         return BaseSimpleParser.CODE_START + doCreateCode(camelContext, expression) + BaseSimpleParser.CODE_END;
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple.ast;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+
+/**
+ * An {@link Expression} created from a node in the AST, which is also a {@link Predicate}.
+ * <p/>
+ * Binary and logical operators are compiled into predicates, which are matched directly when the expression is used as
+ * a predicate (such as in a content based router), without evaluating the result as an object and converting it back to
+ * a boolean.
+ */
+abstract class PredicateExpression implements Expression, Predicate {
+
+    private final Object left;
+    private final String operator;
+    private final Object right;
+
+    PredicateExpression(Object left, String operator, Object right) {
+        this.left = left;
+        this.operator = operator;
+        this.right = right;
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        // noop as the operands are created ready to use by the parser
+    }
+
+    @Override
+    public <T> T evaluate(Exchange exchange, Class<T> type) {
+        boolean answer = matches(exchange);
+        return exchange.getContext().getTypeConverter().convertTo(type, answer);
+    }
+
+    @Override
+    public String toString() {
+        return left + " " + operator + " " + right;
+    }
+
+    /**
+     * Creates a {@link PredicateExpression} which delegates to the given predicate.
+     */
+    static PredicateExpression of(Object left, String operator, Object right, Predicate predicate) {
+        return new PredicateExpression(left, operator, right) {
+            @Override
+            public boolean matches(Exchange exchange) {
+                return predicate.matches(exchange);
+            }
+        };
+    }
+}
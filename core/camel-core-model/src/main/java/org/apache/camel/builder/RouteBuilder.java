@@ -33,6 +33,7 @@ import org.apache.camel.ErrorHandlerFactory;
 import org.apache.camel.Ordered;
 import org.apache.camel.Route;
 import org.apache.camel.RoutesBuilder;
+import org.apache.camel.ServiceStatus;
 import org.apache.camel.model.BeanFactoryDefinition;
 import org.apache.camel.model.FromDefinition;
 import org.apache.camel.model.InterceptDefinition;
@@ -54,6 +55,7 @@ import org.apache.camel.model.rest.RestDefinition;
 import org.apache.camel.model.rest.RestsDefinition;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.Language;
+import org.apache.camel.spi.ModelToXMLDumper;
 import org.apache.camel.spi.OnCamelContextEvent;
 import org.apache.camel.spi.PropertiesComponent;
 import org.apache.camel.spi.Resource;
@@ -61,6 +63,8 @@ import org.apache.camel.spi.ResourceAware;
 import org.apache.camel.spi.RestConfiguration;
 import org.apache.camel.spi.SupervisingRouteController;
 import org.apache.camel.support.LifecycleStrategySupport;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
 import org.apache.camel.util.function.ThrowingBiConsumer;
@@ -83,6 +87,8 @@ public abstract class RouteBuilder extends BuilderSupport implements RoutesBuild
     private final List<ValidatorBuilder> validatorBuilders = new ArrayList<>();
     // XML and YAML DSL allows to define custom beans which we need to capture
     private final List<BeanFactoryDefinition<?>> beans = new ArrayList<>();
+    // whether the beans have changed when updating the routes, so the routes must be restarted to use the new beans
+    private boolean beansChanged;
 
     private RestsDefinition restCollection = new RestsDefinition();
     private RestConfigurationDefinition restConfiguration;
@@ -788,6 +794,9 @@ public abstract class RouteBuilder extends BuilderSupport implements RoutesBuild
         configureRoutes(context);
         configureRests(context);
 
+        // the beans must be compared before they replace the existing beans
+        beansChanged = isBeansChanged(context);
+
         // but populate rests before routes, as we want to turn rests into routes
         populateBeans();
         populateRests();
@@ -987,13 +996,80 @@ public abstract class RouteBuilder extends BuilderSupport implements RoutesBuild
         if (resource != null) {
             getRouteCollection().setResource(resource);
         }
-        // must stop and remove existing running routes
+        Model model = camelContext.getCamelContextExtension().getContextPlugin(Model.class);
+        List<RouteDefinition> routes = new ArrayList<>();
         for (RouteDefinition route : getRouteCollection().getRoutes()) {
+            // routes which are not changed can keep running (with their endpoints and producers)
+            if (!beansChanged && isRouteUnchanged(camelContext, model, route)) {
+                log.debug("Route: {} is not changed and is kept running", route.getRouteId());
+                continue;
+            }
+            // must stop and remove existing running routes
             camelContext.getRouteController().stopRoute(route.getRouteId());
             camelContext.removeRoute(route.getRouteId());
+            routes.add(route);
         }
-        camelContext.getCamelContextExtension().getContextPlugin(Model.class)
-                .addRouteDefinitions(getRouteCollection().getRoutes());
+        model.addRouteDefinitions(routes);
+    }
+
+    /**
+     * Whether the route is the same as the existing running route with the same id, which is detected by comparing the
+     * routes as XML. Only routes loaded from XML or YAML resources are compared, as routes in Java or other languages
+     * can use processors, beans and expressions from the code, which are not part of the XML.
+     */
+    private static boolean isRouteUnchanged(CamelContext camelContext, Model model, RouteDefinition route) {
+        String id = route.getRouteId();
+        if (id == null || route.getResource() == null
+                || !isTextResource(route.getResource())
+                || !ServiceStatus.Started.equals(camelContext.getRouteController().getRouteStatus(id))) {
+            return false;
+        }
+        RouteDefinition existing = model.getRouteDefinition(id);
+        if (existing == null || existing.getResource() == null
+                || !isTextResource(existing.getResource())) {
+            return false;
+        }
+        try {
+            ModelToXMLDumper dumper = PluginHelper.getModelToXMLDumper(camelContext);
+            String xml = dumper.dumpModelAsXml(camelContext, route, false, false, false);
+            return xml.equals(dumper.dumpModelAsXml(camelContext, existing, false, false, false));
+        } catch (Exception e) {
+            // cannot compare so the route must be updated
+            return false;
+        }
+    }
+
+    /**
+     * Whether the beans of this builder are different from the existing beans which were loaded from the same resource.
+     * The beans are created again when they are populated, and the existing routes would keep using the old beans.
+     */
+    private boolean isBeansChanged(CamelContext camelContext) {
+        if (resource == null) {
+            return !beans.isEmpty();
+        }
+        Model model = camelContext.getCamelContextExtension().getContextPlugin(Model.class);
+        List<Object> existing = new ArrayList<>();
+        for (BeanFactoryDefinition<?> def : model.getCustomBeans()) {
+            if (def.getResource() != null && resource.getLocation().equals(def.getResource().getLocation())) {
+                existing.add(def);
+            }
+        }
+        if (beans.isEmpty() && existing.isEmpty()) {
+            return false;
+        }
+        try {
+            ModelToXMLDumper dumper = PluginHelper.getModelToXMLDumper(camelContext);
+            String xml = dumper.dumpBeansAsXml(camelContext, new ArrayList<>(beans));
+            return !xml.equals(dumper.dumpBeansAsXml(camelContext, existing));
+        } catch (Exception e) {
+            // cannot compare so the beans are regarded as changed
+            return true;
+        }
+    }
+
+    private static boolean isTextResource(Resource resource) {
+        String ext = FileUtil.onlyExt(resource.getLocation(), true);
+        return "xml".equals(ext) || "yaml".equals(ext) || "yml".equals(ext);
     }
 
     protected void populateRests() throws Exception {
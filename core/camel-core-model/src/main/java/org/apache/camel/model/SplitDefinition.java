@@ -71,6 +71,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean")
     private String streaming;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String parallelWindowSize;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
@@ -102,6 +105,7 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.parallelProcessing = source.parallelProcessing;
         this.synchronous = source.synchronous;
         this.streaming = source.streaming;
+        this.parallelWindowSize = source.parallelWindowSize;
         this.stopOnException = source.stopOnException;
         this.timeout = source.timeout;
         this.executorService = source.executorService;
@@ -410,6 +414,45 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages which are in flight when using parallel processing, which are the split
+     * messages that have been split but not yet aggregated. When the window is full, then the splitter waits for a split
+     * message to be aggregated before it splits the next message. This applies backpressure on the splitting, so
+     * splitting a big message in streaming mode uses a constant amount of memory.
+     * <p/>
+     * When enabled then the replies are always aggregated in the same order as the messages was split, also in
+     * streaming mode. The replies which come back out-of-order are kept until their turn, which is at most the window
+     * size.
+     * <p/>
+     * The default value is 0, which means there is no limit.
+     *
+     * @param  parallelWindowSize the maximum number of split messages in flight
+     * @return                    the builder
+     */
+    public SplitDefinition parallelWindowSize(int parallelWindowSize) {
+        return parallelWindowSize(Integer.toString(parallelWindowSize));
+    }
+
+    /**
+     * Sets the maximum number of split messages which are in flight when using parallel processing, which are the split
+     * messages that have been split but not yet aggregated. When the window is full, then the splitter waits for a split
+     * message to be aggregated before it splits the next message. This applies backpressure on the splitting, so
+     * splitting a big message in streaming mode uses a constant amount of memory.
+     * <p/>
+     * When enabled then the replies are always aggregated in the same order as the messages was split, also in
+     * streaming mode. The replies which come back out-of-order are kept until their turn, which is at most the window
+     * size.
+     * <p/>
+     * The default value is 0, which means there is no limit.
+     *
+     * @param  parallelWindowSize the maximum number of split messages in flight
+     * @return                    the builder
+     */
+    public SplitDefinition parallelWindowSize(String parallelWindowSize) {
+        setParallelWindowSize(parallelWindowSize);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -628,6 +671,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    public void setParallelWindowSize(String parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
     @Deprecated(since = "4.7.0")
     public String getParallelAggregate() {
         return parallelAggregate;
@@ -45,7 +45,7 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
 
     @XmlAttribute
     @Metadata(javaType = "org.apache.camel.model.ThrottlingMode", defaultValue = "TotalRequests",
-              enums = "TotalRequests,ConcurrentRequests")
+              enums = "TotalRequests,ConcurrentRequests,TokenBucket")
     private String mode;
     @XmlElement(name = "correlationExpression")
     private ExpressionSubElementDefinition correlationExpression;
@@ -114,13 +114,18 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    public ThrottleDefinition tokenBucketMode() {
+        this.mode = ThrottlingMode.TokenBucket.name();
+        return this;
+    }
+
     @Override
     public String toString() {
         return "Throttle[" + description() + "]";
     }
 
     protected String description() {
-        if (mode.equals(ThrottlingMode.TotalRequests.name())) {
+        if (mode.equals(ThrottlingMode.TotalRequests.name()) || mode.equals(ThrottlingMode.TokenBucket.name())) {
             return getExpression() + " request per " + getTimePeriodMillis() + " millis";
         } else {
             return getExpression() + " maximum concurrent requests";
@@ -318,8 +323,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *              `ConcurrentRequests`
+     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *              `ConcurrentRequests` or `TokenBucket`
      * @see         ThrottlingMode
      * @return      the builder
      */
@@ -331,8 +336,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *              `ConcurrentRequests`
+     * @param  mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *              `ConcurrentRequests` or `TokenBucket`
      * @see         ThrottlingMode
      * @return      the builder
      */
@@ -421,8 +426,8 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     /**
      * Sets the throttling mode to one of the available modes enumerated in ThrottlingMode
      *
-     * @param mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests' or
-     *             `ConcurrentRequests`
+     * @param mode The throttling mode as a string parameter. It currently accepts one of 'TotalRequests',
+     *             `ConcurrentRequests` or `TokenBucket`
      * @see        ThrottlingMode
      */
     public void setMode(String mode) {
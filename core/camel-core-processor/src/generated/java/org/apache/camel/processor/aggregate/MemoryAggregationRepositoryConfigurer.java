@@ -25,6 +25,7 @@ public class MemoryAggregationRepositoryConfigurer extends org.apache.camel.supp
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "optimisticlocking":
         case "optimisticLocking": target.setOptimisticLocking(property(camelContext, boolean.class, value)); return true;
+        case "shards": target.setShards(property(camelContext, int.class, value)); return true;
         default: return false;
         }
     }
@@ -34,6 +35,7 @@ public class MemoryAggregationRepositoryConfigurer extends org.apache.camel.supp
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "optimisticlocking":
         case "optimisticLocking": return boolean.class;
+        case "shards": return int.class;
         default: return null;
         }
     }
@@ -44,6 +46,7 @@ public class MemoryAggregationRepositoryConfigurer extends org.apache.camel.supp
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "optimisticlocking":
         case "optimisticLocking": return target.isOptimisticLocking();
+        case "shards": return target.getShards();
         default: return null;
         }
     }
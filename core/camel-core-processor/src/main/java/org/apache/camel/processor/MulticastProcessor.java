@@ -174,6 +174,7 @@ public class MulticastProcessor extends BaseProcessorSupport
     private final AggregationStrategy aggregationStrategy;
     private final boolean parallelProcessing;
     private boolean synchronous;
+    private int parallelWindowSize;
     private final boolean streaming;
     private final boolean parallelAggregate;
     private final boolean stopOnException;
@@ -286,6 +287,19 @@ public class MulticastProcessor extends BaseProcessorSupport
         this.synchronous = synchronous;
     }
 
+    /**
+     * The maximum number of sub exchanges which are in flight when using parallel processing, which are the exchanges
+     * that have been created but not yet aggregated. When the window is full, then the next exchange is created when a
+     * previous exchange has been aggregated. The exchanges are aggregated in order, even in streaming mode.
+     */
+    public int getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    public void setParallelWindowSize(int parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
     @Override
     protected void doBuild() throws Exception {
         if (processorExchangeFactory != null) {
@@ -411,6 +425,8 @@ public class MulticastProcessor extends BaseProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean suspended = new AtomicBoolean();
+        final int window;
         final Map<String, String> mdc;
         final ScheduledFuture<?> timeoutTask;
 
@@ -433,11 +449,18 @@ public class MulticastProcessor extends BaseProcessorSupport
             } else {
                 this.mdc = null;
             }
-            if (capacity > 0) {
+            // the window only applies to parallel processing, where the exchanges are always aggregated in order
+            // so at most window exchanges are kept in the completion service until they can be aggregated
+            this.window = isParallelProcessing() ? parallelWindowSize : 0;
+            boolean ordered = !isStreaming() || window > 0;
+            if (window > 0) {
+                this.completion = new AsyncCompletionService<>(
+                        scheduler, ordered, lock, capacity > 0 ? Math.min(capacity, window) : window);
+            } else if (capacity > 0) {
                 this.completion
-                        = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, !isStreaming(), lock, capacity);
+                        = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, ordered, lock, capacity);
             } else {
-                this.completion = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(transacted ? txScheduler : scheduler, ordered, lock);
             }
         }
 
@@ -462,6 +485,8 @@ public class MulticastProcessor extends BaseProcessorSupport
                         doAggregate(result, exchange, original);
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
+                        } else if (window > 0) {
+                            resume();
                         }
                     }
                 } catch (Exception e) {
@@ -474,6 +499,34 @@ public class MulticastProcessor extends BaseProcessorSupport
             }
         }
 
+        /**
+         * Schedules this task to send the next exchange, unless the window of exchanges in flight is full, then the task
+         * is suspended until an exchange has been aggregated.
+         */
+        protected void scheduleNext() {
+            if (window > 0 && isWindowFull()) {
+                suspended.set(true);
+                // check again as the last exchange in flight may have been aggregated before it was suspended
+                if (isWindowFull() || !suspended.compareAndSet(true, false)) {
+                    return;
+                }
+            }
+            schedule(this);
+        }
+
+        /**
+         * Resumes this task if it was suspended because the window was full.
+         */
+        protected void resume() {
+            if (suspended.get() && !isWindowFull() && suspended.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
+        private boolean isWindowFull() {
+            return nbExchangeSent.get() - nbAggregated.get() >= window;
+        }
+
         protected void timeout() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
@@ -626,7 +679,7 @@ public class MulticastProcessor extends BaseProcessorSupport
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    scheduleNext();
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -1265,7 +1318,8 @@ public class MulticastProcessor extends BaseProcessorSupport
      * <ul>
      * <li>we use {@link Iterable} to ensure we can send messages as soon as the data becomes available</li>
      * <li>for parallel processing, we start aggregating responses as they get send back to the processor; this means
-     * the {@link AggregationStrategy} has to take care of handling out-of-order arrival of exchanges</li>
+     * the {@link AggregationStrategy} has to take care of handling out-of-order arrival of exchanges, unless a
+     * {@link #getParallelWindowSize() parallel window size} is set</li>
      * </ul>
      */
     public boolean isStreaming() {
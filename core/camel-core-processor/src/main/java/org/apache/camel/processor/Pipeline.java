@@ -22,6 +22,7 @@ import java.util.List;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Navigate;
@@ -31,6 +32,7 @@ import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.ReactiveExecutor;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.camel.support.BatchProcessorHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.slf4j.Logger;
@@ -40,9 +42,13 @@ import static org.apache.camel.processor.PipelineHelper.continueProcessing;
 
 /**
  * Creates a Pipeline pattern where the output of the previous step is sent as input to the next step, reusing the same
- * message exchanges
+ * message exchanges.
+ * <p/>
+ * A batch of exchanges is sent through the pipeline one step at a time, where each step processes all the exchanges of
+ * the batch that should continue routing, in one call if the step is a {@link BatchProcessor}.
  */
-public class Pipeline extends BaseProcessorSupport implements Navigate<Processor>, Traceable, IdAware, RouteIdAware {
+public class Pipeline extends BaseProcessorSupport
+        implements BatchProcessor, Navigate<Processor>, Traceable, IdAware, RouteIdAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(Pipeline.class);
 
@@ -169,6 +175,32 @@ public class Pipeline extends BaseProcessorSupport implements Navigate<Processor
         }
     }
 
+    @Override
+    public void process(List<Exchange> exchanges) throws Exception {
+        List<Exchange> batch = new ArrayList<>(exchanges);
+        for (int i = 0; i < size; i++) {
+            boolean first = i == 0;
+            // only continue with the exchanges which should continue routing
+            batch.removeIf(exchange -> exchange.isRouteStop()
+                    || !first && !continueProcessing(exchange, "so breaking out of pipeline", LOG));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            // prepare for next run
+            for (Exchange exchange : batch) {
+                ExchangeHelper.prepareOutToIn(exchange);
+            }
+
+            BatchProcessorHelper.process(processors.get(i), batch);
+        }
+
+        for (Exchange exchange : exchanges) {
+            // copyResults is needed in case MEP is OUT and the message is not an OUT message
+            ExchangeHelper.copyResults(exchange, exchange);
+        }
+    }
+
     @Override
     protected void doBuild() throws Exception {
         boolean pooled = camelContext.getCamelContextExtension().getExchangeFactory().isPooled();
@@ -0,0 +1,277 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> will set a limit on the maximum number of message
+ * exchanges which can be sent to a processor within a specific time period.
+ * <p/>
+ * This throttle implementation is a token bucket using the generic cell rate algorithm (GCRA). For each correlation
+ * key only the theoretical arrival time of the next exchange is kept, which is updated lock-free. The bucket allows a
+ * burst of maxRequestsPerPeriod exchanges, and then one exchange every timePeriodMillis / maxRequestsPerPeriod.
+ * <p/>
+ * An exchange which exceeds the rate reserves the next slot and is continued on the shared scheduled executor when
+ * the slot is due, so no thread is blocked while waiting (except for transacted exchanges which must be processed
+ * synchronously). The state of the correlation keys which have been idle for a while is evicted.
+ */
+public class TokenBucketThrottler extends AbstractThrottler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenBucketThrottler.class);
+
+    private volatile long timePeriodMillis;
+    private final long cleanPeriodMillis;
+    private final Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private ScheduledFuture<?> cleanFuture;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsExpression,
+                                final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
+                                final boolean rejectExecution, Expression correlation) {
+        super(asyncExecutor, shutdownAsyncExecutor, camelContext, rejectExecution, correlation, maxRequestsExpression);
+
+        if (timePeriodMillis <= 0) {
+            throw new IllegalArgumentException("TimePeriodMillis should be a positive number, was: " + timePeriodMillis);
+        }
+        this.timePeriodMillis = timePeriodMillis;
+        this.cleanPeriodMillis = timePeriodMillis * 10;
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (correlationExpression != null) {
+                key = correlationExpression.evaluate(exchange, String.class);
+            }
+            ThrottlingState throttlingState = states.computeIfAbsent(key, k -> new ThrottlingState());
+            throttlingState.calculateAndSetMaxRequestsPerPeriod(exchange);
+
+            long delay = throttlingState.acquire(isRejectExecution());
+            if (delay < 0) {
+                throw new ThrottlerRejectedExecutionException(
+                        "Exceeded the max throttle rate of " + throttlingState.getThrottleRate() + " within "
+                                                              + timePeriodMillis + "ms");
+            }
+            if (delay == 0) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                }
+                callback.done(true);
+                return true;
+            }
+
+            if (!exchange.isTransacted()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate exceeded, so delaying for {}ms, exchangeId: {}",
+                            TimeUnit.NANOSECONDS.toMillis(delay), exchange.getExchangeId());
+                }
+                return processDelayed(exchange, callback, delay);
+            }
+
+            // transacted exchanges must be routed synchronously
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(delay),
+                        exchange.getExchangeId());
+            }
+            TimeUnit.NANOSECONDS.sleep(delay);
+            callback.done(true);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return handleInterrupt(exchange, callback, e, true);
+        } catch (Exception e) {
+            return handleException(exchange, callback, e, true);
+        }
+    }
+
+    /**
+     * Continues routing the exchange on the asyncExecutor when the reserved slot is due. Except if the executor rejects
+     * the task and isCallerRunsWhenRejected() is enabled, then the current thread waits for the slot instead.
+     */
+    protected boolean processDelayed(final Exchange exchange, final AsyncCallback callback, final long delay)
+            throws InterruptedException {
+        try {
+            asyncExecutor.schedule(() -> callback.done(false), delay, TimeUnit.NANOSECONDS);
+            return false;
+        } catch (final RejectedExecutionException e) {
+            if (isCallerRunsWhenRejected()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+                TimeUnit.NANOSECONDS.sleep(delay);
+                callback.done(true);
+                return true;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(asyncExecutor, "executorService", this);
+        cleanFuture = asyncExecutor.scheduleWithFixedDelay(this::clean, cleanPeriodMillis, cleanPeriodMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (cleanFuture != null) {
+            cleanFuture.cancel(false);
+            cleanFuture = null;
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (shutdownAsyncExecutor && asyncExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
+        }
+        states.clear();
+        super.doShutdown();
+    }
+
+    /**
+     * Evicts the state of the correlation keys which have been idle, where their bucket has been full for the clean
+     * period. A new state for such a key starts with a full bucket as well, so no throttling is lost.
+     */
+    protected void clean() {
+        long idle = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(cleanPeriodMillis);
+        states.values().removeIf(state -> state.isIdleSince(idle));
+    }
+
+    protected class ThrottlingState {
+        // the theoretical arrival time of the next exchange when the bucket is empty
+        private final AtomicLong arrivalTime = new AtomicLong(System.nanoTime());
+        private volatile int throttleRate;
+
+        public int getThrottleRate() {
+            return throttleRate;
+        }
+
+        /**
+         * Acquires a slot for an exchange.
+         *
+         * @param  reject whether to reject the exchange if no slot is available now, instead of reserving the next slot
+         * @return        the delay in nanos until the slot is due, 0 if the exchange can be processed now, or -1 if
+         *                rejected
+         */
+        public long acquire(boolean reject) {
+            long period = TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+            long interval = period / throttleRate;
+            while (true) {
+                long now = System.nanoTime();
+                long current = arrivalTime.get();
+                long next = Math.max(current, now) + interval;
+                long delay = next - period - now;
+                if (delay > 0 && reject) {
+                    return -1;
+                }
+                if (arrivalTime.compareAndSet(current, next)) {
+                    return Math.max(delay, 0);
+                }
+            }
+        }
+
+        boolean isIdleSince(long time) {
+            return arrivalTime.get() < time;
+        }
+
+        /**
+         * Evaluates the maxRequestsPerPeriodExpression and adjusts the throttle rate up or down.
+         */
+        public void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
+            Integer newThrottle = TokenBucketThrottler.this.getMaximumRequestsExpression().evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle <= 0) {
+                throw new IllegalStateException(
+                        "The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            if (newThrottle == null && throttleRate == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxRequestsPerPeriodExpression was evaluated as null: "
+                                                   + TokenBucketThrottler.this.getMaximumRequestsExpression(),
+                        exchange);
+            }
+
+            if (newThrottle != null && newThrottle != throttleRate) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", throttleRate,
+                            newThrottle, exchange.getExchangeId());
+                }
+                throttleRate = newThrottle;
+            }
+        }
+    }
+
+    @Override
+    public String getMode() {
+        return "TokenBucket";
+    }
+
+    /**
+     * Gets the current maximum request per period value. If it is grouped throttling applied with correlationExpression
+     * than the max per period within the group will return
+     */
+    @Override
+    public int getCurrentMaximumRequests() {
+        return states.values().stream().mapToInt(ThrottlingState::getThrottleRate).max().orElse(0);
+    }
+
+    /**
+     * Sets the time period during which the maximum number of requests apply
+     */
+    public void setTimePeriodMillis(final long timePeriodMillis) {
+        this.timePeriodMillis = timePeriodMillis;
+    }
+
+    public long getTimePeriodMillis() {
+        return timePeriodMillis;
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + this.getMaximumRequestsExpression() + " per: " + timePeriodMillis + "]";
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+}
@@ -31,6 +31,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.AbstractQueuedSynchronizer;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.AsyncCallback;
@@ -99,8 +100,10 @@ public class AggregateProcessor extends BaseProcessorSupport
     public static final String COMPLETED_BY_FORCE = "force";
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
-    private volatile Lock lock;
+    // the locks which are striped by the shards of the memory aggregation repository, or a single shared lock
+    private volatile Lock[] locks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
+    private final AtomicBoolean completeAllGroupsDeferred = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
     private final AsyncProcessor processor;
@@ -404,6 +407,7 @@ public class AggregateProcessor extends BaseProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
+        Lock lock = getLock(key);
         lock.lock();
         try {
             aggregated = doAggregation(key, copy);
@@ -413,6 +417,11 @@ public class AggregateProcessor extends BaseProcessorSupport
             lock.unlock();
         }
 
+        // when using striped locks then we cannot complete all groups while holding the lock of this correlation key
+        if (completeAllGroupsDeferred.compareAndSet(true, false)) {
+            forceCompletionOfAllGroups();
+        }
+
         // we are completed so do that work outside the lock
         if (aggregated != null) {
             // we are completed so submit to completion
@@ -576,7 +585,11 @@ public class AggregateProcessor extends BaseProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (locks.length > 1) {
+                completeAllGroupsDeferred.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1271,21 +1284,22 @@ public class AggregateProcessor extends BaseProcessorSupport
     private final class AggregationTimeoutMap extends DefaultTimeoutMap<String, String> {
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-            // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead,
+            // unless the locks are striped, as then the timeout map is updated concurrently
+            super(executor, requestMapPollTimeMillis, optimisticLocking || locks.length > 1);
             addListener(this::onEviction);
         }
 
         @Override
         protected void purge() {
             // wait for lock to be created
-            if (lock != null) {
+            if (locks != null) {
                 // must acquire the shared aggregation lock to be able to purge
-                lock.lock();
+                lockAll();
                 try {
                     super.purge();
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
         }
@@ -1347,40 +1361,31 @@ public class AggregateProcessor extends BaseProcessorSupport
             LOG.trace("Starting completion interval task");
 
             // trigger completion for all in the repository
-            Set<String> keys = aggregationRepository.getKeys();
-
-            if (keys != null && !keys.isEmpty()) {
-                // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
-                try {
-                    for (String key : keys) {
-                        boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
-                        if (exchange == null) {
-                            stolenInterval = true;
-                        } else {
-                            LOG.trace("Completion interval triggered for correlation key: {}", key);
-                            // indicate it was completed by interval
-                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                            try {
-                                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                                if (answer != null) {
-                                    onSubmitCompletion(key, answer);
-                                }
-                            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
-                                stolenInterval = true;
-                            }
-                        }
-                        if (optimisticLocking && stolenInterval) {
-                            LOG.debug(
-                                    "Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}",
-                                    key);
+            // must acquire the shared aggregation lock to be able to trigger interval completion
+            forEachKeyInLock(key -> {
+                boolean stolenInterval = false;
+                Exchange exchange = aggregationRepository.get(camelContext, key);
+                if (exchange == null) {
+                    stolenInterval = true;
+                } else {
+                    LOG.trace("Completion interval triggered for correlation key: {}", key);
+                    // indicate it was completed by interval
+                    exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                    try {
+                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                        if (answer != null) {
+                            onSubmitCompletion(key, answer);
                         }
+                    } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                        stolenInterval = true;
                     }
-                } finally {
-                    lock.unlock();
                 }
-            }
+                if (optimisticLocking && stolenInterval) {
+                    LOG.debug(
+                            "Another Camel instance has already processed this interval aggregation for exchange with correlation id: {}",
+                            key);
+                }
+            });
 
             LOG.trace("Completion interval task complete");
         }
@@ -1419,7 +1424,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                         LOG.info("We are shutting down so stop recovering");
                         return;
                     }
-                    lock.lock();
+                    lockAll();
                     try {
                         // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                         // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1496,7 +1501,7 @@ public class AggregateProcessor extends BaseProcessorSupport
                             }
                         }
                     } finally {
-                        lock.unlock();
+                        unlockAll();
                     }
                 }
             } finally {
@@ -1562,6 +1567,26 @@ public class AggregateProcessor extends BaseProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (optimisticLocking) {
+            locks = new Lock[] { NoLock.INSTANCE };
+        } else {
+            int stripes = 1;
+            // completing groups from a batch consumer or on new correlation group spans all correlation keys,
+            // and cannot be done while holding the lock of a single correlation key
+            if (aggregationRepository instanceof MemoryAggregationRepository memory && !isCompletionFromBatchConsumer()
+                    && !isCompletionOnNewCorrelationGroup()) {
+                stripes = memory.getShards();
+            }
+            Lock[] answer = new Lock[stripes];
+            for (int i = 0; i < answer.length; i++) {
+                answer[i] = new ReentrantLock();
+            }
+            locks = answer;
+            if (stripes > 1) {
+                LOG.info("Using {} striped locks from the shards of the MemoryAggregationRepository", stripes);
+            }
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1639,14 +1664,11 @@ public class AggregateProcessor extends BaseProcessorSupport
         aggregateController.onStart(this);
 
         if (optimisticLocking) {
-            lock = NoLock.INSTANCE;
             if (getOptimisticLockingExecutorService() == null) {
                 setOptimisticLockingExecutorService(camelContext.getExecutorServiceManager()
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
-        } else {
-            lock = new ReentrantLock();
         }
     }
 
@@ -1758,6 +1780,7 @@ public class AggregateProcessor extends BaseProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
+        Lock lock = getLock(key);
         lock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
@@ -1795,30 +1818,19 @@ public class AggregateProcessor extends BaseProcessorSupport
         LOG.trace("Starting force completion of all groups task");
 
         // trigger completion for all in the repository
-        Set<String> keys = aggregationRepository.getKeys();
-
-        int total = 0;
-        if (keys != null && !keys.isEmpty()) {
-            // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
-            total = keys.size();
-            try {
-                for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
-                        }
-                    }
+        // must acquire the shared aggregation lock to be able to trigger force completion
+        int total = forEachKeyInLock(key -> {
+            Exchange exchange = aggregationRepository.get(camelContext, key);
+            if (exchange != null) {
+                LOG.trace("Force completion triggered for correlation key: {}", key);
+                // indicate it was completed by a force completion request
+                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                if (answer != null) {
+                    onSubmitCompletion(key, answer);
                 }
-            } finally {
-                lock.unlock();
             }
-        }
+        });
         LOG.trace("Completed force completion of all groups task");
 
         if (total > 0) {
@@ -1831,6 +1843,7 @@ public class AggregateProcessor extends BaseProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
+        Lock lock = getLock(key);
         lock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
@@ -1864,30 +1877,80 @@ public class AggregateProcessor extends BaseProcessorSupport
         LOG.trace("Starting force discarding of all groups task");
 
         // trigger completion for all in the repository
-        Set<String> keys = aggregationRepository.getKeys();
+        // must acquire the shared aggregation lock to be able to trigger force completion
+        int total = forEachKeyInLock(key -> {
+            Exchange exchange = aggregationRepository.get(camelContext, key);
+            if (exchange != null) {
+                LOG.trace("Force discarded triggered for correlation key: {}", key);
+                // force discarding by setting aggregate failed as true
+                onCompletion(key, exchange, exchange, false, true);
+            }
+        });
+        LOG.trace("Completed force discarding of all groups task");
 
-        int total = 0;
-        if (keys != null && !keys.isEmpty()) {
-            // must acquire the shared aggregation lock to be able to trigger force completion
+        if (total > 0) {
+            LOG.debug("Forcing discarding of all groups with {} exchanges", total);
+        }
+        return total;
+    }
+
+    private Lock getLock(String key) {
+        Lock[] locks = this.locks;
+        if (locks.length == 1) {
+            return locks[0];
+        }
+        return locks[((MemoryAggregationRepository) aggregationRepository).getShard(key)];
+    }
+
+    private void lockAll() {
+        // always lock in the same order to avoid deadlocks
+        for (Lock lock : locks) {
             lock.lock();
-            total = keys.size();
-            try {
-                for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
-                    }
+        }
+    }
+
+    private void unlockAll() {
+        Lock[] locks = this.locks;
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+
+    /**
+     * Performs the task for each correlation key in the aggregation repository while holding the lock. When using
+     * striped locks then only the lock of a single shard is held at any time, so correlation keys from the other shards
+     * can still be aggregated.
+     *
+     * @return the number of correlation keys
+     */
+    private int forEachKeyInLock(Consumer<String> task) {
+        Lock[] locks = this.locks;
+        if (locks.length > 1) {
+            MemoryAggregationRepository memory = (MemoryAggregationRepository) aggregationRepository;
+            int total = 0;
+            for (int i = 0; i < locks.length; i++) {
+                locks[i].lock();
+                try {
+                    Set<String> keys = memory.getKeys(i);
+                    total += keys.size();
+                    keys.forEach(task);
+                } finally {
+                    locks[i].unlock();
                 }
-            } finally {
-                lock.unlock();
             }
+            return total;
         }
-        LOG.trace("Completed force discarding of all groups task");
 
-        if (total > 0) {
-            LOG.debug("Forcing discarding of all groups with {} exchanges", total);
+        Set<String> keys = aggregationRepository.getKeys();
+        if (keys == null || keys.isEmpty()) {
+            return 0;
+        }
+        int total = keys.size();
+        locks[0].lock();
+        try {
+            keys.forEach(task);
+        } finally {
+            locks[0].unlock();
         }
         return total;
     }
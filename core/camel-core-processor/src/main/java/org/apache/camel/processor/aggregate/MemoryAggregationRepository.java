@@ -17,6 +17,7 @@
 package org.apache.camel.processor.aggregate;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -32,16 +33,25 @@ import org.apache.camel.support.service.ServiceSupport;
  * A memory based {@link org.apache.camel.spi.AggregationRepository} which stores {@link Exchange}s in memory only.
  *
  * Supports both optimistic locking and non-optimistic locking modes. Defaults to non-optimistic locking mode.
+ * <p/>
+ * The exchanges can be stored in a number of shards, which allows the {@link AggregateProcessor} to lock each shard
+ * separately in non-optimistic locking mode, so correlation keys from different shards can be aggregated concurrently.
  */
 @Metadata(label = "bean",
           description = "A memory based AggregationRepository which stores Exchange in memory only.",
           annotations = { "interfaceName=org.apache.camel.spi.AggregationRepository" })
 @Configurer(metadataOnly = true)
 public class MemoryAggregationRepository extends ServiceSupport implements OptimisticLockingAggregationRepository {
-    private final ConcurrentMap<String, Exchange> cache = new ConcurrentHashMap<>();
+    private ConcurrentMap<String, Exchange>[] caches = createCaches(1);
 
     @Metadata(description = "Whether to use optimistic locking")
     private boolean optimisticLocking;
+    @Metadata(label = "advanced", defaultValue = "1",
+              description = "Number of shards to store the exchanges in. When using more than one shard, then the aggregator"
+                            + " in non-optimistic locking mode locks each shard separately, which allows correlation keys"
+                            + " from different shards to be aggregated concurrently. The AggregationStrategy must then be"
+                            + " thread-safe. The number is rounded up to a power of two.")
+    private int shards = 1;
 
     public MemoryAggregationRepository() {
         this(false);
@@ -59,17 +69,37 @@ public class MemoryAggregationRepository extends ServiceSupport implements Optim
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getShards() {
+        return shards;
+    }
+
+    public void setShards(int shards) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("Shards must be a positive number, was: " + shards);
+        }
+        this.shards = shards == 1 ? 1 : Integer.highestOneBit(shards - 1) << 1;
+        this.caches = createCaches(this.shards);
+    }
+
+    /**
+     * Gets the shard which stores the exchange for the given correlation key.
+     */
+    public int getShard(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (shards - 1);
+    }
+
     @Override
     public Exchange add(CamelContext camelContext, String key, Exchange oldExchange, Exchange newExchange) {
         if (!optimisticLocking) {
             throw new UnsupportedOperationException();
         }
         if (oldExchange == null) {
-            if (cache.putIfAbsent(key, newExchange) != null) {
+            if (cache(key).putIfAbsent(key, newExchange) != null) {
                 throw new OptimisticLockingException();
             }
         } else {
-            if (!cache.replace(key, oldExchange, newExchange)) {
+            if (!cache(key).replace(key, oldExchange, newExchange)) {
                 throw new OptimisticLockingException();
             }
         }
@@ -81,22 +111,22 @@ public class MemoryAggregationRepository extends ServiceSupport implements Optim
         if (optimisticLocking) {
             throw new UnsupportedOperationException();
         }
-        return cache.put(key, exchange);
+        return cache(key).put(key, exchange);
     }
 
     @Override
     public Exchange get(CamelContext camelContext, String key) {
-        return cache.get(key);
+        return cache(key).get(key);
     }
 
     @Override
     public void remove(CamelContext camelContext, String key, Exchange exchange) {
         if (optimisticLocking) {
-            if (!cache.remove(key, exchange)) {
+            if (!cache(key).remove(key, exchange)) {
                 throw new OptimisticLockingException();
             }
         } else {
-            cache.remove(key);
+            cache(key).remove(key);
         }
     }
 
@@ -107,13 +137,43 @@ public class MemoryAggregationRepository extends ServiceSupport implements Optim
 
     @Override
     public Set<String> getKeys() {
+        if (caches.length == 1) {
+            // do not allow edits to the set
+            return Collections.unmodifiableSet(caches[0].keySet());
+        }
+        Set<String> answer = new LinkedHashSet<>();
+        for (ConcurrentMap<String, Exchange> cache : caches) {
+            answer.addAll(cache.keySet());
+        }
+        return Collections.unmodifiableSet(answer);
+    }
+
+    /**
+     * Gets the correlation keys stored in the given shard.
+     */
+    public Set<String> getKeys(int shard) {
         // do not allow edits to the set
-        return Collections.unmodifiableSet(cache.keySet());
+        return Collections.unmodifiableSet(caches[shard].keySet());
+    }
+
+    private ConcurrentMap<String, Exchange> cache(String key) {
+        return caches.length == 1 ? caches[0] : caches[getShard(key)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<String, Exchange>[] createCaches(int shards) {
+        ConcurrentMap<String, Exchange>[] answer = new ConcurrentMap[shards];
+        for (int i = 0; i < shards; i++) {
+            answer[i] = new ConcurrentHashMap<>();
+        }
+        return answer;
     }
 
     @Override
     protected void doStop() throws Exception {
-        cache.clear();
+        for (ConcurrentMap<String, Exchange> cache : caches) {
+            cache.clear();
+        }
     }
 
 }
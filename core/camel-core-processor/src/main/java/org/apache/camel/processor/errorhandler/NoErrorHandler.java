@@ -16,19 +16,22 @@
  */
 package org.apache.camel.processor.errorhandler;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.spi.ErrorHandler;
 import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
 import org.apache.camel.support.AsyncProcessorHelper;
+import org.apache.camel.support.BatchProcessorHelper;
 import org.apache.camel.support.service.ServiceHelper;
 
-public class NoErrorHandler extends ErrorHandlerSupport implements AsyncProcessor {
+public class NoErrorHandler extends ErrorHandlerSupport implements AsyncProcessor, BatchProcessor {
 
     private final AsyncProcessor output;
 
@@ -52,6 +55,14 @@ public class NoErrorHandler extends ErrorHandlerSupport implements AsyncProcesso
         });
     }
 
+    @Override
+    public void process(List<Exchange> exchanges) throws Exception {
+        BatchProcessorHelper.process(output, exchanges);
+        for (Exchange exchange : exchanges) {
+            exchange.getExchangeExtension().setRedeliveryExhausted(false);
+        }
+    }
+
     @Override
     public CompletableFuture<Exchange> processAsync(Exchange exchange) {
         AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
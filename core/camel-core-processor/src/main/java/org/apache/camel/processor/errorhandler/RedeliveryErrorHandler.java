@@ -26,6 +26,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
@@ -50,6 +51,8 @@ import org.apache.camel.spi.ShutdownPrepared;
 import org.apache.camel.spi.ShutdownStrategy;
 import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.BatchProcessorHelper;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.ExchangeHelper;
@@ -71,7 +74,7 @@ import static java.util.Objects.requireNonNull;
  * according to what they support.
  */
 public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
-        implements ErrorHandlerRedeliveryCustomizer, AsyncProcessor, ShutdownPrepared, Navigate<Processor> {
+        implements ErrorHandlerRedeliveryCustomizer, AsyncProcessor, BatchProcessor, ShutdownPrepared, Navigate<Processor> {
 
     private static final Logger LOG = LoggerFactory.getLogger(RedeliveryErrorHandler.class);
 
@@ -201,6 +204,34 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
         }
     }
 
+    /**
+     * Process the batch of exchanges in one call if the output is a {@link BatchProcessor}. The exchanges which failed
+     * are then handled one at a time, the same as if their first delivery attempt had failed, so they are redelivered
+     * or handled by the failure processor as if the exchanges were processed one at a time.
+     */
+    @Override
+    public void process(List<Exchange> exchanges) throws Exception {
+        if (output == null) {
+            // no output then just return
+            return;
+        }
+        if (!(output instanceof BatchProcessor) || supportTransacted()) {
+            // process the exchanges one at a time, as each transacted exchange must be in its own transaction
+            BatchProcessorHelper.processEach(this, exchanges);
+            return;
+        }
+
+        // the tasks are prepared before processing, as they keep a copy of the original exchange for redelivery
+        List<BatchTask> tasks = new ArrayList<>(exchanges.size());
+        for (Exchange exchange : exchanges) {
+            tasks.add(new BatchTask(exchange));
+        }
+        BatchProcessorHelper.process(output, exchanges);
+        for (BatchTask task : tasks) {
+            task.complete();
+        }
+    }
+
     @Override
     public CompletableFuture<Exchange> processAsync(Exchange exchange) {
         AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
@@ -358,6 +389,42 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
         return null;
     }
 
+    /**
+     * Task to complete an exchange of a batch after the batch has been processed by the output, where a failed exchange
+     * is handled by the task of the exchange, the same as when the exchange is processed on its own.
+     */
+    private final class BatchTask extends AsyncProcessorSupport implements AsyncCallback {
+        private final Exchange exchange;
+        private final PooledExchangeTask task;
+        private AsyncCallback callback;
+
+        BatchTask(Exchange exchange) {
+            this.exchange = exchange;
+            this.task = taskFactory.acquire(exchange, this);
+        }
+
+        void complete() {
+            if (isDone(exchange)) {
+                taskFactory.release(task);
+            } else {
+                // the task handles the exception of the exchange as the failure of the first delivery attempt
+                awaitManager.process(this, exchange);
+            }
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            this.callback = callback;
+            reactiveExecutor.scheduleMain(task);
+            return false;
+        }
+
+        @Override
+        public void done(boolean doneSync) {
+            callback.done(doneSync);
+        }
+    }
+
     /**
      * Simple task to perform calling the processor with no redelivery support
      */
@@ -17,11 +17,14 @@
 package org.apache.camel.processor.idempotent;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
@@ -35,6 +38,9 @@ import org.apache.camel.spi.IdempotentRepository;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.AsyncProcessorConverterHelper;
+import org.apache.camel.support.BatchProcessorHelper;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository;
 import org.apache.camel.support.service.ServiceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,11 +50,17 @@ import org.slf4j.LoggerFactory;
  * <p/>
  * This implementation supports idempotent repositories implemented as
  * {@link org.apache.camel.spi.IdempotentRepository}.
+ * <p/>
+ * When a batch of exchanges is processed, then the message ids of the batch are checked with the repository at once
+ * using the bulk operations of the repository, such as {@link IdempotentRepository#addAll(java.util.Collection)}.
+ * However if the repository uses the exchange, such as for its transaction, by overriding the methods with the
+ * exchange, such as {@link IdempotentRepository#add(Exchange, String)}, then the message ids are checked one exchange
+ * at a time.
  *
  * @see org.apache.camel.spi.IdempotentRepository
  */
 public class IdempotentConsumer extends BaseProcessorSupport
-        implements CamelContextAware, Navigate<Processor>, IdAware, RouteIdAware {
+        implements BatchProcessor, CamelContextAware, Navigate<Processor>, IdAware, RouteIdAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(IdempotentConsumer.class);
 
@@ -63,6 +75,7 @@ public class IdempotentConsumer extends BaseProcessorSupport
     private final boolean skipDuplicate;
     private final boolean removeOnFailure;
     private final AtomicLong duplicateMessageCount = new AtomicLong();
+    private boolean exchangeAware;
 
     public IdempotentConsumer(Expression messageIdExpression, IdempotentRepository idempotentRepository,
                               boolean eager, boolean completionEager, boolean skipDuplicate, boolean removeOnFailure,
@@ -174,6 +187,142 @@ public class IdempotentConsumer extends BaseProcessorSupport
         return processor.process(exchange, target);
     }
 
+    @Override
+    public void process(List<Exchange> exchanges) throws Exception {
+        List<Exchange> batch = new ArrayList<>(exchanges.size());
+        List<String> messageIds = new ArrayList<>(exchanges.size());
+        for (Exchange exchange : exchanges) {
+            try {
+                String messageId = messageIdExpression.evaluate(exchange, String.class);
+                if (messageId == null) {
+                    exchange.setException(new NoMessageIdException(exchange, messageIdExpression));
+                } else {
+                    batch.add(exchange);
+                    messageIds.add(messageId);
+                }
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Set<String> newKeys;
+        if (exchangeAware) {
+            // the repository uses the exchange, so the keys are checked one exchange at a time
+            newKeys = new HashSet<>();
+            List<Exchange> checked = new ArrayList<>(batch.size());
+            List<String> checkedMessageIds = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                Exchange exchange = batch.get(i);
+                String messageId = messageIds.get(i);
+                try {
+                    boolean newKey = eager
+                            ? idempotentRepository.add(exchange, messageId)
+                            : !idempotentRepository.contains(exchange, messageId);
+                    if (newKey) {
+                        newKeys.add(messageId);
+                    }
+                    checked.add(exchange);
+                    checkedMessageIds.add(messageId);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+            }
+            batch = checked;
+            messageIds = checkedMessageIds;
+        } else {
+            try {
+                if (eager) {
+                    // add the keys to the repository
+                    newKeys = idempotentRepository.addAll(messageIds);
+                } else {
+                    // check which keys we already have
+                    Set<String> existingKeys = idempotentRepository.containsAll(messageIds);
+                    newKeys = new HashSet<>(messageIds);
+                    newKeys.removeAll(existingKeys);
+                }
+            } catch (Exception e) {
+                for (Exchange exchange : batch) {
+                    exchange.setException(e);
+                }
+                return;
+            }
+        }
+
+        List<Exchange> targets = new ArrayList<>(batch.size());
+        List<String> targetMessageIds = new ArrayList<>(batch.size());
+        List<Synchronization> onCompletions = new ArrayList<>(batch.size());
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Exchange exchange = batch.get(i);
+            String messageId = messageIds.get(i);
+            // a key which is more than once in the batch is only new for the first exchange
+            boolean newKey = newKeys.contains(messageId) && seen.add(messageId);
+            if (!newKey) {
+                // mark the exchange as duplicate
+                exchange.setProperty(ExchangePropertyKey.DUPLICATE_MESSAGE, Boolean.TRUE);
+
+                // we already have this key so its a duplicate message
+                onDuplicate(exchange, messageId);
+
+                if (skipDuplicate) {
+                    LOG.debug("Ignoring duplicate message with id: {} for exchange: {}", messageId, exchange);
+                    continue;
+                }
+            }
+
+            Synchronization onCompletion
+                    = new IdempotentOnCompletion(idempotentRepository, messageId, eager, removeOnFailure);
+            if (!completionEager) {
+                exchange.getExchangeExtension().addOnCompletion(onCompletion);
+            }
+            targets.add(exchange);
+            targetMessageIds.add(messageId);
+            onCompletions.add(onCompletion);
+        }
+
+        // process the exchanges
+        BatchProcessorHelper.process(processor, targets);
+
+        if (completionEager) {
+            doCompletionEager(targets, targetMessageIds, onCompletions);
+        }
+    }
+
+    private void doCompletionEager(List<Exchange> exchanges, List<String> messageIds, List<Synchronization> onCompletions) {
+        List<Exchange> completed = new ArrayList<>(exchanges.size());
+        List<String> completedMessageIds = new ArrayList<>(exchanges.size());
+        for (int i = 0; i < exchanges.size(); i++) {
+            Exchange exchange = exchanges.get(i);
+            if (exchange.isFailed() || ExchangeHelper.isFailureHandled(exchange)) {
+                onCompletions.get(i).onFailure(exchange);
+            } else if (exchangeAware) {
+                // the repository uses the exchange, so the keys are completed one exchange at a time
+                onCompletions.get(i).onComplete(exchange);
+            } else {
+                completed.add(exchange);
+                completedMessageIds.add(messageIds.get(i));
+            }
+        }
+        if (completed.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (!eager) {
+                // if not eager we should add the keys when they are complete
+                idempotentRepository.addAll(completedMessageIds);
+            }
+            idempotentRepository.confirmAll(completedMessageIds);
+        } catch (Exception e) {
+            for (Exchange exchange : completed) {
+                exchange.setException(e);
+            }
+        }
+    }
+
     @Override
     public List<Processor> next() {
         if (!hasNext()) {
@@ -217,6 +366,7 @@ public class IdempotentConsumer extends BaseProcessorSupport
             camelContext.addService(idempotentRepository);
         }
         ServiceHelper.startService(processor, idempotentRepository);
+        exchangeAware = isExchangeAware(idempotentRepository);
     }
 
     @Override
@@ -253,6 +403,28 @@ public class IdempotentConsumer extends BaseProcessorSupport
         duplicateMessageCount.set(0L);
     }
 
+    /**
+     * Whether the repository overrides the methods with the exchange, which are then used instead of the bulk
+     * operations, which do not have the exchange.
+     */
+    private static boolean isExchangeAware(IdempotentRepository repository) {
+        if (repository instanceof BloomFilterIdempotentRepository bloomFilter) {
+            // the bloom filter passes on the exchange to the repository it decorates
+            return isExchangeAware(bloomFilter.getRepository());
+        }
+        Class<?> type = repository.getClass();
+        try {
+            return type.getMethod("add", Exchange.class, String.class).getDeclaringClass() != IdempotentRepository.class
+                    || type.getMethod("contains", Exchange.class, String.class).getDeclaringClass()
+                            != IdempotentRepository.class
+                    || type.getMethod("confirm", Exchange.class, String.class).getDeclaringClass()
+                            != IdempotentRepository.class;
+        } catch (NoSuchMethodException e) {
+            // should not happen as the methods are on the interface
+            return false;
+        }
+    }
+
     private void onDuplicate(Exchange exchange, String messageId) {
         duplicateMessageCount.incrementAndGet();
 
@@ -56,6 +56,14 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        int parallelWindowSize = parseInt(definition.getParallelWindowSize(), 0);
+        if (parallelWindowSize < 0) {
+            throw new IllegalArgumentException(
+                    "ParallelWindowSize must be zero or a positive number, was: " + parallelWindowSize);
+        }
+        if (parallelWindowSize > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("ParallelWindowSize is used but ParallelProcessing has not been enabled.");
+        }
         Processor prepare = definition.getOnPrepareProcessor();
         if (prepare == null && definition.getOnPrepare() != null) {
             prepare = mandatoryLookup(definition.getOnPrepare(), Processor.class);
@@ -77,6 +85,7 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     isShareUnitOfWork, isParallelAggregate);
         }
         answer.setSynchronous(isSynchronous);
+        answer.setParallelWindowSize(parallelWindowSize);
         answer.setDisabled(isDisabled(camelContext, definition));
         return answer;
     }
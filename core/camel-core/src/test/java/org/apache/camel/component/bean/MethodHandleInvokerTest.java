@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MethodHandleInvokerTest {
+
+    private final MyBean bean = new MyBean();
+
+    @Test
+    public void testInvoke() throws Exception {
+        MethodHandleInvoker invoker = MethodHandleInvoker.create(
+                MyBean.class.getDeclaredMethod("hello", String.class, int.class), bean);
+        assertNotNull(invoker);
+
+        Object[] arguments = { "World", 2 };
+        assertTrue(invoker.canInvoke(bean, arguments));
+        assertEquals("Hello World 2", invoker.invoke(bean, arguments));
+
+        // must use reflection for conversions
+        assertFalse(invoker.canInvoke(bean, new Object[] { "World", null }));
+        assertFalse(invoker.canInvoke(bean, new Object[] { "World", (short) 2 }));
+        assertFalse(invoker.canInvoke(bean, new Object[] { 123, 2 }));
+        assertFalse(invoker.canInvoke(bean, new Object[] { "World" }));
+        assertFalse(invoker.canInvoke("not my bean", arguments));
+    }
+
+    @Test
+    public void testInvokeStaticAndVoid() throws Exception {
+        MethodHandleInvoker invoker = MethodHandleInvoker.create(
+                MyBean.class.getDeclaredMethod("bye", String[].class), null);
+        assertNotNull(invoker);
+
+        Object[] arguments = { new String[] { "a", "b" } };
+        assertTrue(invoker.canInvoke(null, arguments));
+        assertEquals("Bye 2", invoker.invoke(null, arguments));
+
+        invoker = MethodHandleInvoker.create(MyBean.class.getDeclaredMethod("noop"), bean);
+        assertNotNull(invoker);
+        assertTrue(invoker.canInvoke(bean, null));
+        assertNull(invoker.invoke(bean, null));
+    }
+
+    @Test
+    public void testInvokeException() throws Exception {
+        MethodHandleInvoker invoker = MethodHandleInvoker.create(MyBean.class.getDeclaredMethod("fail"), bean);
+        assertNotNull(invoker);
+
+        InvocationTargetException e
+                = assertThrows(InvocationTargetException.class, () -> invoker.invoke(bean, new Object[0]));
+        assertInstanceOf(IllegalStateException.class, e.getTargetException());
+    }
+
+    private static final class MyBean {
+
+        private String hello(String name, int times) {
+            return "Hello " + name + " " + times;
+        }
+
+        private static String bye(String... names) {
+            return "Bye " + names.length;
+        }
+
+        void noop() {
+        }
+
+        void fail() {
+            throw new IllegalStateException("Forced");
+        }
+    }
+}
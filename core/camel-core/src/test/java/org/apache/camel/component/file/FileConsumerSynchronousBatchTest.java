@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.BatchProcessor;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for consuming a batch of files which are processed at once when synchronous
+ */
+public class FileConsumerSynchronousBatchTest extends ContextTestSupport {
+
+    private final List<Integer> batches = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from(fileUri("?initialDelay=0&delay=10&synchronous=true")).autoStartup(false)
+                        .process(new MyBatchProcessor())
+                        .convertBodyTo(String.class)
+                        .to("mock:result");
+            }
+        };
+    }
+
+    @Test
+    public void testConsumeBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Hello World", "Bye World");
+
+        template.sendBodyAndHeader(fileUri(), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri(), "Bye World", Exchange.FILE_NAME, "bye.txt");
+
+        NotifyBuilder notify = new NotifyBuilder(context).whenDone(2).create();
+
+        // start routes
+        context.getRouteController().startAllRoutes();
+
+        assertMockEndpointsSatisfied();
+        assertTrue(notify.matchesWaitTime());
+
+        // the files of the poll are passed through the error handler to the batch processor at once
+        assertEquals(List.of(2), batches);
+        assertFileNotExists(testFile("hello.txt"));
+        assertFileNotExists(testFile("bye.txt"));
+        assertFileExists(testFile(".camel/hello.txt"));
+        assertFileExists(testFile(".camel/bye.txt"));
+    }
+
+    private class MyBatchProcessor implements BatchProcessor {
+
+        @Override
+        public void process(List<Exchange> exchanges) {
+            batches.add(exchanges.size());
+        }
+
+        @Override
+        public void process(Exchange exchange) {
+            process(List.of(exchange));
+        }
+    }
+}
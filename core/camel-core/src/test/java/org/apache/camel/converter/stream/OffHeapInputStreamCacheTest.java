@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffHeapInputStreamCacheTest extends ContextTestSupport {
+    private static final String TEST_STRING = "This is a test string and it has enough"
+                                              + " aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa ";
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory().toFile());
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolOffHeapEnabled(true);
+        context.getStreamCachingStrategy().setSpoolOffHeapBlockSize(32);
+        context.getStreamCachingStrategy().setSpoolOffHeapMaxSize(256);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = createExchange();
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private Exchange createExchange() {
+        Exchange answer = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(answer);
+        answer.getExchangeExtension().setUnitOfWork(uow);
+        return answer;
+    }
+
+    private static String toString(InputStream input) throws IOException {
+        return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testCacheStreamOffHeap() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        // should not spool to disk
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertNotNull(files, "There should be a list of files");
+        assertEquals(0, files.length, "we should not have a temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(OffHeapInputStreamCache.class, cache);
+        assertTrue(cache.inMemory());
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertEquals(TEST_STRING, toString((InputStream) cache));
+
+        // can be read again after reset
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8));
+
+        // 114 bytes uses 4 blocks of 32 bytes
+        assertEquals(128, statistics.getOffHeapPoolUsedSize());
+        assertEquals(128, statistics.getOffHeapPoolAllocatedSize());
+
+        exchange.getUnitOfWork().done(exchange);
+
+        // the blocks are released back to the pool
+        assertEquals(0, statistics.getOffHeapPoolUsedSize());
+        assertEquals(128, statistics.getOffHeapPoolAllocatedSize());
+        assertThrows(IOException.class, () -> ((InputStream) cache).read());
+    }
+
+    @Test
+    public void testCacheStreamOffHeapCopy() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+
+        Exchange copy = createExchange();
+        StreamCache cacheCopy = cache.copy(copy);
+        assertInstanceOf(OffHeapInputStreamCache.class, cacheCopy);
+
+        // the blocks are in use until both exchanges are done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(128, statistics.getOffHeapPoolUsedSize());
+        assertEquals(TEST_STRING, toString((InputStream) cacheCopy));
+
+        copy.getUnitOfWork().done(copy);
+        assertEquals(0, statistics.getOffHeapPoolUsedSize());
+    }
+
+    @Test
+    public void testCacheStreamOffHeapReleaseWhileWriting() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        OutputStream os = new OutputStream() {
+            @Override
+            public void write(int b) {
+                bos.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                writing.countDown();
+                try {
+                    proceed.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                bos.write(b, off, len);
+            }
+        };
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            try {
+                cache.writeTo(os);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+        // the blocks cannot be released to another exchange while they are being written
+        CompletableFuture<Void> done = CompletableFuture.runAsync(() -> exchange.getUnitOfWork().done(exchange));
+        Thread.sleep(100);
+        assertFalse(done.isDone());
+        assertEquals(128, statistics.getOffHeapPoolUsedSize());
+
+        proceed.countDown();
+        writer.get(10, TimeUnit.SECONDS);
+        done.get(10, TimeUnit.SECONDS);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8));
+        assertEquals(0, statistics.getOffHeapPoolUsedSize());
+        assertThrows(IOException.class, () -> cache.writeTo(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testCacheStreamOffHeapExhausted() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        // the first stream takes 128 bytes of the pool
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        assertInstanceOf(OffHeapInputStreamCache.class, cos.newStreamCache());
+
+        // the second stream exceeds the pool while writing so continue on disk
+        Exchange other = createExchange();
+        CachedOutputStream cos2 = new CachedOutputStream(other);
+        for (int i = 0; i < 3; i++) {
+            cos2.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        }
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertNotNull(files, "There should be a list of files");
+        assertEquals(1, files.length, "we should have a temp file");
+
+        StreamCache cache = cos2.newStreamCache();
+        assertInstanceOf(FileInputStreamCache.class, cache);
+        assertEquals(TEST_STRING + TEST_STRING + TEST_STRING, toString((InputStream) cache));
+        assertEquals(1, statistics.getCacheOffHeapExhaustedCounter());
+
+        // the blocks taken by the second stream has been released
+        assertEquals(128, statistics.getOffHeapPoolUsedSize());
+        assertEquals(256, statistics.getOffHeapPoolAllocatedSize());
+
+        exchange.getUnitOfWork().done(exchange);
+        other.getUnitOfWork().done(other);
+        assertEquals(0, statistics.getOffHeapPoolUsedSize());
+    }
+
+    @Test
+    public void testCacheStreamOffHeapStatistics() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        Exchange exchange = createExchange();
+        exchange.getMessage().setBody(
+                new BufferedInputStream(new ByteArrayInputStream(TEST_STRING.getBytes(StandardCharsets.UTF_8))));
+        StreamCache cache = context.getStreamCachingStrategy().cache(exchange);
+        assertInstanceOf(OffHeapInputStreamCache.class, cache);
+        assertEquals(1, statistics.getCacheOffHeapCounter());
+        assertEquals(TEST_STRING.length(), statistics.getCacheOffHeapSize());
+        assertEquals(0, statistics.getCacheSpoolCounter());
+
+        exchange.getUnitOfWork().done(exchange);
+    }
+}
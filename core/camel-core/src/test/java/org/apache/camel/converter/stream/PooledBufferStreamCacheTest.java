@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledBufferStreamCacheTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setBufferPoolEnabled(true);
+        context.getStreamCachingStrategy().setBufferPoolLeakDetectionEnabled(true);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    private Exchange createExchange() {
+        Exchange answer = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(answer);
+        answer.getExchangeExtension().setUnitOfWork(uow);
+        return answer;
+    }
+
+    private static String toString(InputStream input) throws IOException {
+        return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testReuseBuffer() throws Exception {
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+        String data = "Hello World ".repeat(2000);
+
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+        assertEquals(data, toString((InputStream) cache));
+
+        // 24000 bytes grows the buffer from 16kb to 32kb
+        assertEquals(32768, statistics.getBufferPoolUsedSize());
+        assertEquals(16384, statistics.getBufferPoolRetainedSize());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, statistics.getBufferPoolUsedSize());
+        assertEquals(32768 + 16384, statistics.getBufferPoolRetainedSize());
+        assertThrows(IOException.class, () -> cache.copy(createExchange()));
+
+        // the buffers are reused by the next exchange
+        long misses = statistics.getBufferPoolMissCounter();
+        exchange = createExchange();
+        cos = new CachedOutputStream(exchange);
+        cos.write(data.getBytes(StandardCharsets.UTF_8));
+        assertEquals(data, toString(cos.getInputStream()));
+        assertEquals(misses, statistics.getBufferPoolMissCounter());
+        assertTrue(statistics.getBufferPoolHitCounter() >= 2);
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, statistics.getBufferPoolUsedSize());
+    }
+
+    @Test
+    public void testReadRetainedBodyAfterDone() throws Exception {
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write("Hello World".getBytes(StandardCharsets.UTF_8));
+        exchange.getMessage().setBody(cos.newStreamCache());
+        exchange.getUnitOfWork().done(exchange);
+
+        // the body is retained after the exchange is done, while its buffer is reused by the next exchange
+        InputStream retained = exchange.getMessage().getBody(InputStream.class);
+        long hits = statistics.getBufferPoolHitCounter();
+        Exchange other = createExchange();
+        CachedOutputStream cos2 = new CachedOutputStream(other);
+        cos2.write("Bye World!!".getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos2.newStreamCache();
+        assertEquals(hits + 1, statistics.getBufferPoolHitCounter());
+
+        // the retained body must not return the payload of the other exchange
+        assertThrows(UncheckedIOException.class, retained::read);
+        assertThrows(UncheckedIOException.class, retained::readAllBytes);
+        assertThrows(IOException.class, () -> ((StreamCache) retained).writeTo(new ByteArrayOutputStream()));
+        assertEquals("Bye World!!", toString((InputStream) cache));
+
+        other.getUnitOfWork().done(other);
+        assertEquals(0, statistics.getBufferPoolUsedSize());
+    }
+
+    @Test
+    public void testCopyKeepsBuffer() throws Exception {
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        Exchange exchange = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write("Hello World".getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+
+        Exchange copy = createExchange();
+        StreamCache cacheCopy = cache.copy(copy);
+        exchange.getUnitOfWork().done(exchange);
+
+        // the buffer is in use until the exchange of the copy is done
+        assertEquals(16384, statistics.getBufferPoolUsedSize());
+        assertEquals("Hello World", toString((InputStream) cacheCopy));
+
+        copy.getUnitOfWork().done(copy);
+        assertEquals(0, statistics.getBufferPoolUsedSize());
+    }
+
+    @Test
+    public void testByteArrayInputStreamCacheCopy() throws Exception {
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        ByteArrayInputStreamCache cache
+                = new ByteArrayInputStreamCache(new ByteArrayInputStream("Bye World".getBytes(StandardCharsets.UTF_8)));
+
+        Exchange exchange = createExchange();
+        StreamCache copy = cache.copy(exchange);
+        assertInstanceOf(InputStreamCache.class, copy);
+        assertEquals("Bye World", toString((InputStream) copy));
+        assertEquals("Bye World", toString(cache));
+        assertEquals(4096, statistics.getBufferPoolUsedSize());
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, statistics.getBufferPoolUsedSize());
+
+        // a new buffer is acquired for the next copy
+        cache.reset();
+        exchange = createExchange();
+        copy = cache.copy(exchange);
+        assertEquals("Bye World", toString((InputStream) copy));
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, statistics.getBufferPoolUsedSize());
+    }
+
+    @Test
+    public void testRoute() throws Exception {
+        String data = "Hello World ".repeat(2000);
+        getMockEndpoint("mock:a").expectedBodiesReceived(data, data);
+        getMockEndpoint("mock:b").expectedBodiesReceived(data, data);
+
+        template.sendBody("direct:start", new MyInputStream(data));
+        template.sendBody("direct:start", new MyInputStream(data));
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(0, context.getStreamCachingStrategy().getStatistics().getBufferPoolUsedSize());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .multicast()
+                            .convertBodyTo(String.class).to("mock:a")
+                        .end()
+                        .convertBodyTo(String.class).to("mock:b");
+            }
+        };
+    }
+
+    // an input stream which is not a ByteArrayInputStream
+    private static final class MyInputStream extends FilterInputStream {
+        MyInputStream(String data) {
+            super(new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+}
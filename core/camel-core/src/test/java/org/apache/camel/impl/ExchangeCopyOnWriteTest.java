@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.UseOriginalAggregationStrategy;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.MessageHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExchangeCopyOnWriteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getCamelContextExtension().setExchangeCopyOnWrite(true);
+        return context;
+    }
+
+    @Test
+    public void testCopy() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setHeader("foo", "123");
+        exchange.getMessage().setHeader("bar", "456");
+        exchange.setProperty("beer", "Carlsberg");
+        exchange.setVariable("cheese", "Gauda");
+
+        Exchange copy = exchange.copy();
+        Exchange copy2 = exchange.copy();
+        assertSame(exchange.getProperties(), exchange.getProperties());
+
+        copy.getMessage().setHeader("foo", "changed");
+        copy.getMessage().removeHeader("bar");
+        copy.setProperty("beer", "Tuborg");
+        copy.setVariable("cheese", "Camembert");
+        exchange.getMessage().setHeader("new", "header");
+        exchange.removeProperty("beer");
+        exchange.removeVariable("*");
+
+        assertEquals("changed", copy.getMessage().getHeader("foo"));
+        assertNull(copy.getMessage().getHeader("bar"));
+        assertNull(copy.getMessage().getHeader("new"));
+        assertEquals("Tuborg", copy.getProperty("beer"));
+        assertEquals("Camembert", copy.getVariable("cheese"));
+
+        assertEquals("123", exchange.getMessage().getHeader("foo"));
+        assertEquals("456", exchange.getMessage().getHeader("bar"));
+        assertEquals("header", exchange.getMessage().getHeader("new"));
+        assertNull(exchange.getProperty("beer"));
+        assertNull(exchange.getVariable("cheese"));
+
+        // the untouched copy still has the original values
+        assertEquals("123", copy2.getMessage().getHeader("foo"));
+        assertEquals("456", copy2.getMessage().getHeader("bar"));
+        assertEquals("Carlsberg", copy2.getProperty("beer"));
+        assertEquals("Gauda", copy2.getVariable("cheese"));
+
+        // changing the maps returned by the getters is not seen by the other exchanges
+        copy2.getMessage().getHeaders().clear();
+        copy2.getProperties().put("wine", "Rioja");
+        copy2.getVariables().clear();
+        assertTrue(copy2.getMessage().getHeaders().isEmpty());
+        assertEquals("Carlsberg", copy2.getProperty("beer"));
+        assertNull(copy.getProperty("wine"));
+        assertEquals("Camembert", copy.getVariable("cheese"));
+        assertEquals("123", exchange.getMessage().getHeader("foo"));
+    }
+
+    @Test
+    public void testCopyAfterMapsHandedOut() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setHeader("foo", "123");
+        exchange.setProperty("beer", "Carlsberg");
+        exchange.setVariable("cheese", "Gauda");
+
+        // the maps are handed out before the exchange is copied
+        Map<String, Object> headers = exchange.getMessage().getHeaders();
+        Map<String, Object> properties = exchange.getProperties();
+        Map<String, Object> variables = exchange.getVariables();
+
+        Exchange copy = exchange.copy();
+        headers.put("foo", "changed");
+        properties.put("beer", "Tuborg");
+        variables.put("cheese", "Camembert");
+
+        // changing the maps is seen by the exchange, but not by the copy
+        assertEquals("changed", exchange.getMessage().getHeader("foo"));
+        assertEquals("Tuborg", exchange.getProperty("beer"));
+        assertEquals("Camembert", exchange.getVariable("cheese"));
+        assertEquals("123", copy.getMessage().getHeader("foo"));
+        assertEquals("Carlsberg", copy.getProperty("beer"));
+        assertEquals("Gauda", copy.getVariable("cheese"));
+    }
+
+    @Test
+    public void testReadOnly() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setHeader("foo", "123");
+        exchange.setProperty("beer", "Carlsberg");
+        exchange.setVariable("cheese", "Gauda");
+
+        Exchange copy = exchange.copy();
+        Map<String, Object> headers = MessageHelper.getHeadersReadOnly(copy.getMessage());
+        Map<String, Object> properties = ExchangeHelper.getPropertiesReadOnly(copy);
+        Map<String, Object> variables = ExchangeHelper.getVariablesReadOnly(copy);
+        assertEquals("123", headers.get("foo"));
+        assertEquals("Carlsberg", properties.get("beer"));
+        assertEquals("Gauda", variables.get("cheese"));
+        assertThrows(UnsupportedOperationException.class, () -> headers.put("foo", "changed"));
+        assertThrows(UnsupportedOperationException.class, () -> properties.put("beer", "Tuborg"));
+        assertThrows(UnsupportedOperationException.class, () -> variables.put("cheese", "Camembert"));
+
+        // the read-only views do not prevent sharing, so changes to the copy are still copy-on-write
+        Exchange copy2 = copy.copy();
+        copy2.getMessage().setHeader("foo", "changed");
+        copy2.setProperty("beer", "Tuborg");
+        assertEquals("123", copy.getMessage().getHeader("foo"));
+        assertEquals("Carlsberg", copy.getProperty("beer"));
+        assertEquals("123", exchange.getMessage().getHeader("foo"));
+    }
+
+    @Test
+    public void testMulticast() throws Exception {
+        getMockEndpoint("mock:a").expectedHeaderReceived("foo", "a");
+        getMockEndpoint("mock:a").expectedPropertyReceived("bar", "a");
+        getMockEndpoint("mock:b").expectedHeaderReceived("foo", "123");
+        getMockEndpoint("mock:b").expectedPropertyReceived("bar", "456");
+        getMockEndpoint("mock:b").message(0).header("removed").isNull();
+        getMockEndpoint("mock:result").expectedHeaderReceived("foo", "123");
+        getMockEndpoint("mock:result").expectedHeaderReceived("removed", "yes");
+        getMockEndpoint("mock:result").expectedPropertyReceived("bar", "456");
+
+        template.send("direct:start", e -> {
+            e.getMessage().setHeader("foo", "123");
+            e.getMessage().setHeader("removed", "yes");
+            e.setProperty("bar", "456");
+        });
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .multicast(new UseOriginalAggregationStrategy()).parallelProcessing()
+                            .pipeline().setHeader("foo", constant("a")).setProperty("bar", constant("a")).to("mock:a").end()
+                            .pipeline().removeHeader("removed").to("mock:b").end()
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.FlyweightHeadersMapFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlyweightHeadersMapFactoryTest {
+
+    private final FlyweightHeadersMapFactory factory = new FlyweightHeadersMapFactory();
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = factory.newMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+        map.put(Exchange.FILE_NAME, "hello.txt");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("hello.txt", map.get("CamelFileName"));
+        assertEquals("hello.txt", map.get("camelfilename"));
+        assertEquals(2, map.size());
+
+        // keep the original key case
+        map.put("CAMELFILENAME", "bye.txt");
+        assertEquals(2, map.size());
+        assertEquals("bye.txt", map.get(Exchange.FILE_NAME));
+        assertTrue(map.containsKey(Exchange.FILE_NAME));
+        assertTrue(map.keySet().contains("CamelFileName"));
+    }
+
+    @Test
+    public void testConstructFromOther() {
+        Map<String, Object> other = factory.newMap();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        Map<String, Object> map = factory.newMap(other);
+
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+
+        assertEquals(123, map.get("BAR"));
+        assertEquals(123, map.get("bar"));
+        assertEquals(123, map.get("BaR"));
+
+        Map<String, Object> copy = factory.newMap(new HashMap<>(other));
+        assertEquals(other, copy);
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        Map<String, Object> map = factory.newMap();
+        for (int i = 0; i < 50; i++) {
+            map.put("header" + i, i);
+        }
+        map.put(Exchange.BREADCRUMB_ID, "123");
+
+        Map<String, Object> copy = factory.newMap(map);
+        Map<String, Object> copy2 = factory.newMap();
+        copy2.putAll(map);
+
+        copy.put("header1", "changed");
+        copy.remove("header2");
+        copy.put("new", "value");
+        copy2.clear();
+        map.put(Exchange.BREADCRUMB_ID, "456");
+
+        assertEquals(51, map.size());
+        assertEquals(1, map.get("header1"));
+        assertEquals(2, map.get("header2"));
+        assertNull(map.get("new"));
+        assertEquals("456", map.get(Exchange.BREADCRUMB_ID));
+
+        assertEquals(51, copy.size());
+        assertEquals("changed", copy.get("header1"));
+        assertNull(copy.get("header2"));
+        assertEquals("value", copy.get("new"));
+        assertEquals("123", copy.get(Exchange.BREADCRUMB_ID));
+
+        assertTrue(copy2.isEmpty());
+    }
+
+    @Test
+    public void testIterator() {
+        Map<String, Object> map = factory.newMap();
+        for (int i = 0; i < 20; i++) {
+            map.put("header" + i, i);
+        }
+        Map<String, Object> copy = factory.newMap(map);
+
+        // remove the even headers from the copy
+        Iterator<Map.Entry<String, Object>> it = copy.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            if ((Integer) entry.getValue() % 2 == 0) {
+                it.remove();
+            } else {
+                entry.setValue("odd");
+            }
+        }
+
+        // insertion order is kept
+        List<String> keys = new ArrayList<>(copy.keySet());
+        assertEquals(10, keys.size());
+        assertEquals("header1", keys.get(0));
+        assertEquals("header19", keys.get(9));
+        assertEquals("odd", copy.get("HEADER19"));
+
+        assertEquals(20, map.size());
+        assertEquals(19, map.get("header19"));
+
+        // the deleted entries are reused
+        for (int i = 0; i < 100; i++) {
+            copy.put("other", i);
+            copy.remove("other");
+        }
+        assertEquals(10, copy.size());
+    }
+
+    @Test
+    public void testIsInstance() {
+        Map<String, Object> map = factory.newMap();
+
+        Map<String, Object> other = factory.newMap(map);
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        assertTrue(factory.isInstanceOf(map));
+        assertTrue(factory.isInstanceOf(other));
+        assertFalse(factory.isInstanceOf(new HashMap<>()));
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VirtualThreadsExecutorServiceManagerTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getExecutorServiceManager().setVirtualThreadsEnabled(true);
+        return context;
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testVirtualThreadPool() throws Exception {
+        assertTrue(context.getExecutorServiceManager().isVirtualThreadsEnabled());
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", 5, 10);
+        Future<Boolean> virtual = pool.submit(VirtualThreadsExecutorServiceManagerTest::isVirtual);
+        assertTrue(virtual.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testVirtualThreadsRoute() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived(true);
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private static boolean isVirtual() throws Exception {
+        // use reflection as the tests are compiled for older JDKs
+        return (boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .threads(5, 10)
+                        // virtual threads are only used on JDK 21+
+                        .process(e -> e.getMessage().setBody(Runtime.version().feature() < 21 || isVirtual()))
+                        .to("mock:result");
+            }
+        };
+    }
+}
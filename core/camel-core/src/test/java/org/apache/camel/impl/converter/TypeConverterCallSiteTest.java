@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TypeConverterCallSiteTest extends ContextTestSupport {
+
+    @Test
+    public void testCallSite() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        TypeConverterRegistry.CallSite<Integer> callSite = context.getTypeConverterRegistry().createCallSite(Integer.class);
+        assertEquals(Integer.class, callSite.getType());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(123, callSite.convertTo(exchange, "123"));
+            assertEquals(456, callSite.mandatoryConvertTo(exchange, "456"));
+            assertEquals(5, callSite.convertTo(exchange, 5L));
+            assertNull(callSite.convertTo(exchange, null));
+        }
+
+        assertThrows(TypeConversionException.class, () -> callSite.convertTo(exchange, "abc"));
+        assertEquals(789, callSite.convertTo(exchange, "789"));
+    }
+
+    @Test
+    public void testCallSiteSameAsRegistry() throws Exception {
+        TypeConverterRegistry.CallSite<String> callSite = context.getTypeConverterRegistry().createCallSite(String.class);
+        byte[] data = "Hello".getBytes();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Hello", callSite.convertTo(null, data));
+            assertEquals("123", callSite.convertTo(null, 123));
+            assertEquals("true", callSite.convertTo(null, true));
+        }
+        String s = "World";
+        assertSame(s, callSite.convertTo(null, s));
+
+        TypeConverterRegistry.CallSite<MyOrder> orders = context.getTypeConverterRegistry().createCallSite(MyOrder.class);
+        assertNull(orders.convertTo(null, "123"));
+        assertThrows(NoTypeConversionAvailableException.class, () -> orders.mandatoryConvertTo(null, "123"));
+    }
+
+    @Test
+    public void testCallSiteInvalidated() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, String.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                counter.incrementAndGet();
+                return type.cast(new MyOrder("A" + value));
+            }
+        });
+
+        TypeConverterRegistry.CallSite<MyOrder> callSite = context.getTypeConverterRegistry().createCallSite(MyOrder.class);
+        assertEquals("A1", callSite.convertTo(null, "1").id);
+        assertEquals("A2", callSite.convertTo(null, "2").id);
+        assertEquals(2, counter.get());
+
+        // replace the type converter which should be used by the call site
+        context.getTypeConverterRegistry().removeTypeConverter(MyOrder.class, String.class);
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, String.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                return type.cast(new MyOrder("B" + value));
+            }
+        });
+        assertEquals("B3", callSite.convertTo(null, "3").id);
+        assertEquals("B4", callSite.convertTo(null, "4").id);
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    public void testCallSiteConvertsAsRegistry() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, String.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                counter.incrementAndGet();
+                return "miss".equals(value) ? null : type.cast(new MyOrder("A" + value));
+            }
+        });
+
+        TypeConverterRegistry.CallSite<MyOrder> callSite = context.getTypeConverterRegistry().createCallSite(MyOrder.class);
+        assertEquals("A1", callSite.convertTo(null, "1").id);
+        assertEquals(1, counter.get());
+
+        int before = counter.get();
+        assertNull(context.getTypeConverter().convertTo(MyOrder.class, "miss"));
+        int registry = counter.get() - before;
+
+        // the value may be a stream, so the call site must not convert it more often than the registry does
+        before = counter.get();
+        assertNull(callSite.convertTo(null, "miss"));
+        assertEquals(registry, counter.get() - before);
+
+        before = counter.get();
+        assertThrows(NoTypeConversionAvailableException.class, () -> callSite.mandatoryConvertTo(null, "miss"));
+        assertEquals(registry, counter.get() - before);
+
+        // the type converter is still used for the values it can convert
+        assertEquals("A2", callSite.mandatoryConvertTo(null, "2").id);
+    }
+
+    @Test
+    public void testCallSiteFallback() throws Exception {
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, String.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                return value.toString().startsWith("A") ? type.cast(new MyOrder(value.toString())) : null;
+            }
+        });
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+                return type == MyOrder.class ? type.cast(new MyOrder("F" + value)) : null;
+            }
+        }, false);
+
+        TypeConverterRegistry.CallSite<MyOrder> callSite = context.getTypeConverterRegistry().createCallSite(MyOrder.class);
+        for (int i = 0; i < 3; i++) {
+            assertEquals("A1", callSite.convertTo(null, "A1").id);
+            // the cached type converter cannot convert the value, so the fallback type converter is used
+            assertEquals("F1", callSite.convertTo(null, "1").id);
+            assertEquals("F2", callSite.mandatoryConvertTo(null, "2").id);
+        }
+    }
+
+    @Test
+    public void testConvertBodyTo() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived(1, 2, 3);
+
+        template.sendBody("direct:start", "1");
+        template.sendBody("direct:start", "2".getBytes());
+        template.sendBody("direct:start", 3L);
+
+        assertMockEndpointsSatisfied();
+        getMockEndpoint("mock:result").getReceivedExchanges()
+                .forEach(e -> assertEquals(Integer.class, e.getMessage().getBody().getClass()));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").convertBodyTo(Integer.class).to("mock:result");
+            }
+        };
+    }
+
+    private static final class MyOrder {
+        private final String id;
+
+        private MyOrder(String id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VirtualThreadPinnedMonitorTest {
+
+    @Test
+    public void testSharedPerJvm() {
+        VirtualThreadPinnedMonitor first = VirtualThreadPinnedMonitor.acquire();
+        VirtualThreadPinnedMonitor second = VirtualThreadPinnedMonitor.acquire();
+        try {
+            assertSame(first, second);
+            assertTrue(first.isStarted());
+
+            // still used by the second user
+            first.release();
+            assertTrue(second.isStarted());
+        } finally {
+            second.release();
+        }
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testCamelContextsShareMonitor() throws Exception {
+        CamelContext context1 = new DefaultCamelContext();
+        context1.getExecutorServiceManager().setVirtualThreadsEnabled(true);
+        CamelContext context2 = new DefaultCamelContext();
+        context2.getExecutorServiceManager().setVirtualThreadsEnabled(true);
+        try {
+            context1.start();
+            context2.start();
+
+            // both contexts report the same (JVM wide) counter
+            assertEquals(context1.getExecutorServiceManager().getVirtualThreadsPinnedCounter(),
+                    context2.getExecutorServiceManager().getVirtualThreadsPinnedCounter());
+
+            context1.stop();
+            VirtualThreadPinnedMonitor monitor = VirtualThreadPinnedMonitor.acquire();
+            try {
+                // still in use by the second context
+                assertTrue(monitor.isStarted());
+            } finally {
+                monitor.release();
+            }
+        } finally {
+            context1.stop();
+            context2.stop();
+        }
+    }
+}
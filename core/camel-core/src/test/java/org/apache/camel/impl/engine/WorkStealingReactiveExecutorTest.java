@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setCarrierQueueCapacity(4);
+        executor.setStatisticsEnabled(true);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testStealTasks() throws Exception {
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setCarrierQueueCapacity(2);
+        executor.setStatisticsEnabled(true);
+        executor.start();
+
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch stolen = new CountDownLatch(1);
+
+        Thread owner = new Thread(() -> executor.scheduleMain(() -> {
+            for (int i = 0; i < 10; i++) {
+                executor.schedule(() -> threads.add(Thread.currentThread().getName()));
+            }
+            // block the owner until the other thread has stolen the overflowing tasks
+            try {
+                stolen.await(10, TimeUnit.SECONDS);
+                long deadline = System.currentTimeMillis() + 10000;
+                while (executor.getStealableTasks() > 0 && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(10);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }), "owner");
+        owner.start();
+
+        // wait for the owner to have scheduled its tasks
+        long deadline = System.currentTimeMillis() + 10000;
+        while (executor.getStealableTasks() < 8 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(8, executor.getStealableTasks());
+
+        Thread thief = new Thread(() -> executor.schedule(stolen::countDown), "thief");
+        thief.start();
+        thief.join(10000);
+        owner.join(10000);
+
+        assertEquals(10, threads.size());
+        assertEquals(2, threads.stream().filter("owner"::equals).count());
+        assertEquals(8, threads.stream().filter("thief"::equals).count());
+        assertEquals(8, executor.getOverflowTasks());
+        assertEquals(8, executor.getStolenTasks());
+        assertEquals(0, executor.getStealableTasks());
+        assertEquals(0, executor.getPendingTasks());
+
+        executor.stop();
+    }
+
+    @Test
+    public void testScheduleSyncDoesNotSteal() throws Exception {
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setCarrierQueueCapacity(2);
+        executor.setStatisticsEnabled(true);
+        executor.start();
+
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        Thread owner = new Thread(() -> executor.scheduleMain(() -> {
+            for (int i = 0; i < 10; i++) {
+                executor.schedule(() -> threads.add(Thread.currentThread().getName()));
+            }
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }), "owner");
+        owner.start();
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (executor.getStealableTasks() < 8 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(8, executor.getStealableTasks());
+
+        Thread sync = new Thread(() -> executor.scheduleSync(() -> threads.add("sync")), "sync");
+        sync.start();
+        sync.join(10000);
+
+        // the synchronous call only executed its own task
+        assertEquals(List.of("sync"), threads);
+        assertEquals(8, executor.getStealableTasks());
+        assertEquals(0, executor.getStolenTasks());
+
+        release.countDown();
+        owner.join(10000);
+
+        assertEquals(11, threads.size());
+        assertEquals(10, threads.stream().filter("owner"::equals).count());
+        assertEquals(0, executor.getStealableTasks());
+
+        executor.stop();
+    }
+
+    @Test
+    public void testStealableQueueBackPressure() throws Exception {
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+        executor.setCarrierQueueCapacity(2);
+        executor.setStealableQueueCapacity(4);
+        executor.setStatisticsEnabled(true);
+        executor.start();
+
+        final List<Integer> executed = new CopyOnWriteArrayList<>();
+        final AtomicInteger stealable = new AtomicInteger();
+        final AtomicInteger executedWhileScheduling = new AtomicInteger();
+
+        Thread owner = new Thread(() -> executor.scheduleMain(() -> {
+            for (int i = 0; i < 10; i++) {
+                final int number = i;
+                executor.schedule(() -> executed.add(number));
+                stealable.accumulateAndGet(executor.getStealableTasks(), Math::max);
+            }
+            executedWhileScheduling.set(executed.size());
+        }), "owner");
+        owner.start();
+        owner.join(10000);
+
+        // the stealable queue was full, so the owner executed the oldest stealable tasks before adding more
+        assertEquals(4, stealable.get());
+        assertEquals(4, executedWhileScheduling.get());
+        assertEquals(List.of(2, 3, 4, 5, 0, 1, 6, 7, 8, 9), executed);
+        assertEquals(0, executor.getStealableTasks());
+        assertEquals(0, executor.getPendingTasks());
+
+        executor.stop();
+    }
+
+    @Test
+    public void testSplit() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(1000);
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append(i).append("\n");
+        }
+        template.sendBody("direct:start", sb.toString());
+
+        assertMockEndpointsSatisfied();
+
+        WorkStealingReactiveExecutor executor
+                = (WorkStealingReactiveExecutor) context.getCamelContextExtension().getReactiveExecutor();
+        assertEquals(0, executor.getPendingTasks());
+        assertTrue(executor.getCreatedWorkers() > 0);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body().tokenize("\n")).streaming()
+                            .to("mock:line")
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.support.EventNotifierSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventNotifierSubscribedTest extends ContextTestSupport {
+
+    private final List<CamelEvent> events = new CopyOnWriteArrayList<>();
+    private final EventNotifier notifier = new EventNotifierSupport() {
+        @Override
+        public boolean isSubscribed(CamelEvent.Type type) {
+            return type == CamelEvent.Type.ExchangeCompleted;
+        }
+
+        @Override
+        public void notify(CamelEvent event) {
+            events.add(event);
+        }
+    };
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        DefaultCamelContext context = new DefaultCamelContext(createCamelRegistry());
+        context.getManagementStrategy().addEventNotifier(notifier);
+        return context;
+    }
+
+    @Test
+    public void testSubscribed() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        // only the completed event is sent to the notifier
+        assertEquals(1, events.size());
+        assertInstanceOf(CamelEvent.ExchangeCompletedEvent.class, events.get(0));
+
+        assertEquals(List.of(notifier),
+                context.getManagementStrategy().getStartedEventNotifiers(CamelEvent.Type.ExchangeCompleted));
+        assertTrue(context.getManagementStrategy().getStartedEventNotifiers(CamelEvent.Type.ExchangeCreated).isEmpty());
+    }
+
+    @Test
+    public void testRemoveEventNotifier() throws Exception {
+        context.getManagementStrategy().removeEventNotifier(notifier);
+
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(0, events.size());
+        assertTrue(context.getManagementStrategy().getStartedEventNotifiers(CamelEvent.Type.ExchangeCompleted).isEmpty());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").to("log:foo").to("mock:result");
+            }
+        };
+    }
+
+}
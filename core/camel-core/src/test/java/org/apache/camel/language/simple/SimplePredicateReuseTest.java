@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.LanguageTestSupport;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.simple.types.SimpleIllegalSyntaxException;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that predicates with operators can be reused for many exchanges, where the right hand side of the operators is
+ * either a constant or evaluated per exchange.
+ */
+public class SimplePredicateReuseTest extends LanguageTestSupport {
+
+    @Override
+    protected String getLanguageName() {
+        return "simple";
+    }
+
+    private Exchange createExchange(Object body, Object header) {
+        Exchange answer = new DefaultExchange(context);
+        answer.getIn().setBody(body);
+        answer.getIn().setHeader("foo", header);
+        return answer;
+    }
+
+    @Test
+    public void testConstantRightHandSide() {
+        Predicate regex = context.resolveLanguage("simple").createPredicate("${body} regex '^\\d{3}$'");
+        Predicate in = context.resolveLanguage("simple").createPredicate("${header.foo} in 'gold,silver'");
+        Predicate range = context.resolveLanguage("simple").createPredicate("${body} !range '100..199'");
+        Predicate is = context.resolveLanguage("simple").createPredicate("${header.foo} is 'String'");
+
+        for (int i = 0; i < 3; i++) {
+            Exchange gold = createExchange("123", "gold");
+            assertTrue(regex.matches(gold));
+            assertTrue(in.matches(gold));
+            assertFalse(range.matches(gold));
+            assertTrue(is.matches(gold));
+
+            Exchange bronze = createExchange("4567", "bronze");
+            assertFalse(regex.matches(bronze));
+            assertFalse(in.matches(bronze));
+            assertTrue(range.matches(bronze));
+            assertFalse(is.matches(createExchange("4567", 456)));
+        }
+    }
+
+    @Test
+    public void testDynamicRightHandSide() {
+        Predicate regex = context.resolveLanguage("simple").createPredicate("${body} regex ${header.foo}");
+        Predicate in = context.resolveLanguage("simple").createPredicate("${body} in ${header.foo}");
+
+        assertTrue(regex.matches(createExchange("123", "\\d+")));
+        assertFalse(regex.matches(createExchange("123", "[a-z]+")));
+        assertTrue(regex.matches(createExchange("abc", "[a-z]+")));
+
+        assertTrue(in.matches(createExchange("gold", "gold,silver")));
+        assertFalse(in.matches(createExchange("gold", "silver,bronze")));
+    }
+
+    @Test
+    public void testLogicalOperators() {
+        Predicate predicate = context.resolveLanguage("simple")
+                .createPredicate("${header.foo} == 'gold' && ${body} > 100 || ${header.foo} == 'platinum'");
+
+        assertTrue(predicate.matches(createExchange(200, "gold")));
+        assertFalse(predicate.matches(createExchange(50, "gold")));
+        assertTrue(predicate.matches(createExchange(50, "platinum")));
+        assertFalse(predicate.matches(createExchange(200, "silver")));
+    }
+
+    @Test
+    public void testToString() {
+        Predicate equal = context.resolveLanguage("simple").createPredicate("${header.foo} == 'gold'");
+        Predicate regex = context.resolveLanguage("simple").createPredicate("${header.foo} regex 'gold'");
+
+        // all operators are labelled from the parsed operands
+        assertEquals(equal.toString().replace("==", "regex"), regex.toString());
+    }
+
+    @Test
+    public void testInvalidRangeFailsOnEveryEvaluation() {
+        Predicate range = context.resolveLanguage("simple").createPredicate("${body} range 'abc'");
+
+        assertThrows(SimpleIllegalSyntaxException.class, () -> range.matches(createExchange(1, null)));
+        assertThrows(SimpleIllegalSyntaxException.class, () -> range.matches(createExchange(1, null)));
+    }
+}
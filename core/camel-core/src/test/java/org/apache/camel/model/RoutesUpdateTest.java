@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model;
+
+import java.util.Set;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Route;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.RouteConfigurationBuilder;
+import org.apache.camel.support.ResourceHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RoutesUpdateTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testUpdateOnlyChangedRoutes() throws Exception {
+        context.start();
+
+        new MyRoutes("routes.xml", "mock:a", "mock:b").addRoutesToCamelContext(context);
+        Route a = context.getRoute("a");
+        Route b = context.getRoute("b");
+
+        // only route b is changed
+        Set<String> ids = new MyRoutes("routes.xml", "mock:a", "mock:b2").updateRoutesToCamelContext(context);
+        assertEquals(Set.of("a", "b"), ids);
+        assertSame(a, context.getRoute("a"));
+        assertNotSame(b, context.getRoute("b"));
+
+        getMockEndpoint("mock:a").expectedBodiesReceived("Hello A");
+        getMockEndpoint("mock:b").expectedMessageCount(0);
+        getMockEndpoint("mock:b2").expectedBodiesReceived("Hello B");
+        template.sendBody("direct:a", "Hello A");
+        template.sendBody("direct:b", "Hello B");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testUpdateJavaRoutes() throws Exception {
+        context.start();
+
+        new MyRoutes(null, "mock:a", "mock:b").addRoutesToCamelContext(context);
+        Route a = context.getRoute("a");
+
+        // routes in Java are always updated, as they can use processors from the code
+        new MyRoutes(null, "mock:a", "mock:b").updateRoutesToCamelContext(context);
+        assertNotSame(a, context.getRoute("a"));
+    }
+
+    @Test
+    public void testUpdateRouteConfiguration() throws Exception {
+        context.start();
+
+        new MyRouteConfiguration("mock:error").addRouteConfigurationsToCamelContext(context);
+        new MyRoutes("routes.xml", "mock:a", "mock:b").addRoutesToCamelContext(context);
+        Route a = context.getRoute("a");
+
+        // the routes must be updated when the route configuration is changed
+        new MyRouteConfiguration("mock:error2").updateRouteConfigurationsToCamelContext(context);
+        new MyRoutes("routes.xml", "mock:a", "mock:b").updateRoutesToCamelContext(context);
+        assertNotSame(a, context.getRoute("a"));
+    }
+
+    @Test
+    public void testUpdateChangedBeans() throws Exception {
+        context.start();
+
+        new MyRoutes("routes.xml", "mock:a", "mock:b", "java.lang.StringBuilder").addRoutesToCamelContext(context);
+        Route a = context.getRoute("a");
+
+        new MyRoutes("routes.xml", "mock:a", "mock:b", "java.lang.StringBuilder").updateRoutesToCamelContext(context);
+        assertSame(a, context.getRoute("a"));
+
+        // the routes must be updated when the beans in the same resource are changed, to use the new beans
+        new MyRoutes("routes.xml", "mock:a", "mock:b", "java.lang.StringBuffer").updateRoutesToCamelContext(context);
+        assertNotSame(a, context.getRoute("a"));
+    }
+
+    private static class MyRoutes extends RouteBuilder {
+
+        private final String a;
+        private final String b;
+        private final String beanType;
+
+        MyRoutes(String location, String a, String b) {
+            this(location, a, b, null);
+        }
+
+        MyRoutes(String location, String a, String b, String beanType) {
+            this.a = a;
+            this.b = b;
+            this.beanType = beanType;
+            if (location != null) {
+                setResource(ResourceHelper.fromString(location, ""));
+            }
+        }
+
+        @Override
+        public void configure() {
+            if (beanType != null) {
+                BeanFactoryDefinition<?> bean = new BeanFactoryDefinition<>();
+                bean.setName("myBean");
+                bean.setType(beanType);
+                getBeans().add(bean);
+            }
+            from("direct:a").routeId("a").to(a);
+            from("direct:b").routeId("b").to(b);
+        }
+    }
+
+    private static class MyRouteConfiguration extends RouteConfigurationBuilder {
+
+        private final String uri;
+
+        MyRouteConfiguration(String uri) {
+            this.uri = uri;
+        }
+
+        @Override
+        public void configuration() {
+            routeConfiguration().onException(Exception.class).handled(true).to(uri);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.BatchProcessor;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.BatchProcessorHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class BatchProcessorTest extends ContextTestSupport {
+
+    private final List<Integer> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testProcessBatch() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("A1", "B1", "D1");
+
+        List<Exchange> exchanges = createExchanges("A", "B", "C", "D");
+        process("batch", exchanges);
+
+        assertMockEndpointsSatisfied();
+
+        // the batch processor is called once with all the exchanges
+        assertEquals(List.of(4), batches);
+
+        assertNull(exchanges.get(0).getException());
+        assertNull(exchanges.get(1).getException());
+        assertInstanceOf(IllegalArgumentException.class, exchanges.get(2).getException());
+        assertNull(exchanges.get(3).getException());
+    }
+
+    @Test
+    public void testProcessBatchErrorHandler() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("A1", "B1", "D1");
+        getMockEndpoint("mock:dead").expectedBodiesReceived("C1");
+
+        List<Exchange> exchanges = createExchanges("A", "B", "C", "D");
+        process("errorHandler", exchanges);
+
+        assertMockEndpointsSatisfied();
+
+        // the error handler passes the batch through to the batch processor
+        assertEquals(List.of(4), batches);
+
+        for (Exchange exchange : exchanges) {
+            assertNull(exchange.getException());
+        }
+        assertNotNull(exchanges.get(2).getProperty(Exchange.EXCEPTION_CAUGHT));
+    }
+
+    @Test
+    public void testProcessBatchRedelivery() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("A1", "B1", "C1");
+
+        List<Exchange> exchanges = createExchanges("A", "B", "C");
+        process("redelivery", exchanges);
+
+        assertMockEndpointsSatisfied();
+
+        // the exchange which failed in the batch is redelivered on its own, starting from its original message
+        assertEquals(List.of(3, 1), batches);
+
+        for (Exchange exchange : exchanges) {
+            assertNull(exchange.getException());
+        }
+        assertEquals(1, exchanges.get(1).getMessage().getHeader(Exchange.REDELIVERY_COUNTER));
+    }
+
+    @Test
+    public void testProcessBatchFailed() throws Exception {
+        List<Exchange> exchanges = createExchanges("A", "B", "C");
+        IllegalStateException batchFailure = new IllegalStateException("Batch failed");
+        IllegalArgumentException failure = new IllegalArgumentException("B failed");
+        BatchProcessor processor = new MyBatchProcessor() {
+            @Override
+            public void process(List<Exchange> exchanges) {
+                exchanges.get(1).setException(failure);
+                throw batchFailure;
+            }
+        };
+
+        BatchProcessorHelper.process(processor, exchanges);
+
+        // the exchange which failed keeps its own exception
+        assertSame(batchFailure, exchanges.get(0).getException());
+        assertSame(failure, exchanges.get(1).getException());
+        assertSame(batchFailure, exchanges.get(2).getException());
+    }
+
+    private List<Exchange> createExchanges(String... bodies) {
+        List<Exchange> exchanges = new ArrayList<>();
+        for (String body : bodies) {
+            Exchange exchange = context.getEndpoint("direct:start").createExchange();
+            exchange.getMessage().setBody(body);
+            exchanges.add(exchange);
+        }
+        return exchanges;
+    }
+
+    private void process(String routeId, List<Exchange> exchanges) throws Exception {
+        Processor processor = context.getRoute(routeId).getConsumer().getProcessor();
+        assertInstanceOf(BatchProcessor.class, processor);
+        ((BatchProcessor) processor).process(exchanges);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").routeId("batch").errorHandler(noErrorHandler())
+                        .process(new MyBatchProcessor())
+                        .process(e -> {
+                            if (e.getMessage().getBody(String.class).startsWith("C")) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        })
+                        .to("mock:result");
+
+                from("direct:error").routeId("errorHandler").errorHandler(deadLetterChannel("mock:dead"))
+                        .process(new MyBatchProcessor())
+                        .process(e -> {
+                            if (e.getMessage().getBody(String.class).startsWith("C")) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        })
+                        .to("mock:result");
+
+                from("direct:redelivery").routeId("redelivery")
+                        .errorHandler(defaultErrorHandler().maximumRedeliveries(1).redeliveryDelay(0))
+                        .process(new MyBatchProcessor() {
+                            @Override
+                            public void process(List<Exchange> exchanges) {
+                                super.process(exchanges);
+                                for (Exchange exchange : exchanges) {
+                                    // fail the first delivery attempt of B
+                                    if (exchange.getMessage().getBody(String.class).startsWith("B")
+                                            && exchange.getMessage().getHeader(Exchange.REDELIVERY_COUNTER) == null) {
+                                        exchange.setException(new IllegalArgumentException("Forced"));
+                                    }
+                                }
+                            }
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private class MyBatchProcessor implements BatchProcessor {
+
+        @Override
+        public void process(List<Exchange> exchanges) {
+            batches.add(exchanges.size());
+            for (Exchange exchange : exchanges) {
+                exchange.getMessage().setBody(exchange.getMessage().getBody(String.class) + "1");
+            }
+        }
+
+        @Override
+        public void process(Exchange exchange) {
+            process(List.of(exchange));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.TestSupport;
+import org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterIdempotentRepositoryTest extends TestSupport {
+
+    private final Map<String, Object> store = new HashMap<>();
+    private BloomFilterIdempotentRepository repo;
+
+    @BeforeEach
+    public void createRepository() {
+        store.put("warm", "warm");
+        repo = new BloomFilterIdempotentRepository(new MemoryIdempotentRepository(store));
+        repo.setExpectedKeys(1000);
+        repo.setWarmUpKeys(() -> List.copyOf(store.keySet()));
+        repo.start();
+    }
+
+    @AfterEach
+    public void stopRepository() {
+        repo.stop();
+    }
+
+    @Test
+    public void testContainsNewKeysIsFiltered() {
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(repo.contains("new" + i));
+        }
+        assertEquals(1000, repo.getContainsCounter());
+        // the bloom filter may have a few false positives
+        assertTrue(repo.getFilteredCounter() > 990);
+    }
+
+    @Test
+    public void testWarmUpKeys() {
+        assertTrue(repo.contains("warm"));
+        assertFalse(repo.add("warm"));
+    }
+
+    @Test
+    public void testAddWhileWarmingUp() {
+        // the key is added while the warm up keys are read, after the key has been read
+        repo.setWarmUpKeys(() -> {
+            List<String> keys = List.copyOf(store.keySet());
+            assertTrue(repo.add("A"));
+            return keys;
+        });
+        repo.warmUp();
+
+        assertTrue(repo.contains("A"));
+        assertTrue(repo.contains("warm"));
+    }
+
+    @Test
+    public void testAddRemove() {
+        assertTrue(repo.add("A"));
+        assertFalse(repo.add("A"));
+        assertTrue(repo.contains("A"));
+
+        assertTrue(repo.remove("A"));
+        assertFalse(repo.contains("A"));
+        assertTrue(repo.add("A"));
+        assertTrue(repo.contains("A"));
+    }
+
+    @Test
+    public void testAddKeyNotInFilter() {
+        repo.stop();
+        // a small filter which has many false positives
+        repo.setExpectedKeys(1);
+        repo.start();
+        for (int i = 0; i < 200; i++) {
+            repo.add("key" + i);
+        }
+
+        // find a key which is not in the store, but which the filter may contain
+        String key = null;
+        for (int i = 0; i < 1000 && key == null; i++) {
+            long filtered = repo.getFilteredCounter();
+            if (!repo.contains("other" + i) && repo.getFilteredCounter() == filtered) {
+                key = "other" + i;
+            }
+        }
+        assertNotNull(key);
+
+        // the key is added to the store by others, so it is only in the filter by a false positive
+        store.put(key, key);
+        assertFalse(repo.add(key));
+        for (int i = 0; i < 200; i++) {
+            repo.remove("key" + i);
+        }
+        assertTrue(repo.contains(key));
+    }
+
+    @Test
+    public void testBulkOperations() {
+        assertEquals(Set.of("A", "B"), repo.addAll(List.of("A", "B", "warm")));
+        assertTrue(repo.contains("A"));
+
+        repo.resetStatistics();
+        List<String> keys = new ArrayList<>(List.of("A", "warm"));
+        for (int i = 0; i < 100; i++) {
+            keys.add("new" + i);
+        }
+        assertEquals(Set.of("A", "warm"), repo.containsAll(keys));
+        assertEquals(102, repo.getContainsCounter());
+        // the bloom filter may have a few false positives
+        assertTrue(repo.getFilteredCounter() > 90);
+
+        repo.confirmAll(List.of("A", "B"));
+        assertTrue(repo.containsAll(List.of("C")).isEmpty());
+    }
+
+    @Test
+    public void testClear() {
+        repo.add("A");
+        repo.clear();
+        assertFalse(repo.contains("A"));
+        assertFalse(repo.contains("warm"));
+        assertTrue(store.isEmpty());
+    }
+}
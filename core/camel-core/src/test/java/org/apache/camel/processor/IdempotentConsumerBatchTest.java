@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.BatchProcessor;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IdempotentConsumerBatchTest extends ContextTestSupport {
+
+    private final Map<String, Object> store = new HashMap<>();
+    private final MyRepository repository = new MyRepository(store);
+    private final MyExchangeRepository exchangeRepository = new MyExchangeRepository(new HashMap<>());
+
+    @Test
+    public void testProcessBatch() throws Exception {
+        store.put("1", "1");
+        getMockEndpoint("mock:result").expectedBodiesReceived("two", "three");
+
+        List<Exchange> exchanges = createExchanges("1", "2", "3", "2");
+        process("batch", exchanges);
+
+        assertMockEndpointsSatisfied();
+
+        // the keys of the batch are added to the repository at once
+        assertEquals(1, repository.addAllCount);
+        assertEquals(0, repository.addCount);
+        assertTrue(repository.contains("3"));
+
+        assertTrue(exchanges.get(0).getProperty(Exchange.DUPLICATE_MESSAGE, false, Boolean.class));
+        assertNull(exchanges.get(1).getProperty(Exchange.DUPLICATE_MESSAGE));
+        assertNull(exchanges.get(2).getProperty(Exchange.DUPLICATE_MESSAGE));
+        assertTrue(exchanges.get(3).getProperty(Exchange.DUPLICATE_MESSAGE, false, Boolean.class));
+    }
+
+    @Test
+    public void testProcessBatchRemoveOnFailure() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("one", "three");
+
+        List<Exchange> exchanges = createExchanges("1", "kaboom", "3");
+        process("batch", exchanges);
+
+        assertMockEndpointsSatisfied();
+
+        assertInstanceOf(IllegalArgumentException.class, exchanges.get(1).getException());
+        assertTrue(repository.contains("1"));
+        assertFalse(repository.contains("kaboom"));
+        assertTrue(repository.contains("3"));
+    }
+
+    @Test
+    public void testProcessBatchRedelivery() throws Exception {
+        repository.failAddAll = true;
+        getMockEndpoint("mock:result").expectedBodiesReceived("one", "two");
+
+        List<Exchange> exchanges = createExchanges("1", "2");
+        process("redelivery", exchanges);
+
+        assertMockEndpointsSatisfied();
+
+        // the batch is passed through the error handler, which redelivers the failed exchanges one at a time
+        assertEquals(1, repository.addAllCount);
+        assertEquals(2, repository.addCount);
+        assertNull(exchanges.get(0).getException());
+        assertNull(exchanges.get(1).getException());
+    }
+
+    @Test
+    public void testProcessBatchExchangeRepository() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("one", "two");
+
+        List<Exchange> exchanges = createExchanges("1", "2", "2");
+        process("exchange", exchanges);
+
+        assertMockEndpointsSatisfied();
+
+        // the repository uses the exchange, so the keys are added one exchange at a time
+        assertEquals(exchanges, exchangeRepository.exchanges);
+        assertTrue(exchanges.get(2).getProperty(Exchange.DUPLICATE_MESSAGE, false, Boolean.class));
+    }
+
+    private List<Exchange> createExchanges(String... ids) {
+        List<Exchange> exchanges = new ArrayList<>();
+        for (String id : ids) {
+            Exchange exchange = context.getEndpoint("direct:start").createExchange();
+            exchange.getMessage().setHeader("messageId", id);
+            exchange.getMessage().setBody(switch (id) {
+                case "1" -> "one";
+                case "2" -> "two";
+                case "3" -> "three";
+                default -> id;
+            });
+            exchanges.add(exchange);
+        }
+        return exchanges;
+    }
+
+    private void process(String routeId, List<Exchange> exchanges) throws Exception {
+        Processor processor = context.getRoute(routeId).getConsumer().getProcessor();
+        assertInstanceOf(BatchProcessor.class, processor);
+        ((BatchProcessor) processor).process(exchanges);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").routeId("batch").errorHandler(noErrorHandler())
+                        .idempotentConsumer(header("messageId"), repository)
+                            .process(e -> {
+                                if ("kaboom".equals(e.getMessage().getBody(String.class))) {
+                                    throw new IllegalArgumentException("Forced");
+                                }
+                            })
+                            .to("mock:result");
+
+                from("direct:redelivery").routeId("redelivery")
+                        .errorHandler(defaultErrorHandler().maximumRedeliveries(1).redeliveryDelay(0))
+                        .idempotentConsumer(header("messageId"), repository)
+                            .to("mock:result");
+
+                from("direct:exchange").routeId("exchange").errorHandler(noErrorHandler())
+                        .idempotentConsumer(header("messageId"), exchangeRepository)
+                            .to("mock:result");
+            }
+        };
+    }
+
+    private static class MyRepository extends MemoryIdempotentRepository {
+        private int addCount;
+        private int addAllCount;
+        private boolean failAddAll;
+
+        MyRepository(Map<String, Object> store) {
+            super(store);
+        }
+
+        @Override
+        public boolean add(String key) {
+            addCount++;
+            return super.add(key);
+        }
+
+        @Override
+        public Set<String> addAll(Collection<String> keys) {
+            addAllCount++;
+            if (failAddAll) {
+                failAddAll = false;
+                throw new IllegalStateException("Forced");
+            }
+            Set<String> answer = new HashSet<>();
+            for (String key : keys) {
+                if (super.add(key)) {
+                    answer.add(key);
+                }
+            }
+            return answer;
+        }
+    }
+
+    private static class MyExchangeRepository extends MemoryIdempotentRepository {
+        private final List<Exchange> exchanges = new ArrayList<>();
+
+        MyExchangeRepository(Map<String, Object> store) {
+            super(store);
+        }
+
+        @Override
+        public boolean add(Exchange exchange, String key) {
+            exchanges.add(exchange);
+            return add(key);
+        }
+    }
+}
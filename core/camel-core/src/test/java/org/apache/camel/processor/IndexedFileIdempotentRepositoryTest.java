@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+
+import org.apache.camel.TestSupport;
+import org.apache.camel.support.processor.idempotent.IndexedFileIdempotentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexedFileIdempotentRepositoryTest extends TestSupport {
+
+    private File directory;
+    private IndexedFileIdempotentRepository repo;
+
+    @BeforeEach
+    public void createRepository() {
+        directory = testDirectory("indexedRepo_" + randomUUID()).toFile();
+        repo = new IndexedFileIdempotentRepository(directory);
+        repo.setExpectedKeys(100);
+        repo.start();
+    }
+
+    @AfterEach
+    public void stopRepository() {
+        repo.stop();
+    }
+
+    @Test
+    public void testAddContainsRemove() {
+        assertTrue(repo.add("A"));
+        assertFalse(repo.add("A"));
+        assertTrue(repo.contains("A"));
+        assertFalse(repo.contains("B"));
+
+        assertTrue(repo.remove("A"));
+        assertFalse(repo.remove("A"));
+        assertFalse(repo.contains("A"));
+        assertTrue(repo.add("A"));
+        assertEquals(1, repo.getSize());
+    }
+
+    @Test
+    public void testReloadAfterRestart() {
+        for (int i = 0; i < 5000; i++) {
+            repo.add("key" + i);
+        }
+        repo.remove("key42");
+        repo.stop();
+
+        repo = new IndexedFileIdempotentRepository(directory);
+        repo.start();
+        assertEquals(4999, repo.getSize());
+        assertTrue(repo.contains("key0"));
+        assertTrue(repo.contains("key4999"));
+        assertFalse(repo.contains("key42"));
+        assertFalse(repo.contains("key5000"));
+    }
+
+    @Test
+    public void testGrowBeyondExpectedKeys() {
+        // the bloom filter grows as there are more keys than expected
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(repo.add("key" + i));
+        }
+        assertEquals(5000, repo.getSize());
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(repo.contains("key" + i));
+            assertFalse(repo.add("key" + i));
+        }
+        assertFalse(repo.contains("key5000"));
+    }
+
+    @Test
+    public void testRebuildIndex() {
+        for (int i = 0; i < 100; i++) {
+            repo.add("key" + i);
+        }
+        repo.stop();
+
+        // the index is rebuilt from the log
+        assertTrue(new File(directory, "index.dat").delete());
+        repo = new IndexedFileIdempotentRepository(directory);
+        repo.start();
+        assertEquals(100, repo.getSize());
+        assertTrue(repo.contains("key99"));
+    }
+
+    @Test
+    public void testCompaction() {
+        repo.stop();
+        repo = new IndexedFileIdempotentRepository(directory);
+        repo.setMaxSegmentSize(1024);
+        repo.start();
+
+        for (int i = 0; i < 1000; i++) {
+            repo.add("key" + i);
+            if (i % 10 != 0) {
+                repo.remove("key" + i);
+            }
+        }
+        // the log only has the keys which are still present, and the removed keys since the last compaction
+        assertEquals(100, repo.getSize());
+        assertTrue(repo.getLogSize() < 1000 * 10);
+        assertTrue(repo.contains("key990"));
+        assertFalse(repo.contains("key991"));
+
+        repo.stop();
+        repo = new IndexedFileIdempotentRepository(directory);
+        repo.start();
+        assertEquals(100, repo.getSize());
+        assertTrue(repo.contains("key0"));
+        assertFalse(repo.contains("key1"));
+    }
+
+    @Test
+    public void testClear() {
+        repo.add("A");
+        repo.add("B");
+        repo.clear();
+        assertEquals(0, repo.getSize());
+        assertFalse(repo.contains("A"));
+        assertTrue(repo.add("A"));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.support.startup.BacklogStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupParallelismTest extends ContextTestSupport {
+
+    private static final int ROUTES = 20;
+
+    private final Map<String, String> threads = new ConcurrentHashMap<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+        camelContext.setRouteStartupParallelism(4);
+        camelContext.getCamelContextExtension().setStartupStepRecorder(new BacklogStartupStepRecorder());
+        return camelContext;
+    }
+
+    @Test
+    public void testRouteStartupParallelism() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(ROUTES + 2);
+
+        template.sendBody("direct:first", "Hello");
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("direct:route" + i, "Hello");
+        }
+        template.sendBody("direct:last", "Hello");
+
+        assertMockEndpointsSatisfied();
+
+        // the routes are started in their startup order
+        List<RouteStartupOrder> order = context.getCamelContextExtension().getRouteStartupOrder();
+        assertEquals(ROUTES + 2, order.size());
+        assertEquals("first", order.get(0).getRoute().getRouteId());
+        for (int i = 0; i < ROUTES; i++) {
+            assertEquals("route" + i, order.get(i + 1).getRoute().getRouteId());
+        }
+        assertEquals("last", order.get(ROUTES + 1).getRoute().getRouteId());
+
+        // the routes without startup order are warmed up in parallel
+        assertEquals(ROUTES + 2, threads.size());
+        for (int i = 0; i < ROUTES; i++) {
+            assertTrue(threads.get("route" + i).contains("RouteStartup"), threads.get("route" + i));
+        }
+
+        // and the startup recorder has the timing per route, as sub steps of the step for all the routes
+        StartupStepRecorder recorder = context.getCamelContextExtension().getStartupStepRecorder();
+        StartupStep parent = recorder.steps()
+                .filter(s -> "Parallel Warmup Route Services".equals(s.getDescription())).findFirst().orElseThrow();
+        List<StartupStep> steps = recorder.steps()
+                .filter(s -> "Warmup Route Services".equals(s.getDescription())).toList();
+        assertEquals(ROUTES + 2, steps.size());
+        for (StartupStep step : steps) {
+            assertEquals(parent.getId(), step.getParentId(), step.getName());
+            assertEquals(parent.getLevel() + 1, step.getLevel(), step.getName());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:first").startupOrder(1).routeId("first")
+                        .process(new MyProcessor("first")).to("mock:result");
+
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:route" + i).routeId("route" + i)
+                            .process(new MyProcessor("route" + i)).to("mock:result");
+                }
+
+                from("direct:last").startupOrder(Integer.MAX_VALUE).routeId("last")
+                        .process(new MyProcessor("last")).to("mock:result");
+            }
+        };
+    }
+
+    private class MyProcessor extends ServiceSupport implements Processor {
+
+        private final String routeId;
+
+        MyProcessor(String routeId) {
+            this.routeId = routeId;
+        }
+
+        @Override
+        protected void doStart() {
+            threads.put(routeId, Thread.currentThread().getName());
+        }
+
+        @Override
+        public void process(Exchange exchange) {
+            // noop
+        }
+    }
+}
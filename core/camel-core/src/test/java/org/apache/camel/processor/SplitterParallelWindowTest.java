@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelWindowTest extends ContextTestSupport {
+
+    private static final int WINDOW = 4;
+    private static final int COUNT = 200;
+
+    private final AtomicInteger split = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testParallelWindow() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(COUNT);
+
+        String out = template.requestBody("direct:start", new NumberIterator(), String.class);
+
+        assertMockEndpointsSatisfied();
+
+        // the replies are aggregated in the same order as the messages was split
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < COUNT; i++) {
+            if (i > 0) {
+                expected.append(',');
+            }
+            expected.append(i);
+        }
+        assertEquals(expected.toString(), out);
+
+        assertEquals(COUNT, aggregated.get());
+        assertTrue(maxInflight.get() <= WINDOW, "Should be at most " + WINDOW + " in flight, was: " + maxInflight.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .split(body(), new JoinAggregationStrategy()).streaming().parallelProcessing()
+                        .parallelWindowSize(WINDOW)
+                            .process(exchange -> {
+                                // delay some of the messages so the replies come back out-of-order
+                                int number = exchange.getIn().getBody(Integer.class);
+                                if (number % 5 == 0) {
+                                    Thread.sleep(10);
+                                }
+                            })
+                            .to("mock:split")
+                        .end();
+            }
+        };
+    }
+
+    private final class NumberIterator implements Iterator<Integer> {
+
+        @Override
+        public boolean hasNext() {
+            return split.get() < COUNT;
+        }
+
+        @Override
+        public Integer next() {
+            int number = split.getAndIncrement();
+            maxInflight.accumulateAndGet(number + 1 - aggregated.get(), Math::max);
+            return number;
+        }
+    }
+
+    private final class JoinAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            aggregated.incrementAndGet();
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            String body = oldExchange.getIn().getBody(String.class) + "," + newExchange.getIn().getBody(String.class);
+            oldExchange.getIn().setBody(body);
+            return oldExchange;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.MemoryAggregationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Isolated("Creates lots of threads")
+public class AggregateShardedMemoryRepositoryTest extends ContextTestSupport {
+
+    private final MemoryAggregationRepository repository = new MemoryAggregationRepository();
+
+    @Test
+    public void testShards() {
+        MemoryAggregationRepository repo = new MemoryAggregationRepository();
+        assertEquals(1, repo.getShards());
+        repo.setShards(5);
+        assertEquals(8, repo.getShards());
+        repo.setShards(16);
+        assertEquals(16, repo.getShards());
+        assertThrows(IllegalArgumentException.class, () -> repo.setShards(0));
+
+        for (int i = 0; i < 100; i++) {
+            repo.add(context, "key" + i, context.getEndpoint("mock:result").createExchange());
+        }
+        assertEquals(100, repo.getKeys().size());
+        int total = 0;
+        for (int i = 0; i < repo.getShards(); i++) {
+            for (String key : repo.getKeys(i)) {
+                assertEquals(i, repo.getShard(key));
+            }
+            total += repo.getKeys(i).size();
+        }
+        assertEquals(100, total);
+    }
+
+    @Test
+    public void testAggregateConcurrentPerCorrelationKey() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        int size = 400;
+        for (int i = 0; i < size; i++) {
+            final int id = i % 10;
+            final int count = i;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:start", Integer.toString(count), "id", id);
+                return null;
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        // submit all tasks
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            assertEquals(40, exchange.getIn().getBody(String.class).split("\\+").length);
+        }
+        assertTrue(repository.getKeys().isEmpty());
+    }
+
+    @Test
+    public void testCompleteAllGroups() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 1);
+        template.sendBodyAndHeader("direct:start", "B", "id", 2);
+        template.sendBodyAndHeader("direct:start", "C", "id", 3);
+        template.sendBodyAndHeader("direct:start", "", Exchange.AGGREGATION_COMPLETE_ALL_GROUPS, true);
+
+        assertMockEndpointsSatisfied();
+        assertTrue(repository.getKeys().isEmpty());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        repository.setShards(8);
+
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy())
+                        .aggregationRepository(repository).completionSize(40)
+                        .to("mock:result");
+            }
+        };
+    }
+}
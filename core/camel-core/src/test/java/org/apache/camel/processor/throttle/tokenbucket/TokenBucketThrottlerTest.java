@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.throttle.tokenbucket;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.ThrottlerRejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledIfSystemProperty(named = "ci.env.name", matches = ".*", disabledReason = "Flaky on Github CI")
+public class TokenBucketThrottlerTest extends ContextTestSupport {
+    private static final int INTERVAL = 500;
+
+    @Test
+    public void testSendLotsOfMessagesWithRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+        getMockEndpoint("mock:error").expectedMessageCount(4);
+
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:reject", "<message>" + i + "</message>");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSendLotsOfMessagesDelayed() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(6);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:delayed", "<message>" + i + "</message>");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // 3 messages are sent at once, and then one every 500 / 3 millis
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsed >= INTERVAL - 50, "Should take at least " + (INTERVAL - 50) + "ms, was: " + elapsed);
+    }
+
+    @Test
+    public void testGroupingWithRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceivedInAnyOrder("A1", "B1");
+        getMockEndpoint("mock:error").expectedBodiesReceivedInAnyOrder("A2", "B2");
+
+        template.sendBodyAndHeader("direct:grouping", "A1", "key", "A");
+        template.sendBodyAndHeader("direct:grouping", "B1", "key", "B");
+        template.sendBodyAndHeader("direct:grouping", "A2", "key", "A");
+        template.sendBodyAndHeader("direct:grouping", "B2", "key", "B");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:error");
+
+                from("direct:reject").throttle(2).timePeriodMillis(1000).tokenBucketMode().rejectExecution(true)
+                        .to("log:result", "mock:result");
+
+                from("direct:delayed").throttle(3).timePeriodMillis(INTERVAL).tokenBucketMode()
+                        .to("log:result", "mock:result");
+
+                from("direct:grouping").throttle(constant(1), header("key")).timePeriodMillis(1000).tokenBucketMode()
+                        .rejectExecution(true)
+                        .to("log:result", "mock:result");
+            }
+        };
+    }
+}
@@ -198,4 +198,88 @@ public class DefaultTimeoutMapTest {
         map.stop();
     }
 
+    @Test
+    public void testTimingWheel() {
+        final List<String> keys = new ArrayList<>();
+        ManualClockTimeoutMap map = new ManualClockTimeoutMap(executor, 1000);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+
+        // timeouts spanning several levels of the wheel
+        long start = map.currentTime();
+        long[] timeouts = { 10, 5000, 70000, 3600000, 86400000L * 30 };
+        for (int i = 0; i < timeouts.length; i++) {
+            map.put("K" + i, i, timeouts[i]);
+        }
+        map.put("removed", 99, 100);
+        map.remove("removed");
+        assertEquals(timeouts.length, map.size());
+
+        for (int i = 0; i < timeouts.length; i++) {
+            // not expired at the timeout
+            map.advanceTo(start + timeouts[i]);
+            assertEquals(i, keys.size());
+            // but expired after the timeout and the purge interval
+            map.advanceTo(start + timeouts[i] + 1001);
+            assertEquals(i + 1, keys.size());
+            assertEquals("K" + i, keys.get(i));
+        }
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimingWheelAccessRenewsTimeout() {
+        final List<String> keys = new ArrayList<>();
+        ManualClockTimeoutMap map = new ManualClockTimeoutMap(executor, 100);
+        map.addListener((type, key, value) -> {
+            if (type == TimeoutMap.Listener.Type.Evict) {
+                keys.add(key);
+            }
+        });
+
+        map.put("A", 1, 500);
+        map.put("B", 2, 500);
+        for (int i = 0; i < 10; i++) {
+            map.advance(300);
+            assertEquals(1, map.get("A"));
+        }
+        assertEquals(List.of("B"), keys);
+
+        map.advance(700);
+        assertEquals(List.of("B", "A"), keys);
+        assertEquals(0, map.size());
+
+        // and a long pause since last purge
+        map.put("C", 3, 500);
+        map.put("D", 4, 10000000);
+        map.advance(1000000);
+        assertEquals(List.of("B", "A", "C"), keys);
+        assertEquals(1, map.size());
+    }
+
+    private static final class ManualClockTimeoutMap extends DefaultTimeoutMap<String, Integer> {
+
+        private long time = 1000000;
+
+        ManualClockTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+            super(executor, requestMapPollTimeMillis);
+        }
+
+        void advance(long millis) {
+            advanceTo(time + millis);
+        }
+
+        void advanceTo(long time) {
+            this.time = time;
+            purge();
+        }
+
+        @Override
+        protected long currentTime() {
+            return time;
+        }
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.TinyLFUCacheFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for {@link SimpleTinyLFUCache}.
+ */
+@Isolated("Some of these tests creates a lot of threads")
+class SimpleTinyLFUCacheTest {
+
+    private final List<String> consumed = new ArrayList<>();
+    private final SimpleTinyLFUCache<String, String> map = new SimpleTinyLFUCache<>(16, 3, consumed::add);
+
+    @Test
+    void forbiddenOperations() {
+        assertThrows(UnsupportedOperationException.class, () -> map.values().add("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().add("foo"));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().add(Map.entry("x", "y")));
+        assertThrows(NullPointerException.class, () -> map.put("1", null));
+        assertThrows(NullPointerException.class, () -> map.put(null, "One"));
+    }
+
+    @Test
+    void operations() {
+        assertNull(map.put("1", "One"));
+        assertEquals("One", map.put("1", "Uno"));
+        assertEquals("Uno", map.putIfAbsent("1", "One"));
+        assertNull(map.putIfAbsent("2", "Two"));
+        assertEquals("Three", map.computeIfAbsent("3", k -> "Three"));
+        assertEquals(3, map.size());
+        assertTrue(map.containsValue("Two"));
+
+        assertEquals("Dos", map.computeIfPresent("2", (k, v) -> "Dos"));
+        assertEquals("Three-3", map.merge("3", "-3", (v1, v2) -> v1 + v2));
+        assertTrue(map.replace("1", "Uno", "One"));
+        assertFalse(map.replace("1", "Uno", "One"));
+        assertEquals("One", map.replace("1", "Uno"));
+
+        assertFalse(map.remove("1", "One"));
+        assertTrue(map.remove("1", "Uno"));
+        assertNull(map.compute("2", (k, v) -> null));
+        assertEquals(1, map.size());
+
+        map.entrySet().iterator().next().setValue("Tres");
+        assertEquals("Tres", map.get("3"));
+        map.keySet().remove("3");
+        assertTrue(map.isEmpty());
+        assertTrue(consumed.isEmpty());
+    }
+
+    @Test
+    void eviction() {
+        for (int i = 1; i <= 10; i++) {
+            map.put(Integer.toString(i), "Value" + i);
+            assertTrue(map.size() <= 3);
+        }
+        assertEquals(3, map.size());
+        assertEquals(7, consumed.size());
+        assertEquals(7, map.getEvictions());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        map.put("1", "One");
+        assertEquals("One", map.get("1"));
+    }
+
+    @Test
+    void statistics() {
+        map.put("1", "One");
+        assertEquals("One", map.get("1"));
+        assertEquals("One", map.get("1"));
+        assertNull(map.get("2"));
+        assertEquals("Two", map.computeIfAbsent("2", k -> "Two"));
+        assertEquals("Two", map.computeIfAbsent("2", k -> "Dos"));
+
+        assertEquals(3, map.getHits());
+        assertEquals(2, map.getMisses());
+        assertEquals(0, map.getEvictions());
+
+        map.resetStatistics();
+        assertEquals(0, map.getHits());
+        assertEquals(0, map.getMisses());
+    }
+
+    @Test
+    void frequentlyUsedEntriesSurviveScan() {
+        SimpleTinyLFUCache<String, String> cache = new SimpleTinyLFUCache<>(16, 100, v -> {
+        });
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.computeIfAbsent("hot" + i, k -> k);
+            }
+        }
+        // scan with many keys which are used only once, while the hot keys are still in use
+        for (int i = 0; i < 10000; i++) {
+            cache.computeIfAbsent("cold" + i, k -> k);
+            cache.computeIfAbsent("hot" + i % 50, k -> k);
+        }
+        int hot = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.containsKey("hot" + i)) {
+                hot++;
+            }
+        }
+        assertEquals(50, hot);
+        assertEquals(100, cache.size());
+        // the hot keys were only added once
+        assertEquals(50 + 10000, cache.getMisses());
+    }
+
+    @Test
+    void concurrentAccess() throws Exception {
+        AtomicInteger evicted = new AtomicInteger();
+        SimpleTinyLFUCache<Integer, Integer> cache = new SimpleTinyLFUCache<>(16, 100, v -> evicted.incrementAndGet());
+        int threads = 8;
+        int operations = 10000;
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            new Thread(() -> {
+                try {
+                    for (int i = 0; i < operations; i++) {
+                        int key = (seed * 31 + i * 7) % 1000;
+                        cache.computeIfAbsent(key, k -> k);
+                        if (i % 10 == 0) {
+                            cache.remove(key);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        assertTrue(cache.size() <= 100, "Size: " + cache.size());
+        assertTrue(evicted.get() > 0);
+
+        // the policy is still consistent with the entries of the cache
+        for (int i = 1000; i < 1200; i++) {
+            cache.put(i, i);
+        }
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    void factory() {
+        LRUCacheFactory factory = new TinyLFUCacheFactory();
+        assertInstanceOf(SimpleTinyLFUCache.class, factory.createLRUCache(10));
+        assertInstanceOf(SimpleSoftCache.class, factory.createLRUSoftCache(10));
+    }
+}
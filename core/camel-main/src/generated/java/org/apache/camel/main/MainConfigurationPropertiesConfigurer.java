@@ -62,6 +62,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("EndpointBridgeErrorHandler", boolean.class);
         map.put("EndpointLazyStartProducer", boolean.class);
         map.put("EndpointRuntimeStatisticsEnabled", boolean.class);
+        map.put("ExchangeCopyOnWrite", boolean.class);
         map.put("ExchangeFactory", java.lang.String.class);
         map.put("ExchangeFactoryCapacity", int.class);
         map.put("ExchangeFactoryStatisticsEnabled", boolean.class);
@@ -98,6 +99,7 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("Profile", java.lang.String.class);
         map.put("RouteFilterExcludePattern", java.lang.String.class);
         map.put("RouteFilterIncludePattern", java.lang.String.class);
+        map.put("RouteStartupParallelism", int.class);
         map.put("RoutesBuilderClasses", java.lang.String.class);
         map.put("RoutesBuilders", java.util.List.class);
         map.put("RoutesCollectorEnabled", boolean.class);
@@ -122,9 +124,13 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("StartupRecorderMaxDepth", int.class);
         map.put("StartupRecorderProfile", java.lang.String.class);
         map.put("StartupRecorderRecording", boolean.class);
+        map.put("StartupSnapshotFile", java.lang.String.class);
         map.put("StartupSummaryLevel", org.apache.camel.StartupSummaryLevel.class);
         map.put("StreamCachingAllowClasses", java.lang.String.class);
         map.put("StreamCachingAnySpoolRules", boolean.class);
+        map.put("StreamCachingBufferPoolEnabled", boolean.class);
+        map.put("StreamCachingBufferPoolLeakDetectionEnabled", boolean.class);
+        map.put("StreamCachingBufferPoolMaxSize", long.class);
         map.put("StreamCachingBufferSize", int.class);
         map.put("StreamCachingDenyClasses", java.lang.String.class);
         map.put("StreamCachingEnabled", boolean.class);
@@ -132,6 +138,9 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         map.put("StreamCachingSpoolCipher", java.lang.String.class);
         map.put("StreamCachingSpoolDirectory", java.lang.String.class);
         map.put("StreamCachingSpoolEnabled", boolean.class);
+        map.put("StreamCachingSpoolOffHeapBlockSize", int.class);
+        map.put("StreamCachingSpoolOffHeapEnabled", boolean.class);
+        map.put("StreamCachingSpoolOffHeapMaxSize", long.class);
         map.put("StreamCachingSpoolRules", java.lang.String.class);
         map.put("StreamCachingSpoolThreshold", long.class);
         map.put("StreamCachingSpoolUsedHeapMemoryLimit", java.lang.String.class);
@@ -233,6 +242,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "endpointLazyStartProducer": target.setEndpointLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "endpointruntimestatisticsenabled":
         case "endpointRuntimeStatisticsEnabled": target.setEndpointRuntimeStatisticsEnabled(property(camelContext, boolean.class, value)); return true;
+        case "exchangecopyonwrite":
+        case "exchangeCopyOnWrite": target.setExchangeCopyOnWrite(property(camelContext, boolean.class, value)); return true;
         case "exchangefactory":
         case "exchangeFactory": target.setExchangeFactory(property(camelContext, java.lang.String.class, value)); return true;
         case "exchangefactorycapacity":
@@ -302,6 +313,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routeFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": target.setRouteFilterIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "routestartupparallelism":
+        case "routeStartupParallelism": target.setRouteStartupParallelism(property(camelContext, int.class, value)); return true;
         case "routesbuilderclasses":
         case "routesBuilderClasses": target.setRoutesBuilderClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "routesbuilders":
@@ -350,12 +363,20 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "startupRecorderProfile": target.setStartupRecorderProfile(property(camelContext, java.lang.String.class, value)); return true;
         case "startuprecorderrecording":
         case "startupRecorderRecording": target.setStartupRecorderRecording(property(camelContext, boolean.class, value)); return true;
+        case "startupsnapshotfile":
+        case "startupSnapshotFile": target.setStartupSnapshotFile(property(camelContext, java.lang.String.class, value)); return true;
         case "startupsummarylevel":
         case "startupSummaryLevel": target.setStartupSummaryLevel(property(camelContext, org.apache.camel.StartupSummaryLevel.class, value)); return true;
         case "streamcachingallowclasses":
         case "streamCachingAllowClasses": target.setStreamCachingAllowClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachinganyspoolrules":
         case "streamCachingAnySpoolRules": target.setStreamCachingAnySpoolRules(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingbufferpoolenabled":
+        case "streamCachingBufferPoolEnabled": target.setStreamCachingBufferPoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingbufferpoolleakdetectionenabled":
+        case "streamCachingBufferPoolLeakDetectionEnabled": target.setStreamCachingBufferPoolLeakDetectionEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingbufferpoolmaxsize":
+        case "streamCachingBufferPoolMaxSize": target.setStreamCachingBufferPoolMaxSize(property(camelContext, long.class, value)); return true;
         case "streamcachingbuffersize":
         case "streamCachingBufferSize": target.setStreamCachingBufferSize(property(camelContext, int.class, value)); return true;
         case "streamcachingdenyclasses":
@@ -370,6 +391,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": target.setStreamCachingSpoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspooloffheapblocksize":
+        case "streamCachingSpoolOffHeapBlockSize": target.setStreamCachingSpoolOffHeapBlockSize(property(camelContext, int.class, value)); return true;
+        case "streamcachingspooloffheapenabled":
+        case "streamCachingSpoolOffHeapEnabled": target.setStreamCachingSpoolOffHeapEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspooloffheapmaxsize":
+        case "streamCachingSpoolOffHeapMaxSize": target.setStreamCachingSpoolOffHeapMaxSize(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolrules":
         case "streamCachingSpoolRules": target.setStreamCachingSpoolRules(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolthreshold":
@@ -491,6 +518,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "endpointLazyStartProducer": return boolean.class;
         case "endpointruntimestatisticsenabled":
         case "endpointRuntimeStatisticsEnabled": return boolean.class;
+        case "exchangecopyonwrite":
+        case "exchangeCopyOnWrite": return boolean.class;
         case "exchangefactory":
         case "exchangeFactory": return java.lang.String.class;
         case "exchangefactorycapacity":
@@ -560,6 +589,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routeFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": return java.lang.String.class;
+        case "routestartupparallelism":
+        case "routeStartupParallelism": return int.class;
         case "routesbuilderclasses":
         case "routesBuilderClasses": return java.lang.String.class;
         case "routesbuilders":
@@ -608,12 +639,20 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "startupRecorderProfile": return java.lang.String.class;
         case "startuprecorderrecording":
         case "startupRecorderRecording": return boolean.class;
+        case "startupsnapshotfile":
+        case "startupSnapshotFile": return java.lang.String.class;
         case "startupsummarylevel":
         case "startupSummaryLevel": return org.apache.camel.StartupSummaryLevel.class;
         case "streamcachingallowclasses":
         case "streamCachingAllowClasses": return java.lang.String.class;
         case "streamcachinganyspoolrules":
         case "streamCachingAnySpoolRules": return boolean.class;
+        case "streamcachingbufferpoolenabled":
+        case "streamCachingBufferPoolEnabled": return boolean.class;
+        case "streamcachingbufferpoolleakdetectionenabled":
+        case "streamCachingBufferPoolLeakDetectionEnabled": return boolean.class;
+        case "streamcachingbufferpoolmaxsize":
+        case "streamCachingBufferPoolMaxSize": return long.class;
         case "streamcachingbuffersize":
         case "streamCachingBufferSize": return int.class;
         case "streamcachingdenyclasses":
@@ -628,6 +667,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": return java.lang.String.class;
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return boolean.class;
+        case "streamcachingspooloffheapblocksize":
+        case "streamCachingSpoolOffHeapBlockSize": return int.class;
+        case "streamcachingspooloffheapenabled":
+        case "streamCachingSpoolOffHeapEnabled": return boolean.class;
+        case "streamcachingspooloffheapmaxsize":
+        case "streamCachingSpoolOffHeapMaxSize": return long.class;
         case "streamcachingspoolrules":
         case "streamCachingSpoolRules": return java.lang.String.class;
         case "streamcachingspoolthreshold":
@@ -745,6 +790,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "endpointLazyStartProducer": return target.isEndpointLazyStartProducer();
         case "endpointruntimestatisticsenabled":
         case "endpointRuntimeStatisticsEnabled": return target.isEndpointRuntimeStatisticsEnabled();
+        case "exchangecopyonwrite":
+        case "exchangeCopyOnWrite": return target.isExchangeCopyOnWrite();
         case "exchangefactory":
         case "exchangeFactory": return target.getExchangeFactory();
         case "exchangefactorycapacity":
@@ -814,6 +861,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "routeFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
         case "routeFilterIncludePattern": return target.getRouteFilterIncludePattern();
+        case "routestartupparallelism":
+        case "routeStartupParallelism": return target.getRouteStartupParallelism();
         case "routesbuilderclasses":
         case "routesBuilderClasses": return target.getRoutesBuilderClasses();
         case "routesbuilders":
@@ -862,12 +911,20 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "startupRecorderProfile": return target.getStartupRecorderProfile();
         case "startuprecorderrecording":
         case "startupRecorderRecording": return target.isStartupRecorderRecording();
+        case "startupsnapshotfile":
+        case "startupSnapshotFile": return target.getStartupSnapshotFile();
         case "startupsummarylevel":
         case "startupSummaryLevel": return target.getStartupSummaryLevel();
         case "streamcachingallowclasses":
         case "streamCachingAllowClasses": return target.getStreamCachingAllowClasses();
         case "streamcachinganyspoolrules":
         case "streamCachingAnySpoolRules": return target.isStreamCachingAnySpoolRules();
+        case "streamcachingbufferpoolenabled":
+        case "streamCachingBufferPoolEnabled": return target.isStreamCachingBufferPoolEnabled();
+        case "streamcachingbufferpoolleakdetectionenabled":
+        case "streamCachingBufferPoolLeakDetectionEnabled": return target.isStreamCachingBufferPoolLeakDetectionEnabled();
+        case "streamcachingbufferpoolmaxsize":
+        case "streamCachingBufferPoolMaxSize": return target.getStreamCachingBufferPoolMaxSize();
         case "streamcachingbuffersize":
         case "streamCachingBufferSize": return target.getStreamCachingBufferSize();
         case "streamcachingdenyclasses":
@@ -882,6 +939,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "streamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
         case "streamcachingspoolenabled":
         case "streamCachingSpoolEnabled": return target.isStreamCachingSpoolEnabled();
+        case "streamcachingspooloffheapblocksize":
+        case "streamCachingSpoolOffHeapBlockSize": return target.getStreamCachingSpoolOffHeapBlockSize();
+        case "streamcachingspooloffheapenabled":
+        case "streamCachingSpoolOffHeapEnabled": return target.isStreamCachingSpoolOffHeapEnabled();
+        case "streamcachingspooloffheapmaxsize":
+        case "streamCachingSpoolOffHeapMaxSize": return target.getStreamCachingSpoolOffHeapMaxSize();
         case "streamcachingspoolrules":
         case "streamCachingSpoolRules": return target.getStreamCachingSpoolRules();
         case "streamcachingspoolthreshold":
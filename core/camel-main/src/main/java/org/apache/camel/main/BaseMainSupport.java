@@ -52,6 +52,7 @@ import org.apache.camel.NonManagedService;
 import org.apache.camel.PropertiesLookupListener;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.Service;
+import org.apache.camel.StartupListener;
 import org.apache.camel.StartupStep;
 import org.apache.camel.console.DevConsole;
 import org.apache.camel.console.DevConsoleRegistry;
@@ -59,7 +60,10 @@ import org.apache.camel.health.HealthCheck;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.impl.engine.DefaultCompileStrategy;
+import org.apache.camel.impl.engine.DefaultFactoryFinder;
+import org.apache.camel.impl.engine.DefaultFactoryFinderResolver;
 import org.apache.camel.impl.engine.DefaultRoutesLoader;
+import org.apache.camel.impl.engine.FactoryFinderSnapshot;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.Resilience4jConfigurationDefinition;
 import org.apache.camel.saga.CamelSagaService;
@@ -739,6 +743,66 @@ public abstract class BaseMainSupport extends BaseService {
         }
     }
 
+    protected void configureStartupSnapshot(CamelContext camelContext) throws Exception {
+        ExtendedCamelContext ecc = camelContext.getCamelContextExtension();
+
+        // we need to load this configuration early as the snapshot must be used before resolving components etc.
+        Properties prop = camelContext.getPropertiesComponent().loadProperties(
+                name -> name.startsWith("camel.main.startup"), MainHelper::optionKey);
+        Object value = prop.remove("camel.main.startupSnapshotFile");
+        if (ObjectHelper.isNotEmpty(value)) {
+            mainConfigurationProperties.setStartupSnapshotFile(
+                    CamelContextHelper.parseText(camelContext, value.toString()));
+        }
+
+        String file = mainConfigurationProperties.getStartupSnapshotFile();
+        if (file == null || !(PluginHelper.getFactoryFinderResolver(ecc) instanceof DefaultFactoryFinderResolver resolver)) {
+            return;
+        }
+
+        Path path = Paths.get(file);
+        FactoryFinderSnapshot snapshot = new FactoryFinderSnapshot();
+        try {
+            if (snapshot.load(path)) {
+                LOG.info("Loaded startup snapshot with {} factories from: {}", snapshot.size(), path);
+            } else {
+                LOG.debug("No startup snapshot loaded from: {}", path);
+            }
+        } catch (IOException e) {
+            LOG.warn("Error loading startup snapshot from: {} due to: {}. This exception is ignored.", path, e.getMessage(),
+                    e);
+        }
+        resolver.setSnapshot(snapshot);
+        // the default factory finders may already have been resolved
+        if (ecc.getBootstrapFactoryFinder() instanceof DefaultFactoryFinder ff) {
+            ff.setSnapshot(snapshot);
+        }
+        if (ecc.getDefaultFactoryFinder() instanceof DefaultFactoryFinder ff) {
+            ff.setSnapshot(snapshot);
+        }
+
+        // save the snapshot when camel has been started, so the factories resolved during startup are included
+        camelContext.addStartupListener(new StartupListener() {
+            @Override
+            public void onCamelContextStarted(CamelContext context, boolean alreadyStarted) {
+                // noop
+            }
+
+            @Override
+            public void onCamelContextFullyStarted(CamelContext context, boolean alreadyStarted) {
+                if (snapshot.isModified()) {
+                    try {
+                        snapshot.save(path);
+                        LOG.info("Saved startup snapshot with {} factories to: {}", snapshot.size(), path);
+                    } catch (IOException e) {
+                        LOG.warn("Error saving startup snapshot to: {} due to: {}. This exception is ignored.", path,
+                                e.getMessage(), e);
+                    }
+                }
+            }
+        });
+    }
+
     protected void configurePackageScan(CamelContext camelContext) {
         if (mainConfigurationProperties.isBasePackageScanEnabled()) {
             // only set the base package if enabled
@@ -927,6 +991,8 @@ public abstract class BaseMainSupport extends BaseService {
         pc.addPropertiesLookupListener(new PropertyPlaceholderListener(propertyPlaceholders));
         // setup startup recorder before building context
         configureStartupRecorder(camelContext);
+        // setup startup snapshot before any factories are resolved
+        configureStartupSnapshot(camelContext);
         // setup package scan
         configurePackageScan(camelContext);
         // configure to use our main routes loader
@@ -63,6 +63,7 @@ import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExecutorServiceManager;
 import org.apache.camel.spi.FactoryFinderResolver;
 import org.apache.camel.spi.GroovyScriptCompiler;
+import org.apache.camel.spi.HeadersMapFactory;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.spi.InterceptStrategy;
 import org.apache.camel.spi.LifecycleStrategy;
@@ -213,6 +214,12 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy().setSpoolEnabled(config.isStreamCachingSpoolEnabled());
         camelContext.getStreamCachingStrategy().setAnySpoolRules(config.isStreamCachingAnySpoolRules());
         camelContext.getStreamCachingStrategy().setBufferSize(config.getStreamCachingBufferSize());
+        camelContext.getStreamCachingStrategy().setBufferPoolEnabled(config.isStreamCachingBufferPoolEnabled());
+        if (config.getStreamCachingBufferPoolMaxSize() != 0) {
+            camelContext.getStreamCachingStrategy().setBufferPoolMaxSize(config.getStreamCachingBufferPoolMaxSize());
+        }
+        camelContext.getStreamCachingStrategy()
+                .setBufferPoolLeakDetectionEnabled(config.isStreamCachingBufferPoolLeakDetectionEnabled());
         camelContext.getStreamCachingStrategy()
                 .setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
@@ -235,6 +242,13 @@ public final class DefaultConfigurationConfigurer {
             }
             camelContext.getStreamCachingStrategy().setSpoolUsedHeapMemoryLimit(limit);
         }
+        camelContext.getStreamCachingStrategy().setSpoolOffHeapEnabled(config.isStreamCachingSpoolOffHeapEnabled());
+        if (config.getStreamCachingSpoolOffHeapBlockSize() != 0) {
+            camelContext.getStreamCachingStrategy().setSpoolOffHeapBlockSize(config.getStreamCachingSpoolOffHeapBlockSize());
+        }
+        if (config.getStreamCachingSpoolOffHeapMaxSize() != 0) {
+            camelContext.getStreamCachingStrategy().setSpoolOffHeapMaxSize(config.getStreamCachingSpoolOffHeapMaxSize());
+        }
         if (config.getStreamCachingSpoolUsedHeapMemoryThreshold() != 0) {
             camelContext.getStreamCachingStrategy()
                     .setSpoolUsedHeapMemoryThreshold(config.getStreamCachingSpoolUsedHeapMemoryThreshold());
@@ -270,8 +284,10 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setLogExhaustedMessageBody(config.isLogExhaustedMessageBody());
         camelContext.setAutoStartup(config.isAutoStartup());
         camelContext.setAutoStartupExcludePattern(config.getAutoStartupExcludePattern());
+        camelContext.setRouteStartupParallelism(config.getRouteStartupParallelism());
         camelContext.setAllowUseOriginalMessage(config.isAllowUseOriginalMessage());
         camelContext.setCaseInsensitiveHeaders(config.isCaseInsensitiveHeaders());
+        camelContext.getCamelContextExtension().setExchangeCopyOnWrite(config.isExchangeCopyOnWrite());
         camelContext.setAutowiredEnabled(config.isAutowiredEnabled());
         camelContext.setUseBreadcrumb(config.isUseBreadcrumb());
         camelContext.setUseDataType(config.isUseDataType());
@@ -517,6 +533,10 @@ public final class DefaultConfigurationConfigurer {
         if (exf != null) {
             camelContext.getCamelContextExtension().setExchangeFactory(exf);
         }
+        HeadersMapFactory hmf = getSingleBeanOfType(registry, HeadersMapFactory.class);
+        if (hmf != null) {
+            camelContext.getCamelContextExtension().setHeadersMapFactory(hmf);
+        }
         Set<TypeConverters> tcs = registry.findByType(TypeConverters.class);
         if (!tcs.isEmpty()) {
             tcs.forEach(t -> camelContext.getTypeConverterRegistry().addTypeConverters(t));
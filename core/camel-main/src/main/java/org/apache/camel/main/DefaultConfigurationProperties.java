@@ -68,10 +68,20 @@ public abstract class DefaultConfigurationProperties<T> {
     private int streamCachingSpoolUsedHeapMemoryThreshold;
     @Metadata(defaultValue = "Max", enums = "Committed,Max")
     private String streamCachingSpoolUsedHeapMemoryLimit;
+    private boolean streamCachingSpoolOffHeapEnabled;
+    @Metadata(label = "advanced", defaultValue = "65536")
+    private int streamCachingSpoolOffHeapBlockSize;
+    @Metadata(label = "advanced", defaultValue = "67108864")
+    private long streamCachingSpoolOffHeapMaxSize;
     private boolean streamCachingAnySpoolRules;
     @Metadata(label = "advanced")
     private String streamCachingSpoolRules;
     private int streamCachingBufferSize;
+    private boolean streamCachingBufferPoolEnabled;
+    @Metadata(label = "advanced", defaultValue = "16777216")
+    private long streamCachingBufferPoolMaxSize;
+    @Metadata(label = "advanced")
+    private boolean streamCachingBufferPoolLeakDetectionEnabled;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
     private boolean streamCachingStatisticsEnabled;
     private boolean typeConverterStatisticsEnabled;
@@ -90,8 +100,11 @@ public abstract class DefaultConfigurationProperties<T> {
     private String additionalSensitiveKeywords;
     private boolean autoStartup = true;
     private String autoStartupExcludePattern;
+    private int routeStartupParallelism;
     private boolean allowUseOriginalMessage;
     private boolean caseInsensitiveHeaders = true;
+    @Metadata(label = "advanced")
+    private boolean exchangeCopyOnWrite;
     private boolean autowiredEnabled = true;
     private boolean endpointRuntimeStatisticsEnabled;
     private boolean loadStatisticsEnabled;
@@ -572,6 +585,47 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolUsedHeapMemoryLimit = streamCachingSpoolUsedHeapMemoryLimit;
     }
 
+    public boolean isStreamCachingSpoolOffHeapEnabled() {
+        return streamCachingSpoolOffHeapEnabled;
+    }
+
+    /**
+     * To enable stream caching spooling to off-heap memory, which is used before spooling to disk. This means large
+     * stream messages are cached in pooled direct buffers, which are kept off the Java heap, and avoids creating a
+     * temporary file per message. When the off-heap pool is exhausted, then the messages are spooled to disk.
+     *
+     * Spooling must be enabled (streamCachingSpoolEnabled=true) to use off-heap memory.
+     *
+     * Default is false.
+     */
+    public void setStreamCachingSpoolOffHeapEnabled(boolean streamCachingSpoolOffHeapEnabled) {
+        this.streamCachingSpoolOffHeapEnabled = streamCachingSpoolOffHeapEnabled;
+    }
+
+    public int getStreamCachingSpoolOffHeapBlockSize() {
+        return streamCachingSpoolOffHeapBlockSize;
+    }
+
+    /**
+     * Sets the size in bytes of each block of off-heap memory, when stream caching spooling to off-heap memory is
+     * enabled. The default size is 64kb.
+     */
+    public void setStreamCachingSpoolOffHeapBlockSize(int streamCachingSpoolOffHeapBlockSize) {
+        this.streamCachingSpoolOffHeapBlockSize = streamCachingSpoolOffHeapBlockSize;
+    }
+
+    public long getStreamCachingSpoolOffHeapMaxSize() {
+        return streamCachingSpoolOffHeapMaxSize;
+    }
+
+    /**
+     * Sets the maximum number of bytes of off-heap memory to allocate, when stream caching spooling to off-heap memory
+     * is enabled. The default size is 64mb.
+     */
+    public void setStreamCachingSpoolOffHeapMaxSize(long streamCachingSpoolOffHeapMaxSize) {
+        this.streamCachingSpoolOffHeapMaxSize = streamCachingSpoolOffHeapMaxSize;
+    }
+
     public boolean isStreamCachingAnySpoolRules() {
         return streamCachingAnySpoolRules;
     }
@@ -612,6 +666,49 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingBufferSize = streamCachingBufferSize;
     }
 
+    public boolean isStreamCachingBufferPoolEnabled() {
+        return streamCachingBufferPoolEnabled;
+    }
+
+    /**
+     * Sets whether to use a pool of reusable buffers for in-memory stream caches. The buffers are released back to the
+     * pool when the exchanges using the stream caches are done, which reduces garbage collection when routing many
+     * messages that are stream cached in-memory.
+     *
+     * Important: The stream caches must not be used after the exchange is done (such as keeping the message body in a
+     * custom data structure), as their buffers may be reused by other exchanges.
+     *
+     * Default is false.
+     */
+    public void setStreamCachingBufferPoolEnabled(boolean streamCachingBufferPoolEnabled) {
+        this.streamCachingBufferPoolEnabled = streamCachingBufferPoolEnabled;
+    }
+
+    public long getStreamCachingBufferPoolMaxSize() {
+        return streamCachingBufferPoolMaxSize;
+    }
+
+    /**
+     * Sets the maximum number of bytes of buffers to keep in the stream caching buffer pool, ready to be reused. The
+     * default size is 16mb.
+     */
+    public void setStreamCachingBufferPoolMaxSize(long streamCachingBufferPoolMaxSize) {
+        this.streamCachingBufferPoolMaxSize = streamCachingBufferPoolMaxSize;
+    }
+
+    public boolean isStreamCachingBufferPoolLeakDetectionEnabled() {
+        return streamCachingBufferPoolLeakDetectionEnabled;
+    }
+
+    /**
+     * Sets whether to detect buffers that was not released back to the stream caching buffer pool. When a leak is
+     * detected, then a WARN is logged with the stacktrace of where the buffer was acquired. This has a performance
+     * overhead and is intended for development and troubleshooting.
+     */
+    public void setStreamCachingBufferPoolLeakDetectionEnabled(boolean streamCachingBufferPoolLeakDetectionEnabled) {
+        this.streamCachingBufferPoolLeakDetectionEnabled = streamCachingBufferPoolLeakDetectionEnabled;
+    }
+
     public boolean isStreamCachingRemoveSpoolDirectoryWhenStopping() {
         return streamCachingRemoveSpoolDirectoryWhenStopping;
     }
@@ -850,6 +947,25 @@ public abstract class DefaultConfigurationProperties<T> {
         this.autoStartupExcludePattern = autoStartupExcludePattern;
     }
 
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    /**
+     * Number of threads to use for initializing and warming up routes in parallel when starting routes, such as
+     * initializing and starting the processors, endpoints and producers of the routes, and for loading routes from
+     * several files (such as XML or YAML files) in parallel. This can make starting Camel faster when there are many
+     * routes.
+     *
+     * Routes with a startupOrder are warmed up one at a time in their startup order, as other routes may depend on
+     * these routes, and the routes in between are warmed up in parallel.
+     *
+     * The default is 0, which warms up the routes one at a time.
+     */
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
     public boolean isAllowUseOriginalMessage() {
         return allowUseOriginalMessage;
     }
@@ -883,6 +999,26 @@ public abstract class DefaultConfigurationProperties<T> {
         this.caseInsensitiveHeaders = caseInsensitiveHeaders;
     }
 
+    public boolean isExchangeCopyOnWrite() {
+        return exchangeCopyOnWrite;
+    }
+
+    /**
+     * Whether copies of exchanges (such as made by the multicast, recipient list, splitter and wire-tap EIPs) should
+     * share the message headers, exchange properties and variables with the exchange they are copied from, until either
+     * exchange changes them (copy-on-write). This makes copying exchanges scale with the number of changes instead of
+     * the number of copies.
+     *
+     * Important: Custom processors must not keep a reference to the headers, properties or variables map of an exchange
+     * while the exchange is being copied and change the map afterwards, as the change would then be seen by the copies
+     * as well.
+     *
+     * Default is false.
+     */
+    public void setExchangeCopyOnWrite(boolean exchangeCopyOnWrite) {
+        this.exchangeCopyOnWrite = exchangeCopyOnWrite;
+    }
+
     public boolean isAutowiredEnabled() {
         return autowiredEnabled;
     }
@@ -2002,6 +2138,38 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * To enable stream caching spooling to off-heap memory, which is used before spooling to disk. This means large
+     * stream messages are cached in pooled direct buffers, which are kept off the Java heap, and avoids creating a
+     * temporary file per message. When the off-heap pool is exhausted, then the messages are spooled to disk.
+     *
+     * Spooling must be enabled (streamCachingSpoolEnabled=true) to use off-heap memory.
+     *
+     * Default is false.
+     */
+    public T withStreamCachingSpoolOffHeapEnabled(boolean streamCachingSpoolOffHeapEnabled) {
+        this.streamCachingSpoolOffHeapEnabled = streamCachingSpoolOffHeapEnabled;
+        return (T) this;
+    }
+
+    /**
+     * Sets the size in bytes of each block of off-heap memory, when stream caching spooling to off-heap memory is
+     * enabled. The default size is 64kb.
+     */
+    public T withStreamCachingSpoolOffHeapBlockSize(int streamCachingSpoolOffHeapBlockSize) {
+        this.streamCachingSpoolOffHeapBlockSize = streamCachingSpoolOffHeapBlockSize;
+        return (T) this;
+    }
+
+    /**
+     * Sets the maximum number of bytes of off-heap memory to allocate, when stream caching spooling to off-heap memory
+     * is enabled. The default size is 64mb.
+     */
+    public T withStreamCachingSpoolOffHeapMaxSize(long streamCachingSpoolOffHeapMaxSize) {
+        this.streamCachingSpoolOffHeapMaxSize = streamCachingSpoolOffHeapMaxSize;
+        return (T) this;
+    }
+
     /**
      * Sets whether if just any of the org.apache.camel.spi.StreamCachingStrategy.SpoolRule rules returns true then
      * shouldSpoolCache(long) returns true, to allow spooling to disk. If this option is false, then all the
@@ -2033,6 +2201,40 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether to use a pool of reusable buffers for in-memory stream caches. The buffers are released back to the
+     * pool when the exchanges using the stream caches are done, which reduces garbage collection when routing many
+     * messages that are stream cached in-memory.
+     *
+     * Important: The stream caches must not be used after the exchange is done (such as keeping the message body in a
+     * custom data structure), as their buffers may be reused by other exchanges.
+     *
+     * Default is false.
+     */
+    public T withStreamCachingBufferPoolEnabled(boolean streamCachingBufferPoolEnabled) {
+        this.streamCachingBufferPoolEnabled = streamCachingBufferPoolEnabled;
+        return (T) this;
+    }
+
+    /**
+     * Sets the maximum number of bytes of buffers to keep in the stream caching buffer pool, ready to be reused. The
+     * default size is 16mb.
+     */
+    public T withStreamCachingBufferPoolMaxSize(long streamCachingBufferPoolMaxSize) {
+        this.streamCachingBufferPoolMaxSize = streamCachingBufferPoolMaxSize;
+        return (T) this;
+    }
+
+    /**
+     * Sets whether to detect buffers that was not released back to the stream caching buffer pool. When a leak is
+     * detected, then a WARN is logged with the stacktrace of where the buffer was acquired. This has a performance
+     * overhead and is intended for development and troubleshooting.
+     */
+    public T withStreamCachingBufferPoolLeakDetectionEnabled(boolean streamCachingBufferPoolLeakDetectionEnabled) {
+        this.streamCachingBufferPoolLeakDetectionEnabled = streamCachingBufferPoolLeakDetectionEnabled;
+        return (T) this;
+    }
+
     /**
      * Whether to remove stream caching temporary directory when stopping. This option is default true.
      */
@@ -2203,6 +2405,22 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Number of threads to use for initializing and warming up routes in parallel when starting routes, such as
+     * initializing and starting the processors, endpoints and producers of the routes, and for loading routes from
+     * several files (such as XML or YAML files) in parallel. This can make starting Camel faster when there are many
+     * routes.
+     *
+     * Routes with a startupOrder are warmed up one at a time in their startup order, as other routes may depend on
+     * these routes, and the routes in between are warmed up in parallel.
+     *
+     * The default is 0, which warms up the routes one at a time.
+     */
+    public T withRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+        return (T) this;
+    }
+
     /**
      * Sets whether to allow access to the original message from Camel's error handler, or from
      * org.apache.camel.spi.UnitOfWork.getOriginalInMessage(). Turning this off can optimize performance, as defensive
@@ -2230,6 +2448,23 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether copies of exchanges (such as made by the multicast, recipient list, splitter and wire-tap EIPs) should
+     * share the message headers, exchange properties and variables with the exchange they are copied from, until either
+     * exchange changes them (copy-on-write). This makes copying exchanges scale with the number of changes instead of
+     * the number of copies.
+     *
+     * Important: Custom processors must not keep a reference to the headers, properties or variables map of an exchange
+     * while the exchange is being copied and change the map afterwards, as the change would then be seen by the copies
+     * as well.
+     *
+     * Default is false.
+     */
+    public T withExchangeCopyOnWrite(boolean exchangeCopyOnWrite) {
+        this.exchangeCopyOnWrite = exchangeCopyOnWrite;
+        return (T) this;
+    }
+
     /**
      * Sets whether endpoint runtime statistics is enabled (gathers runtime usage of each incoming and outgoing
      * endpoints).
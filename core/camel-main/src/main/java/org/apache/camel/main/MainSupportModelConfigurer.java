@@ -169,6 +169,10 @@ public final class MainSupportModelConfigurer {
         setPropertiesOnTarget(camelContext, tp, threadPoolProperties, "camel.threadpool.",
                 mainConfigurationProperties.isAutoConfigurationFailFast(), true, autoConfiguredProperties);
 
+        if (tp.isVirtualThreadsEnabled()) {
+            camelContext.getExecutorServiceManager().setVirtualThreadsEnabled(true);
+        }
+
         // okay we have all properties set so we should be able to create thread pool profiles and register them on camel
         final ThreadPoolProfile dp = new ThreadPoolProfileBuilder("default")
                 .poolSize(tp.getPoolSize())
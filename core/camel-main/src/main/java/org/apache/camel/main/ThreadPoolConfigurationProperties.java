@@ -32,6 +32,8 @@ public class ThreadPoolConfigurationProperties implements BootstrapCloseable {
 
     private MainConfigurationProperties parent;
 
+    private boolean virtualThreadsEnabled;
+
     // default values
     private Integer poolSize;
     private Integer maxPoolSize;
@@ -59,6 +61,22 @@ public class ThreadPoolConfigurationProperties implements BootstrapCloseable {
         config = null;
     }
 
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Whether to use virtual threads instead of platform threads for the thread pools created by Camel, such as for
+     * SEDA consumers and the Threads EIP. This requires JDK 21 or newer.
+     *
+     * When using virtual threads then blocking work parks the virtual thread instead of occupying a platform thread,
+     * and there is no need to size the thread pools per route. Virtual threads pinned to their carrier thread (such as
+     * when blocking in synchronized blocks) are reported in the log.
+     */
+    public void setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
     public Integer getPoolSize() {
         return poolSize;
     }
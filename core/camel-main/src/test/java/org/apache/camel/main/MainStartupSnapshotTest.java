@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.direct.DirectComponent;
+import org.apache.camel.impl.engine.DefaultFactoryFinderResolver;
+import org.apache.camel.impl.engine.FactoryFinderSnapshot;
+import org.apache.camel.support.PluginHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainStartupSnapshotTest {
+
+    private static final Path FILE = Paths.get("target/data/startup-snapshot.properties");
+
+    @Test
+    public void testStartupSnapshot() throws Exception {
+        Files.deleteIfExists(FILE);
+
+        // first startup resolves the factories from the classpath and saves the snapshot
+        int size = startAndStop(false);
+        assertTrue(Files.exists(FILE));
+        String content = Files.readString(FILE);
+        assertTrue(content.contains(DirectComponent.class.getName()), content);
+
+        // second startup resolves the factories from the snapshot
+        assertEquals(size, startAndStop(true));
+    }
+
+    @Test
+    public void testStartupSnapshotClasspathChanged() throws Exception {
+        Path jar = Paths.get("target/data/startup-snapshot-test.jar");
+        Files.createDirectories(jar.getParent());
+        Files.writeString(jar, "version 1");
+        Files.deleteIfExists(FILE);
+
+        new FactoryFinderSnapshot(jar.toString()).save(FILE);
+        assertTrue(new FactoryFinderSnapshot(jar.toString()).load(FILE));
+
+        // the same classpath with another version of the JAR must not load the snapshot
+        Files.writeString(jar, "version 22");
+        assertFalse(new FactoryFinderSnapshot(jar.toString()).load(FILE));
+    }
+
+    @Test
+    public void testStartupSnapshotClassesChanged() throws Exception {
+        Path classes = Paths.get("target/data/startup-snapshot-classes");
+        Path factory = classes.resolve("META-INF/services/org/apache/camel/component/mycomponent");
+        Files.createDirectories(factory.getParent());
+        Files.writeString(factory, "class=org.example.MyComponent");
+        Files.deleteIfExists(FILE);
+
+        new FactoryFinderSnapshot(classes.toString()).save(FILE);
+        assertTrue(new FactoryFinderSnapshot(classes.toString()).load(FILE));
+
+        // the same directory with a changed factory file must not load the snapshot
+        Files.writeString(factory, "class=org.example.MyOtherComponent");
+        assertFalse(new FactoryFinderSnapshot(classes.toString()).load(FILE));
+    }
+
+    private int startAndStop(boolean loaded) throws Exception {
+        Main main = new Main();
+        try {
+            main.configure().withStartupSnapshotFile(FILE.toString());
+            main.configure().addRoutesBuilder(new MyRoute());
+            main.start();
+
+            assertEquals("Hello World",
+                    main.getCamelTemplate().requestBody("direct:start", "World", String.class));
+
+            DefaultFactoryFinderResolver resolver
+                    = (DefaultFactoryFinderResolver) PluginHelper.getFactoryFinderResolver(main.getCamelContext());
+            FactoryFinderSnapshot snapshot = resolver.getSnapshot();
+            assertFalse(snapshot.isModified());
+            if (!loaded) {
+                assertTrue(snapshot.size() > 0);
+            }
+            return snapshot.size();
+        } finally {
+            main.stop();
+        }
+    }
+
+    private static class MyRoute extends RouteBuilder {
+
+        @Override
+        public void configure() {
+            from("direct:start")
+                    .transform(simple("Hello ${body}"));
+        }
+    }
+
+}
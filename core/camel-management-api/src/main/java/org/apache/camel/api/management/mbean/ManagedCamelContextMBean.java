@@ -168,6 +168,9 @@ public interface ManagedCamelContextMBean extends ManagedPerformanceCounterMBean
     @ManagedAttribute(description = "Whether Message DataType is enabled")
     boolean isUseDataType();
 
+    @ManagedAttribute(description = "Number of times a virtual thread in the JVM has been pinned to its carrier thread")
+    long getVirtualThreadsPinnedCounter();
+
     @ManagedOperation(description = "Start Camel")
     void start() throws Exception;
 
@@ -65,12 +65,36 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether used heap memory limit is committed or maximum")
     SpoolUsedHeapMemoryLimit getSpoolUsedHeapMemoryLimit();
 
+    @ManagedAttribute(description = "Whether spooling to off-heap memory (before spooling to disk) is enabled")
+    boolean isSpoolOffHeapEnabled();
+
+    @ManagedAttribute(description = "Size in bytes of each block of off-heap memory")
+    int getSpoolOffHeapBlockSize();
+
+    @ManagedAttribute(description = "Maximum number of bytes of off-heap memory the pool can allocate")
+    void setSpoolOffHeapMaxSize(long maxSize);
+
+    @ManagedAttribute(description = "Maximum number of bytes of off-heap memory the pool can allocate")
+    long getSpoolOffHeapMaxSize();
+
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     void setBufferSize(int bufferSize);
 
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     int getBufferSize();
 
+    @ManagedAttribute(description = "Whether to use a pool of reusable buffers for in-memory stream caches")
+    boolean isBufferPoolEnabled();
+
+    @ManagedAttribute(description = "Maximum number of bytes of buffers to keep in the buffer pool")
+    void setBufferPoolMaxSize(long maxSize);
+
+    @ManagedAttribute(description = "Maximum number of bytes of buffers to keep in the buffer pool")
+    long getBufferPoolMaxSize();
+
+    @ManagedAttribute(description = "Whether to detect buffers that was not released back to the buffer pool")
+    boolean isBufferPoolLeakDetectionEnabled();
+
     @ManagedAttribute(description = "Whether to remove spool directory when stopping")
     void setRemoveSpoolDirectoryWhenStopping(boolean remove);
 
@@ -101,6 +125,36 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of off-heap StreamCache created")
+    long getCacheOffHeapCounter();
+
+    @ManagedAttribute(description = "Total accumulated number of bytes which has been stream cached for off-heap StreamCache")
+    long getCacheOffHeapSize();
+
+    @ManagedAttribute(description = "Average number of bytes per cached stream for off-heap stream caches.")
+    long getCacheOffHeapAverageSize();
+
+    @ManagedAttribute(description = "Number of times the off-heap pool was exhausted and spooling to disk instead")
+    long getCacheOffHeapExhaustedCounter();
+
+    @ManagedAttribute(description = "Number of bytes of the off-heap pool currently in use")
+    long getOffHeapPoolUsedSize();
+
+    @ManagedAttribute(description = "Number of bytes allocated by the off-heap pool")
+    long getOffHeapPoolAllocatedSize();
+
+    @ManagedAttribute(description = "Number of buffers acquired from the buffer pool (reused)")
+    long getBufferPoolHitCounter();
+
+    @ManagedAttribute(description = "Number of buffers allocated as the buffer pool had no buffer to reuse")
+    long getBufferPoolMissCounter();
+
+    @ManagedAttribute(description = "Number of bytes of buffers acquired from the buffer pool currently in use")
+    long getBufferPoolUsedSize();
+
+    @ManagedAttribute(description = "Number of bytes of buffers kept in the buffer pool ready to be reused")
+    long getBufferPoolRetainedSize();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
@@ -16,14 +16,14 @@
  */
 package org.apache.camel.management;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import javax.management.JMException;
@@ -139,17 +139,20 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
 
     // the wrapped processors is for performance counters, which are in use for the created routes
     // when a route is removed, we should remove the associated processors from this map
-    private final Map<Processor, KeyValueHolder<NamedNode, InstrumentationProcessor<?>>> wrappedProcessors = new HashMap<>();
-    private final List<java.util.function.Consumer<JmxManagementLifecycleStrategy>> preServices = new ArrayList<>();
+    // the callbacks can be called concurrently when routes are started in parallel (routeStartupParallelism)
+    private final Map<Processor, KeyValueHolder<NamedNode, InstrumentationProcessor<?>>> wrappedProcessors
+            = new ConcurrentHashMap<>();
+    private final List<java.util.function.Consumer<JmxManagementLifecycleStrategy>> preServices
+            = new CopyOnWriteArrayList<>();
     private final TimerListenerManager loadTimer = new ManagedLoadTimer();
     private final TimerListenerManagerStartupListener loadTimerStartupListener = new TimerListenerManagerStartupListener();
     private volatile CamelContext camelContext;
     private volatile ManagedCamelContext camelContextMBean;
     private volatile boolean initialized;
-    private final Set<String> knowRouteIds = new HashSet<>();
-    private final Map<BacklogTracer, ManagedBacklogTracer> managedBacklogTracers = new HashMap<>();
-    private final Map<DefaultBacklogDebugger, ManagedBacklogDebugger> managedBacklogDebuggers = new HashMap<>();
-    private final Map<ThreadPoolExecutor, Object> managedThreadPools = new HashMap<>();
+    private final Set<String> knowRouteIds = ConcurrentHashMap.newKeySet();
+    private final Map<BacklogTracer, ManagedBacklogTracer> managedBacklogTracers = new ConcurrentHashMap<>();
+    private final Map<DefaultBacklogDebugger, ManagedBacklogDebugger> managedBacklogDebuggers = new ConcurrentHashMap<>();
+    private final Map<ThreadPoolExecutor, Object> managedThreadPools = new ConcurrentHashMap<>();
 
     public JmxManagementLifecycleStrategy() {
     }
@@ -527,22 +530,18 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
 
         if (service instanceof BacklogTracer backlogTracer) {
             // special for backlog tracer
-            ManagedBacklogTracer mt = managedBacklogTracers.get(backlogTracer);
-            if (mt == null) {
-                mt = new ManagedBacklogTracer(context, backlogTracer);
+            return managedBacklogTracers.computeIfAbsent(backlogTracer, k -> {
+                ManagedBacklogTracer mt = new ManagedBacklogTracer(context, backlogTracer);
                 mt.init(getManagementStrategy());
-                managedBacklogTracers.put(backlogTracer, mt);
-            }
-            return mt;
+                return mt;
+            });
         } else if (service instanceof DefaultBacklogDebugger backlogDebugger) {
             // special for backlog debugger
-            ManagedBacklogDebugger md = managedBacklogDebuggers.get(backlogDebugger);
-            if (md == null) {
-                md = new ManagedBacklogDebugger(context, backlogDebugger);
+            return managedBacklogDebuggers.computeIfAbsent(backlogDebugger, k -> {
+                ManagedBacklogDebugger md = new ManagedBacklogDebugger(context, backlogDebugger);
                 md.init(getManagementStrategy());
-                managedBacklogDebuggers.put(backlogDebugger, md);
-            }
-            return md;
+                return md;
+            });
         } else if (service instanceof Tracer tracer) {
             ManagedTracer mt = new ManagedTracer(camelContext, tracer);
             mt.init(getManagementStrategy());
@@ -440,6 +440,11 @@ public class ManagedCamelContext extends ManagedPerformanceCounter implements Ti
         return context.isUseDataType();
     }
 
+    @Override
+    public long getVirtualThreadsPinnedCounter() {
+        return context.getExecutorServiceManager().getVirtualThreadsPinnedCounter();
+    }
+
     @Override
     public void onTimer() {
         load.update(getInflightExchanges());
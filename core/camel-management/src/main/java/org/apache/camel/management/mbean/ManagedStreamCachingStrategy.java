@@ -138,6 +138,26 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         }
     }
 
+    @Override
+    public boolean isSpoolOffHeapEnabled() {
+        return streamCachingStrategy.isSpoolOffHeapEnabled();
+    }
+
+    @Override
+    public int getSpoolOffHeapBlockSize() {
+        return streamCachingStrategy.getSpoolOffHeapBlockSize();
+    }
+
+    @Override
+    public void setSpoolOffHeapMaxSize(long maxSize) {
+        streamCachingStrategy.setSpoolOffHeapMaxSize(maxSize);
+    }
+
+    @Override
+    public long getSpoolOffHeapMaxSize() {
+        return streamCachingStrategy.getSpoolOffHeapMaxSize();
+    }
+
     @Override
     public void setBufferSize(int bufferSize) {
         streamCachingStrategy.setBufferSize(bufferSize);
@@ -148,6 +168,26 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getBufferSize();
     }
 
+    @Override
+    public boolean isBufferPoolEnabled() {
+        return streamCachingStrategy.isBufferPoolEnabled();
+    }
+
+    @Override
+    public void setBufferPoolMaxSize(long maxSize) {
+        streamCachingStrategy.setBufferPoolMaxSize(maxSize);
+    }
+
+    @Override
+    public long getBufferPoolMaxSize() {
+        return streamCachingStrategy.getBufferPoolMaxSize();
+    }
+
+    @Override
+    public boolean isBufferPoolLeakDetectionEnabled() {
+        return streamCachingStrategy.isBufferPoolLeakDetectionEnabled();
+    }
+
     @Override
     public void setRemoveSpoolDirectoryWhenStopping(boolean remove) {
         streamCachingStrategy.setRemoveSpoolDirectoryWhenStopping(remove);
@@ -198,6 +238,56 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheOffHeapCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapCounter();
+    }
+
+    @Override
+    public long getCacheOffHeapSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapSize();
+    }
+
+    @Override
+    public long getCacheOffHeapAverageSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapAverageSize();
+    }
+
+    @Override
+    public long getCacheOffHeapExhaustedCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapExhaustedCounter();
+    }
+
+    @Override
+    public long getOffHeapPoolUsedSize() {
+        return streamCachingStrategy.getStatistics().getOffHeapPoolUsedSize();
+    }
+
+    @Override
+    public long getOffHeapPoolAllocatedSize() {
+        return streamCachingStrategy.getStatistics().getOffHeapPoolAllocatedSize();
+    }
+
+    @Override
+    public long getBufferPoolHitCounter() {
+        return streamCachingStrategy.getStatistics().getBufferPoolHitCounter();
+    }
+
+    @Override
+    public long getBufferPoolMissCounter() {
+        return streamCachingStrategy.getStatistics().getBufferPoolMissCounter();
+    }
+
+    @Override
+    public long getBufferPoolUsedSize() {
+        return streamCachingStrategy.getStatistics().getBufferPoolUsedSize();
+    }
+
+    @Override
+    public long getBufferPoolRetainedSize() {
+        return streamCachingStrategy.getStatistics().getBufferPoolRetainedSize();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
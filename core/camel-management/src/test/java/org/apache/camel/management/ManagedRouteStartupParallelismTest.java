@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_THREAD_POOL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedRouteStartupParallelismTest extends ManagementTestSupport {
+
+    private static final int ROUTES = 50;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setRouteStartupParallelism(8);
+        return context;
+    }
+
+    @Test
+    public void testRouteStartupParallelism() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        // the routes, processors and thread pools are all registered when the routes are started in parallel
+        Set<ObjectName> routes = mbeanServer.queryNames(getCamelObjectName(TYPE_ROUTE, "*"), null);
+        assertEquals(ROUTES, routes.size());
+        for (int i = 0; i < ROUTES; i++) {
+            assertEquals(1, mbeanServer.queryNames(getCamelObjectName(TYPE_PROCESSOR, "threads" + i), null).size());
+            assertEquals(1, mbeanServer.queryNames(getCamelObjectName(TYPE_PROCESSOR, "to" + i), null).size());
+        }
+        Set<ObjectName> threadPools = mbeanServer.queryNames(getCamelObjectName(TYPE_THREAD_POOL, "*"), null);
+        assertEquals(ROUTES, threadPools.stream().filter(on -> on.toString().contains("(threads")).count());
+
+        getMockEndpoint("mock:result").expectedMessageCount(ROUTES);
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("direct:start" + i, "Hello " + i);
+        }
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:start" + i).routeId("route" + i)
+                            .threads(1).id("threads" + i)
+                            .to("mock:result").id("to" + i);
+                }
+            }
+        };
+    }
+}
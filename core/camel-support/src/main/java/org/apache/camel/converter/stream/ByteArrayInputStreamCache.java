@@ -17,7 +17,6 @@
 package org.apache.camel.converter.stream;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -26,6 +25,7 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
+import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.util.IOHelper;
 
 /**
@@ -41,6 +41,8 @@ public class ByteArrayInputStreamCache extends FilterInputStream implements Stre
     private final ByteArrayInputStream bais;
     private final int length;
     private byte[] byteArrayForCopy;
+    private PooledBuffer pooledBufferForCopy;
+    private int countForCopy;
 
     public ByteArrayInputStreamCache(ByteArrayInputStream in) {
         super(in);
@@ -67,17 +69,46 @@ public class ByteArrayInputStreamCache extends FilterInputStream implements Stre
 
     @Override
     public StreamCache copy(Exchange exchange) throws IOException {
-        if (byteArrayForCopy == null) {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream(in.available());
-            IOHelper.copy(in, baos);
-            // reset so that the stream can be reused
-            reset();
-            // cache the byte array, in order not to copy the byte array in the next call again
-            byteArrayForCopy = baos.toByteArray();
+        StreamCachingStrategy strategy = exchange != null ? exchange.getContext().getStreamCachingStrategy() : null;
+        if (strategy != null && strategy.isBufferPoolEnabled()) {
+            return copyToPooledBuffer(strategy, exchange);
         }
+
+        lock.lock();
+        try {
+            if (byteArrayForCopy == null) {
+                byteArrayForCopy = in.readAllBytes();
+                // reset so that the stream can be reused
+                reset();
+            }
+        } finally {
+            lock.unlock();
+        }
+        // the byte array is cached, in order not to copy the byte array in the next call again
         return new InputStreamCache(byteArrayForCopy);
     }
 
+    private StreamCache copyToPooledBuffer(StreamCachingStrategy strategy, Exchange exchange) throws IOException {
+        lock.lock();
+        try {
+            // the buffer is released when the exchanges of the copies are done, and then a new buffer is needed
+            if (pooledBufferForCopy == null || !pooledBufferForCopy.addExchange(exchange)) {
+                int count = in.available();
+                PooledBuffer pooled = new PooledBuffer(strategy, count, true);
+                in.readNBytes(pooled.getBuffer(), 0, count);
+                // reset so that the stream can be reused
+                reset();
+                pooled.share();
+                pooled.addExchange(exchange);
+                pooledBufferForCopy = pooled;
+                countForCopy = count;
+            }
+            return new InputStreamCache(pooledBufferForCopy.getBuffer(), countForCopy, pooledBufferForCopy);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @Override
     public boolean inMemory() {
         return true;
@@ -17,6 +17,7 @@
 package org.apache.camel.converter.stream;
 
 import java.io.ByteArrayOutputStream;
+import java.util.Objects;
 
 /**
  * A {@link ByteArrayOutputStream} that is capable of returning a {@link InputStreamCache} view of the buffer.
@@ -26,14 +27,48 @@ import java.io.ByteArrayOutputStream;
  */
 public final class CachedByteArrayOutputStream extends ByteArrayOutputStream {
 
+    private final PooledBuffer pooledBuffer;
+
     public CachedByteArrayOutputStream(int size) {
         super(size);
+        this.pooledBuffer = null;
+    }
+
+    CachedByteArrayOutputStream(PooledBuffer pooledBuffer) {
+        super(0);
+        this.pooledBuffer = pooledBuffer;
+        this.buf = pooledBuffer.getBuffer();
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        ensureCapacity(count + 1);
+        super.write(b);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureCapacity(count + len);
+        super.write(b, off, len);
     }
 
     /**
      * Creates a new {@link InputStreamCache} view of the byte array
      */
     public InputStreamCache newInputStreamCache() {
+        if (pooledBuffer != null) {
+            pooledBuffer.share();
+            return new InputStreamCache(buf, count, pooledBuffer);
+        }
         return new InputStreamCache(buf, count);
     }
+
+    private void ensureCapacity(int capacity) {
+        // grow using buffers from the pool, instead of letting the byte array output stream allocate a new buffer
+        if (pooledBuffer != null && capacity > buf.length) {
+            int size = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(capacity, (long) buf.length << 1));
+            buf = pooledBuffer.grow(size, count);
+        }
+    }
 }
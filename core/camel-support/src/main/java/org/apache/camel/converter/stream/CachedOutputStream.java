@@ -26,6 +26,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache.BlockManager;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.util.IOHelper;
 
@@ -39,14 +40,21 @@ import org.apache.camel.util.IOHelper;
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
+ * <p/>
+ * If spooling to off-heap memory is enabled, then the content is stored in blocks of off-heap memory instead of a temp
+ * file, until the off-heap pool is exhausted. The blocks are released back to the pool in the same way as the temp file
+ * is deleted.
  */
 public class CachedOutputStream extends OutputStream {
 
+    private final Exchange exchange;
     private final StreamCachingStrategy strategy;
     private OutputStream currentStream;
     private boolean inMemory = true;
     private int totalLength;
     private final TempFileManager tempFileManager;
+    private BlockManager blockManager;
+    private PooledBuffer pooledBuffer;
     private final boolean closedOnCompletion;
 
     public CachedOutputStream(Exchange exchange) {
@@ -54,11 +62,18 @@ public class CachedOutputStream extends OutputStream {
     }
 
     public CachedOutputStream(Exchange exchange, final boolean closedOnCompletion) {
+        this.exchange = exchange;
         this.closedOnCompletion = closedOnCompletion;
         this.tempFileManager = new TempFileManager(closedOnCompletion);
         this.tempFileManager.addExchange(exchange);
         this.strategy = exchange.getContext().getStreamCachingStrategy();
-        this.currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        if (strategy.isBufferPoolEnabled()) {
+            this.pooledBuffer = new PooledBuffer(strategy, strategy.getBufferSize(), closedOnCompletion);
+            this.pooledBuffer.addExchange(exchange);
+            this.currentStream = new CachedByteArrayOutputStream(pooledBuffer);
+        } else {
+            this.currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        }
     }
 
     @Override
@@ -73,6 +88,12 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            if (blockManager != null) {
+                blockManager.release();
+            }
+            if (pooledBuffer != null) {
+                pooledBuffer.release();
+            }
         }
     }
 
@@ -103,8 +124,9 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpool();
         }
+        reserveOffHeap(len);
         currentStream.write(b, off, len);
     }
 
@@ -112,8 +134,9 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpool();
         }
+        reserveOffHeap(b.length);
         currentStream.write(b);
     }
 
@@ -121,8 +144,9 @@ public class CachedOutputStream extends OutputStream {
     public void write(int b) throws IOException {
         this.totalLength++;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpool();
         }
+        reserveOffHeap(1);
         currentStream.write(b);
     }
 
@@ -149,22 +173,65 @@ public class CachedOutputStream extends OutputStream {
                         "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
                                                 + currentStream.getClass().getName());
             }
+        } else if (blockManager != null) {
+            return blockManager.newStreamCache();
         } else {
             return tempFileManager.newStreamCache();
         }
     }
 
+    private void pageToSpool() throws IOException {
+        if (strategy.isSpoolOffHeapEnabled() && !tempFileManager.isCompleted()) {
+            CachedByteArrayOutputStream bout = (CachedByteArrayOutputStream) currentStream;
+            BlockManager manager = new BlockManager(strategy, closedOnCompletion);
+            if (manager.reserve(bout.size())) {
+                manager.addExchange(exchange);
+                blockManager = manager;
+                currentStream = manager.createOutputStream();
+                bout.writeTo(currentStream);
+                inMemory = false;
+                releasePooledBuffer();
+                return;
+            }
+            // the off-heap pool is exhausted
+            manager.release();
+        }
+        pageToFileStream();
+    }
+
+    private void reserveOffHeap(int len) throws IOException {
+        if (blockManager != null && !blockManager.reserve(len)) {
+            // the off-heap pool is exhausted so continue with spooling to disk
+            BlockManager manager = blockManager;
+            try {
+                currentStream = tempFileManager.createOutputStream(strategy);
+                manager.newStreamCache().writeTo(currentStream);
+            } finally {
+                blockManager = null;
+                manager.release();
+            }
+        }
+    }
+
     private void pageToFileStream() throws IOException {
         flush();
         CachedByteArrayOutputStream bout = (CachedByteArrayOutputStream) currentStream;
         try {
             // creates a tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy);
-            IOHelper.copy(bout.newInputStreamCache(), currentStream, strategy.getBufferSize());
+            bout.writeTo(currentStream);
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
         }
+        releasePooledBuffer();
+    }
+
+    private void releasePooledBuffer() {
+        // the content is no longer in-memory so the buffer can be released now, unless its shared with stream caches
+        if (pooledBuffer != null && !pooledBuffer.isShared()) {
+            pooledBuffer.release();
+        }
     }
 
     public int getStrategyBufferSize() {
@@ -218,7 +285,7 @@ public class CachedOutputStream extends OutputStream {
 
         @Override
         public boolean inMemory() {
-            return cachedOutputStream.inMemory;
+            return cachedOutputStream.inMemory || cachedOutputStream.blockManager != null;
         }
 
         @Override
@@ -284,31 +284,46 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                         return "OnCompletion[CachedOutputStream]";
                     }
                 };
-                UnitOfWork streamCacheUnitOfWork
-                        = exchange.getProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK, UnitOfWork.class);
-                if (streamCacheUnitOfWork != null && streamCacheUnitOfWork.getRoute() != null) {
-                    // The stream cache must sometimes not be closed when the exchange is deleted. This is for example the
-                    // case in the splitter and multi-cast case with AggregationStrategy where the result of the sub-routes
-                    // are aggregated later in the main route. Here, the cached streams of the sub-routes must be closed with
-                    // the Unit of Work of the main route.
-                    // streamCacheUnitOfWork.getRoute() != null means that the unit of work is still active and the done method
-                    // was not yet called: It can happen that streamCacheUnitOfWork.getRoute() == null in the split or
-                    // multi-cast case when there is a timeout on the main route and an exchange of the sub-route is added after
-                    // the timeout. This we have to avoid because the stream cache would never be closed then.
-                    streamCacheUnitOfWork.addSynchronization(onCompletion);
-                } else {
-                    // add on completion so we can cleanup after the exchange is done such as deleting temporary files
-                    exchange.getExchangeExtension().addOnCompletion(onCompletion);
-                }
+                addOnCompletion(exchange, onCompletion);
             }
         }
 
+        /**
+         * Adds the on completion which cleans up the stream cache, when the exchange (or the unit of work the stream
+         * cache belongs to) is done.
+         */
+        static void addOnCompletion(Exchange exchange, Synchronization onCompletion) {
+            UnitOfWork streamCacheUnitOfWork
+                    = exchange.getProperty(ExchangePropertyKey.STREAM_CACHE_UNIT_OF_WORK, UnitOfWork.class);
+            if (streamCacheUnitOfWork != null && streamCacheUnitOfWork.getRoute() != null) {
+                // The stream cache must sometimes not be closed when the exchange is deleted. This is for example the
+                // case in the splitter and multi-cast case with AggregationStrategy where the result of the sub-routes
+                // are aggregated later in the main route. Here, the cached streams of the sub-routes must be closed with
+                // the Unit of Work of the main route.
+                // streamCacheUnitOfWork.getRoute() != null means that the unit of work is still active and the done method
+                // was not yet called: It can happen that streamCacheUnitOfWork.getRoute() == null in the split or
+                // multi-cast case when there is a timeout on the main route and an exchange of the sub-route is added after
+                // the timeout. This we have to avoid because the stream cache would never be closed then.
+                streamCacheUnitOfWork.addSynchronization(onCompletion);
+            } else {
+                // add on completion so we can cleanup after the exchange is done such as deleting temporary files
+                exchange.getExchangeExtension().addOnCompletion(onCompletion);
+            }
+        }
+
+        /**
+         * Whether all the exchanges are done, which means resources created from now on would never be cleaned up.
+         */
+        boolean isCompleted() {
+            return closedOnCompletion && exchangeCounter.get() == 0;
+        }
+
         OutputStream createOutputStream(StreamCachingStrategy strategy) throws IOException {
             // should only be called once
             if (tempFile != null) {
                 throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
             }
-            if (closedOnCompletion && exchangeCounter.get() == 0) {
+            if (isCompleted()) {
                 // exchange was already stopped -> in this case the tempFile would never be deleted.
                 // This can happen when in the splitter or Multi-cast case with parallel processing, the CachedOutputStream is created when the main unit of work
                 // is still active, but has a timeout and after the timeout which stops the unit of work the FileOutputStream is created.
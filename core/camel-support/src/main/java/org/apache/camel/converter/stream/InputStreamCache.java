@@ -19,6 +19,8 @@ package org.apache.camel.converter.stream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
@@ -26,29 +28,125 @@ import org.apache.camel.StreamCache;
 /**
  * A {@link StreamCache} for caching using an in-memory byte array.
  * <p/>
+ * When the byte array is from the buffer pool of the {@link org.apache.camel.spi.StreamCachingStrategy}, then the
+ * stream cache cannot be read anymore when the exchanges are done, and the buffer has been released back to the pool,
+ * the same way as the temporary file of a {@link FileInputStreamCache} is deleted. As the read methods of
+ * {@link ByteArrayInputStream} cannot throw {@link IOException}, then they throw {@link UncheckedIOException} instead.
+ * <p/>
  * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
  * users to create as instances, but they are part of Camels
  * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
  */
 public final class InputStreamCache extends ByteArrayInputStream implements StreamCache {
 
+    private final PooledBuffer pooledBuffer;
+
     public InputStreamCache(byte[] data) {
         super(data);
+        this.pooledBuffer = null;
     }
 
     public InputStreamCache(byte[] data, int count) {
+        this(data, count, null);
+    }
+
+    InputStreamCache(byte[] data, int count, PooledBuffer pooledBuffer) {
         super(data);
         super.count = count;
+        this.pooledBuffer = pooledBuffer;
     }
 
     @Override
     public void writeTo(OutputStream os) throws IOException {
-        os.write(buf, pos, count - pos);
+        if (pooledBuffer == null) {
+            os.write(buf, pos, count - pos);
+            return;
+        }
+        // the data is handed over while reading, so the buffer must not be released until written
+        long stamp = lockRead();
+        try {
+            os.write(buf, pos, count - pos);
+        } finally {
+            pooledBuffer.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public synchronized long transferTo(OutputStream out) throws IOException {
+        if (pooledBuffer == null) {
+            return super.transferTo(out);
+        }
+        long stamp = lockRead();
+        try {
+            return super.transferTo(out);
+        } finally {
+            pooledBuffer.unlockRead(stamp);
+        }
     }
 
     @Override
-    public StreamCache copy(Exchange exchange) {
-        return new InputStreamCache(buf, count);
+    public synchronized int read() {
+        if (pooledBuffer == null) {
+            return super.read();
+        }
+        long stamp = startRead();
+        int answer = super.read();
+        validateRead(stamp);
+        return answer;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) {
+        if (pooledBuffer == null) {
+            return super.read(b, off, len);
+        }
+        long stamp = startRead();
+        int answer = super.read(b, off, len);
+        validateRead(stamp);
+        return answer;
+    }
+
+    @Override
+    public synchronized byte[] readAllBytes() {
+        if (pooledBuffer == null) {
+            return super.readAllBytes();
+        }
+        long stamp = startRead();
+        byte[] answer = super.readAllBytes();
+        validateRead(stamp);
+        return answer;
+    }
+
+    @Override
+    public synchronized int readNBytes(byte[] b, int off, int len) {
+        if (pooledBuffer == null) {
+            return super.readNBytes(b, off, len);
+        }
+        long stamp = startRead();
+        int answer = super.readNBytes(b, off, len);
+        validateRead(stamp);
+        return answer;
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        if (pooledBuffer != null) {
+            if (pooledBuffer.isReleased()) {
+                throw new IOException("Cannot copy stream cache as its buffer has been released back to the pool");
+            } else if (exchange == null) {
+                long stamp = pooledBuffer.startRead();
+                byte[] data = Arrays.copyOf(buf, count);
+                if (!pooledBuffer.validateRead(stamp)) {
+                    throw new IOException("Cannot copy stream cache as its buffer has been released back to the pool");
+                }
+                return new InputStreamCache(data);
+            }
+            // the buffer must not be released before the exchange of the copy is done
+            if (!pooledBuffer.addExchange(exchange)) {
+                throw new IOException("Cannot copy stream cache as its buffer has been released back to the pool");
+            }
+        }
+        return new InputStreamCache(buf, count, pooledBuffer);
     }
 
     @Override
@@ -64,4 +162,32 @@ public final class InputStreamCache extends ByteArrayInputStream implements Stre
     public long position() {
         return available() - count;
     }
+
+    private long startRead() {
+        long stamp = pooledBuffer.startRead();
+        if (stamp == 0) {
+            throw releasedException();
+        }
+        return stamp;
+    }
+
+    private long lockRead() throws IOException {
+        long stamp = pooledBuffer.lockRead();
+        if (stamp == 0) {
+            throw releasedException().getCause();
+        }
+        return stamp;
+    }
+
+    // the buffer may have been released and reused by another exchange while reading, so the data read is not ours
+    private void validateRead(long stamp) {
+        if (!pooledBuffer.validateRead(stamp)) {
+            throw releasedException();
+        }
+    }
+
+    private static UncheckedIOException releasedException() {
+        return new UncheckedIOException(
+                new IOException("Cannot read stream cache as its buffer has been released back to the pool"));
+    }
 }
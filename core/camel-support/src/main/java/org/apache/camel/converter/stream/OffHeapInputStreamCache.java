@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A {@link StreamCache} for streams which has been spooled to off-heap memory, using blocks from the off-heap pool of
+ * the {@link StreamCachingStrategy}.
+ * <p/>
+ * <b>Important:</b> All the classes from the Camel release that implements {@link StreamCache} is NOT intended for end
+ * users to create as instances, but they are part of Camels
+ * <a href="https://camel.apache.org/manual/stream-caching.html">stream-caching</a> functionality.
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+    private final Lock lock = new ReentrantLock();
+    private final BlockManager blockManager;
+    private final ByteBuffer[] blocks;
+    private final long length;
+    private int index;
+    private long pos;
+
+    OffHeapInputStreamCache(BlockManager blockManager) {
+        this.blockManager = blockManager;
+        this.length = blockManager.getLength();
+        List<ByteBuffer> list = blockManager.getBlocks();
+        this.blocks = new ByteBuffer[list.size()];
+        for (int i = 0; i < blocks.length; i++) {
+            // each stream cache has its own view of the blocks, so they can be read independently
+            blocks[i] = list.get(i).asReadOnlyBuffer().flip();
+        }
+    }
+
+    @Override
+    public void close() {
+        // noop as the blocks are released when the exchanges are done
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            for (ByteBuffer block : blocks) {
+                block.rewind();
+            }
+            index = 0;
+            pos = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        // the data is handed over while reading, so the blocks must not be released until written
+        long stamp = blockManager.lockRead();
+        if (stamp == 0) {
+            throw releasedException();
+        }
+        try {
+            byte[] buffer = new byte[IOHelper.DEFAULT_BUFFER_SIZE];
+            for (int i = index; i < blocks.length; i++) {
+                // use a duplicate to not change the position
+                ByteBuffer block = blocks[i].duplicate();
+                while (block.hasRemaining()) {
+                    int len = Math.min(buffer.length, block.remaining());
+                    block.get(buffer, 0, len);
+                    os.write(buffer, 0, len);
+                }
+            }
+        } finally {
+            blockManager.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        if (!blockManager.addExchange(exchange)) {
+            throw new IOException("Cannot copy stream cache as its off-heap memory has been released");
+        }
+        return new OffHeapInputStreamCache(blockManager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public long position() {
+        return pos;
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (blockManager.isReleased()) {
+            throw releasedException();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, length - pos);
+    }
+
+    @Override
+    public int read() throws IOException {
+        long stamp = startRead();
+        ByteBuffer block = nextBlock();
+        if (block == null) {
+            return -1;
+        }
+        int answer = block.get() & 0xff;
+        validateRead(stamp);
+        pos++;
+        return answer;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        long stamp = startRead();
+        int total = 0;
+        while (total < len) {
+            ByteBuffer block = nextBlock();
+            if (block == null) {
+                break;
+            }
+            int n = Math.min(len - total, block.remaining());
+            block.get(b, off + total, n);
+            total += n;
+        }
+        validateRead(stamp);
+        pos += total;
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long stamp = startRead();
+        long total = 0;
+        while (total < n) {
+            ByteBuffer block = nextBlock();
+            if (block == null) {
+                break;
+            }
+            int len = (int) Math.min(n - total, block.remaining());
+            block.position(block.position() + len);
+            total += len;
+        }
+        validateRead(stamp);
+        pos += total;
+        return total;
+    }
+
+    private ByteBuffer nextBlock() {
+        while (index < blocks.length) {
+            ByteBuffer block = blocks[index];
+            if (block.hasRemaining()) {
+                return block;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    private long startRead() throws IOException {
+        long stamp = blockManager.startRead();
+        if (stamp == 0) {
+            throw releasedException();
+        }
+        return stamp;
+    }
+
+    // the blocks may have been released and reused by another exchange while reading, so the data read is not ours
+    private void validateRead(long stamp) throws IOException {
+        if (!blockManager.validateRead(stamp)) {
+            throw releasedException();
+        }
+    }
+
+    private static IOException releasedException() {
+        return new IOException("Cannot read stream cache as its off-heap memory has been released");
+    }
+
+    /**
+     * Manages the off-heap blocks for the off-heap input stream caches.
+     *
+     * Counts the number of exchanges which have an OffHeapInputStreamCache instance of the blocks. Releases the blocks
+     * back to the pool, when all exchanges are done.
+     *
+     * @see CachedOutputStream
+     */
+    static class BlockManager extends PooledResourceManager {
+
+        private final StreamCachingStrategy strategy;
+        private final List<ByteBuffer> blocks = new ArrayList<>();
+        private long capacity;
+        private long length;
+
+        BlockManager(StreamCachingStrategy strategy, boolean closedOnCompletion) {
+            super(closedOnCompletion);
+            this.strategy = strategy;
+        }
+
+        /**
+         * Ensures there are room for writing the given number of bytes, by acquiring blocks from the pool as needed.
+         *
+         * @return <tt>true</tt> if there is room, or <tt>false</tt> if the pool is exhausted
+         */
+        boolean reserve(int len) {
+            while (length + len > capacity) {
+                ByteBuffer block = strategy.acquireOffHeapBlock();
+                if (block == null) {
+                    return false;
+                }
+                blocks.add(block);
+                capacity += block.capacity();
+            }
+            return true;
+        }
+
+        OutputStream createOutputStream() {
+            return new BlockOutputStream();
+        }
+
+        OffHeapInputStreamCache newStreamCache() {
+            return new OffHeapInputStreamCache(this);
+        }
+
+        List<ByteBuffer> getBlocks() {
+            return blocks;
+        }
+
+        long getLength() {
+            return length;
+        }
+
+        @Override
+        protected void doRelease() {
+            for (ByteBuffer block : blocks) {
+                strategy.releaseOffHeapBlock(block);
+            }
+            blocks.clear();
+        }
+
+        // writes to the blocks, which must have been reserved beforehand
+        private final class BlockOutputStream extends OutputStream {
+
+            private int current;
+
+            @Override
+            public void write(int b) {
+                currentBlock().put((byte) b);
+                length++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                while (len > 0) {
+                    ByteBuffer block = currentBlock();
+                    int n = Math.min(len, block.remaining());
+                    block.put(b, off, n);
+                    off += n;
+                    len -= n;
+                    length += n;
+                }
+            }
+
+            private ByteBuffer currentBlock() {
+                ByteBuffer block = blocks.get(current);
+                if (!block.hasRemaining()) {
+                    block = blocks.get(++current);
+                }
+                return block;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.lang.ref.Cleaner;
+
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A buffer acquired from the buffer pool of the {@link StreamCachingStrategy} for in-memory stream caches, which is
+ * released back to the pool when all the exchanges using the stream caches are done.
+ * <p/>
+ * When leak detection is enabled, then a buffer that was never released is detected when this instance is garbage
+ * collected, and a WARN is logged with the stacktrace of where the buffer was acquired.
+ *
+ * @see CachedByteArrayOutputStream
+ */
+final class PooledBuffer extends PooledResourceManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PooledBuffer.class);
+
+    private final StreamCachingStrategy strategy;
+    private final Leak leak;
+    private final Cleaner.Cleanable cleanable;
+    private byte[] buffer;
+    private boolean shared;
+
+    PooledBuffer(StreamCachingStrategy strategy, int size, boolean closedOnCompletion) {
+        super(closedOnCompletion);
+        this.strategy = strategy;
+        this.buffer = strategy.acquireBuffer(size);
+        if (strategy.isBufferPoolLeakDetectionEnabled()) {
+            this.leak = new Leak(strategy, buffer);
+            this.cleanable = CleanerHolder.CLEANER.register(this, leak);
+        } else {
+            this.leak = null;
+            this.cleanable = null;
+        }
+    }
+
+    byte[] getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * Replaces the buffer with a larger buffer from the pool.
+     *
+     * @param  capacity the minimum capacity of the new buffer
+     * @param  count    the number of bytes to copy from the current buffer
+     * @return          the new buffer
+     */
+    byte[] grow(int capacity, int count) {
+        byte[] answer = strategy.acquireBuffer(capacity);
+        System.arraycopy(buffer, 0, answer, 0, count);
+        strategy.releaseBuffer(buffer);
+        buffer = answer;
+        if (leak != null) {
+            leak.buffer = answer;
+        }
+        return answer;
+    }
+
+    /**
+     * Marks the buffer as shared with stream caches, which means it cannot be released before the exchanges are done.
+     */
+    void share() {
+        shared = true;
+    }
+
+    boolean isShared() {
+        return shared;
+    }
+
+    @Override
+    protected void doRelease() {
+        if (leak != null) {
+            leak.released = true;
+            cleanable.clean();
+        }
+        strategy.releaseBuffer(buffer);
+    }
+
+    // must not refer to the pooled buffer, as otherwise it will never be garbage collected
+    private static final class Leak implements Runnable {
+        private final StreamCachingStrategy strategy;
+        private final Exception acquired = new Exception("Buffer acquired here");
+        private volatile byte[] buffer;
+        private volatile boolean released;
+
+        Leak(StreamCachingStrategy strategy, byte[] buffer) {
+            this.strategy = strategy;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void run() {
+            if (!released) {
+                LOG.warn("Stream cache buffer of {} bytes was not released back to the pool before it was garbage collected."
+                         + " Releasing the buffer now.",
+                        buffer.length, acquired);
+                strategy.releaseBuffer(buffer);
+            }
+        }
+    }
+
+    // lazy create the cleaner as it starts a thread
+    private static final class CleanerHolder {
+        private static final Cleaner CLEANER = Cleaner.create();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.Synchronization;
+import org.apache.camel.support.SynchronizationAdapter;
+
+/**
+ * Base class for managing resources of stream caches that are borrowed from a pool, such as buffers or off-heap memory.
+ *
+ * Counts the number of exchanges which are using the resources. Releases the resources back to the pool, when all the
+ * exchanges are done.
+ *
+ * The resources can be handed to another exchange as soon as they are released, so the stream caches must read them
+ * either under the read lock, or optimistically and then validate that the resources were not released meanwhile, so
+ * they never return data of another exchange.
+ */
+abstract class PooledResourceManager {
+
+    private final boolean closedOnCompletion;
+    private final Lock lock = new ReentrantLock();
+    private final StampedLock readLock = new StampedLock();
+    private int exchangeCounter;
+    private volatile boolean released;
+
+    PooledResourceManager(boolean closedOnCompletion) {
+        this.closedOnCompletion = closedOnCompletion;
+    }
+
+    /**
+     * Adds the exchange as using the resources, which are released when all the exchanges are done.
+     *
+     * @return <tt>false</tt> if the resources has already been released, and cannot be used by the exchange
+     */
+    boolean addExchange(Exchange exchange) {
+        if (!closedOnCompletion) {
+            return !released;
+        }
+
+        lock.lock();
+        try {
+            if (released) {
+                return false;
+            }
+            exchangeCounter++;
+        } finally {
+            lock.unlock();
+        }
+
+        // add on completion so we can release the resources after the exchange is done
+        Synchronization onCompletion = new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange exchange) {
+                lock.lock();
+                try {
+                    if (--exchangeCounter == 0) {
+                        release();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "OnCompletion[" + PooledResourceManager.this.getClass().getSimpleName() + "]";
+            }
+        };
+        FileInputStreamCache.TempFileManager.addOnCompletion(exchange, onCompletion);
+        return true;
+    }
+
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Starts an optimistic read of the resources, which must be validated with {@link #validateRead(long)} after
+     * reading.
+     *
+     * @return the stamp, or <tt>0</tt> if the resources has been released
+     */
+    long startRead() {
+        long stamp = readLock.tryOptimisticRead();
+        return released ? 0 : stamp;
+    }
+
+    /**
+     * Whether the resources has not been released since the optimistic read was started, so the data read is valid.
+     */
+    boolean validateRead(long stamp) {
+        return stamp != 0 && readLock.validate(stamp);
+    }
+
+    /**
+     * Locks the resources for reading, so they cannot be released until {@link #unlockRead(long)} is called. This must
+     * be used when the data is handed over while reading, such as when writing to an output stream.
+     *
+     * @return the stamp, or <tt>0</tt> if the resources has been released
+     */
+    long lockRead() {
+        long stamp = readLock.readLock();
+        if (released) {
+            readLock.unlockRead(stamp);
+            return 0;
+        }
+        return stamp;
+    }
+
+    void unlockRead(long stamp) {
+        readLock.unlockRead(stamp);
+    }
+
+    /**
+     * Releases the resources back to the pool, which waits for the stream caches that have locked the resources for
+     * reading.
+     */
+    void release() {
+        long stamp = readLock.writeLock();
+        try {
+            lock.lock();
+            try {
+                if (!released) {
+                    released = true;
+                    doRelease();
+                }
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            readLock.unlockWrite(stamp);
+        }
+    }
+
+    protected abstract void doRelease();
+
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.support;
 
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -56,6 +57,12 @@ abstract class AbstractExchange implements Exchange {
     protected Map<String, Object> properties; // create properties on-demand as we use internal properties mostly
     protected Map<String, SafeCopyProperty> safeCopyProperties;
     protected ExchangeVariableRepository variableRepository;
+    // whether the properties or variables are shared with a copy of this exchange (copy-on-write)
+    boolean propertiesShared;
+    boolean variablesShared;
+    // whether the properties or variables map has been handed out, and may be changed by whoever holds it
+    boolean propertiesExposed;
+    boolean variablesExposed;
     protected Message in;
     protected Message out;
     protected Exception exception;
@@ -117,14 +124,29 @@ abstract class AbstractExchange implements Exchange {
         privateExtension.setRollbackOnlyLast(parent.getExchangeExtension().isRollbackOnlyLast());
         privateExtension.setRouteStop(parent.getExchangeExtension().isRouteStop());
 
+        boolean copyOnWrite = context != null && context.getCamelContextExtension().isExchangeCopyOnWrite();
         if (parent.hasVariables()) {
-            if (this.variableRepository == null) {
-                this.variableRepository = new ExchangeVariableRepository(getContext());
+            if (copyOnWrite && !parent.variablesExposed) {
+                // share the variables until either exchange changes them
+                this.variableRepository = parent.variableRepository;
+                this.variablesShared = true;
+                parent.variablesShared = true;
+            } else {
+                if (this.variableRepository == null) {
+                    this.variableRepository = new ExchangeVariableRepository(getContext());
+                }
+                this.variableRepository.copyFrom(parent.variableRepository);
             }
-            this.variableRepository.copyFrom(parent.variableRepository);
         }
         if (parent.hasProperties()) {
-            this.properties = safeCopyProperties(parent.properties);
+            if (copyOnWrite && !parent.propertiesExposed) {
+                // share the properties until either exchange changes them
+                this.properties = parent.properties;
+                this.propertiesShared = true;
+                parent.propertiesShared = true;
+            } else {
+                this.properties = safeCopyProperties(parent.properties);
+            }
         }
         if (parent.hasSafeCopyProperties()) {
             this.safeCopyProperties = parent.copySafeCopyProperties();
@@ -257,25 +279,51 @@ abstract class AbstractExchange implements Exchange {
             setProperty(key, value);
         } else if (value != null) {
             // avoid the NullPointException
-            if (properties == null) {
-                this.properties = new ConcurrentHashMap<>(8);
-            }
-            properties.put(name, value);
+            writableProperties().put(name, value);
         } else if (properties != null) {
             // if the value is null, we just remove the key from the map
-            properties.remove(name);
+            writableProperties().remove(name);
         }
     }
 
     void setProperties(Map<String, Object> properties) {
-        if (this.properties == null) {
+        if (this.properties == null || propertiesShared) {
             this.properties = new ConcurrentHashMap<>(8);
+            this.propertiesShared = false;
+            this.propertiesExposed = false;
         } else {
             this.properties.clear();
         }
         this.properties.putAll(properties);
     }
 
+    /**
+     * Clears the properties, without affecting copies of this exchange which share the properties.
+     */
+    void clearProperties() {
+        if (propertiesShared) {
+            this.properties = new ConcurrentHashMap<>(8);
+            this.propertiesShared = false;
+            this.propertiesExposed = false;
+        } else if (properties != null) {
+            properties.clear();
+        }
+    }
+
+    /**
+     * Gets the properties which can be changed, which are copied if they are shared with copies of this exchange.
+     */
+    private Map<String, Object> writableProperties() {
+        if (properties == null) {
+            this.properties = new ConcurrentHashMap<>(8);
+        } else if (propertiesShared) {
+            this.properties = new ConcurrentHashMap<>(properties);
+            this.propertiesShared = false;
+            this.propertiesExposed = false;
+        }
+        return properties;
+    }
+
     @Override
     public Object removeProperty(String name) {
         ExchangePropertyKey key = ExchangePropertyKey.asExchangePropertyKey(name);
@@ -285,7 +333,7 @@ abstract class AbstractExchange implements Exchange {
         if (!hasProperties()) {
             return null;
         }
-        return properties.remove(name);
+        return writableProperties().remove(name);
     }
 
     @Override
@@ -297,9 +345,7 @@ abstract class AbstractExchange implements Exchange {
     public boolean removeProperties(String pattern, String... excludePatterns) {
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            if (properties != null) {
-                properties.clear();
-            }
+            clearProperties();
             internalProperties.clear();
             return true;
         }
@@ -324,10 +370,11 @@ abstract class AbstractExchange implements Exchange {
                 matches = true;
                 if (toBeRemoved.size() == properties.size()) {
                     // special optimization when all should be removed
-                    properties.clear();
+                    clearProperties();
                 } else {
+                    Map<String, Object> map = writableProperties();
                     for (String key : toBeRemoved) {
-                        properties.remove(key);
+                        map.remove(key);
                     }
                 }
             }
@@ -338,10 +385,18 @@ abstract class AbstractExchange implements Exchange {
 
     @Override
     public Map<String, Object> getProperties() {
-        if (properties == null) {
-            this.properties = new ConcurrentHashMap<>(8);
-        }
-        return properties;
+        // the returned map may be changed, also after this exchange has been copied
+        Map<String, Object> answer = writableProperties();
+        this.propertiesExposed = true;
+        return answer;
+    }
+
+    /**
+     * Gets the properties as a read-only view, which unlike {@link #getProperties()} does not copy the properties when
+     * they are shared with copies of this exchange.
+     */
+    Map<String, Object> getPropertiesReadOnly() {
+        return properties != null ? Collections.unmodifiableMap(properties) : Collections.emptyMap();
     }
 
     private Map<String, SafeCopyProperty> copySafeCopyProperties() {
@@ -411,10 +466,7 @@ abstract class AbstractExchange implements Exchange {
         if (repo != null) {
             repo.setVariable(name, value);
         } else {
-            if (variableRepository == null) {
-                variableRepository = new ExchangeVariableRepository(getContext());
-            }
-            variableRepository.setVariable(name, value);
+            writableVariables().setVariable(name, value);
         }
     }
 
@@ -430,21 +482,58 @@ abstract class AbstractExchange implements Exchange {
             return repo.removeVariable(name);
         } else if (variableRepository != null) {
             if ("*".equals(name)) {
-                variableRepository.clear();
+                clearVariables();
                 return null;
             }
-            return variableRepository.removeVariable(name);
+            return writableVariables().removeVariable(name);
         }
         return null;
     }
 
     @Override
     public Map<String, Object> getVariables() {
-        if (variableRepository == null) {
-            // force creating variables
-            variableRepository = new ExchangeVariableRepository(getContext());
+        // force creating variables, and the returned map may be changed, also after this exchange has been copied
+        Map<String, Object> answer = writableVariables().getVariables();
+        this.variablesExposed = true;
+        return answer;
+    }
+
+    /**
+     * Gets the variables as a read-only view, which unlike {@link #getVariables()} does not copy the variables when they
+     * are shared with copies of this exchange.
+     */
+    Map<String, Object> getVariablesReadOnly() {
+        return variableRepository != null
+                ? Collections.unmodifiableMap(variableRepository.getVariables()) : Collections.emptyMap();
+    }
+
+    /**
+     * Clears the variables, without affecting copies of this exchange which share the variables.
+     */
+    void clearVariables() {
+        if (variablesShared) {
+            this.variableRepository = null;
+            this.variablesShared = false;
+            this.variablesExposed = false;
+        } else if (variableRepository != null) {
+            variableRepository.clear();
         }
-        return variableRepository.getVariables();
+    }
+
+    /**
+     * Gets the variables which can be changed, which are copied if they are shared with copies of this exchange.
+     */
+    private ExchangeVariableRepository writableVariables() {
+        if (variableRepository == null) {
+            this.variableRepository = new ExchangeVariableRepository(getContext());
+        } else if (variablesShared) {
+            ExchangeVariableRepository copy = new ExchangeVariableRepository(getContext());
+            copy.copyFrom(variableRepository);
+            this.variableRepository = copy;
+            this.variablesShared = false;
+            this.variablesExposed = false;
+        }
+        return variableRepository;
     }
 
     @Override
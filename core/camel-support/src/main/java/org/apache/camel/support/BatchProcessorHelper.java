@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.List;
+
+import org.apache.camel.BatchProcessor;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+
+/**
+ * Helper methods for {@link BatchProcessor} objects.
+ */
+public final class BatchProcessorHelper {
+
+    private BatchProcessorHelper() {
+        // utility class
+    }
+
+    /**
+     * Processes the batch of exchanges with the processor, in one call if the processor is a {@link BatchProcessor}, or
+     * otherwise one exchange at a time.
+     * <p/>
+     * An exception thrown by the batch processor fails the whole batch, and is set on the exchanges which have not
+     * already failed with their own exception, as the exchanges must be processed independently of each other.
+     *
+     * @param processor the processor
+     * @param exchanges the exchanges
+     */
+    public static void process(Processor processor, List<Exchange> exchanges) {
+        if (processor instanceof BatchProcessor batch) {
+            try {
+                batch.process(exchanges);
+            } catch (Exception e) {
+                for (Exchange exchange : exchanges) {
+                    // keep the exception of the exchanges which failed before the batch failed
+                    if (exchange.getException() == null) {
+                        exchange.setException(e);
+                    }
+                }
+            }
+        } else {
+            processEach(processor, exchanges);
+        }
+    }
+
+    /**
+     * Processes the batch of exchanges with the processor one exchange at a time, also if the processor is a
+     * {@link BatchProcessor}.
+     *
+     * @param processor the processor
+     * @param exchanges the exchanges
+     */
+    public static void processEach(Processor processor, List<Exchange> exchanges) {
+        for (Exchange exchange : exchanges) {
+            try {
+                processor.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+        }
+    }
+
+}
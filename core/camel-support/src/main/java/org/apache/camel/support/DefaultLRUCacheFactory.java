@@ -54,7 +54,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
     @Override
     public <K, V> Map<K, V> createLRUCache(int maximumCacheSize, Consumer<V> onEvict) {
         LOG.trace("Creating LRUCache with initialCapacity: {}, maximumCacheSize: {}, with onEvict", 16, maximumCacheSize);
-        return new SimpleLRUCache<>(16, maximumCacheSize, onEvict);
+        return createCache(16, maximumCacheSize, onEvict);
     }
 
     /**
@@ -83,7 +83,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
     public <K, V> Map<K, V> createLRUCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction) {
         LOG.trace("Creating LRUCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}", initialCapacity,
                 maximumCacheSize, stopOnEviction);
-        return new SimpleLRUCache<K, V>(
+        return createCache(
                 initialCapacity, maximumCacheSize,
                 stopOnEviction ? DefaultLRUCacheFactory.this::doStop : DefaultLRUCacheFactory.this::doNothing);
     }
@@ -110,7 +110,7 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
         LOG.trace("Creating LRUSoftCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}", initialCapacity,
                 maximumCacheSize, stopOnEviction);
         return new SimpleSoftCache<>(
-                new SimpleLRUCache<K, SoftReference<V>>(
+                this.<K, SoftReference<V>> createCache(
                         initialCapacity, maximumCacheSize,
                         asSoftReferenceConsumer(stopOnEviction
                                 ? DefaultLRUCacheFactory.this::doStop : DefaultLRUCacheFactory.this::doNothing)));
@@ -154,12 +154,24 @@ public class DefaultLRUCacheFactory extends LRUCacheFactory {
         LOG.trace("Creating LRUWeakCache with initialCapacity: {}, maximumCacheSize: {}, stopOnEviction: {}", initialCapacity,
                 maximumCacheSize, stopOnEviction);
         return new SimpleSoftCache<>(
-                new SimpleLRUCache<K, SoftReference<V>>(
+                this.<K, SoftReference<V>> createCache(
                         initialCapacity, maximumCacheSize,
                         asSoftReferenceConsumer(stopOnEviction
                                 ? DefaultLRUCacheFactory.this::doStop : DefaultLRUCacheFactory.this::doNothing)));
     }
 
+    /**
+     * Creates the cache which is used for all the kinds of caches, where the soft caches wrap the values in soft
+     * references.
+     *
+     * @param initialCapacity  the initial capacity.
+     * @param maximumCacheSize the max capacity.
+     * @param onEvict          the function to call when an entry is evicted.
+     */
+    protected <K, V> Map<K, V> createCache(int initialCapacity, int maximumCacheSize, Consumer<V> onEvict) {
+        return new SimpleLRUCache<>(initialCapacity, maximumCacheSize, onEvict);
+    }
+
     <V> void doNothing(V value) {
     }
 
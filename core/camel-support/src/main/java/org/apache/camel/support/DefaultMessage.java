@@ -16,6 +16,7 @@
  */
 package org.apache.camel.support;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -23,6 +24,7 @@ import java.util.function.Supplier;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.spi.HeadersMapFactory;
 import org.apache.camel.trait.message.MessageTrait;
 
@@ -37,6 +39,10 @@ import org.apache.camel.trait.message.MessageTrait;
  */
 public class DefaultMessage extends MessageSupport {
     private Map<String, Object> headers;
+    // whether the headers are shared with a copy of this message (copy-on-write)
+    private boolean headersShared;
+    // whether the headers map has been handed out, and may be changed by whoever holds it
+    private boolean headersExposed;
 
     public DefaultMessage(Exchange exchange) {
         setExchange(exchange);
@@ -53,9 +59,7 @@ public class DefaultMessage extends MessageSupport {
     @Override
     public void reset() {
         super.reset();
-        if (headers != null) {
-            headers.clear();
-        }
+        clearHeaders();
         removeTrait(MessageTrait.ATTACHMENTS);
     }
 
@@ -204,10 +208,7 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public void setHeader(String name, Object value) {
-        if (headers == null) {
-            headers = createHeaders();
-        }
-        headers.put(name, value);
+        writableHeaders().put(name, value);
     }
 
     @Override
@@ -219,7 +220,7 @@ public class DefaultMessage extends MessageSupport {
         if (headers.isEmpty()) {
             return null;
         }
-        return headers.remove(name);
+        return writableHeaders().remove(name);
     }
 
     @Override
@@ -239,7 +240,7 @@ public class DefaultMessage extends MessageSupport {
 
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            headers.clear();
+            clearHeaders();
             return true;
         }
 
@@ -248,10 +249,11 @@ public class DefaultMessage extends MessageSupport {
         if (toBeRemoved != null) {
             if (toBeRemoved.size() == headers.size()) {
                 // special optimization when all should be removed
-                headers.clear();
+                clearHeaders();
             } else {
+                Map<String, Object> map = writableHeaders();
                 for (String key : toBeRemoved) {
-                    headers.remove(key);
+                    map.remove(key);
                 }
             }
 
@@ -263,18 +265,35 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public Map<String, Object> getHeaders() {
-        if (headers == null) {
-            headers = createHeaders();
-        }
+        // the returned map may be changed, also after this message has been copied
+        Map<String, Object> answer = writableHeaders();
+        headersExposed = true;
+        return answer;
+    }
+
+    /**
+     * Gets the headers as a read-only view, which unlike {@link #getHeaders()} does not copy the headers when they are
+     * shared with a copy of this message.
+     */
+    Map<String, Object> getHeadersReadOnly() {
+        return headers != null ? Collections.unmodifiableMap(headers) : Collections.emptyMap();
+    }
+
+    @Override
+    Object getHeadersInstance() {
         return headers;
     }
 
     @Override
     public void setHeaders(Map<String, Object> headers) {
+        this.headersShared = false;
+        this.headersExposed = false;
         HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
         if (factory != null) {
             if (factory.isInstanceOf(headers)) {
+                // the caller holds the map
                 this.headers = headers;
+                this.headersExposed = true;
             } else {
                 // create a new map
                 this.headers = camelContext.getCamelContextExtension().getHeadersMapFactory().newMap(headers);
@@ -294,6 +313,49 @@ public class DefaultMessage extends MessageSupport {
         return headers != null && !headers.isEmpty();
     }
 
+    @Override
+    protected boolean shareHeaders(Message that) {
+        if (that instanceof DefaultMessage dm && camelContext != null
+                && camelContext.getCamelContextExtension().isExchangeCopyOnWrite()
+                && !hasHeaders() && dm.hasHeaders() && !dm.headersExposed) {
+            // the headers are not shared when the map has been handed out, as changes to the map would affect the copy
+            // share the headers until either message changes them
+            this.headers = dm.headers;
+            this.headersShared = true;
+            dm.headersShared = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the headers which can be changed, which are copied if they are shared with a copy of this message.
+     */
+    private Map<String, Object> writableHeaders() {
+        if (headers == null) {
+            headers = createHeaders();
+        } else if (headersShared) {
+            HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
+            headers = factory != null ? factory.newMap(headers) : new HashMap<>(headers);
+            headersShared = false;
+            headersExposed = false;
+        }
+        return headers;
+    }
+
+    /**
+     * Clears the headers, without affecting a copy of this message which shares the headers.
+     */
+    private void clearHeaders() {
+        if (headersShared) {
+            headers = null;
+            headersShared = false;
+            headersExposed = false;
+        } else if (headers != null) {
+            headers.clear();
+        }
+    }
+
     @Override
     public DefaultMessage newInstance() {
         return new DefaultMessage(camelContext);
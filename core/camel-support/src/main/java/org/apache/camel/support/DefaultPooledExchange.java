@@ -90,7 +90,7 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
             // by unsetting (setting to 0) we also flag that this exchange is done and needs to be reset to use again
             clock.unset();
 
-            this.properties.clear();
+            clearProperties();
             internalProperties.clear();
             if (this.safeCopyProperties != null) {
                 this.safeCopyProperties.clear();
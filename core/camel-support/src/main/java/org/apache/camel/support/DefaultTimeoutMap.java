@@ -17,8 +17,8 @@
 package org.apache.camel.support;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
@@ -48,6 +48,9 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * a background task which check for old entries to purge. This implementation will shutdown the scheduler if its being
  * stopped. You must also invoke {@link #start()} to startup the timeout map, before its ready to be used. And you must
  * invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * The entries are kept in a hierarchical timing wheel, so the purge task only visits the entries which are about to
+ * expire, instead of scanning all the entries. The wheel ticks with a resolution of 1/64 of the purge poll time.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
@@ -61,6 +64,21 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
     private final List<Listener<K, V>> listeners = new ArrayList<>(2);
 
+    // the timing wheel has a number of levels each with 64 buckets, where a bucket at level 0 spans one tick,
+    // and a bucket at level n spans all the buckets at level n-1
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_LEVELS = 6;
+    private static final long WHEEL_SPAN = 1L << (WHEEL_BITS * WHEEL_LEVELS);
+    // if the purge task has not run for this many ticks, then its faster to reschedule all the entries
+    private static final long MAX_TICKS_TO_ADVANCE = 1L << 16;
+    @SuppressWarnings("unchecked")
+    private final TimeoutMapEntry<K, V>[] wheel = new TimeoutMapEntry[WHEEL_SIZE * WHEEL_LEVELS];
+    @SuppressWarnings("unchecked")
+    private final TimeoutMapEntry<K, V>[] wheelTails = new TimeoutMapEntry[WHEEL_SIZE * WHEEL_LEVELS];
+    private final long tickDuration;
+    private long currentTick = -1;
+
     public DefaultTimeoutMap(ScheduledExecutorService executor) {
         this(executor, 1000);
     }
@@ -77,6 +95,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         ObjectHelper.notNull(executor, "ScheduledExecutorService");
         this.executor = executor;
         this.purgePollTime = requestMapPollTimeMillis;
+        this.tickDuration = Math.max(1, requestMapPollTimeMillis >> WHEEL_BITS);
         this.lock = lock;
     }
 
@@ -107,6 +126,10 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            if (result != null) {
+                unschedule(result);
+            }
+            scheduleNew(entry);
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -123,6 +146,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                scheduleNew(entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -142,7 +168,11 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            if (entry != null) {
+                unschedule(entry);
+            }
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -184,18 +214,11 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
         long now = currentTime();
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
+        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>();
         lock.lock();
         try {
-            // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
-                    }
-                }
-            }
+            // need to advance the wheel to find the expired entries and add to the expired list
+            advance(now, expired);
 
             // if we found any expired then we need to sort, onEviction and remove
             if (!expired.isEmpty()) {
@@ -204,7 +227,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
                 // and must remove from list after we have fired the notifications
                 for (TimeoutMapEntry<K, V> entry : expired) {
-                    map.remove(entry.getKey());
+                    map.remove(entry.getKey(), entry);
                 }
             }
         } finally {
@@ -215,6 +238,152 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         }
     }
 
+    // Timing wheel
+    // -------------------------------------------------------------------------
+
+    /**
+     * Advances the timing wheel until the current time, and collects the expired entries.
+     */
+    private void advance(long now, List<TimeoutMapEntry<K, V>> expired) {
+        long nowTick = now / tickDuration;
+        if (currentTick < 0) {
+            currentTick = nowTick;
+        }
+        if (nowTick - currentTick > MAX_TICKS_TO_ADVANCE) {
+            // the wheel has not been advanced for a long time, so take out all the entries and reschedule them
+            List<TimeoutMapEntry<K, V>> entries = new ArrayList<>(map.size());
+            for (int i = 0; i < wheel.length; i++) {
+                takeBucket(i, entries);
+            }
+            currentTick = nowTick;
+            for (TimeoutMapEntry<K, V> entry : entries) {
+                expireOrSchedule(entry, now, expired);
+            }
+            return;
+        }
+
+        while (currentTick < nowTick) {
+            currentTick++;
+            // when a level has gone round then cascade the next bucket of the level above down the wheel
+            for (int level = 1; level < WHEEL_LEVELS; level++) {
+                int shift = WHEEL_BITS * level;
+                if ((currentTick & ((1L << shift) - 1)) != 0) {
+                    break;
+                }
+                TimeoutMapEntry<K, V> entry = takeBucket(bucketOf(level, currentTick >>> shift), null);
+                while (entry != null) {
+                    TimeoutMapEntry<K, V> next = entry.next;
+                    entry.next = null;
+                    schedule(entry, currentTick);
+                    entry = next;
+                }
+            }
+            // and expire the entries in the bucket of the current tick
+            TimeoutMapEntry<K, V> entry = takeBucket(bucketOf(0, currentTick), null);
+            while (entry != null) {
+                TimeoutMapEntry<K, V> next = entry.next;
+                entry.next = null;
+                expireOrSchedule(entry, now, expired);
+                entry = next;
+            }
+        }
+    }
+
+    private void expireOrSchedule(TimeoutMapEntry<K, V> entry, long now, List<TimeoutMapEntry<K, V>> expired) {
+        if (entry.getExpireTime() < now && isValidForEviction(entry)) {
+            log.debug("Evicting inactive entry ID: {}", entry);
+            expired.add(entry);
+        } else {
+            // the entry has been accessed since it was scheduled (or is not valid for eviction) so check again later
+            schedule(entry, currentTick + 1);
+        }
+    }
+
+    private void scheduleNew(TimeoutMapEntry<K, V> entry) {
+        if (currentTick < 0 || map.size() == 1) {
+            // the wheel is empty so it can start from the current time
+            currentTick = currentTime() / tickDuration;
+        }
+        schedule(entry, 0);
+    }
+
+    /**
+     * Schedules the entry in the timing wheel, in the bucket for its expire time, but not earlier than the given tick.
+     */
+    private void schedule(TimeoutMapEntry<K, V> entry, long minTick) {
+        long tick = Math.max(entry.getExpireTime() / tickDuration, Math.max(minTick, currentTick + 1));
+        long delta = tick - currentTick;
+        if (delta >= WHEEL_SPAN) {
+            // too far in the future so put in the last bucket, and then its rescheduled when cascaded
+            tick = currentTick + WHEEL_SPAN - 1;
+            delta = WHEEL_SPAN - 1;
+        }
+        int level = 0;
+        while (delta >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        // add last to the bucket to keep the order of the entries
+        int bucket = bucketOf(level, tick >>> (WHEEL_BITS * level));
+        TimeoutMapEntry<K, V> tail = wheelTails[bucket];
+        entry.bucket = bucket;
+        entry.prev = tail;
+        entry.next = null;
+        if (tail != null) {
+            tail.next = entry;
+        } else {
+            wheel[bucket] = entry;
+        }
+        wheelTails[bucket] = entry;
+    }
+
+    private void unschedule(TimeoutMapEntry<K, V> entry) {
+        if (entry.bucket < 0) {
+            return;
+        }
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            wheel[entry.bucket] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        } else {
+            wheelTails[entry.bucket] = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.bucket = -1;
+    }
+
+    /**
+     * Takes out all the entries of the bucket.
+     *
+     * @param  entries optional list to add the entries to
+     * @return         the first entry of the bucket, which is linked to the other entries, unless they are added to the
+     *                 list
+     */
+    private TimeoutMapEntry<K, V> takeBucket(int bucket, List<TimeoutMapEntry<K, V>> entries) {
+        TimeoutMapEntry<K, V> head = wheel[bucket];
+        wheel[bucket] = null;
+        wheelTails[bucket] = null;
+        TimeoutMapEntry<K, V> entry = head;
+        while (entry != null) {
+            TimeoutMapEntry<K, V> next = entry.next;
+            entry.prev = null;
+            entry.bucket = -1;
+            if (entries != null) {
+                entry.next = null;
+                entries.add(entry);
+            }
+            entry = next;
+        }
+        return head;
+    }
+
+    private static int bucketOf(int level, long index) {
+        return level * WHEEL_SIZE + (int) (index & (WHEEL_SIZE - 1));
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -286,7 +455,15 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             future = null;
         }
         // clear map if we stop
-        map.clear();
+        lock.lock();
+        try {
+            map.clear();
+            Arrays.fill(wheel, null);
+            Arrays.fill(wheelTails, null);
+            currentTick = -1;
+        } finally {
+            lock.unlock();
+        }
     }
 
 }
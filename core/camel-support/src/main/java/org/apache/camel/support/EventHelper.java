@@ -73,39 +73,48 @@ public final class EventHelper {
     }
 
     public static boolean notifyCamelContextInitializing(CamelContext context) {
-        return notifyCamelContext(context, EventFactory::createCamelContextInitializingEvent, true);
+        return notifyCamelContext(context, CamelEvent.Type.CamelContextInitializing,
+                EventFactory::createCamelContextInitializingEvent, true);
     }
 
     public static boolean notifyCamelContextInitialized(CamelContext context) {
-        return notifyCamelContext(context, EventFactory::createCamelContextInitializedEvent, true);
+        return notifyCamelContext(context, CamelEvent.Type.CamelContextInitialized,
+                EventFactory::createCamelContextInitializedEvent, true);
     }
 
     public static boolean notifyCamelContextStarting(CamelContext context) {
-        return notifyCamelContext(context, EventFactory::createCamelContextStartingEvent, false);
+        return notifyCamelContext(context, CamelEvent.Type.CamelContextStarting,
+                EventFactory::createCamelContextStartingEvent, false);
     }
 
     public static boolean notifyCamelContextStarted(CamelContext context) {
-        return notifyCamelContext(context, EventFactory::createCamelContextStartedEvent, false);
+        return notifyCamelContext(context, CamelEvent.Type.CamelContextStarted,
+                EventFactory::createCamelContextStartedEvent, false);
     }
 
     public static boolean notifyCamelContextStartupFailed(CamelContext context, Throwable cause) {
-        return notifyCamelContext(context, (ef, ctx) -> ef.createCamelContextStartupFailureEvent(ctx, cause), false);
+        return notifyCamelContext(context, CamelEvent.Type.CamelContextStartupFailure,
+                (ef, ctx) -> ef.createCamelContextStartupFailureEvent(ctx, cause), false);
     }
 
     public static boolean notifyCamelContextStopping(CamelContext context) {
-        return notifyCamelContext(context, EventFactory::createCamelContextStoppingEvent, false);
+        return notifyCamelContext(context, CamelEvent.Type.CamelContextStopping,
+                EventFactory::createCamelContextStoppingEvent, false);
     }
 
     public static boolean notifyCamelContextStopped(CamelContext context) {
-        return notifyCamelContext(context, EventFactory::createCamelContextStoppedEvent, false);
+        return notifyCamelContext(context, CamelEvent.Type.CamelContextStopped,
+                EventFactory::createCamelContextStoppedEvent, false);
     }
 
     public static boolean notifyCamelContextStopFailed(CamelContext context, Throwable cause) {
-        return notifyCamelContext(context, (ef, ctx) -> ef.createCamelContextStopFailureEvent(ctx, cause), false);
+        return notifyCamelContext(context, CamelEvent.Type.CamelContextStopFailure,
+                (ef, ctx) -> ef.createCamelContextStopFailureEvent(ctx, cause), false);
     }
 
     private static boolean notifyCamelContext(
-            CamelContext context, BiFunction<EventFactory, CamelContext, CamelEvent> eventSupplier, boolean init) {
+            CamelContext context, CamelEvent.Type type, BiFunction<EventFactory, CamelContext, CamelEvent> eventSupplier,
+            boolean init) {
         ManagementStrategy management = context.getManagementStrategy();
         if (management == null) {
             return false;
@@ -118,7 +127,7 @@ public final class EventHelper {
 
         // init camel context events are triggered before event notifiers is started so get those pre-started notifiers
         // so we can emit those special init events
-        List<EventNotifier> notifiers = init ? management.getEventNotifiers() : management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = init ? management.getEventNotifiers() : management.getStartedEventNotifiers(type);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -132,7 +141,7 @@ public final class EventHelper {
             if (notifier.isIgnoreCamelContextEvents()) {
                 continue;
             }
-            if (init && notifier.isIgnoreCamelContextInitEvents()) {
+            if (init && (notifier.isIgnoreCamelContextInitEvents() || !notifier.isSubscribed(type))) {
                 continue;
             }
 
@@ -160,7 +169,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ServiceStopFailure);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -199,7 +208,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ServiceStartupFailure);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -238,7 +247,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteStarting);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -277,7 +286,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteRestarting);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -317,7 +326,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteRestartingFailure);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -356,7 +365,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteStarted);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -395,7 +404,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteStopping);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -434,7 +443,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteStopped);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -473,7 +482,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteAdded);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -512,7 +521,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteRemoved);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -551,7 +560,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RouteReloaded);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -590,7 +599,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextReloading);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -629,7 +638,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextReloaded);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -668,7 +677,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextReloadFailure);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -707,7 +716,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeCreated);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -753,7 +762,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeCompleted);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -796,7 +805,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeFailed);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -842,7 +851,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeFailureHandling);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -888,7 +897,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeFailureHandled);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -931,7 +940,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeRedelivery);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -975,7 +984,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeSending);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1018,7 +1027,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeSent);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1061,7 +1070,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextSuspending);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1100,7 +1109,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextSuspended);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1139,7 +1148,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextResuming);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1178,7 +1187,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextResumed);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1217,7 +1226,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.CamelContextResumeFailure);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1256,7 +1265,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RoutesStarting);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1295,7 +1304,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RoutesStarted);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1334,7 +1343,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RoutesStopping);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1373,7 +1382,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.RoutesStopped);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1412,7 +1421,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.StepStarted);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1451,7 +1460,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.StepCompleted);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1490,7 +1499,7 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers = management.getStartedEventNotifiers(CamelEvent.Type.StepFailed);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
@@ -1529,7 +1538,8 @@ public final class EventHelper {
             return false;
         }
 
-        List<EventNotifier> notifiers = management.getStartedEventNotifiers();
+        List<EventNotifier> notifiers
+                = management.getStartedEventNotifiers(CamelEvent.Type.ExchangeAsyncProcessingStarted);
         if (notifiers == null || notifiers.isEmpty()) {
             return false;
         }
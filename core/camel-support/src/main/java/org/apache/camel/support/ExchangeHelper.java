@@ -373,10 +373,10 @@ public final class ExchangeHelper {
         }
 
         if (source.hasProperties()) {
-            result.getProperties().putAll(source.getProperties());
+            result.getProperties().putAll(getPropertiesReadOnly(source));
         }
         if (source.hasVariables()) {
-            result.getVariables().putAll(source.getVariables());
+            result.getVariables().putAll(getVariablesReadOnly(source));
         }
 
         final ExchangeExtension sourceExtension = source.getExchangeExtension();
@@ -1135,6 +1135,38 @@ public final class ExchangeHelper {
         va.setVariable(name, value);
     }
 
+    /**
+     * Gets the exchange properties as a read-only view.
+     * <p/>
+     * Unlike {@link Exchange#getProperties()} the properties are not copied when they are shared with a copy of the
+     * exchange (exchange copy-on-write), and should therefore be used when the properties are only read.
+     *
+     * @param  exchange the exchange
+     * @return          the exchange properties, which cannot be changed
+     */
+    public static Map<String, Object> getPropertiesReadOnly(Exchange exchange) {
+        if (exchange instanceof AbstractExchange ae) {
+            return ae.getPropertiesReadOnly();
+        }
+        return exchange.getProperties();
+    }
+
+    /**
+     * Gets the exchange variables as a read-only view.
+     * <p/>
+     * Unlike {@link Exchange#getVariables()} the variables are not copied when they are shared with a copy of the
+     * exchange (exchange copy-on-write), and should therefore be used when the variables are only read.
+     *
+     * @param  exchange the exchange
+     * @return          the exchange variables, which cannot be changed
+     */
+    public static Map<String, Object> getVariablesReadOnly(Exchange exchange) {
+        if (exchange instanceof AbstractExchange ae) {
+            return ae.getVariablesReadOnly();
+        }
+        return exchange.getVariables();
+    }
+
     /**
      * Gets the variable repository id
      *
@@ -1193,7 +1225,7 @@ public final class ExchangeHelper {
         // set body and headers as variables
         Object body = message.getBody();
         va.setVariable(name, body);
-        for (Map.Entry<String, Object> header : message.getHeaders().entrySet()) {
+        for (Map.Entry<String, Object> header : MessageHelper.getHeadersReadOnly(message).entrySet()) {
             String key = "header:" + name + "." + header.getKey();
             Object value = header.getValue();
             va.setVariable(key, value);
@@ -365,9 +365,7 @@ public class ExtendedExchangeExtension implements ExchangeExtension {
         if (this.onCompletions != null) {
             this.onCompletions.clear();
         }
-        if (this.exchange.variableRepository != null) {
-            this.exchange.variableRepository.clear();
-        }
+        this.exchange.clearVariables();
 
         this.externalRedelivered = RedeliveryTraitPayload.UNDEFINED_REDELIVERY;
         setHistoryNodeId(null);
@@ -511,7 +511,7 @@ public final class MessageHelper {
             sb.append(prefix);
             sb.append("  <exchangeVariables>\n");
             // sort the exchange variables so they are listed A..Z
-            Map<String, Object> variables = new TreeMap<>(message.getExchange().getVariables());
+            Map<String, Object> variables = new TreeMap<>(ExchangeHelper.getVariablesReadOnly(message.getExchange()));
             for (Map.Entry<String, Object> entry : variables.entrySet()) {
                 String key = entry.getKey();
                 Object value = entry.getValue();
@@ -586,7 +586,7 @@ public final class MessageHelper {
             sb.append(prefix);
             sb.append("  <headers>\n");
             // sort the headers so they are listed A..Z
-            Map<String, Object> headers = new TreeMap<>(message.getHeaders());
+            Map<String, Object> headers = new TreeMap<>(getHeadersReadOnly(message));
             for (Map.Entry<String, Object> entry : headers.entrySet()) {
                 Object value = entry.getValue();
                 String type = ObjectHelper.classCanonicalName(value);
@@ -673,6 +673,22 @@ public final class MessageHelper {
         target.setBody(source.getBody());
     }
 
+    /**
+     * Gets the headers of the message as a read-only view.
+     * <p/>
+     * Unlike {@link Message#getHeaders()} the headers are not copied when they are shared with a copy of the message
+     * (exchange copy-on-write), and should therefore be used when the headers are only read.
+     *
+     * @param  message the message
+     * @return         the headers, which cannot be changed
+     */
+    public static Map<String, Object> getHeadersReadOnly(Message message) {
+        if (message instanceof DefaultMessage dm) {
+            return dm.getHeadersReadOnly();
+        }
+        return message.getHeaders();
+    }
+
     /**
      * Copies the headers from the source to the target message.
      *
@@ -697,7 +713,7 @@ public final class MessageHelper {
             return;
         }
 
-        for (Map.Entry<String, Object> entry : source.getHeaders().entrySet()) {
+        for (Map.Entry<String, Object> entry : getHeadersReadOnly(source).entrySet()) {
             String key = entry.getKey();
             Object value = entry.getValue();
 
@@ -961,7 +977,7 @@ public final class MessageHelper {
         if (includeExchangeVariables && message.getExchange().hasVariables()) {
             JsonArray arr = new JsonArray();
             // sort the exchange variables so they are listed A..Z
-            Map<String, Object> properties = new TreeMap<>(message.getExchange().getVariables());
+            Map<String, Object> properties = new TreeMap<>(ExchangeHelper.getVariablesReadOnly(message.getExchange()));
             for (Map.Entry<String, Object> entry : properties.entrySet()) {
                 Object value = entry.getValue();
                 String type = ObjectHelper.classCanonicalName(value);
@@ -1039,7 +1055,7 @@ public final class MessageHelper {
         if (message.hasHeaders()) {
             JsonArray arr = new JsonArray();
             // sort the headers so they are listed A..Z
-            Map<String, Object> headers = new TreeMap<>(message.getHeaders());
+            Map<String, Object> headers = new TreeMap<>(getHeadersReadOnly(message));
             for (Map.Entry<String, Object> entry : headers.entrySet()) {
                 Object value = entry.getValue();
                 String type = ObjectHelper.classCanonicalName(value);
@@ -220,13 +220,13 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
 
         // the headers may be the same instance if the end user has made some mistake
         // and set the OUT message with the same header instance of the IN message etc
-        if (!sameHeaders(that)) {
+        if (!shareHeaders(that) && !sameHeaders(that)) {
             if (hasHeaders()) {
                 // okay its safe to clear the headers
                 getHeaders().clear();
             }
             if (that.hasHeaders()) {
-                getHeaders().putAll(that.getHeaders());
+                getHeaders().putAll(MessageHelper.getHeadersReadOnly(that));
             }
         }
 
@@ -237,8 +237,31 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
         }
     }
 
+    /**
+     * Strategy to share the headers with the given message when copying from the message, until either message changes
+     * the headers (copy-on-write).
+     *
+     * @param  that the message to copy from
+     * @return      <tt>true</tt> if the headers are shared, or <tt>false</tt> if the headers should be copied
+     */
+    protected boolean shareHeaders(Message that) {
+        return false;
+    }
+
     private boolean sameHeaders(Message that) {
-        return hasHeaders() && that.hasHeaders() && getHeaders() == that.getHeaders();
+        if (!hasHeaders() || !that.hasHeaders()) {
+            return false;
+        }
+        Object other = that instanceof MessageSupport ms ? ms.getHeadersInstance() : that.getHeaders();
+        return getHeadersInstance() == other;
+    }
+
+    /**
+     * Gets the instance of the headers, to check whether two messages has the same headers, without copying the headers
+     * when they are shared with a copy of the message.
+     */
+    Object getHeadersInstance() {
+        return getHeaders();
     }
 
     @Override
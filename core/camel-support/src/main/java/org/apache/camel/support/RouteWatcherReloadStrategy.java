@@ -23,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -103,6 +104,9 @@ public class RouteWatcherReloadStrategy extends FileWatcherResourceReloadStrateg
      * By default, Camel will stop and remove all existing routes before reloading routes. This ensures that only the
      * reloaded routes will be active. If disabled then only routes with the same route id is updated, and any existing
      * routes are continued to run.
+     * <p/>
+     * When a route file is changed, then routes (loaded from XML or YAML files) with route ids, which are not changed,
+     * are kept running (with their endpoints and producers), and only the changed routes are stopped and reloaded.
      */
     public void setRemoveAllRoutes(boolean removeAllRoutes) {
         this.removeAllRoutes = removeAllRoutes;
@@ -261,6 +265,10 @@ public class RouteWatcherReloadStrategy extends FileWatcherResourceReloadStrateg
             });
         }
 
+        // when only some route files are changed, then the routes which are not changed are kept running
+        boolean incremental = resources != null && !removeEverything;
+        Set<String> keptIds = new LinkedHashSet<>();
+
         try {
             // should all existing routes be stopped and removed first?
             if (removeAllRoutes) {
@@ -271,11 +279,24 @@ public class RouteWatcherReloadStrategy extends FileWatcherResourceReloadStrateg
                         sources.add(rs);
                     }
                 });
-                // first stop and remove all routes
-                getCamelContext().getRouteController().removeAllRoutes();
-                // remove left-over route templates and endpoints, so we can start on a fresh
-                getCamelContext().removeRouteTemplates("*");
-                getCamelContext().getEndpointRegistry().clear();
+                if (incremental) {
+                    // only stop and remove the routes which cannot be matched by their id with the reloaded routes,
+                    // the other routes are removed after the reload, if they are no longer in use
+                    for (Route route : new ArrayList<>(getCamelContext().getRoutes())) {
+                        if (route.isCustomId() && route.getSourceResource() != null) {
+                            keptIds.add(route.getRouteId());
+                        } else {
+                            removeRoute(route.getRouteId());
+                        }
+                    }
+                    getCamelContext().removeRouteTemplates("*");
+                } else {
+                    // first stop and remove all routes
+                    getCamelContext().getRouteController().removeAllRoutes();
+                    // remove left-over route templates and endpoints, so we can start on a fresh
+                    getCamelContext().removeRouteTemplates("*");
+                    getCamelContext().getEndpointRegistry().clear();
+                }
             }
 
             if (resources != null) {
@@ -307,8 +328,30 @@ public class RouteWatcherReloadStrategy extends FileWatcherResourceReloadStrateg
             }
 
             // reload those other routes that was stopped and removed as we want to keep running those
-            Set<String> ids
-                    = PluginHelper.getRoutesLoader(getCamelContext()).updateRoutes(sources);
+            Set<String> ids;
+            try {
+                ids = PluginHelper.getRoutesLoader(getCamelContext()).updateRoutes(sources);
+            } catch (Exception e) {
+                if (keptIds.isEmpty()) {
+                    throw e;
+                }
+                // the reloaded routes may conflict with the existing routes (such as when the id of a route is changed)
+                // so stop and remove all routes and try again
+                LOG.debug("Error reloading routes: {} due to: {}. Will remove all routes and reload again.", sources,
+                        e.getMessage(), e);
+                keptIds.clear();
+                getCamelContext().getRouteController().removeAllRoutes();
+                getCamelContext().removeRouteTemplates("*");
+                getCamelContext().getEndpointRegistry().clear();
+                ids = PluginHelper.getRoutesLoader(getCamelContext()).updateRoutes(sources);
+            }
+
+            // stop and remove the existing routes which are no longer in use
+            for (String id : keptIds) {
+                if (!ids.contains(id)) {
+                    removeRoute(id);
+                }
+            }
 
             // update okay, so clear as we do not need to remember those anymore
             previousSources.clear();
@@ -381,6 +424,11 @@ public class RouteWatcherReloadStrategy extends FileWatcherResourceReloadStrateg
         }
     }
 
+    private void removeRoute(String routeId) throws Exception {
+        getCamelContext().getRouteController().stopRoute(routeId);
+        getCamelContext().removeRoute(routeId);
+    }
+
     /**
      * Whether the target is loading any of the given sources
      */
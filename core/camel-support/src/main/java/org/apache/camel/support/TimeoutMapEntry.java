@@ -28,6 +28,10 @@ public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V
     private V value;
     private long timeout;
     private long expireTime;
+    // the position in the timing wheel of DefaultTimeoutMap
+    TimeoutMapEntry<K, V> prev;
+    TimeoutMapEntry<K, V> next;
+    int bucket = -1;
 
     public TimeoutMapEntry(K id, V handler, long timeout) {
         this.key = id;
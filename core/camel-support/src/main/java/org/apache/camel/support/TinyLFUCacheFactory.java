@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.camel.support.cache.SimpleTinyLFUCache;
+
+/**
+ * {@link LRUCacheFactory} which uses the {@link SimpleTinyLFUCache} W-TinyLFU based implementation, which keeps the
+ * frequently used entries when the cache is full of entries that are used only once, such as many dynamic endpoints.
+ * <p/>
+ * This factory can be used by setting it with {@link LRUCacheFactory#setLRUCacheFactory(LRUCacheFactory)} before
+ * starting Camel, or by adding the file <tt>META-INF/services/org/apache/camel/lru-cache-factory</tt> to the classpath
+ * with <tt>class=org.apache.camel.support.TinyLFUCacheFactory</tt>.
+ */
+public class TinyLFUCacheFactory extends DefaultLRUCacheFactory {
+
+    @Override
+    protected <K, V> Map<K, V> createCache(int initialCapacity, int maximumCacheSize, Consumer<V> onEvict) {
+        return new SimpleTinyLFUCache<>(initialCapacity, maximumCacheSize, onEvict);
+    }
+}
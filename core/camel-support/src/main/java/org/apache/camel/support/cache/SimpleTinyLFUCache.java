@@ -0,0 +1,868 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@code SimpleTinyLFUCache} is a bounded concurrent cache which uses the W-TinyLFU admission and eviction policy. The
+ * implementation doesn't accept null values. Generally speaking, the parameters of all the public methods must have a
+ * value otherwise a {@code NullPointerException} is thrown.
+ * <p/>
+ * New entries are added to a small LRU window, and when the window is full, the oldest entry of the window is only
+ * admitted to the main space of the cache, if it has been used more frequently than the entry that would be evicted
+ * from the main space. The frequencies are estimated with a count-min sketch of 4-bit counters, which are periodically
+ * halved so that entries that are no longer used are forgotten. The main space is a segmented LRU with a probation and
+ * a protected segment, where entries are promoted to the protected segment when they are used again.
+ * <p/>
+ * This makes the cache resistant to scans of many keys which are used only once (such as dynamic endpoint uris with a
+ * unique id), which would otherwise evict the entries that are used all the time from a LRU cache.
+ * <p/>
+ * Reads do not lock: they are recorded in lossy striped buffers, which are applied to the policy in batches. Writes are
+ * applied to the policy under a lock, which also evicts the entries when the cache is full.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public class SimpleTinyLFUCache<K, V> implements Map<K, V> {
+
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /**
+     * The number of reads that each read buffer can hold before it must be drained.
+     */
+    static final int READ_BUFFER_SIZE = 16;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int MAX_READ_BUFFERS = 16;
+
+    private static final byte QUEUE_NONE = 0;
+    private static final byte QUEUE_WINDOW = 1;
+    private static final byte QUEUE_PROBATION = 2;
+    private static final byte QUEUE_PROTECTED = 3;
+
+    /**
+     * The underlying map.
+     */
+    private final Map<K, Node<K, V>> data;
+    /**
+     * The maximum cache size.
+     */
+    private final int maximumCacheSize;
+    /**
+     * The maximum size of the window, and of the protected segment of the main space.
+     */
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    /**
+     * The function to call when an entry is evicted.
+     */
+    private final Consumer<V> evict;
+    /**
+     * The lock which guards the eviction policy.
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer<K, V>[] readBuffers;
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedDeque = new AccessOrderDeque<>();
+    private int windowSize;
+    private int probationSize;
+    private int protectedSize;
+    /**
+     * The frequency sketch, which is created when the cache is half full.
+     */
+    private FrequencySketch sketch;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public SimpleTinyLFUCache(int initialCapacity, int maximumCacheSize, Consumer<V> evicted) {
+        if (maximumCacheSize <= 0) {
+            throw new IllegalArgumentException("The maximum cache size must be greater than 0");
+        }
+        this.data = new ConcurrentHashMap<>(initialCapacity, DEFAULT_LOAD_FACTOR);
+        this.maximumCacheSize = maximumCacheSize;
+        this.windowMaximum = Math.max(1, maximumCacheSize / 100);
+        this.protectedMaximum = (int) ((maximumCacheSize - windowMaximum) * 0.8);
+        this.evict = Objects.requireNonNull(evicted);
+        int buffers = Math.min(ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors()), MAX_READ_BUFFERS);
+        this.readBuffers = new ReadBuffer[buffers];
+        for (int i = 0; i < buffers; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+    }
+
+    /**
+     * The number of lookups that found an entry in the cache.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of lookups that did not find an entry in the cache.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of entries that have been evicted because the cache was full.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Resets the hit, miss and eviction counters.
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    public int getMaximumCacheSize() {
+        return maximumCacheSize;
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        for (Node<K, V> node : data.values()) {
+            if (Objects.equals(node.value, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        afterRead(node);
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        WriteContext<K, V> context = new WriteContext<>();
+        data.compute(key, (k, node) -> {
+            if (node == null) {
+                return context.added(new Node<>(k, value));
+            }
+            context.oldValue = node.value;
+            node.value = value;
+            return context.updated(node);
+        });
+        afterWrite(context);
+        return context.oldValue;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        WriteContext<K, V> context = new WriteContext<>();
+        data.compute(key, (k, node) -> {
+            if (node == null) {
+                return context.added(new Node<>(k, value));
+            }
+            context.oldValue = node.value;
+            return context.updated(node);
+        });
+        afterWrite(context);
+        return context.oldValue;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        WriteContext<K, V> context = new WriteContext<>();
+        context.removed(node);
+        afterWrite(context);
+        return node.value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        WriteContext<K, V> context = new WriteContext<>();
+        data.computeIfPresent((K) key, (k, node) -> {
+            if (Objects.equals(value, node.value)) {
+                return context.removed(node);
+            }
+            return node;
+        });
+        afterWrite(context);
+        return context.removed != null;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        if (key == null || oldValue == null || newValue == null) {
+            throw new NullPointerException();
+        }
+        WriteContext<K, V> context = new WriteContext<>();
+        data.computeIfPresent(key, (k, node) -> {
+            if (Objects.equals(oldValue, node.value)) {
+                node.value = newValue;
+                return context.updated(node);
+            }
+            return node;
+        });
+        afterWrite(context);
+        return context.updated != null;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        WriteContext<K, V> context = new WriteContext<>();
+        data.computeIfPresent(key, (k, node) -> {
+            context.oldValue = node.value;
+            node.value = value;
+            return context.updated(node);
+        });
+        afterWrite(context);
+        return context.oldValue;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (key == null || mappingFunction == null) {
+            throw new NullPointerException();
+        }
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            hits.increment();
+            afterRead(node);
+            return node.value;
+        }
+        WriteContext<K, V> context = new WriteContext<>();
+        node = data.computeIfAbsent(key, k -> {
+            V value = mappingFunction.apply(k);
+            return value == null ? null : context.added(new Node<>(k, value));
+        });
+        if (context.added != null) {
+            misses.increment();
+            afterWrite(context);
+        } else if (node != null) {
+            hits.increment();
+            afterRead(node);
+        }
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (key == null || remappingFunction == null) {
+            throw new NullPointerException();
+        }
+        WriteContext<K, V> context = new WriteContext<>();
+        Node<K, V> answer = data.computeIfPresent(key, (k, node) -> remap(context, k, node, remappingFunction));
+        afterWrite(context);
+        return answer == null ? null : context.newValue;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (key == null || remappingFunction == null) {
+            throw new NullPointerException();
+        }
+        WriteContext<K, V> context = new WriteContext<>();
+        Node<K, V> answer = data.compute(key, (k, node) -> remap(context, k, node, remappingFunction));
+        afterWrite(context);
+        return answer == null ? null : context.newValue;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (key == null || value == null || remappingFunction == null) {
+            throw new NullPointerException();
+        }
+        WriteContext<K, V> context = new WriteContext<>();
+        Node<K, V> answer = data.compute(key, (k, node) -> remap(context, k, node,
+                (k2, oldValue) -> oldValue == null ? value : remappingFunction.apply(oldValue, value)));
+        afterWrite(context);
+        return answer == null ? null : context.newValue;
+    }
+
+    private Node<K, V> remap(
+            WriteContext<K, V> context, K key, Node<K, V> node, BiFunction<? super K, ? super V, ? extends V> function) {
+        V oldValue = node == null ? null : node.value;
+        V newValue = function.apply(key, oldValue);
+        context.newValue = newValue;
+        if (newValue == null) {
+            return node == null ? null : context.removed(node);
+        } else if (node == null) {
+            return context.added(new Node<>(key, newValue));
+        }
+        node.value = newValue;
+        return context.updated(node);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        for (Entry<? extends K, ? extends V> e : m.entrySet()) {
+            put(e.getKey(), e.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            for (Node<K, V> node : data.values()) {
+                if (data.remove(node.key, node)) {
+                    node.retired = true;
+                    onRemove(node);
+                }
+            }
+            drainReadBuffers(false);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return data.values().stream().map(node -> node.value).toList();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return data.values().stream()
+                .map(node -> new CacheEntry(node.key, node.value))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Records that the entry has been read, which is applied to the policy when the read buffer is full.
+     */
+    private void afterRead(Node<K, V> node) {
+        ReadBuffer<K, V> buffer = readBuffers[spread(Thread.currentThread().hashCode()) & (readBuffers.length - 1)];
+        if (!buffer.offer(node) && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers(true);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Applies the write to the policy, and evicts the entries if the cache is full.
+     */
+    private void afterWrite(WriteContext<K, V> context) {
+        if (context.added == null && context.updated == null && context.removed == null) {
+            return;
+        }
+        List<V> evicted = null;
+        evictionLock.lock();
+        try {
+            drainReadBuffers(true);
+            if (context.removed != null) {
+                onRemove(context.removed);
+            }
+            if (context.added != null) {
+                onAdd(context.added);
+            }
+            if (context.updated != null) {
+                onAccess(context.updated);
+            }
+            if (windowSize > windowMaximum) {
+                evicted = evictEntries();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+        if (evicted != null) {
+            evicted.forEach(evict);
+        }
+    }
+
+    private void drainReadBuffers(boolean apply) {
+        for (ReadBuffer<K, V> buffer : readBuffers) {
+            buffer.drainTo(apply ? this::onAccess : node -> {
+            });
+        }
+    }
+
+    private void onAdd(Node<K, V> node) {
+        if (node.retired || node.queue != QUEUE_NONE) {
+            // the entry has already been removed
+            return;
+        }
+        if (sketch == null && data.size() >= maximumCacheSize / 2) {
+            sketch = new FrequencySketch(maximumCacheSize);
+        }
+        if (sketch != null) {
+            sketch.increment(node.key);
+        }
+        window.linkLast(node);
+        node.queue = QUEUE_WINDOW;
+        windowSize++;
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (sketch != null) {
+            sketch.increment(node.key);
+        }
+        switch (node.queue) {
+            case QUEUE_WINDOW -> window.moveToBack(node);
+            case QUEUE_PROBATION -> {
+                // promote the entry as its used again
+                probation.unlink(node);
+                probationSize--;
+                protectedDeque.linkLast(node);
+                node.queue = QUEUE_PROTECTED;
+                protectedSize++;
+                while (protectedSize > protectedMaximum) {
+                    Node<K, V> demoted = protectedDeque.pollFirst();
+                    protectedSize--;
+                    probation.linkLast(demoted);
+                    demoted.queue = QUEUE_PROBATION;
+                    probationSize++;
+                }
+            }
+            case QUEUE_PROTECTED -> protectedDeque.moveToBack(node);
+            default -> {
+                // the entry has been removed
+            }
+        }
+    }
+
+    private void onRemove(Node<K, V> node) {
+        switch (node.queue) {
+            case QUEUE_WINDOW -> {
+                window.unlink(node);
+                windowSize--;
+            }
+            case QUEUE_PROBATION -> {
+                probation.unlink(node);
+                probationSize--;
+            }
+            case QUEUE_PROTECTED -> {
+                protectedDeque.unlink(node);
+                protectedSize--;
+            }
+            default -> {
+                // the entry has not been added yet
+            }
+        }
+        node.queue = QUEUE_NONE;
+    }
+
+    /**
+     * Moves the oldest entries of the window to the main space, where either the candidate from the window or the
+     * victim from the main space is evicted, depending on which has been used most frequently.
+     */
+    private List<V> evictEntries() {
+        List<V> evicted = new ArrayList<>();
+        int mainMaximum = maximumCacheSize - windowMaximum;
+        while (windowSize > windowMaximum) {
+            Node<K, V> candidate = window.pollFirst();
+            windowSize--;
+            candidate.queue = QUEUE_NONE;
+            if (probationSize + protectedSize < mainMaximum) {
+                probation.linkLast(candidate);
+                candidate.queue = QUEUE_PROBATION;
+                probationSize++;
+                continue;
+            }
+            Node<K, V> victim = probation.peekFirst();
+            if (victim == null) {
+                victim = protectedDeque.peekFirst();
+            }
+            if (victim != null && frequency(candidate.key) > frequency(victim.key)) {
+                onRemove(victim);
+                evictNode(victim, evicted);
+                probation.linkLast(candidate);
+                candidate.queue = QUEUE_PROBATION;
+                probationSize++;
+            } else {
+                evictNode(candidate, evicted);
+            }
+        }
+        return evicted;
+    }
+
+    private void evictNode(Node<K, V> node, List<V> evicted) {
+        if (data.remove(node.key, node)) {
+            node.retired = true;
+            evictions.increment();
+            evicted.add(node.value);
+        }
+    }
+
+    private int frequency(K key) {
+        return sketch != null ? sketch.frequency(key) : 0;
+    }
+
+    static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return 1 << -Integer.numberOfLeadingZeros(Math.max(1, value) - 1);
+    }
+
+    /**
+     * An entry of the cache, which is linked in one of the deques of the policy.
+     */
+    private static final class Node<K, V> {
+        final K key;
+        volatile V value;
+        /**
+         * Whether the entry has been removed from the map, which is set before the removal is applied to the policy.
+         */
+        volatile boolean retired;
+        // guarded by the eviction lock
+        byte queue;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The changes of a write operation which must be applied to the policy.
+     */
+    private static final class WriteContext<K, V> {
+        V oldValue;
+        V newValue;
+        Node<K, V> added;
+        Node<K, V> updated;
+        Node<K, V> removed;
+
+        Node<K, V> added(Node<K, V> node) {
+            this.added = node;
+            return node;
+        }
+
+        Node<K, V> updated(Node<K, V> node) {
+            this.updated = node;
+            return node;
+        }
+
+        Node<K, V> removed(Node<K, V> node) {
+            node.retired = true;
+            this.removed = node;
+            return null;
+        }
+    }
+
+    /**
+     * A doubly linked list of nodes in access order, where the least recently used node is first.
+     */
+    private static final class AccessOrderDeque<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+
+        Node<K, V> peekFirst() {
+            return first;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+            if (node != null) {
+                unlink(node);
+            }
+            return node;
+        }
+
+        void linkLast(Node<K, V> node) {
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        void unlink(Node<K, V> node) {
+            Node<K, V> prev = node.prev;
+            Node<K, V> next = node.next;
+            if (prev == null) {
+                first = next;
+            } else {
+                prev.next = next;
+            }
+            if (next == null) {
+                last = prev;
+            } else {
+                next.prev = prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != last) {
+                unlink(node);
+                linkLast(node);
+            }
+        }
+    }
+
+    /**
+     * A bounded buffer of reads, which drops the reads when it is full or contended, as the policy only needs a sample
+     * of the reads.
+     */
+    private static final class ReadBuffer<K, V> {
+        private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        /**
+         * Adds the read to the buffer.
+         *
+         * @return <tt>false</tt> if the buffer is full and should be drained
+         */
+        boolean offer(Node<K, V> node) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            long size = tail - head;
+            if (size >= READ_BUFFER_SIZE) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & READ_BUFFER_MASK), node);
+                return size + 1 < READ_BUFFER_SIZE;
+            }
+            return true;
+        }
+
+        // must be called while holding the eviction lock
+        void drainTo(Consumer<Node<K, V>> consumer) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & READ_BUFFER_MASK);
+                Node<K, V> node = buffer.get(index);
+                if (node == null) {
+                    // the read is not yet published, so continue from here on the next drain
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(node);
+            }
+            readCounter = head;
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters, which estimates how often the keys have been used. The counters are halved
+     * when a sample of the maximum cache size times ten has been counted, so the estimates follow recent usage.
+     */
+    static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int size;
+
+        FrequencySketch(int maximumCacheSize) {
+            int capacity = ceilingPowerOfTwo(Math.max(8, Math.min(maximumCacheSize, 1 << 20)));
+            this.table = new long[capacity];
+            this.tableMask = capacity - 1;
+            this.sampleSize = 10 * capacity;
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                long value = table[indexOf(hash, i)];
+                frequency = Math.min(frequency, (int) ((value >>> offsetOf(hash, i)) & 0xfL));
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int offset = offsetOf(hash, i);
+                if (((table[index] >>> offset) & 0xfL) != 0xfL) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++size == sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            size /= 2;
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & tableMask;
+        }
+
+        // each of the hash functions uses its own counter in a group of four counters of the long
+        private static int offsetOf(int hash, int i) {
+            return ((((hash >>> (i << 3)) & 3) << 2) + i) << 2;
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K> {
+
+        @Override
+        public int size() {
+            return data.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return data.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return SimpleTinyLFUCache.this.remove(o) != null;
+        }
+
+        @Override
+        public void clear() {
+            SimpleTinyLFUCache.this.clear();
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            Iterator<K> it = data.keySet().iterator();
+            return new Iterator<>() {
+                private K current;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public K next() {
+                    current = it.next();
+                    return current;
+                }
+
+                @Override
+                public void remove() {
+                    if (current == null) {
+                        throw new IllegalStateException();
+                    }
+                    SimpleTinyLFUCache.this.remove(current);
+                    current = null;
+                }
+            };
+        }
+    }
+
+    /**
+     * A modifiable cache entry.
+     */
+    private final class CacheEntry extends AbstractMap.SimpleEntry<K, V> {
+
+        CacheEntry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+            V answer = super.setValue(value);
+            put(getKey(), value);
+            return answer;
+        }
+    }
+}
@@ -23,9 +23,11 @@ import org.apache.camel.AsyncProcessor;
 import org.apache.camel.DisabledAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
 import org.apache.camel.support.DefaultMessage;
 import org.apache.camel.support.ExchangeHelper;
@@ -45,6 +47,7 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
     private final Class<?> type;
     private final String charset;
     private final boolean mandatory;
+    private volatile TypeConverterRegistry.CallSite<?> callSite;
 
     public ConvertBodyProcessor(Class<?> type) {
         ObjectHelper.notNull(type, "type", this);
@@ -124,18 +127,21 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
             // have explicit configured and expects to be used
             exchange.setProperty(ExchangePropertyKey.CHARSET_NAME, charset);
         }
+        // create a new message container so we do not drag specialized message objects along
+        // but that is only needed if the old message is a specialized message
+        boolean copyNeeded = !(old.getClass().equals(DefaultMessage.class));
+
         // use mandatory conversion
         Object value;
-        if (mandatory) {
+        if (!copyNeeded) {
+            // specialized messages may convert the body themselves, so only use the call site for default messages
+            value = convertBody(exchange, old);
+        } else if (mandatory) {
             value = old.getMandatoryBody(type);
         } else {
             value = old.getBody(type);
         }
 
-        // create a new message container so we do not drag specialized message objects along
-        // but that is only needed if the old message is a specialized message
-        boolean copyNeeded = !(old.getClass().equals(DefaultMessage.class));
-
         if (copyNeeded) {
             Message msg = new DefaultMessage(exchange.getContext());
             msg.copyFromWithNewBody(old, value);
@@ -158,6 +164,32 @@ public class ConvertBodyProcessor extends ServiceSupport implements AsyncProcess
         }
     }
 
+    private Object convertBody(Exchange exchange, Message message) throws InvalidPayloadException {
+        Object body = message.getBody();
+        if (type.isInstance(body)) {
+            return body;
+        }
+
+        TypeConverterRegistry.CallSite<?> answer = callSite;
+        if (answer == null) {
+            answer = exchange.getContext().getTypeConverterRegistry().createCallSite(type);
+            callSite = answer;
+        }
+        if (mandatory) {
+            try {
+                return answer.mandatoryConvertTo(exchange, body);
+            } catch (Exception cause) {
+                throw new InvalidPayloadException(exchange, type, message, cause);
+            }
+        }
+        Object value = answer.convertTo(exchange, body);
+        if (value == null) {
+            // fallback and try the message itself (e.g. used in camel-http)
+            value = exchange.getContext().getTypeConverter().tryConvertTo(type, exchange, message);
+        }
+        return value;
+    }
+
     @Override
     public CompletableFuture<Exchange> processAsync(Exchange exchange) {
         AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
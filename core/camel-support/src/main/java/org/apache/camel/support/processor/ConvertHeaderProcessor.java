@@ -28,6 +28,7 @@ import org.apache.camel.Message;
 import org.apache.camel.NoSuchHeaderOrPropertyException;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.IOHelper;
@@ -48,6 +49,7 @@ public class ConvertHeaderProcessor extends ServiceSupport implements AsyncProce
     private final Class<?> type;
     private final String charset;
     private final boolean mandatory;
+    private volatile TypeConverterRegistry.CallSite<?> callSite;
 
     public ConvertHeaderProcessor(String name, Expression headerName, String toName, Expression toHeaderName,
                                   Class<?> type, String charset, boolean mandatory) {
@@ -129,9 +131,9 @@ public class ConvertHeaderProcessor extends ServiceSupport implements AsyncProce
             throw new NoSuchHeaderOrPropertyException(exchange, name, null, type);
         }
         if (mandatory) {
-            value = exchange.getContext().getTypeConverter().mandatoryConvertTo(type, exchange, value);
+            value = getCallSite(exchange).mandatoryConvertTo(exchange, value);
         } else {
-            value = exchange.getContext().getTypeConverter().convertTo(type, exchange, value);
+            value = getCallSite(exchange).convertTo(exchange, value);
         }
         old.setHeader(targetName, value);
 
@@ -146,6 +148,15 @@ public class ConvertHeaderProcessor extends ServiceSupport implements AsyncProce
         }
     }
 
+    private TypeConverterRegistry.CallSite<?> getCallSite(Exchange exchange) {
+        TypeConverterRegistry.CallSite<?> answer = callSite;
+        if (answer == null) {
+            answer = exchange.getContext().getTypeConverterRegistry().createCallSite(type);
+            callSite = answer;
+        }
+        return answer;
+    }
+
     @Override
     public CompletableFuture<Exchange> processAsync(Exchange exchange) {
         AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
@@ -29,6 +29,7 @@ import org.apache.camel.Expression;
 import org.apache.camel.NoSuchVariableException;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.spi.VariableRepository;
 import org.apache.camel.spi.VariableRepositoryFactory;
 import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
@@ -55,6 +56,7 @@ public class ConvertVariableProcessor extends ServiceSupport
     private final Class<?> type;
     private final String charset;
     private final boolean mandatory;
+    private volatile TypeConverterRegistry.CallSite<?> callSite;
 
     public ConvertVariableProcessor(String name, Expression variableName, String toName, Expression toVariableName,
                                     Class<?> type, String charset, boolean mandatory) {
@@ -150,9 +152,9 @@ public class ConvertVariableProcessor extends ServiceSupport
             exchange.setProperty(ExchangePropertyKey.CHARSET_NAME, charset);
         }
         if (mandatory) {
-            value = exchange.getContext().getTypeConverter().mandatoryConvertTo(type, exchange, value);
+            value = getCallSite(exchange).mandatoryConvertTo(exchange, value);
         } else {
-            value = exchange.getContext().getTypeConverter().convertTo(type, exchange, value);
+            value = getCallSite(exchange).convertTo(exchange, value);
         }
 
         if (repo != null) {
@@ -172,6 +174,15 @@ public class ConvertVariableProcessor extends ServiceSupport
         }
     }
 
+    private TypeConverterRegistry.CallSite<?> getCallSite(Exchange exchange) {
+        TypeConverterRegistry.CallSite<?> answer = callSite;
+        if (answer == null) {
+            answer = exchange.getContext().getTypeConverterRegistry().createCallSite(type);
+            callSite = answer;
+        }
+        return answer;
+    }
+
     @Override
     public CompletableFuture<Exchange> processAsync(Exchange exchange) {
         AsyncCallbackToCompletableFutureAdapter<Exchange> callback = new AsyncCallbackToCompletableFutureAdapter<>(exchange);
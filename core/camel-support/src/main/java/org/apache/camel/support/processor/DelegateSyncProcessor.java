@@ -22,11 +22,13 @@ import java.util.concurrent.CompletableFuture;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
+import org.apache.camel.BatchProcessor;
 import org.apache.camel.DisabledAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.support.AsyncCallbackToCompletableFutureAdapter;
+import org.apache.camel.support.BatchProcessorHelper;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 
@@ -42,7 +44,7 @@ import org.apache.camel.support.service.ServiceSupport;
  * @see DelegateProcessor
  */
 public class DelegateSyncProcessor extends ServiceSupport
-        implements org.apache.camel.DelegateProcessor, AsyncProcessor, Navigate<Processor>, DisabledAware {
+        implements org.apache.camel.DelegateProcessor, AsyncProcessor, BatchProcessor, Navigate<Processor>, DisabledAware {
     protected final Processor processor;
     private boolean disabled;
 
@@ -87,6 +89,12 @@ public class DelegateSyncProcessor extends ServiceSupport
         processor.process(exchange);
     }
 
+    @Override
+    public void process(List<Exchange> exchanges) throws Exception {
+        // the nested processor may process the batch in one call
+        BatchProcessorHelper.process(processor, exchanges);
+    }
+
     @Override
     public boolean hasNext() {
         return processor != null;
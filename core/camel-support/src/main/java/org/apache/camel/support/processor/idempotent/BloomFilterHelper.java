@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+/**
+ * The hashing and the sizing of the bloom filters of the idempotent repositories, which use double hashing of the two
+ * halves of a 64-bit hash of the key to compute the bits of the key.
+ *
+ * @see IndexedFileIdempotentRepository
+ * @see BloomFilterIdempotentRepository
+ */
+final class BloomFilterHelper {
+
+    /**
+     * The number of bits per expected key, which gives a false positive rate of about 1% with {@link #HASHES}.
+     */
+    static final int BITS_PER_KEY = 10;
+    /**
+     * The number of bits of each key.
+     */
+    static final int HASHES = 7;
+
+    private BloomFilterHelper() {
+    }
+
+    /**
+     * 64-bit FNV-1a hash with the murmur3 finalizer to spread the bits, which is never 0.
+     */
+    static long hash(byte[] key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h != 0 ? h : 1;
+    }
+
+    /**
+     * The number of words of a filter for the expected number of keys.
+     *
+     * @param expectedKeys the expected number of keys
+     * @param bitsPerWord  the number of bits (or counters) per word, as a power of two
+     */
+    static int words(long expectedKeys, int bitsPerWord) {
+        long words = Math.max(expectedKeys * BITS_PER_KEY, 1024) / bitsPerWord;
+        return (int) Math.min(words, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * The index of the i-th bit of the key, from 1 to {@link #HASHES}.
+     *
+     * @param hash the hash of the key
+     * @param i    the number of the bit
+     * @param size the number of bits of the filter
+     */
+    static long bit(long hash, int i, long size) {
+        return ((hash & 0xffffffffL) + i * (hash >>> 32)) % size;
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.camel.spi.IdempotentRepository} which decorates another repository with an in-memory counting
+ * bloom filter of its keys.
+ * <p/>
+ * When the filter tells a key is not in the repository, then <tt>contains</tt> returns <tt>false</tt> without calling
+ * the decorated repository, which saves a round trip to a remote repository for most new keys. The keys which may be
+ * in the repository are always checked by the decorated repository.
+ * <p/>
+ * The filter is kept up to date with the keys which are added and removed through this repository, and is warmed at
+ * startup from the keys set by {@link #setWarmUpKeys(Supplier)}. A key which is added again while in the repository is
+ * counted again, so the filter may tell more keys may be in the repository, until it is warmed up again.
+ * <b>Important:</b> the keys which are added to the
+ * decorated repository by others (such as another node sharing the same database) are not known by the filter, so they
+ * must be included by the warm up keys, or this repository should not be used.
+ */
+@Metadata(label = "bean",
+          description = "An IdempotentRepository which decorates another repository with an in-memory counting bloom filter,"
+                        + " which avoids calling the decorated repository for keys which are not in the repository.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Bloom filter idempotent repository")
+public class BloomFilterIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BloomFilterIdempotentRepository.class);
+
+    // the filter is updated under the read lock, and replaced under the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock warmUpLock = new ReentrantLock();
+    private final LongAdder filteredCounter = new LongAdder();
+    private final LongAdder containsCounter = new LongAdder();
+    private CamelContext camelContext;
+    private volatile CountingBloomFilter filter;
+    // the filter which is being warmed up, which must also have the keys added while warming up
+    private volatile CountingBloomFilter warmUpFilter;
+    private Supplier<? extends Iterable<String>> warmUpKeys;
+
+    @Metadata(description = "The idempotent repository to decorate", required = true)
+    private IdempotentRepository repository;
+    @Metadata(description = "The expected number of keys, which is used for the size of the bloom filter",
+              defaultValue = "1000000")
+    private long expectedKeys = 1000000;
+
+    public BloomFilterIdempotentRepository() {
+    }
+
+    public BloomFilterIdempotentRepository(IdempotentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Creates a new repository which decorates the repository with a bloom filter.
+     *
+     * @param repository the idempotent repository to decorate
+     * @param warmUpKeys the keys which are in the decorated repository when started
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(
+            IdempotentRepository repository, Supplier<? extends Iterable<String>> warmUpKeys) {
+        BloomFilterIdempotentRepository answer = new BloomFilterIdempotentRepository(repository);
+        answer.setWarmUpKeys(warmUpKeys);
+        return answer;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public boolean add(String key) {
+        return doAdd(key, () -> repository.add(key));
+    }
+
+    @Override
+    public boolean add(Exchange exchange, String key) {
+        return doAdd(key, () -> repository.add(exchange, key));
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return doContains(key, () -> repository.contains(key));
+    }
+
+    @Override
+    public boolean contains(Exchange exchange, String key) {
+        return doContains(key, () -> repository.contains(exchange, key));
+    }
+
+    @Override
+    public boolean remove(String key) {
+        return doRemove(key, () -> repository.remove(key));
+    }
+
+    @Override
+    public boolean remove(Exchange exchange, String key) {
+        return doRemove(key, () -> repository.remove(exchange, key));
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return repository.confirm(key);
+    }
+
+    @Override
+    public boolean confirm(Exchange exchange, String key) {
+        return repository.confirm(exchange, key);
+    }
+
+    @Override
+    public Set<String> addAll(Collection<String> keys) {
+        lock.readLock().lock();
+        try {
+            // the keys must be in the filter before they are in the repository, the same as when adding a single key
+            for (String key : keys) {
+                increment(hash(key));
+            }
+            return repository.addAll(keys);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<String> containsAll(Collection<String> keys) {
+        containsCounter.add(keys.size());
+        // only the keys which may be in the repository are checked by the decorated repository
+        List<String> candidates = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (filter.mightContain(hash(key))) {
+                candidates.add(key);
+            } else {
+                filteredCounter.increment();
+            }
+        }
+        return candidates.isEmpty() ? new HashSet<>() : repository.containsAll(candidates);
+    }
+
+    @Override
+    public void confirmAll(Collection<String> keys) {
+        repository.confirmAll(keys);
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            filter = new CountingBloomFilter(expectedKeys);
+            repository.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the bloom filter from the warm up keys.
+     * <p/>
+     * The new filter is filled while the current filter is still in use, and the keys which are added meanwhile are
+     * also added to the new filter, which then replaces the current filter.
+     */
+    @ManagedOperation(description = "Rebuilds the bloom filter from the warm up keys")
+    public void warmUp() {
+        warmUpLock.lock();
+        try {
+            doWarmUp();
+        } finally {
+            warmUpLock.unlock();
+        }
+    }
+
+    private void doWarmUp() {
+        CountingBloomFilter newFilter = new CountingBloomFilter(expectedKeys);
+        // the keys which are added from now on are also added to the new filter, as they may not be in the warm up keys
+        lock.writeLock().lock();
+        try {
+            warmUpFilter = newFilter;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long count = 0;
+        try {
+            if (warmUpKeys != null) {
+                for (String key : warmUpKeys.get()) {
+                    newFilter.increment(hash(key));
+                    count++;
+                }
+            }
+        } catch (RuntimeException e) {
+            warmUpFilter = null;
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            filter = newFilter;
+            warmUpFilter = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        LOG.debug("Warmed up bloom filter of idempotent repository: {} with {} keys", repository, count);
+    }
+
+    public IdempotentRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * The idempotent repository to decorate
+     */
+    public void setRepository(IdempotentRepository repository) {
+        this.repository = repository;
+    }
+
+    @ManagedAttribute(description = "The expected number of keys")
+    public long getExpectedKeys() {
+        return expectedKeys;
+    }
+
+    /**
+     * The expected number of keys, which is used for the size of the bloom filter. If there are more keys, then more
+     * keys are checked by the decorated repository.
+     * <p/>
+     * The default is 1000000.
+     */
+    public void setExpectedKeys(long expectedKeys) {
+        this.expectedKeys = expectedKeys;
+    }
+
+    public Supplier<? extends Iterable<String>> getWarmUpKeys() {
+        return warmUpKeys;
+    }
+
+    /**
+     * The keys which are in the decorated repository, which are added to the bloom filter when started. Only the keys
+     * which have been added through this repository are known by the bloom filter otherwise.
+     */
+    public void setWarmUpKeys(Supplier<? extends Iterable<String>> warmUpKeys) {
+        this.warmUpKeys = warmUpKeys;
+    }
+
+    @ManagedAttribute(description = "Number of times contains was called")
+    public long getContainsCounter() {
+        return containsCounter.sum();
+    }
+
+    @ManagedAttribute(description = "Number of times contains was answered by the bloom filter")
+    public long getFilteredCounter() {
+        return filteredCounter.sum();
+    }
+
+    @ManagedOperation(description = "Reset the counters")
+    public void resetStatistics() {
+        containsCounter.reset();
+        filteredCounter.reset();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(repository, "repository", this);
+        CamelContextAware.trySetCamelContext(repository, camelContext);
+        ServiceHelper.startService(repository);
+        warmUp();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(repository);
+    }
+
+    private boolean doAdd(String key, Supplier<Boolean> add) {
+        long hash = hash(key);
+        lock.readLock().lock();
+        try {
+            // the key must be in the filter before it is in the repository, so it is never missed by a concurrent contains
+            increment(hash);
+            // the key is kept in the filter if it was already in the repository, as the filter cannot tell whether the
+            // key was counted before, or if it may only be in the filter by a false positive
+            return add.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean doContains(String key, Supplier<Boolean> contains) {
+        containsCounter.increment();
+        if (!filter.mightContain(hash(key))) {
+            filteredCounter.increment();
+            return false;
+        }
+        return contains.get();
+    }
+
+    private boolean doRemove(String key, Supplier<Boolean> remove) {
+        lock.readLock().lock();
+        try {
+            boolean removed = remove.get();
+            if (removed) {
+                // a filter which is being warmed up is not decremented, as the key may not have been counted by it yet,
+                // so the key is only removed from it when it is warmed up again
+                filter.decrement(hash(key));
+            }
+            return removed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void increment(long hash) {
+        filter.increment(hash);
+        CountingBloomFilter newFilter = warmUpFilter;
+        if (newFilter != null) {
+            newFilter.increment(hash);
+        }
+    }
+
+    private static long hash(String key) {
+        return BloomFilterHelper.hash(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Bloom filter with 4-bit counters instead of bits, so the keys can be removed. The counters are updated lock-free,
+     * and a counter which has reached the maximum value is never decremented, so a key is never lost.
+     */
+    private static final class CountingBloomFilter {
+        private static final long MAX_COUNT = 15;
+
+        private final AtomicLongArray counters;
+        private final long size;
+
+        CountingBloomFilter(long expectedKeys) {
+            // 16 counters per long
+            this.counters = new AtomicLongArray(BloomFilterHelper.words(expectedKeys, 16));
+            this.size = (long) counters.length() << 4;
+        }
+
+        void increment(long hash) {
+            for (int i = 1; i <= BloomFilterHelper.HASHES; i++) {
+                update(counter(hash, i), 1);
+            }
+        }
+
+        void decrement(long hash) {
+            for (int i = 1; i <= BloomFilterHelper.HASHES; i++) {
+                update(counter(hash, i), -1);
+            }
+        }
+
+        boolean mightContain(long hash) {
+            for (int i = 1; i <= BloomFilterHelper.HASHES; i++) {
+                long counter = counter(hash, i);
+                if (get(counters.get((int) (counter >>> 4)), counter) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long counter(long hash, int i) {
+            return BloomFilterHelper.bit(hash, i, size);
+        }
+
+        private void update(long counter, int delta) {
+            int index = (int) (counter >>> 4);
+            int shift = (int) (counter & 15) << 2;
+            while (true) {
+                long word = counters.get(index);
+                long count = get(word, counter);
+                if (count == MAX_COUNT || count == 0 && delta < 0) {
+                    return;
+                }
+                long updated = word + ((long) delta << shift);
+                if (counters.compareAndSet(index, word, updated)) {
+                    return;
+                }
+            }
+        }
+
+        private static long get(long word, long counter) {
+            return (word >>> ((counter & 15) << 2)) & MAX_COUNT;
+        }
+    }
+}
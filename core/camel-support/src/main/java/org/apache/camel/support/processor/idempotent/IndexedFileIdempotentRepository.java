@@ -0,0 +1,983 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.Configurer;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.spi.Metadata;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} for a large number of keys.
+ * <p/>
+ * The keys are appended to a log of segment files in the directory of the repository, and are indexed by a
+ * memory-mapped hash index, so checking a key does not scan the files as {@link FileIdempotentRepository} does. The
+ * keys which have never been added are mostly answered by an in-memory bloom filter without reading the disk.
+ * <p/>
+ * When the log has grown to at least {@link #getMaxSegmentSize()} and the {@link #getCompactionThreshold()} percentage
+ * of the log is taken by removed keys, then the segments are compacted by copying the keys which are still present into
+ * a new segment. The compaction runs in the background if the repository has a {@link CamelContext}.
+ * <p/>
+ * The index is kept up to date with the log, and the records which were appended to the log after the index was last
+ * updated are replayed when the repository is started. The index is rebuilt from the log if it is missing or invalid.
+ */
+@Metadata(label = "bean",
+          description = "A file based idempotent repository for a large number of keys. The keys are appended to a log"
+                        + " of segment files, and indexed by a memory-mapped hash index with a bloom filter for fast check"
+                        + " of keys which are not in the repository.",
+          annotations = { "interfaceName=org.apache.camel.spi.IdempotentRepository" })
+@Configurer(metadataOnly = true)
+@ManagedResource(description = "Indexed file based idempotent repository")
+public class IndexedFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedFileIdempotentRepository.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String INDEX_FILE = "index.dat";
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    // the length of the key and the operation
+    private static final int RECORD_HEADER = 5;
+    // the location of a record is the segment id and the offset in the segment
+    private static final int OFFSET_BITS = 40;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final NavigableMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private CamelContext camelContext;
+    private ExecutorService compactionExecutor;
+    private HashIndex index;
+    private BloomFilter bloomFilter;
+    private Segment active;
+    private long totalBytes;
+
+    @Metadata(description = "The directory of the repository files", required = true)
+    private File directory;
+    @Metadata(description = "The expected number of keys, which is used for the initial size of the index and the bloom filter",
+              defaultValue = "1000000")
+    private long expectedKeys = 1000000;
+    @Metadata(description = "The maximum size in bytes of a segment file, before a new segment is started."
+                            + " The default value is 64mb",
+              defaultValue = "67108864")
+    private long maxSegmentSize = 64 * 1024 * 1024L;
+    @Metadata(description = "The percentage of the log taken by removed keys, which triggers compacting the log."
+                            + " Use 0 to turn off compaction.",
+              defaultValue = "50")
+    private int compactionThreshold = 50;
+
+    public IndexedFileIdempotentRepository() {
+    }
+
+    public IndexedFileIdempotentRepository(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a new indexed file based repository.
+     *
+     * @param directory the directory of the repository files
+     */
+    public static IdempotentRepository indexedFileIdempotentRepository(File directory) {
+        return new IndexedFileIdempotentRepository(directory);
+    }
+
+    /**
+     * Creates a new indexed file based repository.
+     *
+     * @param directory    the directory of the repository files
+     * @param expectedKeys the expected number of keys
+     */
+    public static IdempotentRepository indexedFileIdempotentRepository(File directory, long expectedKeys) {
+        IndexedFileIdempotentRepository repository = new IndexedFileIdempotentRepository(directory);
+        repository.setExpectedKeys(expectedKeys);
+        return repository;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            if (bloomFilter.mightContain(hash) && findSlot(hash, bytes) >= 0) {
+                return false;
+            }
+            long location = append(active, ADD, bytes);
+            insert(hash, location);
+            updateWatermark();
+            if (bloomFilter.isFull()) {
+                // keep the false positive rate low as the store grows, without adding the keys again
+                bloomFilter = bloomFilter.grow();
+            }
+            bloomFilter.put(hash);
+            compact = isCompactionNeeded();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (compact) {
+            triggerCompaction();
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        lock.readLock().lock();
+        try {
+            // the bloom filter avoids reading the disk for most keys which are not in the store
+            return bloomFilter.mightContain(hash) && findSlot(hash, bytes) >= 0;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            long slot = bloomFilter.mightContain(hash) ? findSlot(hash, bytes) : -1;
+            if (slot < 0) {
+                return false;
+            }
+            append(active, REMOVE, bytes);
+            // both the added and the removed record are no longer needed
+            index.delete(slot);
+            index.addDeadBytes(2L * (RECORD_HEADER + bytes.length));
+            updateWatermark();
+            compact = isCompactionNeeded();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (compact) {
+            triggerCompaction();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            int id = active.id + 1;
+            for (Segment segment : segments.values()) {
+                segment.delete();
+            }
+            segments.clear();
+            totalBytes = 0;
+            active = openSegment(id);
+            index.close();
+            index = HashIndex.create(new File(directory, INDEX_FILE), initialCapacity(expectedKeys));
+            index.setWatermark(active.id, 0);
+            bloomFilter = new BloomFilter(expectedKeys);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compacts the log by copying the keys which are still in the store from the older segments into a new segment.
+     */
+    @ManagedOperation(description = "Compacts the log files of the store")
+    public void compact() {
+        if (compacting.compareAndSet(false, true)) {
+            doCompact();
+        }
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * The directory of the repository files
+     */
+    public void setDirectory(File directory) {
+        this.directory = directory;
+    }
+
+    @ManagedAttribute(description = "The directory of the repository files")
+    public String getDirectoryPath() {
+        return directory.getPath();
+    }
+
+    @ManagedAttribute(description = "The expected number of keys")
+    public long getExpectedKeys() {
+        return expectedKeys;
+    }
+
+    /**
+     * The expected number of keys, which is used for the initial size of the index and the bloom filter. The index
+     * and the bloom filter grow if there are more keys.
+     * <p/>
+     * The default is 1000000.
+     */
+    public void setExpectedKeys(long expectedKeys) {
+        this.expectedKeys = expectedKeys;
+    }
+
+    @ManagedAttribute(description = "The maximum size in bytes of a segment file")
+    public long getMaxSegmentSize() {
+        return maxSegmentSize;
+    }
+
+    /**
+     * The maximum size in bytes of a segment file, before a new segment is started.
+     * <p/>
+     * The default is 64mb.
+     */
+    public void setMaxSegmentSize(long maxSegmentSize) {
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    @ManagedAttribute(description = "The percentage of the log taken by removed keys, which triggers compacting the log")
+    public int getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * The percentage of the log taken by removed keys, which triggers compacting the log. Use 0 to turn off
+     * compaction.
+     * <p/>
+     * The default is 50.
+     */
+    public void setCompactionThreshold(int compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @ManagedAttribute(description = "The number of keys in the store")
+    public long getSize() {
+        lock.readLock().lock();
+        try {
+            return index != null ? index.getLive() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The number of segment files of the log")
+    public int getSegments() {
+        return segments.size();
+    }
+
+    @ManagedAttribute(description = "The size in bytes of the log")
+    public long getLogSize() {
+        lock.readLock().lock();
+        try {
+            return totalBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(directory, "directory", this);
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Cannot create directory: " + directory);
+        }
+
+        lock.writeLock().lock();
+        try {
+            File[] files = directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+            if (files != null) {
+                for (File file : files) {
+                    String name = file.getName();
+                    int id = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+                    Segment segment = new Segment(id, file);
+                    segments.put(id, segment);
+                    totalBytes += segment.size;
+                }
+            }
+            active = segments.isEmpty() ? openSegment(0) : segments.lastEntry().getValue();
+
+            File indexFile = new File(directory, INDEX_FILE);
+            index = HashIndex.open(indexFile);
+            if (index == null || index.isCompacting() || !replay(index.getWatermarkSegment(), index.getWatermarkOffset())) {
+                LOG.debug("Rebuilding index of idempotent repository: {}", directory);
+                rebuildIndex(indexFile);
+            }
+            rebuildBloomFilter();
+            LOG.debug("Loaded {} keys from idempotent repository: {}", index.getLive(), directory);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (camelContext != null && compactionThreshold > 0) {
+            compactionExecutor = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "IndexedFileIdempotentRepositoryCompaction");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (compactionExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(compactionExecutor);
+            compactionExecutor = null;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                index.close();
+                index = null;
+            }
+            for (Segment segment : segments.values()) {
+                IOHelper.close(segment, "Closing idempotent repository segment", LOG);
+            }
+            segments.clear();
+            active = null;
+            bloomFilter = null;
+            totalBytes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Segment openSegment(int id) throws IOException {
+        Segment segment = new Segment(id, new File(directory, SEGMENT_PREFIX + id + SEGMENT_SUFFIX));
+        segments.put(id, segment);
+        return segment;
+    }
+
+    /**
+     * Appends the record to the segment, and rolls over to a new active segment if the segment is full.
+     *
+     * @return the location of the record
+     */
+    private long append(Segment segment, byte operation, byte[] key) throws IOException {
+        if (segment == active && active.size >= maxSegmentSize) {
+            active = openSegment(active.id + 1);
+            segment = active;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER + key.length);
+        buffer.putInt(key.length).put(operation).put(key).flip();
+        long offset = segment.append(buffer);
+        totalBytes += RECORD_HEADER + key.length;
+        return ((long) segment.id << OFFSET_BITS) | offset;
+    }
+
+    /**
+     * Marks the records appended to the active segment as being in the index, which must only be called after the index
+     * has been updated, so the records are replayed if the index is not updated when the JVM crashes.
+     */
+    private void updateWatermark() {
+        index.setWatermark(active.id, active.size);
+    }
+
+    /**
+     * Finds the slot in the index of the key.
+     *
+     * @return the slot, or -1 if the key is not in the index
+     */
+    private long findSlot(long hash, byte[] key) throws IOException {
+        long mask = index.capacity - 1;
+        for (long slot = hash & mask;; slot = (slot + 1) & mask) {
+            long slotHash = index.getHash(slot);
+            if (slotHash == HashIndex.EMPTY) {
+                return -1;
+            }
+            if (slotHash == hash) {
+                long location = index.getLocation(slot);
+                if (location != HashIndex.TOMBSTONE && keyEquals(location, key)) {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts a key which is not in the index.
+     */
+    private void insert(long hash, long location) throws IOException {
+        if (index.getUsed() + 1 > index.capacity * MAX_LOAD_FACTOR) {
+            growIndex();
+        }
+        index.insert(hash, location);
+    }
+
+    private boolean keyEquals(long location, byte[] key) throws IOException {
+        Segment segment = segments.get((int) (location >>> OFFSET_BITS));
+        if (segment == null) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER + key.length);
+        if (!segment.read(buffer, location & OFFSET_MASK) || buffer.getInt(0) != key.length) {
+            return false;
+        }
+        return Arrays.equals(buffer.array(), RECORD_HEADER, RECORD_HEADER + key.length, key, 0, key.length);
+    }
+
+    private void growIndex() throws IOException {
+        File indexFile = new File(directory, INDEX_FILE);
+        File newFile = new File(directory, INDEX_FILE + ".tmp");
+        HashIndex newIndex = HashIndex.create(newFile, index.capacity * 2);
+        LOG.debug("Growing index of idempotent repository: {} to {} slots", directory, newIndex.capacity);
+        for (long slot = 0; slot < index.capacity; slot++) {
+            long hash = index.getHash(slot);
+            long location = index.getLocation(slot);
+            if (hash != HashIndex.EMPTY && location != HashIndex.TOMBSTONE) {
+                newIndex.insert(hash, location);
+            }
+        }
+        newIndex.addDeadBytes(index.getDeadBytes());
+        newIndex.setWatermark(index.getWatermarkSegment(), index.getWatermarkOffset());
+        newIndex.setCompacting(index.isCompacting());
+        index.close();
+        Files.move(newFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        index = newIndex;
+    }
+
+    private void rebuildIndex(File indexFile) throws IOException {
+        if (index != null) {
+            index.close();
+        }
+        index = HashIndex.create(indexFile, initialCapacity(expectedKeys));
+        if (!replay(segments.firstKey(), 0)) {
+            throw new IOException("Cannot rebuild index of idempotent repository: " + directory);
+        }
+    }
+
+    private void rebuildBloomFilter() {
+        bloomFilter = new BloomFilter(Math.max(expectedKeys, index.getLive() * 2));
+        for (long slot = 0; slot < index.capacity; slot++) {
+            long hash = index.getHash(slot);
+            if (hash != HashIndex.EMPTY && index.getLocation(slot) != HashIndex.TOMBSTONE) {
+                bloomFilter.put(hash);
+            }
+        }
+    }
+
+    /**
+     * Replays the records of the log from the given location into the index.
+     *
+     * @return <tt>false</tt> if the log does not contain the location, so the index must be rebuilt
+     */
+    private boolean replay(int fromSegment, long fromOffset) throws IOException {
+        Segment first = segments.get(fromSegment);
+        if (first == null || first.size < fromOffset) {
+            return false;
+        }
+        for (Segment segment : segments.tailMap(fromSegment, true).values()) {
+            long offset = segment == first ? fromOffset : 0;
+            long end = scan(segment, offset, (operation, key, location) -> {
+                long hash = hash(key);
+                long slot = findSlot(hash, key);
+                int size = RECORD_HEADER + key.length;
+                if (operation == ADD) {
+                    if (slot >= 0) {
+                        index.setLocation(slot, location);
+                        index.addDeadBytes(size);
+                    } else {
+                        insert(hash, location);
+                    }
+                } else if (slot >= 0) {
+                    index.delete(slot);
+                    index.addDeadBytes(2L * size);
+                } else {
+                    index.addDeadBytes(size);
+                }
+            });
+            if (end < segment.size) {
+                // the last record was not completely written
+                LOG.warn("Truncating incomplete record at offset {} of idempotent repository segment: {}", end, segment.file);
+                totalBytes -= segment.size - end;
+                segment.truncate(end);
+            }
+        }
+        updateWatermark();
+        return true;
+    }
+
+    /**
+     * Scans the records of the segment from the offset.
+     *
+     * @return the offset after the last complete record
+     */
+    private static long scan(Segment segment, long offset, RecordHandler handler) throws IOException {
+        long position = offset;
+        try (InputStream is = Files.newInputStream(segment.file.toPath());
+             DataInputStream in = new DataInputStream(new BufferedInputStream(is, 64 * 1024))) {
+            in.skipNBytes(offset);
+            while (position < segment.size) {
+                int length = in.readInt();
+                byte operation = in.readByte();
+                if (length < 0 || position + RECORD_HEADER + length > segment.size
+                        || operation != ADD && operation != REMOVE) {
+                    break;
+                }
+                byte[] key = new byte[length];
+                in.readFully(key);
+                handler.handle(operation, key, ((long) segment.id << OFFSET_BITS) | position);
+                position += RECORD_HEADER + length;
+            }
+        } catch (EOFException e) {
+            // incomplete record
+        }
+        return position;
+    }
+
+    private boolean isCompactionNeeded() {
+        return compactionThreshold > 0 && !compacting.get() && totalBytes >= maxSegmentSize
+                && index.getDeadBytes() * 100 >= totalBytes * compactionThreshold;
+    }
+
+    private void triggerCompaction() {
+        if (compacting.compareAndSet(false, true)) {
+            if (compactionExecutor != null) {
+                try {
+                    compactionExecutor.submit(this::doCompact);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    LOG.debug("Compaction of idempotent repository: {} rejected, so compacting in current thread", directory);
+                }
+            }
+            doCompact();
+        }
+    }
+
+    private void doCompact() {
+        try {
+            List<Segment> sealed;
+            Segment target;
+            lock.writeLock().lock();
+            try {
+                if (!isStarted()) {
+                    return;
+                }
+                // the compacted segment must be before the new active segment, so the log is replayed in order
+                sealed = new ArrayList<>(segments.values());
+                target = openSegment(active.id + 1);
+                active = openSegment(active.id + 2);
+                index.setWatermark(active.id, 0);
+                index.setCompacting(true);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            LOG.debug("Compacting {} segments of idempotent repository: {}", sealed.size(), directory);
+            long sealedBytes = 0;
+            long[] copiedBytes = new long[1];
+            for (Segment segment : sealed) {
+                sealedBytes += segment.size;
+                scan(segment, 0, (operation, key, location) -> {
+                    if (operation != ADD) {
+                        return;
+                    }
+                    // copy the key if it has not been removed or added again
+                    lock.writeLock().lock();
+                    try {
+                        long slot = findSlot(hash(key), key);
+                        if (slot >= 0 && index.getLocation(slot) == location) {
+                            index.setLocation(slot, append(target, ADD, key));
+                            copiedBytes[0] += RECORD_HEADER + key.length;
+                        }
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                });
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (segments.get(target.id) != target) {
+                    // the store was cleared or stopped while compacting
+                    return;
+                }
+                for (Segment segment : sealed) {
+                    segments.remove(segment.id);
+                    segment.delete();
+                }
+                totalBytes -= sealedBytes;
+                // the records which were not copied had been removed or added again
+                index.addDeadBytes(copiedBytes[0] - sealedBytes);
+                index.setCompacting(false);
+                rebuildBloomFilter();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            LOG.debug("Compacted idempotent repository: {} from {} to {} bytes", directory, sealedBytes, copiedBytes[0]);
+        } catch (Exception e) {
+            LOG.warn("Error compacting idempotent repository: {}. This exception is ignored.", directory, e);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    private static long initialCapacity(long expectedKeys) {
+        long capacity = 1024;
+        while (capacity * MAX_LOAD_FACTOR < expectedKeys) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * The hash of the key, which is never 0 as that marks an empty slot of the index.
+     */
+    private static long hash(byte[] key) {
+        return BloomFilterHelper.hash(key);
+    }
+
+    @FunctionalInterface
+    private interface RecordHandler {
+        void handle(byte operation, byte[] key, long location) throws IOException;
+    }
+
+    /**
+     * A segment file of the log.
+     */
+    private static final class Segment implements Closeable {
+        private final int id;
+        private final File file;
+        private final FileChannel channel;
+        private volatile long size;
+
+        Segment(int id, File file) throws IOException {
+            this.id = id;
+            this.file = file;
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            this.size = channel.size();
+        }
+
+        long append(ByteBuffer buffer) throws IOException {
+            long offset = size;
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            size = position;
+            return offset;
+        }
+
+        boolean read(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                int n = channel.read(buffer, position + buffer.position());
+                if (n < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void truncate(long length) throws IOException {
+            channel.truncate(length);
+            size = length;
+        }
+
+        void delete() {
+            IOHelper.close(this, "Closing idempotent repository segment", LOG);
+            FileUtil.deleteFile(file);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.force(false);
+            channel.close();
+        }
+    }
+
+    /**
+     * Open addressing hash index of the keys in a memory-mapped file, which has a slot with the hash and the location
+     * of the record of each key. The header of the file keeps the counters and the location in the log up to which the
+     * index is updated.
+     */
+    private static final class HashIndex implements Closeable {
+        static final long EMPTY = 0;
+        static final long TOMBSTONE = -1;
+
+        private static final long MAGIC = 0x43414d454c494458L;
+        private static final int HEADER = 64;
+        private static final int SLOT = 16;
+        private static final int CHUNK_BITS = 30;
+        private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+        private static final int CAPACITY = 8;
+        private static final int LIVE = 16;
+        private static final int USED = 24;
+        private static final int DEAD_BYTES = 32;
+        private static final int WATERMARK_SEGMENT = 40;
+        private static final int WATERMARK_OFFSET = 48;
+        private static final int COMPACTING = 56;
+
+        private final FileChannel channel;
+        private final MappedByteBuffer header;
+        private final MappedByteBuffer[] chunks;
+        private final long capacity;
+
+        private HashIndex(FileChannel channel, long capacity) throws IOException {
+            this.channel = channel;
+            this.capacity = capacity;
+            this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER);
+            long size = capacity * SLOT;
+            this.chunks = new MappedByteBuffer[(int) ((size + CHUNK_MASK) >>> CHUNK_BITS)];
+            for (int i = 0; i < chunks.length; i++) {
+                long position = (long) i << CHUNK_BITS;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER + position,
+                        Math.min(CHUNK_MASK + 1, size - position));
+            }
+        }
+
+        static HashIndex create(File file, long capacity) throws IOException {
+            FileUtil.deleteFile(file);
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            HashIndex index = new HashIndex(channel, capacity);
+            index.header.putLong(0, MAGIC);
+            index.header.putLong(CAPACITY, capacity);
+            return index;
+        }
+
+        /**
+         * Opens an existing index, or returns <tt>null</tt> if the index does not exist or is invalid.
+         */
+        static HashIndex open(File file) throws IOException {
+            if (!file.exists() || file.length() < HEADER) {
+                return null;
+            }
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer buffer = ByteBuffer.allocate(16);
+            channel.read(buffer, 0);
+            long capacity = buffer.getLong(CAPACITY);
+            if (buffer.getLong(0) != MAGIC || Long.bitCount(capacity) != 1 || file.length() != HEADER + capacity * SLOT) {
+                channel.close();
+                return null;
+            }
+            return new HashIndex(channel, capacity);
+        }
+
+        long getHash(long slot) {
+            long position = slot * SLOT;
+            return chunks[(int) (position >>> CHUNK_BITS)].getLong((int) (position & CHUNK_MASK));
+        }
+
+        long getLocation(long slot) {
+            long position = slot * SLOT + 8;
+            return chunks[(int) (position >>> CHUNK_BITS)].getLong((int) (position & CHUNK_MASK));
+        }
+
+        void setLocation(long slot, long location) {
+            long position = slot * SLOT + 8;
+            chunks[(int) (position >>> CHUNK_BITS)].putLong((int) (position & CHUNK_MASK), location);
+        }
+
+        /**
+         * Inserts into the first free slot, which must only be used for a key which is not in the index.
+         */
+        void insert(long hash, long location) {
+            long mask = capacity - 1;
+            for (long slot = hash & mask;; slot = (slot + 1) & mask) {
+                long slotHash = getHash(slot);
+                if (slotHash == EMPTY || getLocation(slot) == TOMBSTONE) {
+                    if (slotHash == EMPTY) {
+                        header.putLong(USED, getUsed() + 1);
+                    }
+                    long position = slot * SLOT;
+                    chunks[(int) (position >>> CHUNK_BITS)].putLong((int) (position & CHUNK_MASK), hash);
+                    setLocation(slot, location);
+                    header.putLong(LIVE, getLive() + 1);
+                    return;
+                }
+            }
+        }
+
+        void delete(long slot) {
+            // keep the hash so the probing continues past the slot
+            setLocation(slot, TOMBSTONE);
+            header.putLong(LIVE, getLive() - 1);
+        }
+
+        long getLive() {
+            return header.getLong(LIVE);
+        }
+
+        long getUsed() {
+            return header.getLong(USED);
+        }
+
+        long getDeadBytes() {
+            return header.getLong(DEAD_BYTES);
+        }
+
+        void addDeadBytes(long bytes) {
+            header.putLong(DEAD_BYTES, getDeadBytes() + bytes);
+        }
+
+        int getWatermarkSegment() {
+            return (int) header.getLong(WATERMARK_SEGMENT);
+        }
+
+        long getWatermarkOffset() {
+            return header.getLong(WATERMARK_OFFSET);
+        }
+
+        void setWatermark(int segment, long offset) {
+            header.putLong(WATERMARK_SEGMENT, segment);
+            header.putLong(WATERMARK_OFFSET, offset);
+        }
+
+        boolean isCompacting() {
+            return header.getLong(COMPACTING) != 0;
+        }
+
+        void setCompacting(boolean compacting) {
+            header.putLong(COMPACTING, compacting ? 1 : 0);
+        }
+
+        @Override
+        public void close() throws IOException {
+            header.force();
+            for (MappedByteBuffer chunk : chunks) {
+                chunk.force();
+            }
+            channel.close();
+        }
+    }
+
+    /**
+     * In-memory bloom filter of the hashes of the keys, using double hashing to compute the bits of a key.
+     * <p/>
+     * When the filter is full, it grows by chaining a new filter of twice the size in front of it, and the keys are
+     * checked against all the filters of the chain.
+     */
+    private static final class BloomFilter {
+        private final long expectedKeys;
+        private final long[] bits;
+        private final long size;
+        private final BloomFilter previous;
+        private long keys;
+
+        BloomFilter(long expectedKeys) {
+            this(expectedKeys, null);
+        }
+
+        private BloomFilter(long expectedKeys, BloomFilter previous) {
+            this.expectedKeys = expectedKeys;
+            this.previous = previous;
+            this.bits = new long[BloomFilterHelper.words(expectedKeys, 64)];
+            this.size = (long) bits.length << 6;
+        }
+
+        boolean isFull() {
+            return keys >= expectedKeys;
+        }
+
+        BloomFilter grow() {
+            return new BloomFilter(expectedKeys * 2, this);
+        }
+
+        void put(long hash) {
+            keys++;
+            for (int i = 1; i <= BloomFilterHelper.HASHES; i++) {
+                long bit = BloomFilterHelper.bit(hash, i, size);
+                bits[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+
+        boolean mightContain(long hash) {
+            for (BloomFilter filter = this; filter != null; filter = filter.previous) {
+                if (filter.test(hash)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean test(long hash) {
+            for (int i = 1; i <= BloomFilterHelper.HASHES; i++) {
+                long bit = BloomFilterHelper.bit(hash, i, size);
+                if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -78,7 +78,9 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     };
 
     private final AtomicInteger stepCounter = new AtomicInteger();
-    private final Deque<Integer> currentSteps = new ArrayDeque<>();
+    // each thread has its own current steps, as routes can be started in parallel, where the first step
+    // of another thread is begun with its parent step
+    private final ThreadLocal<Deque<StartupStep>> currentSteps = ThreadLocal.withInitial(ArrayDeque::new);
 
     private boolean enabled;
     private int maxDepth = -1;
@@ -87,10 +89,6 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     private String recordingDir;
     private String recordingProfile = "default";
 
-    public DefaultStartupStepRecorder() {
-        currentSteps.offerFirst(0);
-    }
-
     public boolean isEnabled() {
         return enabled;
     }
@@ -156,21 +154,29 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
     @Override
     public void doStop() throws Exception {
         enabled = false;
-        currentSteps.clear();
+        currentSteps.remove();
     }
 
     public StartupStep beginStep(Class<?> type, String name, String description) {
         if (enabled) {
-            int level = currentSteps.size() - 1;
+            return beginStep(type, name, description, currentSteps.get().peekFirst());
+        } else {
+            return DISABLED_STEP;
+        }
+    }
+
+    @Override
+    public StartupStep beginStep(Class<?> type, String name, String description, StartupStep parent) {
+        if (enabled && parent != DISABLED_STEP) {
+            int level = parent != null ? parent.getLevel() + 1 : 0;
             if (maxDepth != -1 && level >= maxDepth) {
                 return DISABLED_STEP;
             }
             int id = stepCounter.incrementAndGet();
-            Integer parent = currentSteps.peekFirst();
-            int pid = parent != null ? parent : 0;
+            int pid = parent != null ? parent.getId() : 0;
             StartupStep step = createStartupStep(type.getSimpleName(), name, description, id, pid, level);
             onBeginStep(step);
-            currentSteps.offerFirst(id);
+            currentSteps.get().offerFirst(step);
             return step;
         } else {
             return DISABLED_STEP;
@@ -179,7 +185,7 @@ public class DefaultStartupStepRecorder extends ServiceSupport implements Startu
 
     public void endStep(StartupStep step) {
         if (step != DISABLED_STEP) {
-            currentSteps.pollFirst();
+            currentSteps.get().pollFirst();
             step.endStep();
             onEndStep(step);
         }
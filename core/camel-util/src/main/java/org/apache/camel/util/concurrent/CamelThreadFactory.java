@@ -32,6 +32,18 @@ public final class CamelThreadFactory implements ThreadFactory {
     private final boolean daemon;
 
     public CamelThreadFactory(String pattern, String name, boolean daemon) {
+        this(pattern, name, daemon, false);
+    }
+
+    /**
+     * Creates a thread factory.
+     *
+     * @param pattern the thread name pattern
+     * @param name    the thread name
+     * @param daemon  whether the threads are daemon threads
+     * @param virtual whether to create virtual threads, which requires JDK 21+ and is ignored on older JDKs
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
         this.pattern = pattern;
         this.name = name;
         this.daemon = daemon;
@@ -22,7 +22,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Thread factory which creates threads supporting a naming pattern.
  * The factory creates virtual threads in case the System property {@code camel.threads.virtual.enabled} set to
- * {@code true}.
+ * {@code true}, or when virtual threads are explicitly requested when creating the factory.
  */
 public final class CamelThreadFactory implements ThreadFactoryTypeAware {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
@@ -35,10 +35,26 @@ public final class CamelThreadFactory implements ThreadFactoryTypeAware {
     private final ThreadFactoryType threadType;
 
     public CamelThreadFactory(String pattern, String name, boolean daemon) {
+        this(pattern, name, daemon, false);
+    }
+
+    /**
+     * Creates a thread factory.
+     *
+     * @param pattern the thread name pattern
+     * @param name    the thread name
+     * @param daemon  whether the threads are daemon threads
+     * @param virtual whether to create virtual threads, which is only possible for daemon threads
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
         this.pattern = pattern;
         this.name = name;
         this.daemon = daemon;
-        this.threadType = daemon ? TYPE : ThreadFactoryType.PLATFORM;
+        if (daemon) {
+            this.threadType = virtual ? ThreadFactoryType.VIRTUAL : TYPE;
+        } else {
+            this.threadType = ThreadFactoryType.PLATFORM;
+        }
     }
 
     @Override
@@ -1749,6 +1749,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("parallelProcessing", def.getParallelProcessing(), null);
         doWriteAttribute("synchronous", def.getSynchronous(), null);
         doWriteAttribute("streaming", def.getStreaming(), null);
+        doWriteAttribute("parallelWindowSize", def.getParallelWindowSize(), "0");
         doWriteAttribute("stopOnException", def.getStopOnException(), null);
         doWriteAttribute("timeout", def.getTimeout(), "0");
         doWriteAttribute("executorService", def.getExecutorService(), null);
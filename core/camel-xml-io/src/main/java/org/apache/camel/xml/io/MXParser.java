@@ -84,6 +84,13 @@ public class MXParser implements XmlPullParser {
         return (new String(cbuf, off, len)).intern();
     }
 
+    // element and attribute names are repeated many times in large documents, so only create them once
+    private final XmlNameTable names = new XmlNameTable();
+
+    protected String newName(char[] cbuf, int off, int len) {
+        return names.get(cbuf, off, len);
+    }
+
     private static final boolean TRACE_SIZING = false;
 
     // NOTE: features are not resettable and typically defaults to false ...
@@ -1722,16 +1729,16 @@ public class MXParser implements XmlPullParser {
         String prefix = null;
         if (processNamespaces) {
             if (colonPos != -1) {
-                prefix = elPrefix[depth] = newString(buf, nameStart - bufAbsoluteStart, colonPos - nameStart);
-                elName[depth] = newString(buf, colonPos + 1 - bufAbsoluteStart,
+                prefix = elPrefix[depth] = newName(buf, nameStart - bufAbsoluteStart, colonPos - nameStart);
+                elName[depth] = newName(buf, colonPos + 1 - bufAbsoluteStart,
                         // (pos -1) - (colonPos + 1));
                         pos - 2 - (colonPos - bufAbsoluteStart));
             } else {
                 elPrefix[depth] = null;
-                elName[depth] = newString(buf, nameStart - bufAbsoluteStart, elLen);
+                elName[depth] = newName(buf, nameStart - bufAbsoluteStart, elLen);
             }
         } else {
-            elName[depth] = newString(buf, nameStart - bufAbsoluteStart, elLen);
+            elName[depth] = newName(buf, nameStart - bufAbsoluteStart, elLen);
         }
 
         while (true) {
@@ -1914,23 +1921,23 @@ public class MXParser implements XmlPullParser {
                                 "namespace prefix is required after xmlns: " + " when namespaces are enabled", this, null);
                     }
                     name = // attributeName[ attributeCount ] =
-                            newString(buf, colonPos - bufAbsoluteStart + 1, nameLen);
+                            newName(buf, colonPos - bufAbsoluteStart + 1, nameLen);
                     // pos - 1 - (colonPos + 1 - bufAbsoluteStart)
                 }
             } else {
                 if (colonPos != -1) {
                     int prefixLen = colonPos - nameStart;
-                    prefix = attributePrefix[attributeCount] = newString(buf, nameStart - bufAbsoluteStart, prefixLen);
+                    prefix = attributePrefix[attributeCount] = newName(buf, nameStart - bufAbsoluteStart, prefixLen);
                     // colonPos - (nameStart - bufAbsoluteStart));
                     int nameLen = pos - 2 - (colonPos - bufAbsoluteStart);
-                    name = attributeName[attributeCount] = newString(buf, colonPos - bufAbsoluteStart + 1, nameLen);
+                    name = attributeName[attributeCount] = newName(buf, colonPos - bufAbsoluteStart + 1, nameLen);
                     // pos - 1 - (colonPos + 1 - bufAbsoluteStart));
 
                     // name.substring(0, colonPos-nameStart);
                 } else {
                     prefix = attributePrefix[attributeCount] = null;
                     name = attributeName[attributeCount]
-                            = newString(buf, nameStart - bufAbsoluteStart, pos - 1 - (nameStart - bufAbsoluteStart));
+                            = newName(buf, nameStart - bufAbsoluteStart, pos - 1 - (nameStart - bufAbsoluteStart));
                 }
                 if (!allStringsInterned) {
                     attributeNameHash[attributeCount] = name.hashCode();
@@ -1940,7 +1947,7 @@ public class MXParser implements XmlPullParser {
         } else {
             // retrieve name
             name = attributeName[attributeCount]
-                    = newString(buf, nameStart - bufAbsoluteStart, pos - 1 - (nameStart - bufAbsoluteStart));
+                    = newName(buf, nameStart - bufAbsoluteStart, pos - 1 - (nameStart - bufAbsoluteStart));
             //// assert name != null;
             if (!allStringsInterned) {
                 attributeNameHash[attributeCount] = name.hashCode();
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.xml.io;
+
+/**
+ * A table of the element and attribute names which the {@link MXParser} has parsed, so the same names are only created
+ * once as strings, instead of for every element in the document, and the names can be looked up directly from the
+ * characters in the buffer of the parser.
+ * <p/>
+ * The table is bounded, so documents with many different names do not use too much memory, in which case the additional
+ * names are created as new strings. This class is not thread-safe, as it is used by a single parser.
+ */
+final class XmlNameTable {
+
+    private static final int MAX_NAME_LENGTH = 128;
+    private static final int MAX_NAMES = 4096;
+
+    private String[] names = new String[256];
+    private int size;
+
+    String get(char[] buf, int off, int len) {
+        if (len > MAX_NAME_LENGTH) {
+            return new String(buf, off, len);
+        }
+        // same hash code as the string, which is cached by the string
+        int hash = 0;
+        for (int i = 0; i < len; i++) {
+            hash = 31 * hash + buf[off + i];
+        }
+        int mask = names.length - 1;
+        int index = spread(hash) & mask;
+        String name;
+        while ((name = names[index]) != null) {
+            if (name.hashCode() == hash && matches(name, buf, off, len)) {
+                return name;
+            }
+            index = (index + 1) & mask;
+        }
+        name = new String(buf, off, len);
+        if (size < MAX_NAMES) {
+            names[index] = name;
+            if (++size * 2 > names.length) {
+                resize();
+            }
+        }
+        return name;
+    }
+
+    private static boolean matches(String name, char[] buf, int off, int len) {
+        if (name.length() != len) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            if (name.charAt(i) != buf[off + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void resize() {
+        String[] old = names;
+        names = new String[old.length * 2];
+        int mask = names.length - 1;
+        for (String name : old) {
+            if (name != null) {
+                int index = spread(name.hashCode()) & mask;
+                while (names[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                names[index] = name;
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
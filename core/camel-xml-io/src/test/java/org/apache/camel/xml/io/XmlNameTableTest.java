@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.xml.io;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class XmlNameTableTest {
+
+    @Test
+    public void testNames() {
+        XmlNameTable table = new XmlNameTable();
+        char[] buf = "<route><to uri='mock:a'/><to uri='mock:b'/></route>".toCharArray();
+
+        String route = table.get(buf, 1, 5);
+        assertEquals("route", route);
+        String to = table.get(buf, 8, 2);
+        assertEquals("to", to);
+        assertSame(to, table.get(buf, 26, 2));
+        assertSame(route, table.get(buf, 45, 5));
+
+        // many different names
+        for (int i = 0; i < 10000; i++) {
+            char[] name = ("name" + i).toCharArray();
+            assertEquals("name" + i, table.get(name, 0, name.length));
+        }
+        assertSame(to, table.get(buf, 8, 2));
+        char[] name = "name1".toCharArray();
+        assertSame(table.get(name, 0, name.length), table.get(name, 0, name.length));
+        // the table is full so these names are new strings
+        name = "name9999".toCharArray();
+        assertNotSame(table.get(name, 0, name.length), table.get(name, 0, name.length));
+    }
+
+    @Test
+    public void testParserNames() throws Exception {
+        MXParser parser = new MXParser();
+        parser.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, true);
+        parser.setInput(new StringReader("<routes><route id='a'/><route id='b'/></routes>"));
+
+        parser.nextTag();
+        assertEquals("routes", parser.getName());
+        parser.nextTag();
+        String route = parser.getName();
+        String id = parser.getAttributeName(0);
+        assertEquals("a", parser.getAttributeValue(0));
+        parser.nextTag();
+        parser.nextTag();
+        assertSame(route, parser.getName());
+        assertSame(id, parser.getAttributeName(0));
+        assertEquals("b", parser.getAttributeValue(0));
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -117,6 +118,22 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
             return null;
         }
 
+        // when routes are loaded in parallel, then parse the routes and rests now, in parallel with the other resources,
+        // instead of when the routes are added to Camel. The parsed definitions are only used by the first call to
+        // configure, as the definitions are changed when added, so any later call parses the resource again
+        final AtomicReference<RoutesDefinition> parsedRoutes = new AtomicReference<>();
+        final AtomicReference<RestsDefinition> parsedRests = new AtomicReference<>();
+        if (getCamelContext() != null && getCamelContext().getRouteStartupParallelism() > 1) {
+            String root = xmlInfo.getRootElementName();
+            if ("routes".equals(root) || "route".equals(root)) {
+                new XmlModelParser(resource, xmlInfo.getRootElementNamespace()).parseRoutesDefinition()
+                        .ifPresent(parsedRoutes::set);
+            } else if ("rests".equals(root) || "rest".equals(root)) {
+                new XmlModelParser(resource, xmlInfo.getRootElementNamespace()).parseRestsDefinition()
+                        .ifPresent(parsedRests::set);
+            }
+        }
+
         return new RouteConfigurationBuilder() {
             @Override
             public void configure() throws Exception {
@@ -144,12 +161,26 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
                             new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
                                     .parseTemplatedRoutesDefinition()
                                     .ifPresent(this::addTemplatedRoutesCollection);
-                        case "rests", "rest" -> new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
-                                .parseRestsDefinition()
-                                .ifPresent(this::addRests);
-                        case "routes", "route" -> new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
-                                .parseRoutesDefinition()
-                                .ifPresent(this::addRoutes);
+                        case "rests", "rest" -> {
+                            RestsDefinition rests = parsedRests.getAndSet(null);
+                            if (rests != null) {
+                                addRests(rests);
+                            } else {
+                                new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
+                                        .parseRestsDefinition()
+                                        .ifPresent(this::addRests);
+                            }
+                        }
+                        case "routes", "route" -> {
+                            RoutesDefinition routes = parsedRoutes.getAndSet(null);
+                            if (routes != null) {
+                                addRoutes(routes);
+                            } else {
+                                new XmlModelParser(resource, xmlInfo.getRootElementNamespace())
+                                        .parseRoutesDefinition()
+                                        .ifPresent(this::addRoutes);
+                            }
+                        }
                         default -> {
                         }
                     }
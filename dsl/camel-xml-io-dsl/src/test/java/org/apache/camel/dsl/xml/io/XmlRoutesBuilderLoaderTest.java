@@ -16,14 +16,19 @@
  */
 package org.apache.camel.dsl.xml.io;
 
+import java.util.List;
+
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.builder.RouteConfigurationBuilder;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.RouteDefinition;
 import org.apache.camel.spi.Resource;
 import org.apache.camel.support.ResourceHelper;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 public class XmlRoutesBuilderLoaderTest {
     @Test
@@ -48,6 +53,34 @@ public class XmlRoutesBuilderLoaderTest {
         assertFalse(builder.getRouteCollection().getRoutes().isEmpty());
     }
 
+    @Test
+    public void canConfigureParsedRoutesAgain() throws Exception {
+        String content = ""
+                         + "<routes xmlns=\"http://camel.apache.org/schema/xml-io\">"
+                         + "   <route id=\"parsed-route\">"
+                         + "      <from uri=\"direct:test\"/>"
+                         + "      <to uri=\"mock:test\"/>"
+                         + "   </route>"
+                         + "</routes>";
+
+        // the routes are parsed when loaded, when routes are started in parallel
+        DefaultCamelContext context = new DefaultCamelContext();
+        context.setRouteStartupParallelism(4);
+        XmlRoutesBuilderLoader loader = new XmlRoutesBuilderLoader();
+        loader.setCamelContext(context);
+
+        Resource resource = ResourceHelper.fromString("in-memory.xml", content);
+        RouteBuilder builder = (RouteBuilder) loader.loadRoutesBuilder(resource);
+        builder.setCamelContext(context);
+        builder.configure();
+        builder.configure();
+
+        // each configure adds its own routes
+        List<RouteDefinition> routes = builder.getRouteCollection().getRoutes();
+        assertEquals(2, routes.size());
+        assertNotSame(routes.get(0), routes.get(1));
+    }
+
     @Test
     public void canLoadRests() throws Exception {
         String content = ""
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.spi.UnitOfWorkFactory;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.PluginHelper;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the lifecycle of an exchange without routing it, comparing the PrototypeExchangeFactory and the
+ * PooledExchangeFactory, and the creation of the DefaultUnitOfWork.
+ */
+public class ExchangeLifecycleTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkHelper.run(ExchangeLifecycleTest.class);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+
+        @Param({ "prototype", "pooled" })
+        String exchangeFactory;
+
+        CamelContext context;
+        DefaultConsumer consumer;
+        UnitOfWorkFactory unitOfWorkFactory;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            context = new DefaultCamelContext();
+            if ("pooled".equals(exchangeFactory)) {
+                context.getCamelContextExtension().setExchangeFactory(new PooledExchangeFactory());
+            }
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:start").routeId("start")
+                            .log("${body}");
+                }
+            });
+            context.start();
+            // use the consumer as it creates the exchanges via its own exchange factory
+            consumer = (DefaultConsumer) context.getRoute("start").getConsumer();
+            unitOfWorkFactory = PluginHelper.getUnitOfWorkFactory(context);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void createAndRelease(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = state.consumer.createExchange(false);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader("foo", "bar");
+        bh.consume(exchange);
+        state.consumer.releaseExchange(exchange, false);
+    }
+
+    @Benchmark
+    public void createWithUnitOfWork(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = state.consumer.createExchange(false);
+        exchange.getMessage().setBody("Hello World");
+        UnitOfWork uow = state.unitOfWorkFactory.createUnitOfWork(exchange);
+        exchange.getExchangeExtension().setUnitOfWork(uow);
+        uow.done(exchange);
+        bh.consume(uow);
+        exchange.getExchangeExtension().setUnitOfWork(null);
+        state.consumer.releaseExchange(exchange, false);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks typical route shapes, which exercises the Pipeline, CamelInternalProcessor, DefaultUnitOfWork and
+ * SendProcessor, with both the prototype and the pooled exchange factory.
+ */
+public class RouteShapesTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkHelper.run(RouteShapesTest.class);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "prototype", "pooled" })
+        String exchangeFactory;
+
+        CamelContext context;
+        ProducerTemplate producer;
+        List<String> lines = List.of("A", "B", "C", "D", "E", "F", "G", "H", "I", "J");
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            context = new DefaultCamelContext();
+            if ("pooled".equals(exchangeFactory)) {
+                context.getCamelContextExtension().setExchangeFactory(new PooledExchangeFactory());
+                context.getCamelContextExtension().setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+            }
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:pipeline")
+                            .setHeader("foo", constant("bar"))
+                            .process(e -> e.getMessage().setBody("Bye World"))
+                            .to("direct:end");
+
+                    from("direct:choice")
+                            .choice()
+                            .when(header("type").isEqualTo("gold")).to("direct:end")
+                            .when(header("type").isEqualTo("silver")).to("direct:end")
+                            .otherwise().to("direct:end");
+
+                    from("direct:split")
+                            .split(body())
+                            .to("direct:end");
+
+                    from("direct:end")
+                            .process(e -> {
+                                // noop
+                            });
+                }
+            });
+            context.start();
+            producer = context.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            context.stop();
+        }
+    }
+
+    @Benchmark
+    public void pipeline(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:pipeline", "Hello World"));
+    }
+
+    @Benchmark
+    public void contentBasedRouter(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBodyAndHeader("direct:choice", "Hello World", "type", "silver"));
+    }
+
+    @Benchmark
+    public void split(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.producer.requestBody("direct:split", state.lines));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.main.Main;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks starting and stopping Camel Main with a few routes, comparing resolving the factories (components,
+ * languages, configurers etc.) from the classpath with resolving them from a startup snapshot file.
+ * <p/>
+ * Use <tt>camel.main.startupRecorder=logging</tt> to see which startup steps are faster with the snapshot.
+ */
+public class StartupSnapshotTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkHelper.run(StartupSnapshotTest.class, Mode.AverageTime);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "false", "true" })
+        boolean snapshot;
+
+        Path file;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            if (snapshot) {
+                file = Files.createTempFile("camel-startup-snapshot", ".properties");
+                Files.delete(file);
+                // the first startup saves the snapshot
+                startAndStop(this);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void startup(BenchmarkState state) throws Exception {
+        startAndStop(state);
+    }
+
+    private static void startAndStop(BenchmarkState state) throws Exception {
+        Main main = new Main();
+        try {
+            if (state.file != null) {
+                main.configure().withStartupSnapshotFile(state.file.toString());
+            }
+            main.configure().withAutoConfigurationLogSummary(false);
+            main.configure().addRoutesBuilder(new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("timer:tick?period=60000")
+                            .setBody(simple("Hello ${header.CamelTimerCounter}"))
+                            .to("direct:hello");
+
+                    from("direct:hello")
+                            .filter(simple("${body} contains 'Hello'"))
+                            .to("log:hello?level=DEBUG");
+                }
+            });
+            main.start();
+        } finally {
+            main.stop();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.StringReader;
+
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.xml.in.ModelParser;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks parsing a large XML file with routes into the route model, as when loading XML routes with the XML DSL.
+ */
+public class XmlRoutesParserTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkHelper.run(XmlRoutesParserTest.class, Mode.AverageTime);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "1000", "10000" })
+        int routes;
+
+        String xml;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("<routes xmlns=\"http://camel.apache.org/schema/xml-io\">\n");
+            for (int i = 0; i < routes; i++) {
+                sb.append("  <route id=\"route").append(i).append("\">\n");
+                sb.append("    <from uri=\"direct:start").append(i).append("\"/>\n");
+                sb.append("    <filter>\n");
+                sb.append("      <simple>${header.foo} == 'bar'</simple>\n");
+                sb.append("      <setHeader name=\"counter\">\n");
+                sb.append("        <constant>").append(i).append("</constant>\n");
+                sb.append("      </setHeader>\n");
+                sb.append("      <log message=\"Hello ${body}\"/>\n");
+                sb.append("    </filter>\n");
+                sb.append("    <to uri=\"mock:result").append(i).append("\"/>\n");
+                sb.append("  </route>\n");
+            }
+            sb.append("</routes>\n");
+            xml = sb.toString();
+        }
+    }
+
+    @Benchmark
+    public RoutesDefinition parse(BenchmarkState state) throws Exception {
+        return new ModelParser(new StringReader(state.xml)).parseRoutesDefinition().orElse(null);
+    }
+}